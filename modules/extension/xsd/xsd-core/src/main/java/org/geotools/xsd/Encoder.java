@@ -69,6 +69,7 @@
 import org.geotools.xs.XS;
 import org.geotools.xsd.impl.BindingFactoryImpl;
 import org.geotools.xsd.impl.BindingLoader;
+import org.geotools.xsd.impl.BindingPlans;
 import org.geotools.xsd.impl.BindingPropertyExtractor;
 import org.geotools.xsd.impl.BindingVisitorDispatch;
 import org.geotools.xsd.impl.BindingWalker;
@@ -227,8 +228,10 @@ public Encoder(Configuration configuration, XSDSchema schema) {
 
         index = new SchemaIndexImpl(new XSDSchema[] {schema});
 
-        bindingLoader = new BindingLoader(configuration.setupBindings());
-        bindingWalker = new BindingWalker(bindingLoader);
+        Map<QName, Object> bindings = configuration.setupBindings();
+        bindingLoader = new BindingLoader(bindings);
+        // share the binding lookups with the other encoders set up with the same bindings
+        bindingWalker = new BindingWalker(bindingLoader, BindingPlans.get(bindings));
 
         // create the context
         context = new DefaultPicoContainer();
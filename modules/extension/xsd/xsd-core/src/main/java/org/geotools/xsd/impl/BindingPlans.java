@@ -0,0 +1,95 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.xsd.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.xml.namespace.QName;
+import org.eclipse.xsd.XSDFeature;
+import org.eclipse.xsd.XSDTypeDefinition;
+import org.geotools.util.SoftValueHashMap;
+import org.picocontainer.ComponentAdapter;
+
+/**
+ * Keeps the outcome of the {@link BindingWalker} type hierarchy walks, that is, the names of the bindings making up the
+ * execution chain of each element and attribute, so that it can be shared among all the walkers set up with the same
+ * bindings, across encoders and threads.
+ *
+ * <p>Binding objects are not shared, as they are injected with components of the context they are loaded in: walkers
+ * only skip the walk and the binding lookups, loading the planned bindings straight into their own context.
+ *
+ * <p>Plans are assumed to depend only on the schema components and on the binding classes, the execution mode of a
+ * binding being the same for all the instances of its class.
+ *
+ * @since 36.0
+ */
+public class BindingPlans {
+
+    /**
+     * Whether plans are shared among walkers, controlled by the {@code org.geotools.xsd.bindingPlans} system property
+     */
+    public static boolean ENABLED = Boolean.parseBoolean(System.getProperty("org.geotools.xsd.bindingPlans", "true"));
+
+    /** The plans, by binding classes */
+    static final Map<Map<QName, Class<?>>, BindingPlans> PLANS = new SoftValueHashMap<>(8);
+
+    /** The binding names, by component and container type. Weak keys, not to keep schemas from being collected */
+    private final Map<XSDFeature, Map<XSDTypeDefinition, List<QName>>> plans = new WeakHashMap<>();
+
+    /**
+     * Returns the plans shared among walkers using the same bindings, or null if plans are not to be shared
+     *
+     * @param bindings the bindings, as set up by the configuration
+     */
+    public static BindingPlans get(Map<QName, Object> bindings) {
+        if (!ENABLED) {
+            return null;
+        }
+        Map<QName, Class<?>> key = new HashMap<>();
+        for (Map.Entry<QName, Object> entry : bindings.entrySet()) {
+            Object binding = entry.getValue();
+            if (binding instanceof ComponentAdapter adapter) {
+                key.put(entry.getKey(), adapter.getComponentImplementation());
+            } else if (binding instanceof Class<?> bindingClass) {
+                key.put(entry.getKey(), bindingClass);
+            } else if (binding != null) {
+                key.put(entry.getKey(), binding.getClass());
+            }
+        }
+        synchronized (PLANS) {
+            return PLANS.computeIfAbsent(key, k -> new BindingPlans());
+        }
+    }
+
+    /** Returns the names of the bindings to execute for the component, or null if not planned yet */
+    public synchronized List<QName> getPlan(XSDFeature component, XSDTypeDefinition container) {
+        Map<XSDTypeDefinition, List<QName>> byContainer = plans.get(component);
+        return byContainer != null ? byContainer.get(container) : null;
+    }
+
+    /** Records the names of the bindings to execute for the component */
+    public synchronized void putPlan(XSDFeature component, XSDTypeDefinition container, List<QName> bindingNames) {
+        plans.computeIfAbsent(component, c -> new WeakHashMap<>()).put(container, List.copyOf(bindingNames));
+    }
+
+    /** Returns the number of planned components */
+    public synchronized int size() {
+        return plans.size();
+    }
+}
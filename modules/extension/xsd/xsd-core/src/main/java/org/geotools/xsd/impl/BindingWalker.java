@@ -40,11 +40,26 @@ public class BindingWalker implements TypeWalker.Visitor {
     TypeWalker typeWalker;
     MutablePicoContainer context;
     List<Binding> bindings;
+    List<QName> bindingNames;
     XSDFeature component;
     XSDTypeDefinition container;
 
+    /** The plans shared with other walkers, may be null */
+    BindingPlans plans;
+
     public BindingWalker(BindingLoader factory) {
+        this(factory, null);
+    }
+
+    /**
+     * Creates a walker sharing the outcome of its walks with the other walkers using the same plans.
+     *
+     * @param factory The loader of the bindings.
+     * @param plans The shared plans, or null to walk the type hierarchy for each new component.
+     */
+    public BindingWalker(BindingLoader factory, BindingPlans plans) {
         this.loader = factory;
+        this.plans = plans;
 
         chains = new SoftValueHashMap<>(100);
         typeWalker = new TypeWalker();
@@ -125,6 +140,7 @@ public boolean visit(XSDTypeDefinition type) {
         if (binding != null) {
             // add the binding
             bindings.add(binding);
+            bindingNames.add(bindingName);
 
             // check execution mode, if override break out
             if (binding.getExecutionMode() == Binding.OVERRIDE) {
@@ -138,11 +154,28 @@ public boolean visit(XSDTypeDefinition type) {
     public void walk(XSDFeature component, Visitor visitor, XSDTypeDefinition container, MutablePicoContainer context) {
         BindingExecutionChain chain = chains.get(component);
 
+        if (chain == null && plans != null) {
+            List<QName> plan = plans.getPlan(component, container);
+            if (plan != null) {
+                // already walked by another walker, just load the bindings
+                List<Binding> planned = new ArrayList<>(plan.size());
+                for (QName name : plan) {
+                    Binding binding = loader.loadBinding(name, context);
+                    if (binding != null) {
+                        planned.add(binding);
+                    }
+                }
+                chain = new BindingExecutionChain(planned);
+                chains.put(component, chain);
+            }
+        }
+
         if (chain == null) {
             this.container = container;
             this.component = component;
             this.context = context;
             this.bindings = new ArrayList<>();
+            this.bindingNames = new ArrayList<>();
 
             // first walk the type hierarchy to get the binding objects
             typeWalker.walk(component.getType(), this);
@@ -159,15 +192,21 @@ public void walk(XSDFeature component, Visitor visitor, XSDTypeDefinition contai
                         // override, clear the binding list
                         bindings.clear();
                         bindings.add(binding);
+                        bindingNames.clear();
+                        bindingNames.add(qName);
                     } else {
                         // not override, add as first
                         bindings.add(0, binding);
+                        bindingNames.add(0, qName);
                     }
                 }
             }
 
             chain = new BindingExecutionChain(bindings);
             chains.put(component, chain);
+            if (plans != null) {
+                plans.putPlan(component, container, bindingNames);
+            }
         }
 
         chain.execute(visitor);
@@ -184,13 +223,15 @@ public static interface Visitor {
     public static class BindingExecutionChain {
         List bindings;
 
+        /** The bindings in execution order, worked out once for all the executions */
+        Binding[] executionOrder;
+
         public BindingExecutionChain(List bindings) {
             this.bindings = bindings;
-        }
 
-        public void execute(Visitor visitor) {
             // simulated call stack
             Stack<Binding> stack = new Stack<>();
+            List<Binding> order = new ArrayList<>(bindings.size());
 
             // visit from bottom to top
             for (Object o : bindings) {
@@ -203,14 +244,19 @@ public void execute(Visitor visitor) {
                     continue;
                 }
 
-                // execute the strategy
-                visitor.visit(binding);
+                order.add(binding);
             }
 
             // unwind the call stack
             while (!stack.isEmpty()) {
-                Binding binding = stack.pop();
+                order.add(stack.pop());
+            }
+            this.executionOrder = order.toArray(new Binding[order.size()]);
+        }
 
+        public void execute(Visitor visitor) {
+            for (Binding binding : executionOrder) {
+                // execute the strategy
                 visitor.visit(binding);
             }
         }
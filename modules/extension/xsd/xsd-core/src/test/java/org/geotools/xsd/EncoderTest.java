@@ -1,6 +1,8 @@
 package org.geotools.xsd;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigInteger;
 import java.util.Calendar;
@@ -9,6 +11,7 @@
 import org.geotools.ml.MLConfiguration;
 import org.geotools.ml.Mail;
 import org.geotools.ml.bindings.ML;
+import org.geotools.xsd.impl.BindingPlans;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -60,4 +63,29 @@ public void testSetIndenting() {
         encoder.setIndenting(true);
         Assert.assertTrue(encoder.isIndenting());
     }
+
+    @Test
+    public void testSharedBindingPlans() throws Exception {
+        Mail ml = new Mail(
+                BigInteger.valueOf(10),
+                "hi",
+                new Envelope("me@me.org", "you@you.org", Calendar.getInstance(), "hey", null),
+                null);
+        QName mails = new QName(ML.NAMESPACE, "mails");
+        boolean enabled = BindingPlans.ENABLED;
+        try {
+            BindingPlans.ENABLED = false;
+            String expected = new Encoder(new MLConfiguration()).encodeAsString(ml, mails);
+
+            BindingPlans.ENABLED = true;
+            BindingPlans plans = BindingPlans.get(new MLConfiguration().setupBindings());
+            assertSame(plans, BindingPlans.get(new MLConfiguration().setupBindings()));
+            // the first encoder walks the type hierarchies, the second one follows the plans
+            assertEquals(expected, new Encoder(new MLConfiguration()).encodeAsString(ml, mails));
+            assertTrue(plans.size() > 0);
+            assertEquals(expected, new Encoder(new MLConfiguration()).encodeAsString(ml, mails));
+        } finally {
+            BindingPlans.ENABLED = enabled;
+        }
+    }
 }
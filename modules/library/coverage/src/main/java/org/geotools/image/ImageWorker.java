@@ -47,6 +47,8 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.imageio.IIOException;
@@ -2403,11 +2405,7 @@ public final ImageWorker retainBands(final int numBands) {
             for (int i = 0; i < bands.length; i++) {
                 bands[i] = i;
             }
-            // ParameterBlock creation
-            ParameterBlock pb = new ParameterBlock();
-            pb.setSource(image, 0);
-            pb.set(bands, 0);
-            image = ImageN.create("BandSelect", pb, getRenderingHints());
+            retainBands(bands);
         }
 
         // All post conditions for this method contract.
@@ -2417,7 +2415,7 @@ public final ImageWorker retainBands(final int numBands) {
 
     /**
      * Retains inconditionnaly certain bands of {@linkplain #image}. All other bands (if any) are discarded without any
-     * further processing.
+     * further processing. A band selection over another one is merged with it, and removed if the two cancel out.
      *
      * @param bands the bands to retain.
      * @return this {@link ImageWorker}.
@@ -2426,11 +2424,33 @@ public final ImageWorker retainBands(final int numBands) {
      * @see BandSelectDescriptor
      */
     public final ImageWorker retainBands(final int[] bands) {
+        // band select over band select
+        RenderedImage source = image;
+        int[] selected = bands;
+        RenderingHints hints = getRenderingHints();
+        RenderingHints mergedHints;
+        if (image instanceof RenderedOp op
+                && "BandSelect".equals(op.getOperationName())
+                && (mergedHints = getMergedHints(op)) != null) {
+            hints = mergedHints;
+            ParameterBlock sourceBlock = op.getParameterBlock();
+            int[] sourceBands = (int[]) sourceBlock.getObjectParameter(0);
+            selected = new int[bands.length];
+            for (int i = 0; i < bands.length; i++) {
+                selected[i] = sourceBands[bands[i]];
+            }
+            source = sourceBlock.getRenderedSource(0);
+            if (isIdentitySelection(selected, source)) {
+                image = source;
+                return this;
+            }
+        }
+
         // ParameterBlock creation
         ParameterBlock pb = new ParameterBlock();
-        pb.setSource(image, 0);
-        pb.set(bands, 0);
-        image = ImageN.create("BandSelect", pb, getRenderingHints());
+        pb.setSource(source, 0);
+        pb.set(selected, 0);
+        image = ImageN.create("BandSelect", pb, hints);
         return this;
     }
 
@@ -4166,6 +4186,98 @@ private void updateNoData(double[] bgValues, RenderedImage image) {
         }
     }
 
+    /** Returns true if the bands select all the source bands, in their order */
+    private static boolean isIdentitySelection(int[] bands, RenderedImage source) {
+        if (bands.length != source.getSampleModel().getNumBands()) {
+            return false;
+        }
+        for (int i = 0; i < bands.length; i++) {
+            if (bands[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the parameter block of the current image if it's the specified operation, and it can be merged with the
+     * next one, that is, neither of them uses a ROI or nodata.
+     *
+     * @param operation the operation name
+     * @param roiIndex the index of the ROI parameter
+     * @param noDataIndex the index of the nodata parameter
+     * @return the operation parameter block, or null if the image is not a mergeable instance of the operation
+     */
+    private ParameterBlock getMergeableSource(String operation, int roiIndex, int noDataIndex) {
+        if (roi != null || nodata != null || !(image instanceof RenderedOp op)) {
+            return null;
+        }
+        if (!operation.equalsIgnoreCase(op.getOperationName())) {
+            return null;
+        }
+        ParameterBlock pb = op.getParameterBlock();
+        int numParameters = pb.getNumParameters();
+        if (numParameters > roiIndex && pb.getObjectParameter(roiIndex) != null
+                || numParameters > noDataIndex && pb.getObjectParameter(noDataIndex) != null) {
+            return null;
+        }
+        return pb;
+    }
+
+    /**
+     * Returns the hints to create an operation replacing the current one, merged with the specified operation: the
+     * current hints along with the ones the operation was created with, or null if they conflict. The image layouts are
+     * not compared, as they derive from the images themselves.
+     */
+    private RenderingHints getMergedHints(RenderedOp op) {
+        RenderingHints hints = getRenderingHints();
+        RenderingHints opHints = op.getRenderingHints();
+        if (opHints != null) {
+            for (Map.Entry<Object, Object> entry : opHints.entrySet()) {
+                Object key = entry.getKey();
+                if (ImageN.KEY_IMAGE_LAYOUT.equals(key)) {
+                    continue;
+                }
+                if (!hints.containsKey(key)) {
+                    hints.put(key, entry.getValue());
+                } else if (!Objects.equals(hints.get(key), entry.getValue())) {
+                    return null;
+                }
+            }
+        }
+        return hints;
+    }
+
+    /**
+     * Merges two byte lookup tables into one, applying the first one and then the second one. Returns null if the
+     * tables are not byte ones, or cannot be applied in sequence to the source image.
+     */
+    static LookupTable mergeLookups(LookupTable first, LookupTable second, RenderedImage source) {
+        if (source.getSampleModel().getDataType() != DataBuffer.TYPE_BYTE
+                || first.getDataType() != DataBuffer.TYPE_BYTE
+                || second.getDataType() != DataBuffer.TYPE_BYTE) {
+            return null;
+        }
+        int firstBands = first.getNumBands();
+        int secondBands = second.getNumBands();
+        if (firstBands > 1 && secondBands > 1 && firstBands != secondBands) {
+            return null;
+        }
+        byte[][] data = new byte[Math.max(firstBands, secondBands)][256];
+        try {
+            for (int b = 0; b < data.length; b++) {
+                for (int i = 0; i < 256; i++) {
+                    int value = first.lookup(Math.min(b, firstBands - 1), i);
+                    data[b][i] = (byte) second.lookup(Math.min(b, secondBands - 1), value & 0xFF);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // tables not covering the whole byte range, cannot merge
+            return null;
+        }
+        return LookupTableFactory.create(data, DataBuffer.TYPE_BYTE);
+    }
+
     /**
      * Crops the image to the specified bounds. Will use an internal operation that ensures the tile cache and tile
      * scheduler hints are used, and will perform operation elimination in case the crop is doing nothing, or in case
@@ -4550,11 +4662,28 @@ public ImageWorker scale(double xScale, double yScale, double xTrans, double yTr
         return this;
     }
 
-    /** Performs Lookup on the underlying image */
+    /**
+     * Performs Lookup on the underlying image. A lookup over another byte lookup, with no ROI and nodata involved, is
+     * merged with it into a single lookup on the source image.
+     */
     public ImageWorker lookup(LookupTable table) {
+        // lookup over lookup
+        RenderedImage source = image;
+        RenderingHints hints = getRenderingHints();
+        ParameterBlock sourceBlock = getMergeableSource("Lookup", 2, 3);
+        RenderingHints mergedHints = sourceBlock != null ? getMergedHints((RenderedOp) image) : null;
+        if (mergedHints != null && sourceBlock.getObjectParameter(0) instanceof LookupTable sourceTable) {
+            LookupTable merged = mergeLookups(sourceTable, table, sourceBlock.getRenderedSource(0));
+            if (merged != null) {
+                table = merged;
+                source = sourceBlock.getRenderedSource(0);
+                hints = mergedHints;
+            }
+        }
+
         // ParameterBlock definition
         ParameterBlock pb = new ParameterBlock();
-        pb.setSource(image, 0);
+        pb.setSource(source, 0);
         pb.set(table, 0);
         pb.set(roi, 2);
         // Convert the NoData
@@ -4568,7 +4697,7 @@ public ImageWorker lookup(LookupTable table) {
             }
         }
 
-        image = ImageN.create("Lookup", pb, getRenderingHints());
+        image = ImageN.create("Lookup", pb, hints);
         return this;
     }
 
@@ -4628,10 +4757,44 @@ public ImageWorker piecewise(PiecewiseTransform1D transform, Integer bandIndex)
         return this;
     }
 
-    /** Apply a rescale operation on the underlying image. */
+    /**
+     * Apply a rescale operation on the underlying image. A rescale over another rescale of floating point data, with
+     * no ROI and nodata involved, is merged with it into a single rescale on the source image.
+     */
     public ImageWorker rescale(double[] scale, double[] offset) {
+        // rescale over rescale, integral types are excluded as the intermediate result is rounded and clamped, and the
+        // first rescale must not change the data type, which the merged one would not do
+        RenderedImage source = image;
+        RenderingHints hints = getRenderingHints();
+        ParameterBlock sourceBlock = getMergeableSource("Rescale", 2, 3);
+        if (sourceBlock != null) {
+            int dataType = image.getSampleModel().getDataType();
+            int sourceType = sourceBlock.getRenderedSource(0).getSampleModel().getDataType();
+            if (sourceType != dataType || (dataType != DataBuffer.TYPE_FLOAT && dataType != DataBuffer.TYPE_DOUBLE)) {
+                sourceBlock = null;
+            }
+        }
+        RenderingHints mergedHints = sourceBlock != null ? getMergedHints((RenderedOp) image) : null;
+        if (mergedHints != null) {
+            hints = mergedHints;
+            double[] sScale = (double[]) sourceBlock.getObjectParameter(0);
+            double[] sOffset = (double[]) sourceBlock.getObjectParameter(1);
+            int bands = Math.max(Math.max(scale.length, offset.length), Math.max(sScale.length, sOffset.length));
+            double[] mergedScale = new double[bands];
+            double[] mergedOffset = new double[bands];
+            for (int b = 0; b < bands; b++) {
+                double bandScale = scale[Math.min(b, scale.length - 1)];
+                mergedScale[b] = bandScale * sScale[Math.min(b, sScale.length - 1)];
+                mergedOffset[b] =
+                        bandScale * sOffset[Math.min(b, sOffset.length - 1)] + offset[Math.min(b, offset.length - 1)];
+            }
+            scale = mergedScale;
+            offset = mergedOffset;
+            source = sourceBlock.getRenderedSource(0);
+        }
+
         ParameterBlock pb = new ParameterBlock();
-        pb.setSource(image, 0); // The source image.
+        pb.setSource(source, 0); // The source image.
         pb.set(scale, 0); // The per-band constants to multiply by.
         pb.set(offset, 1); // The per-band offsets to be added.
         pb.set(roi, 2); // ROI
@@ -4649,7 +4812,7 @@ public ImageWorker rescale(double[] scale, double[] offset) {
         }
 
         pb.set(destNodata, 5);
-        image = ImageN.create("Rescale", pb, getRenderingHints());
+        image = ImageN.create("Rescale", pb, hints);
         if (!Double.isNaN(destNodata)) {
             setNoData(RangeFactory.create(destNodata, destNodata));
         }
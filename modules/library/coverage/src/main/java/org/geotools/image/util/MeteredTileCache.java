@@ -0,0 +1,271 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.image.util;
+
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.imagen.ImageN;
+import org.eclipse.imagen.RenderedOp;
+import org.eclipse.imagen.TileCache;
+
+/**
+ * Decorates a {@link TileCache}, recording for each image the number of tiles served by the cache and the number of
+ * tiles computed and added to it. The counts can then be summarized for a whole chain of operations with
+ * {@link #getStatistics(RenderedImage)}, showing how many tiles each step computed, and how many were reused.
+ *
+ * <p>The metering starts once the {@link #getTileCache() decorated cache} is used by the operations, either setting it
+ * as the default one with {@code ImageN.getDefaultInstance().setTileCache(metered.getTileCache())}, or passing it with
+ * the {@link ImageN#KEY_TILE_CACHE} rendering hint. Counts are tracked with weak references to the images, and do not
+ * prevent them from being garbage collected.
+ */
+public class MeteredTileCache {
+
+    private final TileCache delegate;
+
+    private final TileCache tileCache;
+
+    private final Map<RenderedImage, Counters> counters = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** @param delegate the cache actually storing the tiles */
+    public MeteredTileCache(TileCache delegate) {
+        this.delegate = delegate;
+        this.tileCache = (TileCache) Proxy.newProxyInstance(
+                TileCache.class.getClassLoader(), new Class<?>[] {TileCache.class}, this::invoke);
+    }
+
+    /** Returns the cache recording the tile accesses, to be used by the operations being monitored */
+    public TileCache getTileCache() {
+        return tileCache;
+    }
+
+    /** Returns the decorated cache */
+    public TileCache getDelegate() {
+        return delegate;
+    }
+
+    private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "MeteredTileCache[" + delegate + "]";
+            }
+        }
+
+        Object result;
+        try {
+            result = method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (args != null && args.length > 0 && args[0] instanceof RenderedImage owner) {
+            switch (method.getName()) {
+                case "getTile":
+                    getCounters(owner).record(result != null);
+                    break;
+                case "getTiles":
+                    if (args.length > 1 && result instanceof Raster[] tiles) {
+                        Counters c = getCounters(owner);
+                        for (Raster tile : tiles) {
+                            c.record(tile != null);
+                        }
+                    }
+                    break;
+                case "add":
+                    getCounters(owner).computed.increment();
+                    break;
+                case "addTiles":
+                    if (args.length > 2 && args[2] instanceof Raster[] tiles) {
+                        getCounters(owner).computed.add(tiles.length);
+                    }
+                    break;
+                default:
+                    // not a tile access
+            }
+        }
+        return result;
+    }
+
+    private Counters getCounters(RenderedImage owner) {
+        synchronized (counters) {
+            return counters.computeIfAbsent(owner, k -> new Counters());
+        }
+    }
+
+    /** Drops all the counts recorded so far */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Returns the statistics of each step of the chain of operations ending with the specified image, visiting the
+     * sources depth first. Operations are accounted through their rendering, which gets created if missing.
+     */
+    public ChainStatistics getStatistics(RenderedImage image) {
+        List<OperationStatistics> operations = new ArrayList<>();
+        collect(image, Collections.newSetFromMap(new IdentityHashMap<>()), operations);
+        return new ChainStatistics(operations);
+    }
+
+    private void collect(RenderedImage image, Set<RenderedImage> visited, List<OperationStatistics> operations) {
+        if (image == null || !visited.add(image)) {
+            return;
+        }
+        String name;
+        RenderedImage owner;
+        List<?> sources;
+        if (image instanceof RenderedOp op) {
+            name = op.getOperationName();
+            owner = op.getRendering();
+            sources = op.getParameterBlock().getSources();
+        } else {
+            name = image.getClass().getSimpleName();
+            owner = image;
+            sources = image.getSources();
+        }
+        Counters c = counters.get(owner);
+        operations.add(
+                c == null
+                        ? new OperationStatistics(name, 0, 0, 0)
+                        : new OperationStatistics(name, c.hits.sum(), c.misses.sum(), c.computed.sum()));
+        if (sources != null) {
+            for (Object source : sources) {
+                if (source instanceof RenderedImage ri) {
+                    collect(ri, visited, operations);
+                }
+            }
+        }
+    }
+
+    private static class Counters {
+
+        final LongAdder hits = new LongAdder();
+
+        final LongAdder misses = new LongAdder();
+
+        final LongAdder computed = new LongAdder();
+
+        void record(boolean hit) {
+            if (hit) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+    }
+
+    /** The tile cache accesses of a single operation */
+    public static class OperationStatistics {
+
+        private final String name;
+
+        private final long cacheHits;
+
+        private final long cacheMisses;
+
+        private final long tilesComputed;
+
+        public OperationStatistics(String name, long cacheHits, long cacheMisses, long tilesComputed) {
+            this.name = name;
+            this.cacheHits = cacheHits;
+            this.cacheMisses = cacheMisses;
+            this.tilesComputed = tilesComputed;
+        }
+
+        /** The operation name, or the image class name for images that are not operations */
+        public String getName() {
+            return name;
+        }
+
+        /** The number of tiles found in the cache */
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        /** The number of tiles looked up in the cache and not found */
+        public long getCacheMisses() {
+            return cacheMisses;
+        }
+
+        /** The number of tiles computed and added to the cache */
+        public long getTilesComputed() {
+            return tilesComputed;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[computed=" + tilesComputed + ", hits=" + cacheHits + ", misses=" + cacheMisses + "]";
+        }
+    }
+
+    /** The tile cache accesses of a chain of operations */
+    public static class ChainStatistics {
+
+        private final List<OperationStatistics> operations;
+
+        public ChainStatistics(List<OperationStatistics> operations) {
+            this.operations = Collections.unmodifiableList(operations);
+        }
+
+        /** The statistics of each step, starting from the last operation of the chain */
+        public List<OperationStatistics> getOperations() {
+            return operations;
+        }
+
+        /** The number of steps in the chain */
+        public int getLength() {
+            return operations.size();
+        }
+
+        /** The total number of tiles computed by the chain */
+        public long getTilesComputed() {
+            return operations.stream().mapToLong(OperationStatistics::getTilesComputed).sum();
+        }
+
+        /** The total number of tiles served by the cache to the chain */
+        public long getCacheHits() {
+            return operations.stream().mapToLong(OperationStatistics::getCacheHits).sum();
+        }
+
+        /** The ratio of the tile lookups served by the cache, 1 if no lookup was performed */
+        public double getHitRate() {
+            long hits = getCacheHits();
+            long lookups = hits + operations.stream().mapToLong(OperationStatistics::getCacheMisses).sum();
+            return lookups == 0 ? 1 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "ChainStatistics[computed=" + getTilesComputed() + ", hits=" + getCacheHits() + ", operations="
+                    + operations + "]";
+        }
+    }
+}
@@ -1590,6 +1590,91 @@ public void testLookupROI() {
         assertNoData(w.getRenderedImage(), null);
     }
 
+    @Test
+    public void testLookupMerge() {
+        byte[] invert = new byte[256];
+        byte[] half = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            invert[i] = (byte) (255 - i);
+            half[i] = (byte) (i / 2);
+        }
+        ImageWorker iw = new ImageWorker(gray);
+        iw.lookup(LookupTableFactory.create(invert)).lookup(LookupTableFactory.create(half));
+
+        // a single lookup over the source image
+        RenderedOp op = (RenderedOp) iw.getRenderedImage();
+        assertEquals("Lookup", op.getOperationName());
+        assertSame(gray, op.getSourceObject(0));
+
+        Raster source = gray.getData();
+        Raster result = op.getData();
+        for (int y = 0; y < gray.getHeight(); y += 5) {
+            for (int x = 0; x < gray.getWidth(); x += 5) {
+                assertEquals((255 - source.getSample(x, y, 0)) / 2, result.getSample(x, y, 0));
+            }
+        }
+    }
+
+    @Test
+    public void testRescaleMerge() {
+        RenderedImage constant = ConstantDescriptor.create(64f, 64f, new Float[] {10f}, null);
+        ImageWorker iw = new ImageWorker(constant);
+        iw.rescale(new double[] {2}, new double[] {1}).rescale(new double[] {3}, new double[] {-1});
+
+        RenderedOp op = (RenderedOp) iw.getRenderedImage();
+        assertEquals("Rescale", op.getOperationName());
+        assertSame(constant, op.getSourceObject(0));
+        assertEquals(62, iw.getMaximums()[0], 1e-6);
+
+        // integral data is rounded and clamped at each step, no merge
+        RenderedImage bytes = ConstantDescriptor.create(64f, 64f, new Byte[] {10}, null);
+        iw = new ImageWorker(bytes);
+        iw.rescale(new double[] {100}, new double[] {0}).rescale(new double[] {0.5}, new double[] {0});
+        op = (RenderedOp) iw.getRenderedImage();
+        assertNotSame(bytes, op.getSourceObject(0));
+    }
+
+    @Test
+    public void testRescaleMergeHints() {
+        RenderedImage constant = ConstantDescriptor.create(64f, 64f, new Float[] {10f}, null);
+        ImageWorker iw = new ImageWorker(constant);
+        iw.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        iw.rescale(new double[] {2}, new double[] {1});
+        iw.removeRenderingHint(RenderingHints.KEY_RENDERING);
+        iw.rescale(new double[] {3}, new double[] {-1});
+
+        // merged, keeping the hints of the first rescale
+        RenderedOp op = (RenderedOp) iw.getRenderedImage();
+        assertSame(constant, op.getSourceObject(0));
+        assertEquals(RenderingHints.VALUE_RENDER_SPEED, op.getRenderingHints().get(RenderingHints.KEY_RENDERING));
+
+        // conflicting hints, no merge
+        iw = new ImageWorker(constant);
+        iw.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        iw.rescale(new double[] {2}, new double[] {1});
+        iw.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        iw.rescale(new double[] {3}, new double[] {-1});
+        op = (RenderedOp) iw.getRenderedImage();
+        assertNotSame(constant, op.getSourceObject(0));
+        assertEquals(62, iw.getMaximums()[0], 1e-6);
+    }
+
+    @Test
+    public void testBandSelectMerge() {
+        RenderedImage constant = ConstantDescriptor.create(64f, 64f, new Byte[] {10, 20, 30}, null);
+        ImageWorker iw = new ImageWorker(constant);
+        iw.retainBands(new int[] {2, 1}).retainBands(new int[] {1});
+        RenderedOp op = (RenderedOp) iw.getRenderedImage();
+        assertEquals("BandSelect", op.getOperationName());
+        assertSame(constant, op.getSourceObject(0));
+        assertEquals(20, iw.getMaximums()[0], 0);
+
+        // selections canceling out are removed
+        iw = new ImageWorker(constant);
+        iw.retainBands(new int[] {2, 0, 1}).retainBands(new int[] {1, 2, 0});
+        assertSame(constant, iw.getRenderedImage());
+    }
+
     @Test
     public void testDoubleCrop() {
         ImageWorker iw = new ImageWorker(gray);
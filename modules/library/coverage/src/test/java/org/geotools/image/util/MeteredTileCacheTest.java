@@ -0,0 +1,80 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.image.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.awt.image.WritableRaster;
+import org.eclipse.imagen.ImageLayout;
+import org.eclipse.imagen.ImageN;
+import org.eclipse.imagen.media.util.SunTileCache;
+import org.geotools.image.ImageWorker;
+import org.geotools.image.util.MeteredTileCache.ChainStatistics;
+import org.geotools.image.util.MeteredTileCache.OperationStatistics;
+import org.junit.Test;
+
+public class MeteredTileCacheTest {
+
+    private static BufferedImage createGray() {
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_BYTE_GRAY);
+        WritableRaster raster = image.getRaster();
+        for (int y = 0; y < 256; y++) {
+            for (int x = 0; x < 256; x++) {
+                raster.setSample(x, y, 0, (x + y) % 256);
+            }
+        }
+        return image;
+    }
+
+    @Test
+    public void testChainStatistics() {
+        MeteredTileCache metered = new MeteredTileCache(new SunTileCache());
+        BufferedImage source = createGray();
+        ImageWorker iw = new ImageWorker(source);
+        iw.setRenderingHint(ImageN.KEY_TILE_CACHE, metered.getTileCache());
+        iw.setRenderingHint(ImageN.KEY_IMAGE_LAYOUT, new ImageLayout().setTileWidth(64).setTileHeight(64));
+        RenderedImage image = iw.rescale(new double[] {0.5}, new double[] {10}).getRenderedImage();
+
+        // first pass computes all tiles
+        image.getData();
+        ChainStatistics stats = metered.getStatistics(image);
+        assertEquals(2, stats.getLength());
+        OperationStatistics rescale = stats.getOperations().get(0);
+        assertEquals("Rescale", rescale.getName());
+        assertEquals(16, rescale.getTilesComputed());
+        assertEquals(0, rescale.getCacheHits());
+        // the source image is not an operation, nothing to account for it
+        OperationStatistics sourceStats = stats.getOperations().get(1);
+        assertEquals(0, sourceStats.getTilesComputed());
+
+        // second pass reuses the cached tiles
+        image.getData();
+        stats = metered.getStatistics(image);
+        assertEquals(16, stats.getTilesComputed());
+        assertTrue(stats.getCacheHits() >= 16);
+        assertTrue(stats.getHitRate() > 0 && stats.getHitRate() < 1);
+        assertTrue(stats.toString().contains("Rescale"));
+
+        metered.reset();
+        stats = metered.getStatistics(image);
+        assertEquals(0, stats.getTilesComputed());
+        assertEquals(1, stats.getHitRate(), 0);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Throughput metrics of a bulk load, see {@link JDBCFeatureStore#bulkLoad(FeatureReader)}.
+ *
+ * <p>The features are counted, and their bounds gathered, as they are read from the source. The batches, and the bytes
+ * sent to the database, are reported by the loading method with {@link #batchLoaded(int, long)}.
+ */
+public class BulkLoadStatistics {
+
+    private final ReferencedEnvelope bounds;
+
+    private long featureCount;
+
+    private long loadedCount;
+
+    private int batchCount;
+
+    private long byteCount;
+
+    private long startTime;
+
+    private long endTime;
+
+    public BulkLoadStatistics(SimpleFeatureType featureType) {
+        this.bounds = ReferencedEnvelope.create(featureType.getCoordinateReferenceSystem());
+    }
+
+    /** The number of features read from the source */
+    public long getFeatureCount() {
+        return featureCount;
+    }
+
+    /** The number of features written to the database, as reported by the batches loaded so far */
+    public long getLoadedCount() {
+        return loadedCount;
+    }
+
+    /** The number of batches sent to the database */
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    /** The number of bytes sent to the database, or 0 if the loading method does not track it */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /** The bounds of the default geometries of the features read */
+    public ReferencedEnvelope getBounds() {
+        return bounds;
+    }
+
+    /** The time elapsed since the load started, in milliseconds */
+    public long getElapsedTime() {
+        if (startTime == 0) {
+            return 0;
+        }
+        long end = endTime == 0 ? System.nanoTime() : endTime;
+        return (end - startTime) / 1_000_000;
+    }
+
+    /** The number of features loaded per second */
+    public double getFeaturesPerSecond() {
+        long elapsed = getElapsedTime();
+        return elapsed > 0 ? loadedCount * 1000d / elapsed : 0;
+    }
+
+    /** The number of bytes sent to the database per second, or 0 if the loading method does not track them */
+    public double getBytesPerSecond() {
+        long elapsed = getElapsedTime();
+        return elapsed > 0 ? byteCount * 1000d / elapsed : 0;
+    }
+
+    /**
+     * Reports a batch has been written to the database.
+     *
+     * @param features The number of features in the batch
+     * @param bytes The number of bytes sent to the database, or 0 if not known
+     */
+    public void batchLoaded(int features, long bytes) {
+        batchCount++;
+        loadedCount += features;
+        byteCount += bytes;
+    }
+
+    void start() {
+        startTime = System.nanoTime();
+    }
+
+    void stop() {
+        endTime = System.nanoTime();
+    }
+
+    /** Wraps the reader so that the features it returns are counted, and their bounds gathered */
+    FeatureReader<SimpleFeatureType, SimpleFeature> track(FeatureReader<SimpleFeatureType, SimpleFeature> reader) {
+        return new FeatureReader<>() {
+            @Override
+            public SimpleFeatureType getFeatureType() {
+                return reader.getFeatureType();
+            }
+
+            @Override
+            public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+                SimpleFeature feature = reader.next();
+                featureCount++;
+                if (feature.getDefaultGeometry() instanceof Geometry geometry) {
+                    bounds.expandToInclude(geometry.getEnvelopeInternal());
+                }
+                return feature;
+            }
+
+            @Override
+            public boolean hasNext() throws IOException {
+                return reader.hasNext();
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadStatistics [features="
+                + loadedCount
+                + ", batches="
+                + batchCount
+                + ", bytes="
+                + byteCount
+                + ", elapsed="
+                + getElapsedTime()
+                + "ms, features/s="
+                + Math.round(getFeaturesPerSecond())
+                + "]";
+    }
+}
@@ -50,6 +50,7 @@
 import javax.sql.DataSource;
 import org.apache.commons.lang3.ArrayUtils;
 import org.geotools.api.data.DataStore;
+import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.FeatureStore;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.Transaction;
@@ -260,6 +261,12 @@ public final class JDBCDataStore extends ContentDataStore implements GmlObjectSt
      */
     protected int batchInsertSize = 1;
 
+    /** The number of features sent to the database in each batch of a bulk load */
+    protected int bulkLoadBatchSize = 10000;
+
+    /** The number of features read ahead of the consumer on a background thread, 0 to disable */
+    protected int prefetchSize = 0;
+
     /** flag controlling whether primary key columns of a table are exposed via the feature type. */
     protected boolean exposePrimaryKeyColumns = false;
 
@@ -378,6 +385,33 @@ public void setBatchInsertSize(int batchInsertSize) {
         this.batchInsertSize = batchInsertSize;
     }
 
+    /** @return the number of features read and decoded ahead of the consumer, on a background thread. */
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Set the number of features read and decoded ahead of the consumer, on a background thread, so that database
+     * access and feature decoding overlap with the consumer work. Defaults to 0, no prefetching. Can be overridden on
+     * a query basis with the {@link JDBCFeatureSource#PREFETCH_SIZE} hint.
+     */
+    public void setPrefetchSize(int prefetchSize) {
+        this.prefetchSize = prefetchSize;
+    }
+
+    /** @return the number of features sent to the database in each batch of a bulk load. */
+    public int getBulkLoadBatchSize() {
+        return bulkLoadBatchSize;
+    }
+
+    /**
+     * Set the number of features sent to the database in each batch of a bulk load, which is also the maximum number of
+     * features held in memory while loading.
+     */
+    public void setBulkLoadBatchSize(int bulkLoadBatchSize) {
+        this.bulkLoadBatchSize = bulkLoadBatchSize;
+    }
+
     /**
      * Determines if the datastore creates feature types which include those columns / attributes which compose the
      * primary key.
@@ -1758,6 +1792,16 @@ protected void insert(SimpleFeature feature, SimpleFeatureType featureType, Conn
     /** Inserts a collection of new features into the database for a particular feature type / table. */
     protected void insert(Collection<? extends SimpleFeature> features, SimpleFeatureType featureType, Connection cx)
             throws IOException {
+        insert(features, featureType, cx, batchInsertSize);
+    }
+
+    /**
+     * Inserts a collection of new features into the database for a particular feature type / table, the batch size
+     * being the one the caller is buffering insertions with, rather than {@link #getBatchInsertSize()}.
+     */
+    protected void insert(
+            Collection<? extends SimpleFeature> features, SimpleFeatureType featureType, Connection cx, int batchSize)
+            throws IOException {
         PrimaryKey key = getPrimaryKey(featureType);
 
         // we do this in a synchronized block because we need to do two queries,
@@ -1768,7 +1812,7 @@ protected void insert(Collection<? extends SimpleFeature> features, SimpleFeatur
                     Map<InsertionClassifier, Collection<SimpleFeature>> kinds =
                             InsertionClassifier.classify(featureType, features);
                     for (InsertionClassifier kind : kinds.keySet()) {
-                        insertPS(kinds.get(kind), kind, featureType, cx, key);
+                        insertPS(kinds.get(kind), kind, featureType, cx, key, batchSize);
                     }
                 } else {
                     Collection<SimpleFeature> useExistings = new ArrayList<>();
@@ -1786,26 +1830,148 @@ protected void insert(Collection<? extends SimpleFeature> features, SimpleFeatur
         }
     }
 
+    /**
+     * Loads the features provided by the reader into the database for a particular feature type / table, in batches of
+     * {@link #getBulkLoadBatchSize()} features. Uses the native bulk loading mechanism of the dialect if available, see
+     * {@link SQLDialect#canBulkLoad(SimpleFeatureType, PrimaryKey, Connection)}, multi row inserts otherwise.
+     *
+     * <p>Unlike {@link #insert(Collection, SimpleFeatureType, Connection)} the identifiers of the inserted features are
+     * not reported back.
+     *
+     * @return The statistics of the load
+     */
+    protected BulkLoadStatistics bulkLoad(
+            SimpleFeatureType featureType, FeatureReader<SimpleFeatureType, SimpleFeature> reader, Connection cx)
+            throws IOException {
+        PrimaryKey key = getPrimaryKey(featureType);
+        BulkLoadStatistics statistics = new BulkLoadStatistics(featureType);
+        FeatureReader<SimpleFeatureType, SimpleFeature> tracked = statistics.track(reader);
+        int batchSize = Math.max(1, bulkLoadBatchSize);
+
+        statistics.start();
+        try {
+            if (dialect.canBulkLoad(featureType, key, cx)) {
+                dialect.bulkLoad(featureType, tracked, batchSize, cx, statistics);
+            } else {
+                List<SimpleFeature> batch = new ArrayList<>(Math.min(batchSize, 1024));
+                while (tracked.hasNext()) {
+                    batch.add(tracked.next());
+                    if (batch.size() == batchSize || !tracked.hasNext()) {
+                        insertBatch(batch, featureType, cx, key);
+                        statistics.batchLoaded(batch.size(), 0);
+                        batch.clear();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error bulk loading features", e);
+        } finally {
+            statistics.stop();
+        }
+        LOGGER.log(Level.FINE, "Bulk loaded {0}: {1}", new Object[] {featureType.getTypeName(), statistics});
+        return statistics;
+    }
+
+    /** Inserts a batch of a bulk load, using multi row inserts if the dialect supports them. */
+    private void insertBatch(List<SimpleFeature> features, SimpleFeatureType featureType, Connection cx, PrimaryKey key)
+            throws IOException, SQLException {
+        int maxRows = dialect.getMaxRowsPerInsert(featureType);
+        if (!(dialect instanceof PreparedStatementSQLDialect) || maxRows <= 1) {
+            insert(features, featureType, cx);
+            return;
+        }
+        synchronized (this) {
+            Map<InsertionClassifier, Collection<SimpleFeature>> kinds =
+                    InsertionClassifier.classify(featureType, features);
+            for (Map.Entry<InsertionClassifier, Collection<SimpleFeature>> kind : kinds.entrySet()) {
+                insertMultiRowPS(new ArrayList<>(kind.getValue()), kind.getKey(), featureType, cx, key, maxRows);
+            }
+        }
+    }
+
+    /**
+     * Inserts the features with <code>INSERT ... VALUES (...), (...)</code> statements of up to <code>maxRows</code>
+     * rows each, executed in a single JDBC batch.
+     */
+    private void insertMultiRowPS(
+            List<SimpleFeature> features,
+            InsertionClassifier kind,
+            SimpleFeatureType featureType,
+            Connection cx,
+            PrimaryKey key,
+            int maxRows)
+            throws IOException, SQLException {
+        final PreparedStatementSQLDialect dialect = (PreparedStatementSQLDialect) getSQLDialect();
+        final KeysFetcher keysFetcher = KeysFetcher.create(this, cx, kind.useExisting, key);
+        if (keysFetcher.isPostInsert()) {
+            // keys generated by the database are needed, and cannot be reliably matched to the rows of a multi row
+            // insert, fall back on single row inserts
+            insertPS(features, kind, featureType, cx, key, batchInsertSize);
+            return;
+        }
+
+        int rows = Math.min(maxRows, features.size());
+        int full = features.size() - features.size() % rows;
+        if (full > 0) {
+            String sql = buildInsertPS(kind, featureType, keysFetcher, dialect, rows);
+            LOGGER.log(Level.FINE, "Inserting new features with multi row ps: {0}", sql);
+            try (PreparedStatement ps = cx.prepareStatement(sql)) {
+                for (int start = 0; start < full; start += rows) {
+                    setMultiRowParameters(ps, features.subList(start, start + rows), featureType, keysFetcher, cx);
+                    ps.addBatch();
+                }
+                checkAllInserted(ps.executeBatch(), full);
+            }
+        }
+        if (full < features.size()) {
+            List<SimpleFeature> remaining = features.subList(full, features.size());
+            String sql = buildInsertPS(kind, featureType, keysFetcher, dialect, remaining.size());
+            try (PreparedStatement ps = cx.prepareStatement(sql)) {
+                setMultiRowParameters(ps, remaining, featureType, keysFetcher, cx);
+                if (ps.executeUpdate() != remaining.size()) {
+                    throw new IOException("Failed to insert some features");
+                }
+            }
+        }
+    }
+
+    private void setMultiRowParameters(
+            PreparedStatement ps,
+            List<SimpleFeature> features,
+            SimpleFeatureType featureType,
+            KeysFetcher keysFetcher,
+            Connection cx)
+            throws IOException, SQLException {
+        final PreparedStatementSQLDialect dialect = (PreparedStatementSQLDialect) getSQLDialect();
+        int i = 1;
+        for (SimpleFeature feature : features) {
+            i = setInsertParameters(ps, featureType, feature, keysFetcher, dialect, cx, i);
+            i = keysFetcher.setKeyValues(dialect, ps, cx, featureType, feature, i);
+        }
+        dialect.onInsert(ps, cx, featureType);
+    }
+
     /** Specialized insertion for dialects that are using prepared statements. */
     private void insertPS(
             Collection<SimpleFeature> features,
             InsertionClassifier kind,
             SimpleFeatureType featureType,
             Connection cx,
-            PrimaryKey key)
+            PrimaryKey key,
+            int batchSize)
             throws IOException, SQLException {
         final PreparedStatementSQLDialect dialect = (PreparedStatementSQLDialect) getSQLDialect();
 
         final KeysFetcher keysFetcher = KeysFetcher.create(this, cx, kind.useExisting, key);
 
-        final String sql = buildInsertPS(kind, featureType, keysFetcher, dialect);
+        final String sql = buildInsertPS(kind, featureType, keysFetcher, dialect, 1);
         LOGGER.log(Level.FINE, "Inserting new features with ps: {0}", sql);
 
         // Check if we need to fall back to individual inserts
         // (for dialects that don't support batch + generated keys)
         boolean needsGeneratedKeys = keysFetcher.isPostInsert();
         boolean supportsBatchGeneratedKeys = dialect.supportsBatchGeneratedKeys();
-        boolean useBatch = !needsGeneratedKeys || supportsBatchGeneratedKeys || batchInsertSize > 1;
+        boolean useBatch = !needsGeneratedKeys || supportsBatchGeneratedKeys || batchSize > 1;
 
         // create the prepared statement
         final PreparedStatement ps;
@@ -1860,7 +2026,24 @@ protected int setInsertParameters(
             PreparedStatementSQLDialect dialect,
             Connection cx)
             throws IOException, SQLException {
-        int i = 1;
+        return setInsertParameters(ps, featureType, feature, keysFetcher, dialect, cx, 1);
+    }
+
+    /**
+     * Sets the attribute values of the feature in the prepared statement, starting at the given parameter index.
+     *
+     * @return The index of the next parameter
+     */
+    protected int setInsertParameters(
+            PreparedStatement ps,
+            SimpleFeatureType featureType,
+            SimpleFeature feature,
+            KeysFetcher keysFetcher,
+            PreparedStatementSQLDialect dialect,
+            Connection cx,
+            int startIndex)
+            throws IOException, SQLException {
+        int i = startIndex;
         for (AttributeDescriptor att : featureType.getAttributeDescriptors()) {
             String colName = att.getLocalName();
             if (keysFetcher.isKey(colName)) {
@@ -1923,12 +2106,13 @@ static void checkAllInserted(int[] inserts, int size) throws IOException {
         }
     }
 
-    /** Build the insert statement that will be used in a PreparedStatement. */
+    /** Build the insert statement, inserting the given number of rows, that will be used in a PreparedStatement. */
     private String buildInsertPS(
             InsertionClassifier kind,
             SimpleFeatureType featureType,
             KeysFetcher keysFetcher,
-            PreparedStatementSQLDialect dialect)
+            PreparedStatementSQLDialect dialect,
+            int rows)
             throws SQLException {
         StringBuffer sql = new StringBuffer();
         sql.append("INSERT INTO ");
@@ -1953,34 +2137,37 @@ private String buildInsertPS(
         sql.setLength(sql.length() - 1); // remove the last coma
 
         // values
-        sql.append(" ) VALUES ( ");
-        for (AttributeDescriptor att : featureType.getAttributeDescriptors()) {
-            String colName = att.getLocalName();
-            // skip the pk columns in case we have exposed them, we grab the
-            // value from the pk itself
-            if (keysFetcher.isKey(colName)) {
-                continue;
-            }
+        sql.append(" ) VALUES ");
+        for (int row = 0; row < rows; row++) {
+            sql.append(row == 0 ? "( " : ", ( ");
+            for (AttributeDescriptor att : featureType.getAttributeDescriptors()) {
+                String colName = att.getLocalName();
+                // skip the pk columns in case we have exposed them, we grab the
+                // value from the pk itself
+                if (keysFetcher.isKey(colName)) {
+                    continue;
+                }
 
-            // geometries might need special treatment, delegate to the dialect
-            if (att instanceof GeometryDescriptor) {
-                Class<? extends Geometry> geometryClass =
-                        kind.geometryTypes.get(att.getName().getLocalPart());
-                dialect.prepareGeometryValue(
-                        geometryClass,
-                        getDescriptorDimension(att),
-                        getDescriptorSRID(att),
-                        att.getType().getBinding(),
-                        sql);
-            } else {
-                sql.append("?");
+                // geometries might need special treatment, delegate to the dialect
+                if (att instanceof GeometryDescriptor) {
+                    Class<? extends Geometry> geometryClass =
+                            kind.geometryTypes.get(att.getName().getLocalPart());
+                    dialect.prepareGeometryValue(
+                            geometryClass,
+                            getDescriptorDimension(att),
+                            getDescriptorSRID(att),
+                            att.getType().getBinding(),
+                            sql);
+                } else {
+                    sql.append("?");
+                }
+                sql.append(",");
             }
-            sql.append(",");
-        }
-        keysFetcher.addKeyBindings(sql);
+            keysFetcher.addKeyBindings(sql);
 
-        sql.setLength(sql.length() - 1);
-        sql.append(")");
+            sql.setLength(sql.length() - 1);
+            sql.append(")");
+        }
         return sql.toString();
     }
 
@@ -104,6 +104,15 @@ public abstract class JDBCDataStoreFactory implements DataStoreFactorySpi {
             false,
             1);
 
+    /** If positive, features are read and decoded ahead of the consumer on a background thread */
+    public static final Param PREFETCH_SIZE = new Param(
+            "Prefetch size",
+            Integer.class,
+            "Number of features read and decoded on a background thread ahead of the consumer, overlapping database"
+                    + " access and decoding with the consumer work (default, 0, disabled)",
+            false,
+            0);
+
     /** Maximum amount of time the pool will wait when trying to grab a new connection * */
     public static final Param MAXWAIT = new Param(
             "Connection timeout",
@@ -272,6 +281,11 @@ public final JDBCDataStore createDataStore(Map<String, ?> params) throws IOExcep
             dataStore.setBatchInsertSize(batchInsertSize);
         }
 
+        Integer prefetchSize = (Integer) PREFETCH_SIZE.lookUp(params);
+        if (prefetchSize != null && prefetchSize > 0) {
+            dataStore.setPrefetchSize(prefetchSize);
+        }
+
         // namespace
         String namespace = (String) NAMESPACE.lookUp(params);
 
@@ -407,6 +421,7 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(MINCONN.key, MINCONN);
         parameters.put(FETCHSIZE.key, FETCHSIZE);
         parameters.put(BATCH_INSERT_SIZE.key, BATCH_INSERT_SIZE);
+        parameters.put(PREFETCH_SIZE.key, PREFETCH_SIZE);
         parameters.put(MAXWAIT.key, MAXWAIT);
         if (getValidationQuery() != null) parameters.put(VALIDATECONN.key, VALIDATECONN);
         parameters.put(TEST_WHILE_IDLE.key, TEST_WHILE_IDLE);
@@ -77,6 +77,19 @@ public class JDBCFeatureSource extends ContentFeatureSource {
      */
     public static final Hints.Key FILTER_THREE_WAY_LOGIC = new Hints.Key(Boolean.class);
 
+    /**
+     * Add this hint to the query to control how many features are read and decoded ahead of the consumer, on a
+     * background thread, overriding {@link JDBCDataStore#getPrefetchSize()}. A value of 0 disables prefetching.
+     * Prefetching is used only for queries without joins, run outside of a transaction.
+     */
+    public static final Hints.Key PREFETCH_SIZE = new Hints.Key(Integer.class);
+
+    /**
+     * Add this hint to the query used to obtain an insert writer to control how many features are buffered and inserted
+     * in a single batch, overriding {@link JDBCDataStore#getBatchInsertSize()} for that writer only.
+     */
+    public static final Hints.Key BATCH_INSERT_SIZE = new Hints.Key(Integer.class);
+
     private static final Logger LOGGER = Logging.getLogger(JDBCFeatureSource.class);
     private static final String REMARKS = "REMARKS";
 
@@ -115,6 +128,8 @@ protected void addHints(Set<Key> hints) {
         // mark the features as detached, that is, the user can directly alter them
         // without altering the state of the datastore
         hints.add(Hints.FEATURE_DETACHED);
+        hints.add(PREFETCH_SIZE);
+        hints.add(BATCH_INSERT_SIZE);
         getDataStore().getSQLDialect().addSupportedHints(hints);
     }
 
@@ -628,6 +643,20 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
 
                     reader = new JDBCFeatureReader(sql, cx, this, querySchema, query);
                 }
+
+                int prefetchSize = getPrefetchSize(query);
+                if (prefetchSize > 0 && getState().getTransaction() == Transaction.AUTO_COMMIT) {
+                    JDBCFeatureReader jdbcReader = (JDBCFeatureReader) reader;
+                    int fetchSize = dialect.getPrefetchFetchSize(getDataStore().getFetchSize(), prefetchSize);
+                    if (fetchSize > 0) {
+                        try {
+                            jdbcReader.rs.setFetchSize(fetchSize);
+                        } catch (SQLException e) {
+                            LOGGER.log(Level.FINE, "Driver did not accept the prefetch fetch size", e);
+                        }
+                    }
+                    reader = new JDBCPrefetchingFeatureReader(jdbcReader, prefetchSize);
+                }
             } else {
                 JoinInfo join = JoinInfo.create(preQuery, this);
 
@@ -684,6 +713,12 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         return reader;
     }
 
+    /** Returns the prefetch size for the query, from the {@link #PREFETCH_SIZE} hint or the data store default */
+    int getPrefetchSize(Query query) {
+        Integer prefetchSize = query.getHints() != null ? (Integer) query.getHints().get(PREFETCH_SIZE) : null;
+        return prefetchSize != null ? prefetchSize : getDataStore().getPrefetchSize();
+    }
+
     SimpleFeatureType[] buildQueryAndReturnFeatureTypes(
             SimpleFeatureType featureType, String[] propertyNames, Filter filter) {
 
@@ -37,10 +37,12 @@
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.Name;
 import org.geotools.api.filter.Filter;
+import org.geotools.data.DataUtilities;
 import org.geotools.data.FilteringFeatureWriter;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureStore;
 import org.geotools.data.store.ContentState;
+import org.geotools.feature.FeatureCollection;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Geometry;
@@ -318,6 +320,59 @@ protected FeatureWriter<SimpleFeatureType, SimpleFeature> getWriterInternal(Quer
         return writer;
     }
 
+    /**
+     * Loads the features into the table, using the fastest mechanism available for the database, e.g., COPY for
+     * PostgreSQL, multi row inserts elsewhere. The features are streamed to the database in batches of
+     * {@link JDBCDataStore#getBulkLoadBatchSize()} features, so memory usage is bounded regardless of the collection
+     * size. When working in auto commit mode each batch is committed separately, use a transaction to get an all or
+     * nothing load.
+     *
+     * <p>Unlike {@link #addFeatures(FeatureCollection)} the identifiers of the new features are
+     * not returned, and a single event is issued for the whole load.
+     *
+     * @param features The features to load, their attributes are matched by name with the ones of the table
+     * @return The load statistics, including the throughput
+     */
+    public BulkLoadStatistics bulkLoad(FeatureCollection<SimpleFeatureType, SimpleFeature> features)
+            throws IOException {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = DataUtilities.reader(features)) {
+            return bulkLoad(reader);
+        }
+    }
+
+    /**
+     * Loads the features returned by the reader into the table, see {@link #bulkLoad(FeatureCollection)}. The reader is
+     * not closed.
+     *
+     * @param reader The features to load, their attributes are matched by name with the ones of the table
+     * @return The load statistics, including the throughput
+     */
+    public BulkLoadStatistics bulkLoad(FeatureReader<SimpleFeatureType, SimpleFeature> reader) throws IOException {
+        @SuppressWarnings("PMD.CloseResource") // transaction closing managed elsewhere
+        Transaction tx = getState().getTransaction();
+        Connection cx = null;
+        try {
+            cx = getDataStore().getConnection(tx);
+            BulkLoadStatistics statistics = getDataStore().bulkLoad(getSchema(), reader, cx);
+
+            ContentState state = getEntry().getState(transaction);
+            if (statistics.getFeatureCount() > 0) {
+                // the cached count and bounds do not account for the loaded features
+                state.setCount(-1);
+                state.setBounds(null);
+                if (state.hasListener()) {
+                    FeatureEvent event = new FeatureEvent(this, Type.ADDED, statistics.getBounds(), Filter.INCLUDE);
+                    state.fireFeatureEvent(event);
+                }
+            }
+            return statistics;
+        } finally {
+            if (tx == null || tx == Transaction.AUTO_COMMIT) {
+                getDataStore().closeSafe(cx);
+            }
+        }
+    }
+
     @Override
     public void modifyFeatures(Name[] names, Object[] values, Filter filter) throws IOException {
 
@@ -44,14 +44,14 @@ public JDBCInsertFeatureWriter(String sql, Connection cx, JDBCFeatureSource feat
             throws SQLException, IOException {
         super(sql, cx, featureSource, featureSource.getSchema(), query);
         md = rs.getMetaData();
-        buffer = new ResultSetFeature[dataStore.getBatchInsertSize()];
+        buffer = new ResultSetFeature[getBatchInsertSize(query)];
     }
 
     public JDBCInsertFeatureWriter(PreparedStatement ps, Connection cx, JDBCFeatureSource featureSource, Query query)
             throws SQLException, IOException {
         super(ps, cx, featureSource, featureSource.getSchema(), query);
         md = rs.getMetaData();
-        buffer = new ResultSetFeature[dataStore.getBatchInsertSize()];
+        buffer = new ResultSetFeature[getBatchInsertSize(query)];
     }
 
     public JDBCInsertFeatureWriter(JDBCUpdateFeatureWriter other) throws IOException {
@@ -59,6 +59,14 @@ public JDBCInsertFeatureWriter(JDBCUpdateFeatureWriter other) throws IOException
         buffer = new ResultSetFeature[dataStore.getBatchInsertSize()];
     }
 
+    /** Returns the batch size, from the {@link JDBCFeatureSource#BATCH_INSERT_SIZE} hint or the data store default */
+    private int getBatchInsertSize(Query query) {
+        Integer batchSize = query != null && query.getHints() != null
+                ? (Integer) query.getHints().get(JDBCFeatureSource.BATCH_INSERT_SIZE)
+                : null;
+        return batchSize != null && batchSize > 0 ? batchSize : dataStore.getBatchInsertSize();
+    }
+
     private ResultSetFeature getOrCreateRSF() throws IOException {
         ResultSetFeature result = buffer[curBufferPos];
         if (result == null) {
@@ -123,7 +131,7 @@ public void flush() throws IOException {
         try {
             // do the insert
             Collection<ResultSetFeature> features = Arrays.asList(Arrays.copyOfRange(buffer, 0, curBufferPos));
-            dataStore.insert(features, featureType, st.getConnection());
+            dataStore.insert(features, featureType, st.getConnection(), buffer.length);
 
             for (ResultSetFeature cur : features) {
                 // the datastore sets as userData, grab it and update the fid
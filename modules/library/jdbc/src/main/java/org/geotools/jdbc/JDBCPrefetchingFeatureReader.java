@@ -0,0 +1,194 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.DelegatingFeatureReader;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Reads features from a {@link JDBCFeatureReader} on a background thread, keeping up to a given number of fully built
+ * features ready in a bounded buffer, so that fetching the rows and decoding them overlaps with the consumer work.
+ *
+ * <p>The wrapped reader is used by a single background thread at a time, and closed by the thread closing this
+ * reader, once the background one has stopped. Since the connection is used by a different thread than the caller
+ * one, the prefetching reader should only be used when the connection is not shared, e.g., when reading in auto
+ * commit mode.
+ *
+ * @see JDBCFeatureSource#PREFETCH_SIZE
+ * @see JDBCDataStore#setPrefetchSize(int)
+ */
+class JDBCPrefetchingFeatureReader implements DelegatingFeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    static final Logger LOGGER = Logging.getLogger(JDBCPrefetchingFeatureReader.class);
+
+    /** Marks the end of the features in the buffer */
+    static final Object END = new Object();
+
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new PrefetchThreadFactory());
+
+    /** How long the producer waits for room in the buffer before checking if the reader has been closed */
+    static final long OFFER_TIMEOUT_MS = 100;
+
+    /** Carries a failure of the background reader to the consumer */
+    static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    final JDBCFeatureReader delegate;
+
+    final BlockingQueue<Object> buffer;
+
+    final Future<?> producer;
+
+    volatile boolean closed;
+
+    /** The next item taken from the buffer, not returned yet */
+    Object next;
+
+    JDBCPrefetchingFeatureReader(JDBCFeatureReader delegate, int prefetchSize) {
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(prefetchSize);
+        this.producer = EXECUTOR.submit(this::produce);
+    }
+
+    private void produce() {
+        try {
+            while (!closed && delegate.hasNext()) {
+                if (!put(delegate.next())) {
+                    return;
+                }
+            }
+            put(END);
+        } catch (Throwable t) { // NOSONAR
+            put(new Failure(t));
+        }
+    }
+
+    /** Adds the item to the buffer, waiting for room unless closed. Returns false if the reader got closed. */
+    private boolean put(Object item) {
+        try {
+            while (!closed) {
+                if (buffer.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public FeatureReader<SimpleFeatureType, SimpleFeature> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return delegate.getFeatureType();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            throw new IOException("reader already closed");
+        }
+        if (next == null) {
+            try {
+                next = buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the next feature", e);
+            }
+        }
+        if (next instanceof Failure failure) {
+            Throwable cause = failure.cause;
+            if (cause instanceof IOException exception) {
+                throw exception;
+            } else if (cause instanceof RuntimeException exception) {
+                throw exception;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+        return next != END;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException(
+                    "No more features in this reader, you should call hasNext() to check for feature availability");
+        }
+        SimpleFeature feature = (SimpleFeature) next;
+        next = null;
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // unblock the producer, and wait for it to stop before releasing the connection
+        buffer.clear();
+        try {
+            producer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.FINE, "Prefetching thread failed", e);
+        } finally {
+            buffer.clear();
+            next = null;
+            delegate.close();
+        }
+    }
+
+    static class PrefetchThreadFactory implements ThreadFactory {
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "GT-JDBC-Prefetch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
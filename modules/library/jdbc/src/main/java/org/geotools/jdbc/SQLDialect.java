@@ -38,9 +38,11 @@
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Join.Type;
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
@@ -1366,6 +1368,65 @@ public boolean canGroupOnGeometry() {
         return false;
     }
 
+    /**
+     * Returns the fetch size used when features are prefetched on a background thread, see
+     * {@link JDBCDataStore#setPrefetchSize(int)}. The default implementation makes sure a single round trip to the
+     * database can fill the prefetch buffer, dialects whose drivers handle the fetch size differently (e.g., requiring
+     * specific values to stream results) can override. A value of 0 leaves the fetch size unchanged.
+     *
+     * @param fetchSize The data store fetch size
+     * @param prefetchSize The number of features prefetched
+     */
+    public int getPrefetchFetchSize(int fetchSize, int prefetchSize) {
+        return Math.max(fetchSize, prefetchSize);
+    }
+
+    /**
+     * Returns true if the features of the specified type can be loaded with a native bulk loading mechanism of the
+     * database, see {@link #bulkLoad}. Defaults to false, in which case bulk loads are performed with batches of
+     * INSERT statements, inserting up to {@link #getMaxRowsPerInsert(SimpleFeatureType)} rows each.
+     *
+     * @param featureType The feature type, whose table is the target of the load
+     * @param key The primary key of the table
+     * @param cx The database connection
+     */
+    public boolean canBulkLoad(SimpleFeatureType featureType, PrimaryKey key, Connection cx) throws SQLException {
+        return false;
+    }
+
+    /**
+     * Loads the features provided by the reader in the table of the specified feature type with a native bulk loading
+     * mechanism, such as the PostgreSQL COPY command. The features must be streamed to the database in batches of at
+     * most <code>batchSize</code> features, without accumulating them in memory, and each batch reported to the
+     * statistics. Only called if {@link #canBulkLoad(SimpleFeatureType, PrimaryKey, Connection)} returned true, the
+     * default implementation throws an {@link UnsupportedOperationException}.
+     *
+     * @param featureType The feature type, whose table is the target of the load
+     * @param reader The features to load, left open
+     * @param batchSize The maximum number of features per batch
+     * @param cx The database connection
+     * @param statistics The statistics to report the loaded batches to
+     */
+    public void bulkLoad(
+            SimpleFeatureType featureType,
+            FeatureReader<SimpleFeatureType, SimpleFeature> reader,
+            int batchSize,
+            Connection cx,
+            BulkLoadStatistics statistics)
+            throws IOException, SQLException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support native bulk loading");
+    }
+
+    /**
+     * Returns the maximum number of rows a single <code>INSERT ... VALUES</code> statement can insert when bulk loading
+     * features of the specified type without a native mechanism. Defaults to 1, dialects of databases supporting multi
+     * row VALUES lists should override, taking into account the maximum number of parameters in a statement.
+     */
+    public int getMaxRowsPerInsert(SimpleFeatureType featureType) {
+        return 1;
+    }
+
     /**
      * Returns the java type mapped to the a specified sql type name defined by the dialect.
      *
@@ -17,17 +17,24 @@
 package org.geotools.jdbc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.PropertyDescriptor;
+import org.geotools.api.filter.sort.SortOrder;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.util.factory.Hints;
 import org.junit.Test;
 import org.locationtech.jts.geom.Geometry;
 
@@ -65,4 +72,64 @@ public void testNext() throws Exception {
             assertTrue(g.getUserData() instanceof CoordinateReferenceSystem);
         }
     }
+
+    @Test
+    public void testPrefetching() throws Exception {
+        Query query = new Query(tname("ft1"));
+        query.setSortBy(dataStore.getFilterFactory().sort(aname("intProperty"), SortOrder.ASCENDING));
+        List<String> expected = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                dataStore.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                expected.add(reader.next().getID());
+            }
+        }
+
+        // a buffer smaller than the number of features, the background reader has to wait for the consumer
+        query.setHints(new Hints(JDBCFeatureSource.PREFETCH_SIZE, 1));
+        JDBCFeatureSource source = (JDBCFeatureSource) dataStore.getFeatureSource(tname("ft1"));
+        List<String> actual = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = source.getReaderInternal(query)) {
+            assertTrue(reader instanceof JDBCPrefetchingFeatureReader);
+            while (reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                assertNotNull(feature.getDefaultGeometry());
+                actual.add(feature.getID());
+            }
+            assertFalse(reader.hasNext());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testPrefetchingCloseEarly() throws Exception {
+        Query query = new Query(tname("ft1"));
+        query.setHints(new Hints(JDBCFeatureSource.PREFETCH_SIZE, 1));
+        JDBCFeatureSource source = (JDBCFeatureSource) dataStore.getFeatureSource(tname("ft1"));
+        FeatureReader<SimpleFeatureType, SimpleFeature> reader = source.getReaderInternal(query);
+        assertTrue(reader.hasNext());
+        assertNotNull(reader.next());
+        reader.close();
+        try {
+            reader.hasNext();
+            fail("Reader should be closed");
+        } catch (IOException e) {
+            // expected
+        }
+        // the connection has been released, and the store is still usable
+        assertEquals(3, source.getCount(Query.ALL));
+    }
+
+    @Test
+    public void testNoPrefetchingInTransaction() throws Exception {
+        Query query = new Query(tname("ft1"));
+        query.setHints(new Hints(JDBCFeatureSource.PREFETCH_SIZE, 10));
+        try (Transaction t = new DefaultTransaction()) {
+            JDBCFeatureSource source = (JDBCFeatureSource) dataStore.getFeatureSource(tname("ft1"));
+            source.setTransaction(t);
+            try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = source.getReaderInternal(query)) {
+                assertTrue(reader instanceof JDBCFeatureReader);
+            }
+        }
+    }
 }
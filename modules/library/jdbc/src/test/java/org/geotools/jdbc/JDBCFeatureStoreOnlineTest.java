@@ -18,6 +18,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -48,6 +49,7 @@
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.data.store.ContentFeatureCollection;
+import org.geotools.data.store.ContentState;
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.feature.AttributeTypeBuilder;
 import org.geotools.feature.DefaultFeatureCollection;
@@ -215,6 +217,75 @@ public void testAddInTransaction() throws IOException {
         }
     }
 
+    @Test
+    public void testBulkLoad() throws IOException {
+        SimpleFeatureBuilder b = new SimpleFeatureBuilder(featureStore.getSchema());
+        DefaultFeatureCollection collection = new DefaultFeatureCollection(null, featureStore.getSchema());
+        for (int i = 3; i < 8; i++) {
+            b.set(aname("intProperty"), Integer.valueOf(i));
+            b.set(aname("stringProperty"), "bulk" + i);
+            b.set(aname("geometry"), new GeometryFactory().createPoint(new Coordinate(i, i)));
+            collection.add(b.buildFeature(null));
+        }
+
+        // cached values, that do not hold anymore after the load
+        ContentState state = featureStore.getState();
+        state.setCount(3);
+        state.setBounds(featureStore.getBounds());
+
+        FeatureEventWatcher watcher = new FeatureEventWatcher();
+        featureStore.addFeatureListener(watcher);
+        int batchSize = dataStore.getBulkLoadBatchSize();
+        dataStore.setBulkLoadBatchSize(2);
+        try {
+            BulkLoadStatistics statistics = featureStore.bulkLoad(collection);
+            assertEquals(5, statistics.getFeatureCount());
+            assertEquals(5, statistics.getLoadedCount());
+            assertEquals(3, statistics.getBatchCount());
+            assertEquals(collection.getBounds(), statistics.getBounds());
+        } finally {
+            dataStore.setBulkLoadBatchSize(batchSize);
+        }
+        assertEquals(1, watcher.count);
+        assertEquals(Type.ADDED, watcher.type);
+        assertEquals(-1, state.getCount());
+        assertNull(state.getBounds());
+
+        assertEquals(8, featureStore.getFeatures().size());
+        FilterFactory ff = dataStore.getFilterFactory();
+        PropertyIsEqualTo filter = ff.equal(ff.property(aname("stringProperty")), ff.literal("bulk5"), true);
+        SimpleFeature loaded = DataUtilities.first(featureStore.getFeatures(filter));
+        assertEquals(5, ((Number) loaded.getAttribute(aname("intProperty"))).intValue());
+        assertTrue(new GeometryFactory()
+                .createPoint(new Coordinate(5, 5))
+                .equalsExact((Geometry) loaded.getDefaultGeometry()));
+    }
+
+    @Test
+    public void testBulkLoadInTransaction() throws IOException {
+        SimpleFeatureBuilder b = new SimpleFeatureBuilder(featureStore.getSchema());
+        DefaultFeatureCollection collection = new DefaultFeatureCollection(null, featureStore.getSchema());
+        for (int i = 3; i < 6; i++) {
+            b.set(aname("intProperty"), Integer.valueOf(i));
+            b.set(aname("geometry"), new GeometryFactory().createPoint(new Coordinate(i, i)));
+            collection.add(b.buildFeature(null));
+        }
+
+        try (Transaction t = new DefaultTransaction()) {
+            featureStore.setTransaction(t);
+            JDBCFeatureStore featureStore2 = (JDBCFeatureStore)
+                    dataStore.getFeatureSource(featureStore.getName().getLocalPart());
+            BulkLoadStatistics statistics = featureStore.bulkLoad(collection);
+            assertEquals(3, statistics.getLoadedCount());
+
+            // only visible in the transaction, until rolled back
+            assertEquals(6, featureStore.getFeatures().size());
+            assertEquals(3, featureStore2.getFeatures().size());
+            t.rollback();
+            assertEquals(3, featureStore.getFeatures().size());
+        }
+    }
+
     @Test
     public void testExternalConnection() throws IOException, SQLException {
         SimpleFeatureBuilder b = new SimpleFeatureBuilder(featureStore.getSchema());
@@ -16,12 +16,17 @@
  */
 package org.geotools.data.sort;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
 
 /**
- * Reads the features stored in the specified block of a {@link RandomAccessFile}
+ * Reads the features stored in a sorted run file, written by {@link MergeSortDumper} with a {@link SortRunCodec}. The
+ * file is read sequentially, with no seeks, and deleted on close.
  *
  * @author Andrea Aime - GeoSolutions
  */
@@ -29,16 +34,18 @@ class FeatureBlockReader {
 
     SimpleFeature curr;
 
-    long offset;
-
     int count;
 
-    SimpleFeatureIO io;
+    File file;
+
+    DataInputStream input;
+
+    SortRunCodec codec;
 
-    public FeatureBlockReader(SimpleFeatureIO io, long start, int count) {
-        this.offset = start;
+    public FeatureBlockReader(SimpleFeatureType schema, File file, int count) {
+        this.file = file;
         this.count = count;
-        this.io = io;
+        this.codec = new SortRunCodec(schema);
     }
 
     public SimpleFeature feature() throws IOException {
@@ -55,20 +62,26 @@ public SimpleFeature next() throws IOException {
 
     private SimpleFeature readNextFeature() throws IOException {
         if (count <= 0) {
+            close();
             return null;
         }
-
-        // move to the next feature offset
-        io.seek(offset);
-
-        // read the feature
-        SimpleFeature sf = io.read();
-
-        // update the offset for the next feature
-        offset = io.getOffset();
+        if (input == null) {
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()), 64 * 1024));
+        }
         count--;
+        return codec.read(input);
+    }
 
-        // return the feature
-        return sf;
+    /** Closes the file, and deletes it */
+    public void close() throws IOException {
+        try {
+            if (input != null) {
+                input.close();
+                input = null;
+            }
+        } finally {
+            count = 0;
+            Files.deleteIfExists(file.toPath());
+        }
     }
 }
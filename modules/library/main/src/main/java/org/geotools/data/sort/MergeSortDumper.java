@@ -16,14 +16,23 @@
  */
 package org.geotools.data.sort;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -34,10 +43,13 @@
 import org.geotools.data.simple.DelegateSimpleFeatureReader;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Geometry;
 
 class MergeSortDumper {
 
+    static final Logger LOGGER = Logging.getLogger(MergeSortDumper.class);
+
     static final boolean canSort(SimpleFeatureType schema, SortBy... sortBy) {
         if (sortBy == SortBy.UNSORTED) {
             return true;
@@ -71,8 +83,9 @@ static final boolean canSort(SimpleFeatureType schema, SortBy... sortBy) {
 
     static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, Query query) throws IOException {
         int maxFeatures = getMaxFeatures(query);
+        Hints hints = query != null ? query.getHints() : null;
 
-        return getDelegateReader(reader, query.getSortBy(), maxFeatures);
+        return getDelegateReader(reader, query.getSortBy(), maxFeatures, getDirectory(hints), getParallelism(hints));
     }
 
     /** Gets the max amount amount of features to keep in memory from the query and system hints */
@@ -90,8 +103,43 @@ static int getMaxFeatures(Query query) {
         return maxFeatures;
     }
 
+    /** Gets the directory for the sorted runs from the hints and system hints, null means the system temp dir */
+    static File getDirectory(Hints hints) {
+        Object directory = getHint(hints, Hints.MERGE_SORT_DIRECTORY);
+        return directory instanceof File ? (File) directory : null;
+    }
+
+    /**
+     * Gets the number of runs to be sorted and written in parallel from the hints and system hints, defaults to 1 so
+     * that no more than {@link Hints#MAX_MEMORY_SORT} features are kept in memory unless asked for
+     */
+    static int getParallelism(Hints hints) {
+        Object parallelism = getHint(hints, Hints.MERGE_SORT_PARALLELISM);
+        if (parallelism instanceof Integer) {
+            return Math.max(1, (Integer) parallelism);
+        }
+        return 1;
+    }
+
+    private static Object getHint(Hints hints, Hints.Key key) {
+        Object value = hints != null ? hints.get(key) : null;
+        return value != null ? value : Hints.getSystemDefault(key);
+    }
+
     static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[] sortBy, int maxFeatures)
             throws IOException {
+        return getDelegateReader(reader, sortBy, maxFeatures, getDirectory(null), getParallelism(null));
+    }
+
+    /**
+     * Sorts the reader contents. If they do not fit in memory, blocks of features are sorted and written to disk as
+     * sorted runs, on the common fork/join pool, while the reader is still being consumed, and then merged back by a
+     * {@link MergeSortReader}. At most {@code parallelism} runs are pending at any time, to keep the memory usage
+     * bounded, a parallelism of 1 sorts and writes the runs in the calling thread.
+     */
+    static SimpleFeatureReader getDelegateReader(
+            SimpleFeatureReader reader, SortBy[] sortBy, int maxFeatures, File directory, int parallelism)
+            throws IOException {
         if (maxFeatures < 0) {
             maxFeatures = getMaxFeatures(Query.ALL);
         }
@@ -112,43 +160,28 @@ static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[
                     + Arrays.toString(sortBy));
         }
 
-        int count = 0;
-        File file = null;
-        SimpleFeatureIO io = null;
         List<SimpleFeature> features = new ArrayList<>();
-        List<FeatureBlockReader> readers = new ArrayList<>();
-        boolean cleanFile = true;
+        // the runs, in reading order, so that the merge keeps equal features in their original order
+        List<Future<FeatureBlockReader>> runs = new ArrayList<>();
+        int completed = 0;
+        boolean cleanFiles = true;
         try (reader) {
             // read and store into files as necessary
             while (reader.hasNext()) {
-                SimpleFeature f = reader.next();
-                features.add(f);
-                count++;
-
-                if (count > maxFeatures) {
-                    Collections.sort(features, comparator);
-                    if (io == null) {
-                        file = File.createTempFile("sorted", ".features");
-                        file.delete();
-                        io = new SimpleFeatureIO(file, schema);
+                features.add(reader.next());
+
+                if (features.size() > maxFeatures) {
+                    // bound the memory used by the runs still being sorted and written
+                    while (runs.size() - completed >= parallelism) {
+                        getRun(runs.get(completed++));
                     }
-                    FeatureBlockReader fbr = storeToFile(io, features);
-                    readers.add(fbr);
-                    count = 0;
-                    features.clear();
+                    runs.add(storeRun(schema, features, comparator, directory, parallelism));
+                    features = new ArrayList<>();
                 }
             }
-            // if we got to file storing, store residual features to file too
-            if (count > 0 && io != null) {
-                Collections.sort(features, comparator);
-                file = File.createTempFile("sorted", ".features");
-                file.delete();
-                FeatureBlockReader fbr = storeToFile(io, features);
-                readers.add(fbr);
-            }
 
             // return the appropriate reader
-            if (io == null) {
+            if (runs.isEmpty()) {
                 // simple case, we managed to keep everything in memory, sort and return a
                 // reader based on the collection contents
                 Collections.sort(features, comparator);
@@ -156,28 +189,94 @@ static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[
                 SimpleFeatureIterator fi = new ListFeatureCollection(schema, features).features();
                 return new DelegateSimpleFeatureReader(schema, fi);
             } else {
-                // go merge-sort
-                cleanFile = false;
-                return new MergeSortReader(schema, io, readers, comparator);
+                // store residual features to file too, and go merge-sort
+                if (!features.isEmpty()) {
+                    runs.add(storeRun(schema, features, comparator, directory, 1));
+                }
+                List<FeatureBlockReader> readers = new ArrayList<>();
+                for (Future<FeatureBlockReader> run : runs) {
+                    readers.add(getRun(run));
+                }
+                MergeSortReader result = new MergeSortReader(schema, readers, comparator);
+                cleanFiles = false;
+                return result;
             }
-
         } finally {
-            if (cleanFile && io != null) {
-                io.close(true);
-                file.delete();
+            if (cleanFiles) {
+                cleanup(runs);
             }
         }
     }
 
-    /** Writes the feature attributes to a binary file */
-    static FeatureBlockReader storeToFile(SimpleFeatureIO io, List<SimpleFeature> features) throws IOException {
-        long start = io.getOffset();
+    /**
+     * Sorts the features and writes them to a new run file, in the calling thread if parallelism is 1, on the common
+     * fork/join pool otherwise
+     */
+    static Future<FeatureBlockReader> storeRun(
+            SimpleFeatureType schema,
+            List<SimpleFeature> features,
+            Comparator<SimpleFeature> comparator,
+            File directory,
+            int parallelism)
+            throws IOException {
+        if (parallelism <= 1) {
+            return CompletableFuture.completedFuture(storeToFile(schema, features, comparator, directory));
+        }
+        return ForkJoinPool.commonPool().submit(() -> storeToFile(schema, features, comparator, directory));
+    }
+
+    /** Sorts the features and writes them to a new run file */
+    static FeatureBlockReader storeToFile(
+            SimpleFeatureType schema,
+            List<SimpleFeature> features,
+            Comparator<SimpleFeature> comparator,
+            File directory)
+            throws IOException {
+        Collections.sort(features, comparator);
+
+        File file = File.createTempFile("sorted", ".features", directory);
+        boolean written = false;
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath()), 64 * 1024))) {
+            SortRunCodec codec = new SortRunCodec(schema);
+            for (SimpleFeature sf : features) {
+                codec.write(out, sf);
+            }
+            written = true;
+        } finally {
+            if (!written) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+
+        return new FeatureBlockReader(schema, file, features.size());
+    }
 
-        // write each attribute in the random access file
-        for (SimpleFeature sf : features) {
-            io.write(sf);
+    private static FeatureBlockReader getRun(Future<FeatureBlockReader> run) throws IOException {
+        try {
+            return run.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the sorted runs", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to write a sorted run", cause);
         }
+    }
 
-        return new FeatureBlockReader(io, start, features.size());
+    /** Waits for the pending runs and deletes all the run files */
+    private static void cleanup(List<Future<FeatureBlockReader>> runs) {
+        for (Future<FeatureBlockReader> run : runs) {
+            try {
+                getRun(run).close();
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Failed to clean up a sorted run", e);
+            }
+        }
     }
 }
@@ -17,7 +17,6 @@
 package org.geotools.data.sort;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -26,8 +25,9 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 
 /**
- * Reads from a list of {@link FeatureBlockReader} backed by a {@link RandomAccessFile} and performs the classic
- * merge-sort algorithm
+ * Reads from a list of {@link FeatureBlockReader}, each one returning a sorted run, and performs a k-way merge of them.
+ * The merge uses a loser tree, so that picking the next feature takes log(k) comparisons, instead of the k needed by a
+ * linear scan of the runs.
  *
  * @author Andrea Aime - GeoSolutions
  */
@@ -35,21 +35,66 @@ class MergeSortReader implements SimpleFeatureReader {
 
     List<FeatureBlockReader> readers;
 
-    SimpleFeatureIO io;
-
     SimpleFeatureType schema;
 
     Comparator<SimpleFeature> comparator;
 
+    /** The current feature of each run, null when the run is exhausted */
+    SimpleFeature[] heads;
+
+    /**
+     * The loser tree, the internal nodes (1 to k-1) hold the index of the run that lost the match at that node, the
+     * first element holds the overall winner. The leaves, the runs, are implicitly numbered from k to 2k-1.
+     */
+    int[] tree;
+
     public MergeSortReader(
-            SimpleFeatureType schema,
-            SimpleFeatureIO io,
-            List<FeatureBlockReader> readers,
-            Comparator<SimpleFeature> comparator) {
+            SimpleFeatureType schema, List<FeatureBlockReader> readers, Comparator<SimpleFeature> comparator)
+            throws IOException {
         this.schema = schema;
         this.comparator = comparator;
         this.readers = readers;
-        this.io = io;
+        int k = readers.size();
+        this.heads = new SimpleFeature[k];
+        for (int i = 0; i < k; i++) {
+            heads[i] = readers.get(i).feature();
+        }
+        this.tree = new int[Math.max(k, 1)];
+        if (k > 1) {
+            tree[0] = build(1);
+        }
+    }
+
+    /** Plays the matches of the subtree rooted at the given node, returning the winner */
+    private int build(int node) {
+        int k = heads.length;
+        if (node >= k) {
+            return node - k;
+        }
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (beats(right, left)) {
+            tree[node] = left;
+            return right;
+        }
+        tree[node] = right;
+        return left;
+    }
+
+    /**
+     * Returns true if the current feature of run a comes before the current feature of run b. Exhausted runs lose
+     * against everything, and ties are won by the earlier run, to keep the sort stable.
+     */
+    private boolean beats(int a, int b) {
+        SimpleFeature fa = heads[a];
+        SimpleFeature fb = heads[b];
+        if (fa == null) {
+            return false;
+        } else if (fb == null) {
+            return true;
+        }
+        int result = comparator.compare(fa, fb);
+        return result < 0 || (result == 0 && a < b);
     }
 
     @Override
@@ -59,26 +104,24 @@ public SimpleFeatureType getFeatureType() {
 
     @Override
     public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
-        if (readers.isEmpty()) {
+        if (!hasNext()) {
             throw new NoSuchElementException();
         }
 
-        // find the smallest feature
-        int selected = 0;
-        for (int i = 1; i < readers.size(); i++) {
-            SimpleFeature sf = readers.get(selected).feature();
-            SimpleFeature cf = readers.get(i).feature();
-            if (comparator.compare(sf, cf) > 0) {
-                selected = i;
-            }
-        }
+        // move on the reader of the winning feature
+        int winner = tree[0];
+        SimpleFeature sf = heads[winner];
+        heads[winner] = readers.get(winner).next();
 
-        // move on the reader of the selected feature
-        FeatureBlockReader reader = readers.get(selected);
-        SimpleFeature sf = reader.feature();
-        if (reader.next() == null) {
-            readers.remove(selected);
+        // replay the matches on the path from the run to the root
+        for (int node = (winner + heads.length) >>> 1; node > 0; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
         }
+        tree[0] = winner;
 
         // return the selected feature
         return sf;
@@ -86,11 +129,25 @@ public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuch
 
     @Override
     public boolean hasNext() throws IOException {
-        return !readers.isEmpty();
+        return heads.length > 0 && heads[tree[0]] != null;
     }
 
     @Override
     public void close() throws IOException {
-        io.close(true);
+        IOException error = null;
+        for (FeatureBlockReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
     }
 }
@@ -0,0 +1,298 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ * Encodes features in the compact binary format used for the sorted runs of the merge-sort. Each feature is written as
+ * its id, a bitmask of the null attributes, and the non null values, with no type metadata, as the types are known from
+ * the schema. Geometries are written as WKB, numbers, strings, dates and a few other common types in binary form, only
+ * the values of any other type are written with Java serialization.
+ *
+ * <p>Instances are not thread safe, as they reuse buffers, use one per thread.
+ */
+class SortRunCodec {
+
+    static final byte OBJECT = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte SHORT = 3;
+    static final byte INT = 4;
+    static final byte LONG = 5;
+    static final byte FLOAT = 6;
+    static final byte DOUBLE = 7;
+    static final byte STRING = 8;
+    static final byte UTIL_DATE = 9;
+    static final byte SQL_DATE = 10;
+    static final byte SQL_TIME = 11;
+    static final byte TIMESTAMP = 12;
+    static final byte GEOMETRY = 13;
+    static final byte BIG_DECIMAL = 14;
+    static final byte BIG_INTEGER = 15;
+    static final byte UUID_VALUE = 16;
+    static final byte BYTES = 17;
+
+    final SimpleFeatureType schema;
+
+    final byte[] kinds;
+
+    final WKBWriter[] wkbWriters;
+
+    final WKBReader wkbReader = new WKBReader();
+
+    final SimpleFeatureBuilder builder;
+
+    final byte[] nulls;
+
+    byte[] buffer = new byte[8192];
+
+    SortRunCodec(SimpleFeatureType schema) {
+        this.schema = schema;
+        List<AttributeDescriptor> attributes = schema.getAttributeDescriptors();
+        this.kinds = new byte[attributes.size()];
+        this.wkbWriters = new WKBWriter[attributes.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            AttributeDescriptor ad = attributes.get(i);
+            kinds[i] = kind(ad.getType().getBinding());
+            if (kinds[i] == GEOMETRY) {
+                // keep the z values if the attribute declares them
+                Object dimension = ad.getUserData().get(Hints.COORDINATE_DIMENSION);
+                boolean hasZ = dimension instanceof Integer && (Integer) dimension > 2;
+                wkbWriters[i] = new WKBWriter(hasZ ? 3 : 2);
+            }
+        }
+        this.nulls = new byte[(kinds.length + 7) / 8];
+        this.builder = new SimpleFeatureBuilder(schema);
+    }
+
+    /**
+     * Returns the storage kind for the binding. As no type metadata is written, the identity of the binding is checked,
+     * rather than assignability, with the exception of geometries, which are self describing.
+     */
+    static byte kind(Class<?> binding) {
+        if (binding == Boolean.class || binding == boolean.class) return BOOLEAN;
+        if (binding == Byte.class || binding == byte.class) return BYTE;
+        if (binding == Short.class || binding == short.class) return SHORT;
+        if (binding == Integer.class || binding == int.class) return INT;
+        if (binding == Long.class || binding == long.class) return LONG;
+        if (binding == Float.class || binding == float.class) return FLOAT;
+        if (binding == Double.class || binding == double.class) return DOUBLE;
+        if (binding == String.class) return STRING;
+        if (binding == java.util.Date.class) return UTIL_DATE;
+        if (binding == java.sql.Date.class) return SQL_DATE;
+        if (binding == java.sql.Time.class) return SQL_TIME;
+        if (binding == java.sql.Timestamp.class) return TIMESTAMP;
+        if (Geometry.class.isAssignableFrom(binding)) return GEOMETRY;
+        if (binding == BigDecimal.class) return BIG_DECIMAL;
+        if (binding == BigInteger.class) return BIG_INTEGER;
+        if (binding == UUID.class) return UUID_VALUE;
+        if (binding == byte[].class) return BYTES;
+        return OBJECT;
+    }
+
+    void write(DataOutput out, SimpleFeature feature) throws IOException {
+        out.writeUTF(feature.getID());
+        List<Object> values = feature.getAttributes();
+        Arrays.fill(nulls, (byte) 0);
+        for (int i = 0; i < kinds.length; i++) {
+            if (values.get(i) == null) {
+                nulls[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nulls);
+        for (int i = 0; i < kinds.length; i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                writeValue(out, i, value);
+            }
+        }
+    }
+
+    private void writeValue(DataOutput out, int i, Object value) throws IOException {
+        switch (kinds[i]) {
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case UTIL_DATE:
+            case SQL_DATE:
+            case SQL_TIME:
+                out.writeLong(((java.util.Date) value).getTime());
+                break;
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+                out.writeLong(timestamp.getTime());
+                out.writeInt(timestamp.getNanos());
+                break;
+            case GEOMETRY:
+                writeBytes(out, wkbWriters[i].write((Geometry) value));
+                break;
+            case BIG_DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                writeBytes(out, decimal.unscaledValue().toByteArray());
+                break;
+            case BIG_INTEGER:
+                writeBytes(out, ((BigInteger) value).toByteArray());
+                break;
+            case UUID_VALUE:
+                UUID uuid = (UUID) value;
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+                break;
+            case BYTES:
+                writeBytes(out, (byte[]) value);
+                break;
+            default:
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(value);
+                }
+                writeBytes(out, bos.toByteArray());
+        }
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    SimpleFeature read(DataInput in) throws IOException {
+        String fid = in.readUTF();
+        in.readFully(nulls);
+        for (int i = 0; i < kinds.length; i++) {
+            boolean isNull = (nulls[i >> 3] & (1 << (i & 7))) != 0;
+            builder.add(isNull ? null : readValue(in, i));
+        }
+        return builder.buildFeature(fid);
+    }
+
+    @SuppressWarnings("BanSerializableRead")
+    private Object readValue(DataInput in, int i) throws IOException {
+        switch (kinds[i]) {
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                int length = in.readInt();
+                return new String(readBytes(in, length), 0, length, StandardCharsets.UTF_8);
+            case UTIL_DATE:
+                return new java.util.Date(in.readLong());
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case SQL_TIME:
+                return new java.sql.Time(in.readLong());
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case GEOMETRY:
+                try {
+                    return wkbReader.read(readBytes(in, in.readInt()));
+                } catch (ParseException e) {
+                    throw new IOException("Failed to parse the geometry WKB", e);
+                }
+            case BIG_DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readNewBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readNewBytes(in));
+            case UUID_VALUE:
+                return new UUID(in.readLong(), in.readLong());
+            case BYTES:
+                return readNewBytes(in);
+            default:
+                // the runs are always written by this same class, in a newly created file
+                if ("false".equalsIgnoreCase(System.getProperty(SimpleFeatureIO.ENABLE_DESERIALIZATION))) {
+                    throw new IllegalStateException("Object deserialization is not allowed");
+                }
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readNewBytes(in)))) {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Could not read back object", e);
+                }
+        }
+    }
+
+    /** Reads the bytes in the reusable buffer, the returned array might be longer than the requested length */
+    private byte[] readBytes(DataInput in, int length) throws IOException {
+        if (buffer.length < length) {
+            buffer = new byte[length];
+        }
+        in.readFully(buffer, 0, length);
+        return buffer;
+    }
+
+    private static byte[] readNewBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
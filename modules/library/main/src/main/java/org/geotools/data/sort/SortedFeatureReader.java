@@ -59,7 +59,8 @@ public static int getMaxFeaturesInMemory(Query q) {
      *
      * @param reader The reader to be sorted
      * @param query The query holding the SortBy directives, and the eventual max features in memory hint
-     *     {@link Hints#MAX_MEMORY_SORT}
+     *     {@link Hints#MAX_MEMORY_SORT}, temporary directory hint {@link Hints#MERGE_SORT_DIRECTORY} and parallelism
+     *     hint {@link Hints#MERGE_SORT_PARALLELISM}
      */
     public SortedFeatureReader(SimpleFeatureReader reader, Query query) throws IOException {
         this.delegate = MergeSortDumper.getDelegateReader(reader, query);
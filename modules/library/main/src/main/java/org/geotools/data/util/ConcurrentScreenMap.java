@@ -0,0 +1,176 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link ScreenMap} that can be shared among threads, allowing a store to read a layer with multiple threads, e.g.,
+ * splitting the query in ranges, while still skipping the features falling in already used pixels.
+ *
+ * <p>The bitmap is stored in a {@code long[]} updated with atomic bit operations, without locking. Each row of pixels
+ * starts on a new word, so that threads working on different rows never update the same word.
+ *
+ * <p>The transform and spans must be set before the map is shared, they are not supposed to change while the map is
+ * in use.
+ */
+public class ConcurrentScreenMap extends ScreenMap {
+
+    static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** Number of words used by each row */
+    final int rowWords;
+
+    /** The bitmap, lazily allocated */
+    private volatile long[] words;
+
+    public ConcurrentScreenMap(int x, int y, int width, int height, MathTransform mt) {
+        super(x, y, width, height, mt);
+        this.rowWords = (width + 63) >>> 6;
+    }
+
+    public ConcurrentScreenMap(int x, int y, int width, int height) {
+        this(x, y, width, height, null);
+    }
+
+    /** Builds a concurrent copy of the original map, including the transform, the spans, and the pixels already set */
+    public ConcurrentScreenMap(ScreenMap original) {
+        this(original.minx, original.miny, original.width, original.height, original.mt);
+        setSpans(original.spanX, original.spanY);
+        if (original.bitfield != null) {
+            int[] pixels = original.bitfield.pixels;
+            for (int i = 0; i < pixels.length; i++) {
+                int word = pixels[i];
+                while (word != 0) {
+                    int bit = i * 32 + Integer.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    int x = bit % width;
+                    int y = bit / width;
+                    if (y < height) {
+                        set(x + minx, y + miny, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a map that can be shared among threads: the map itself if already concurrent, or a concurrent copy
+     * otherwise. In the latter case the original map should no longer be used.
+     */
+    public static ScreenMap of(ScreenMap map) {
+        if (map == null || map.isConcurrent()) {
+            return map;
+        }
+        return new ConcurrentScreenMap(map);
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    private long[] getWords() {
+        long[] result = words;
+        if (result == null) {
+            synchronized (this) {
+                result = words;
+                if (result == null) {
+                    result = new long[rowWords * height];
+                    words = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Returns the index of the word holding the pixel, or -1 if the pixel is outside of the map */
+    private int wordIndex(int x, int y) {
+        int col = x - minx;
+        int row = y - miny;
+        if (col < 0 || col > width - 1 || row < 0 || row > height - 1) return -1;
+        return row * rowWords + (col >>> 6);
+    }
+
+    @Override
+    public boolean checkAndSet(int x, int y) {
+        // if it's outside of the screenmap we cannot say whether it's busy or not, and
+        // we cannot skip it because rendering or geometry transformation might put the geometry
+        // right in the map
+        int index = wordIndex(x, y);
+        if (index < 0) return false;
+        long mask = 1L << (x - minx);
+        long[] bits = getWords();
+        // check with a plain read first, avoids contended writes on pixels already set
+        if (((long) WORDS.getAcquire(bits, index) & mask) != 0) {
+            return true;
+        }
+        long previous = (long) WORDS.getAndBitwiseOr(bits, index, mask);
+        return (previous & mask) != 0;
+    }
+
+    @Override
+    public boolean get(int x, int y) {
+        int index = wordIndex(x, y);
+        if (index < 0) return false;
+        long mask = 1L << (x - minx);
+        return ((long) WORDS.getAcquire(getWords(), index) & mask) != 0;
+    }
+
+    @Override
+    public void set(int x, int y, boolean value) {
+        int index = wordIndex(x, y);
+        if (index < 0) return;
+        long mask = 1L << (x - minx);
+        if (value) {
+            WORDS.getAndBitwiseOr(getWords(), index, mask);
+        } else {
+            WORDS.getAndBitwiseAnd(getWords(), index, ~mask);
+        }
+    }
+
+    @Override
+    public boolean checkAndSet(Envelope envelope) throws TransformException {
+        if (!canSimplify(envelope)) {
+            return false;
+        }
+        double[] point = center(envelope);
+        return checkAndSet((int) point[0], (int) point[1]);
+    }
+
+    @Override
+    public boolean get(Envelope envelope) throws TransformException {
+        if (!canSimplify(envelope)) {
+            return false;
+        }
+        double[] point = center(envelope);
+        return get((int) point[0], (int) point[1]);
+    }
+
+    /** Returns the envelope center in screen coordinates, using a local buffer as the map is shared */
+    private double[] center(Envelope envelope) throws TransformException {
+        double[] point = {
+            (envelope.getMinX() + envelope.getMaxX()) / 2, (envelope.getMinY() + envelope.getMaxY()) / 2
+        };
+        mt.transform(point, 0, point, 0, 1);
+        return point;
+    }
+}
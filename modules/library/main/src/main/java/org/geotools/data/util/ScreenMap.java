@@ -46,6 +46,9 @@
  *
  * When checkAndSet returns false the geometry sits in a pixel that has been already populated and can be skipped.
  *
+ * <p>This class is not thread safe, use {@link ConcurrentScreenMap#of(ScreenMap)} to get a map that can be shared
+ * among multiple threads.
+ *
  * @author jeichar
  * @author Andrea Aime - OpenGeo
  */
@@ -57,9 +60,9 @@ public class ScreenMap {
 
     int height;
 
-    private int minx;
+    int minx;
 
-    private int miny;
+    int miny;
 
     MathTransform mt;
 
@@ -99,6 +102,14 @@ public ScreenMap(int x, int y, int width, int height) {
         this(x, y, width, height, null);
     }
 
+    /**
+     * Returns true if this screen map can be shared among threads, e.g., by a store reading a layer with multiple
+     * threads. The base implementation is not thread safe, see {@link ConcurrentScreenMap}.
+     */
+    public boolean isConcurrent() {
+        return false;
+    }
+
     public void setTransform(MathTransform mt) {
         this.mt = mt;
     }
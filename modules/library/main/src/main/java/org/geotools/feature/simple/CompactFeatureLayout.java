@@ -0,0 +1,216 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.util.Converters;
+
+/**
+ * The storage layout of the {@link CompactSimpleFeature} of a given feature type. Attributes bound to a primitive
+ * wrapper (numbers and booleans) are stored unboxed in a single {@code long[]}, followed by a bitmask tracking which of
+ * them are null, all other attributes are stored in an {@code Object[]}.
+ *
+ * <p>Layouts are immutable, and the one of a {@link SimpleFeatureTypeImpl} is computed once and cached in the type
+ * itself.
+ */
+final class CompactFeatureLayout {
+
+    static final byte OBJECT = 0;
+    static final byte DOUBLE = 1;
+    static final byte FLOAT = 2;
+    static final byte LONG = 3;
+    static final byte INT = 4;
+    static final byte SHORT = 5;
+    static final byte BYTE = 6;
+    static final byte BOOLEAN = 7;
+
+    /** The wrapper classes of the primitive kinds */
+    static final Class<?>[] WRAPPERS = {
+        Object.class, Double.class, Float.class, Long.class, Integer.class, Short.class, Byte.class, Boolean.class
+    };
+
+    final SimpleFeatureType featureType;
+
+    /** The attribute name -> position index, shared with the feature type when possible */
+    final Map<String, Integer> index;
+
+    /** The storage kind of each attribute */
+    final byte[] kinds;
+
+    /** The position of each attribute in the object or primitive array, depending on its kind */
+    final int[] slots;
+
+    final Class<?>[] bindings;
+
+    final int objectCount;
+
+    final int primitiveCount;
+
+    /** The length of the primitive array, including the null bitmask */
+    final int primitiveLength;
+
+    /** Position of the default geometry, or -1 if there is none */
+    final int defaultGeometry;
+
+    private CompactFeatureLayout(SimpleFeatureType featureType, Map<String, Integer> index) {
+        this.featureType = featureType;
+        this.index = index;
+        List<AttributeDescriptor> descriptors = featureType.getAttributeDescriptors();
+        int count = descriptors.size();
+        this.kinds = new byte[count];
+        this.slots = new int[count];
+        this.bindings = new Class<?>[count];
+        int objects = 0;
+        int primitives = 0;
+        for (int i = 0; i < count; i++) {
+            Class<?> binding = descriptors.get(i).getType().getBinding();
+            byte kind = kind(binding);
+            // primitive bindings are unusual, but the values are boxed anyways
+            bindings[i] = kind == OBJECT ? binding : WRAPPERS[kind];
+            kinds[i] = kind;
+            slots[i] = kind == OBJECT ? objects++ : primitives++;
+        }
+        this.objectCount = objects;
+        this.primitiveCount = primitives;
+        this.primitiveLength = primitives + (primitives + 63) / 64;
+        Integer geometry = index.get(null);
+        this.defaultGeometry = geometry != null ? geometry : -1;
+    }
+
+    /** Returns the layout for the specified feature type */
+    static CompactFeatureLayout get(SimpleFeatureType featureType) {
+        if (featureType instanceof SimpleFeatureTypeImpl impl) {
+            // racing threads may build the same layout twice, harmless as it's immutable
+            CompactFeatureLayout layout = impl.compactLayout;
+            if (layout == null) {
+                layout = new CompactFeatureLayout(impl, impl.index);
+                impl.compactLayout = layout;
+            }
+            return layout;
+        }
+        return new CompactFeatureLayout(featureType, SimpleFeatureTypeImpl.buildIndex(featureType));
+    }
+
+    static byte kind(Class<?> binding) {
+        if (binding == Double.class || binding == double.class) return DOUBLE;
+        if (binding == Float.class || binding == float.class) return FLOAT;
+        if (binding == Long.class || binding == long.class) return LONG;
+        if (binding == Integer.class || binding == int.class) return INT;
+        if (binding == Short.class || binding == short.class) return SHORT;
+        if (binding == Byte.class || binding == byte.class) return BYTE;
+        if (binding == Boolean.class || binding == boolean.class) return BOOLEAN;
+        return OBJECT;
+    }
+
+    int getAttributeCount() {
+        return kinds.length;
+    }
+
+    /** Returns the position of the attribute, or -1 if not found */
+    int indexOf(String name) {
+        Integer idx = index.get(name);
+        return idx != null ? idx : -1;
+    }
+
+    /** Returns the raw bits of a non null value, converting it to the attribute binding if needed */
+    long toBits(int attribute, Object value) {
+        byte kind = kinds[attribute];
+        if (kind == BOOLEAN) {
+            Object b = value instanceof Boolean ? value : convert(attribute, value);
+            return (Boolean) b ? 1 : 0;
+        }
+        Number n = (Number) (value instanceof Number ? value : convert(attribute, value));
+        switch (kind) {
+            case DOUBLE:
+                return Double.doubleToRawLongBits(n.doubleValue());
+            case FLOAT:
+                return Float.floatToRawIntBits(n.floatValue());
+            case LONG:
+                return n.longValue();
+            case INT:
+                return n.intValue();
+            case SHORT:
+                return n.shortValue();
+            case BYTE:
+                return n.byteValue();
+            default:
+                throw new IllegalStateException("Attribute " + attribute + " is not stored as a primitive");
+        }
+    }
+
+    /** Boxes the raw bits of a value, using the attribute binding */
+    Object fromBits(int attribute, long bits) {
+        switch (kinds[attribute]) {
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case LONG:
+                return bits;
+            case INT:
+                return (int) bits;
+            case SHORT:
+                return (short) bits;
+            case BYTE:
+                return (byte) bits;
+            case BOOLEAN:
+                return bits != 0;
+            default:
+                throw new IllegalStateException("Attribute " + attribute + " is not stored as a primitive");
+        }
+    }
+
+    /** Returns the value of the raw bits as a double */
+    double toDouble(int attribute, long bits) {
+        switch (kinds[attribute]) {
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            default:
+                return bits;
+        }
+    }
+
+    /** Returns the value of the raw bits as a long */
+    long toLong(int attribute, long bits) {
+        switch (kinds[attribute]) {
+            case DOUBLE:
+                return (long) Double.longBitsToDouble(bits);
+            case FLOAT:
+                return (long) Float.intBitsToFloat((int) bits);
+            default:
+                return bits;
+        }
+    }
+
+    private Object convert(int attribute, Object value) {
+        Object converted = Converters.convert(value, bindings[attribute]);
+        if (converted == null) {
+            throw new IllegalArgumentException("Cannot convert "
+                    + value
+                    + " to "
+                    + bindings[attribute].getSimpleName()
+                    + " for attribute "
+                    + featureType.getDescriptor(attribute).getLocalName());
+        }
+        return converted;
+    }
+}
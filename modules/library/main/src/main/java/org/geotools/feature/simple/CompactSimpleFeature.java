@@ -0,0 +1,702 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.GeometryAttribute;
+import org.geotools.api.feature.IllegalAttributeException;
+import org.geotools.api.feature.Property;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.AttributeType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.feature.type.GeometryType;
+import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.api.filter.identity.Identifier;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.feature.GeometryAttributeImpl;
+import org.geotools.feature.type.AttributeDescriptorImpl;
+import org.geotools.feature.type.Types;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.geometry.jts.coordinatesequence.CoordinateSequences;
+import org.geotools.util.Converters;
+import org.geotools.util.Utilities;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A memory efficient implementation of {@link SimpleFeature}, storing numeric and boolean attributes unboxed in a
+ * {@code long[]}, and the other ones in an {@code Object[]}, following a layout computed once per feature type.
+ * Useful when large amounts of features are kept in memory, as it saves both the wrapper objects and the garbage
+ * collection work associated with them.
+ *
+ * <p>The generic accessors box the primitive values on the fly, code that knows the attribute types can use the
+ * unboxed ones instead, e.g. {@link #getDouble(int)} and {@link #setDouble(int, double)}.
+ *
+ * <p>Instances are usually created by a {@link SimpleFeatureBuilder} in compact mode, see
+ * {@link SimpleFeatureBuilder#setCompact(boolean)}.
+ */
+public class CompactSimpleFeature implements SimpleFeature {
+
+    protected FeatureId id;
+
+    final CompactFeatureLayout layout;
+
+    /** The non primitive values */
+    final Object[] objects;
+
+    /** The primitive values raw bits, followed by the null bitmask */
+    final long[] primitives;
+
+    /** The set of user data attached to the feature (lazily created) */
+    protected Map<Object, Object> userData;
+
+    /** The set of user data attached to each attribute (lazily created) */
+    protected Map<Object, Object>[] attributeUserData;
+
+    /** Whether this feature is self validating or not */
+    protected boolean validating;
+
+    /**
+     * Builds a new feature, the values are expected to be already converted to the attribute bindings, as done by
+     * {@link SimpleFeatureBuilder}. The values array is not retained.
+     */
+    public CompactSimpleFeature(Object[] values, SimpleFeatureType featureType, FeatureId id, boolean validating) {
+        this(values, CompactFeatureLayout.get(featureType), id, validating);
+    }
+
+    CompactSimpleFeature(Object[] values, CompactFeatureLayout layout, FeatureId id, boolean validating) {
+        this.id = id;
+        this.layout = layout;
+        this.objects = new Object[layout.objectCount];
+        this.primitives = new long[layout.primitiveLength];
+        this.validating = validating;
+        for (int i = 0; i < values.length; i++) {
+            store(i, values[i]);
+        }
+        // missing values are null
+        for (int i = values.length; i < layout.getAttributeCount(); i++) {
+            store(i, null);
+        }
+
+        if (validating) validate();
+    }
+
+    @Override
+    public FeatureId getIdentifier() {
+        return id;
+    }
+
+    @Override
+    public String getID() {
+        return id.getID();
+    }
+
+    /** Stores a value already converted to the attribute binding */
+    private void store(int index, Object value) {
+        int slot = layout.slots[index];
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            objects[slot] = value;
+        } else if (value == null) {
+            primitives[slot] = 0;
+            setNull(slot, true);
+        } else {
+            primitives[slot] = layout.toBits(index, value);
+            setNull(slot, false);
+        }
+    }
+
+    private void setNull(int slot, boolean isNull) {
+        int word = layout.primitiveCount + (slot >>> 6);
+        if (isNull) {
+            primitives[word] |= 1L << slot;
+        } else {
+            primitives[word] &= ~(1L << slot);
+        }
+    }
+
+    private boolean isNullSlot(int slot) {
+        return (primitives[layout.primitiveCount + (slot >>> 6)] & (1L << slot)) != 0;
+    }
+
+    /** Returns true if the attribute value is null */
+    public boolean isNull(int index) {
+        int slot = layout.slots[index];
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            return objects[slot] == null;
+        }
+        return isNullSlot(slot);
+    }
+
+    /**
+     * Returns the attribute value as a double, without boxing it if the attribute is numeric. Null values are returned
+     * as {@link Double#NaN}.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to a number
+     */
+    public double getDouble(int index) {
+        int slot = layout.slots[index];
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            Object value = objects[slot];
+            return value == null ? Double.NaN : toNumber(index, value).doubleValue();
+        }
+        return isNullSlot(slot) ? Double.NaN : layout.toDouble(index, primitives[slot]);
+    }
+
+    /** Returns the named attribute value as a double, see {@link #getDouble(int)} */
+    public double getDouble(String name) {
+        return getDouble(indexOf(name));
+    }
+
+    /**
+     * Returns the attribute value as a long, without boxing it if the attribute is numeric. Null values are returned as
+     * 0, use {@link #isNull(int)} to tell them apart.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to a number
+     */
+    public long getLong(int index) {
+        int slot = layout.slots[index];
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            Object value = objects[slot];
+            return value == null ? 0 : toNumber(index, value).longValue();
+        }
+        return isNullSlot(slot) ? 0 : layout.toLong(index, primitives[slot]);
+    }
+
+    /** Returns the named attribute value as a long, see {@link #getLong(int)} */
+    public long getLong(String name) {
+        return getLong(indexOf(name));
+    }
+
+    /**
+     * Returns the attribute value as an int, without boxing it if the attribute is numeric. Null values are returned as
+     * 0, use {@link #isNull(int)} to tell them apart.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to a number
+     */
+    public int getInt(int index) {
+        return (int) getLong(index);
+    }
+
+    /** Returns the named attribute value as an int, see {@link #getInt(int)} */
+    public int getInt(String name) {
+        return getInt(indexOf(name));
+    }
+
+    /** Sets the attribute value, without boxing it if the attribute is stored as a floating point primitive */
+    public void setDouble(int index, double value) {
+        byte kind = layout.kinds[index];
+        if (kind == CompactFeatureLayout.DOUBLE && !validating) {
+            int slot = layout.slots[index];
+            primitives[slot] = Double.doubleToRawLongBits(value);
+            setNull(slot, false);
+        } else if (kind == CompactFeatureLayout.FLOAT && !validating) {
+            int slot = layout.slots[index];
+            primitives[slot] = Float.floatToRawIntBits((float) value);
+            setNull(slot, false);
+        } else {
+            setAttribute(index, value);
+        }
+    }
+
+    /** Sets the attribute value, without boxing it if the attribute is stored as a long */
+    public void setLong(int index, long value) {
+        if (layout.kinds[index] == CompactFeatureLayout.LONG && !validating) {
+            int slot = layout.slots[index];
+            primitives[slot] = value;
+            setNull(slot, false);
+        } else {
+            setAttribute(index, value);
+        }
+    }
+
+    /** Sets the attribute value, without boxing it if the attribute is stored as an int */
+    public void setInt(int index, int value) {
+        if (layout.kinds[index] == CompactFeatureLayout.INT && !validating) {
+            int slot = layout.slots[index];
+            primitives[slot] = value;
+            setNull(slot, false);
+        } else {
+            setAttribute(index, value);
+        }
+    }
+
+    private Number toNumber(int index, Object value) {
+        if (value instanceof Number number) {
+            return number;
+        }
+        Number converted = Converters.convert(value, Number.class);
+        if (converted == null) {
+            throw new IllegalArgumentException("Attribute "
+                    + getFeatureType().getDescriptor(index).getLocalName()
+                    + " value "
+                    + value
+                    + " is not a number");
+        }
+        return converted;
+    }
+
+    private int indexOf(String name) {
+        int idx = layout.indexOf(name);
+        if (idx == -1) throw new IllegalAttributeException("Unknown attribute " + name);
+        return idx;
+    }
+
+    @Override
+    public Object getAttribute(int index) throws IndexOutOfBoundsException {
+        int slot = layout.slots[index];
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            return objects[slot];
+        }
+        return isNullSlot(slot) ? null : layout.fromBits(index, primitives[slot]);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        int idx = layout.indexOf(name);
+        return idx != -1 ? getAttribute(idx) : null;
+    }
+
+    @Override
+    public Object getAttribute(Name name) {
+        return getAttribute(name.getLocalPart());
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return layout.getAttributeCount();
+    }
+
+    @Override
+    public List<Object> getAttributes() {
+        int count = getAttributeCount();
+        List<Object> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(getAttribute(i));
+        }
+        return result;
+    }
+
+    @Override
+    public Object getDefaultGeometry() {
+        return layout.defaultGeometry != -1 ? getAttribute(layout.defaultGeometry) : null;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return layout.featureType;
+    }
+
+    @Override
+    public SimpleFeatureType getType() {
+        return layout.featureType;
+    }
+
+    @Override
+    public void setAttribute(int index, Object value) throws IndexOutOfBoundsException {
+        // first do conversion
+        Object converted = Converters.convert(value, layout.bindings[index]);
+        // if necessary, validation too
+        if (validating) Types.validate(getFeatureType().getDescriptor(index), converted);
+        // finally set the value into the feature
+        store(index, converted);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        setAttribute(indexOf(name), value);
+    }
+
+    @Override
+    public void setAttribute(Name name, Object value) {
+        setAttribute(name.getLocalPart(), value);
+    }
+
+    @Override
+    public void setAttributes(List<Object> values) {
+        for (int i = 0; i < getAttributeCount(); i++) {
+            setValueUnchecked(i, values.get(i));
+        }
+    }
+
+    @Override
+    public void setAttributes(Object[] values) {
+        for (int i = 0; i < getAttributeCount(); i++) {
+            setValueUnchecked(i, values[i]);
+        }
+    }
+
+    /**
+     * Sets a value without validation, like {@link SimpleFeatureImpl} does for the bulk and property setters. Values
+     * of primitive attributes still need to be converted to be stored.
+     */
+    private void setValueUnchecked(int index, Object value) {
+        if (layout.kinds[index] == CompactFeatureLayout.OBJECT) {
+            objects[layout.slots[index]] = value;
+        } else {
+            store(index, value);
+        }
+    }
+
+    @Override
+    public void setDefaultGeometry(Object geometry) {
+        if (layout.defaultGeometry != -1) {
+            setAttribute(layout.defaultGeometry, geometry);
+        }
+    }
+
+    @Override
+    public BoundingBox getBounds() {
+        CoordinateReferenceSystem crs = getFeatureType().getCoordinateReferenceSystem();
+        Envelope bounds = ReferencedEnvelope.create(crs);
+
+        for (Object o : objects) {
+            if (o instanceof Geometry g) {
+                if (bounds.isNull()) {
+                    bounds.init(JTS.bounds(g, crs));
+                } else {
+                    bounds.expandToInclude(JTS.bounds(g, crs));
+                }
+            }
+        }
+
+        return (BoundingBox) bounds;
+    }
+
+    @Override
+    public GeometryAttribute getDefaultGeometryProperty() {
+        GeometryDescriptor geometryDescriptor = getFeatureType().getGeometryDescriptor();
+        GeometryAttribute geometryAttribute = null;
+        if (geometryDescriptor != null) {
+            Object defaultGeometry = getDefaultGeometry();
+            geometryAttribute = new GeometryAttributeImpl(defaultGeometry, geometryDescriptor, null);
+        }
+        return geometryAttribute;
+    }
+
+    @Override
+    public void setDefaultGeometryProperty(GeometryAttribute geometryAttribute) {
+        if (geometryAttribute != null) setDefaultGeometry(geometryAttribute.getValue());
+        else setDefaultGeometry(null);
+    }
+
+    @Override
+    public Collection<Property> getProperties() {
+        return new AttributeList();
+    }
+
+    @Override
+    public Collection<Property> getProperties(Name name) {
+        return getProperties(name.getLocalPart());
+    }
+
+    @Override
+    public Collection<Property> getProperties(String name) {
+        int idx = layout.indexOf(name);
+        if (idx != -1) {
+            return Collections.singleton(property(idx));
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public Property getProperty(Name name) {
+        return getProperty(name.getLocalPart());
+    }
+
+    @Override
+    public Property getProperty(String name) {
+        int idx = layout.indexOf(name);
+        return idx != -1 ? property(idx) : null;
+    }
+
+    private Attribute property(int index) {
+        if (getFeatureType().getDescriptor(index) instanceof GeometryDescriptor) {
+            return new CompactGeometryAttribute(index);
+        }
+        return new Attribute(index);
+    }
+
+    @Override
+    public Collection<? extends Property> getValue() {
+        return getProperties();
+    }
+
+    @Override
+    public void setValue(Collection<Property> values) {
+        int i = 0;
+        for (Property p : values) {
+            setValueUnchecked(i++, p.getValue());
+        }
+    }
+
+    @Override
+    public void setValue(Object newValue) {
+        @SuppressWarnings("unchecked")
+        Collection<Property> converted = (Collection<Property>) newValue;
+        setValue(converted);
+    }
+
+    @Override
+    public AttributeDescriptor getDescriptor() {
+        SimpleFeatureType featureType = getFeatureType();
+        return new AttributeDescriptorImpl(featureType, featureType.getName(), 0, Integer.MAX_VALUE, true, null);
+    }
+
+    @Override
+    public Name getName() {
+        return getFeatureType().getName();
+    }
+
+    @Override
+    public boolean isNillable() {
+        return true;
+    }
+
+    @Override
+    public Map<Object, Object> getUserData() {
+        if (userData == null) userData = new HashMap<>();
+        return userData;
+    }
+
+    @Override
+    public boolean hasUserData() {
+        return userData != null && !userData.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode() * getFeatureType().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompactSimpleFeature)) {
+            return false;
+        }
+        CompactSimpleFeature other = (CompactSimpleFeature) obj;
+        if (!Utilities.equals(id, other.getIdentifier())) {
+            return false;
+        }
+        if (!other.getFeatureType().equals(getFeatureType())) {
+            return false;
+        }
+
+        for (int i = 0, ii = getAttributeCount(); i < ii; i++) {
+            Object value = getAttribute(i);
+            Object otherAtt = other.getAttribute(i);
+            if (value == null) {
+                if (otherAtt != null) {
+                    return false;
+                }
+            } else if (value instanceof Geometry geometry) {
+                if (!(otherAtt instanceof Geometry)) {
+                    return false;
+                } else if (!CoordinateSequences.equalsND(geometry, (Geometry) otherAtt)) {
+                    return false;
+                }
+            } else if (!value.equals(otherAtt)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void validate() {
+        for (int i = 0; i < getAttributeCount(); i++) {
+            AttributeDescriptor descriptor = getType().getDescriptor(i);
+            Types.validate(descriptor, getAttribute(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CompactSimpleFeature:");
+        sb.append(getType().getName().getLocalPart());
+        sb.append("=");
+        sb.append(getValue());
+        return sb.toString();
+    }
+
+    /** Live collection backed directly on the feature */
+    class AttributeList extends AbstractList<Property> {
+
+        @Override
+        public Property get(int index) {
+            return property(index);
+        }
+
+        @Override
+        public Attribute set(int index, Property element) {
+            setValueUnchecked(index, element.getValue());
+            return null;
+        }
+
+        @Override
+        public int size() {
+            return getAttributeCount();
+        }
+    }
+
+    /** Attribute that delegates directly to the feature storage */
+    class Attribute implements org.geotools.api.feature.Attribute {
+        int index;
+
+        Attribute(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Identifier getIdentifier() {
+            return null;
+        }
+
+        @Override
+        public AttributeDescriptor getDescriptor() {
+            return getFeatureType().getDescriptor(index);
+        }
+
+        @Override
+        public AttributeType getType() {
+            return getFeatureType().getType(index);
+        }
+
+        @Override
+        public Name getName() {
+            return getDescriptor().getName();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<Object, Object> getUserData() {
+            // lazily create the user data holder
+            if (attributeUserData == null) attributeUserData = new HashMap[getAttributeCount()];
+            // lazily create the attribute user data
+            if (attributeUserData[index] == null) attributeUserData[index] = new HashMap<>();
+            return attributeUserData[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return getAttribute(index);
+        }
+
+        @Override
+        public boolean isNillable() {
+            return getDescriptor().isNillable();
+        }
+
+        @Override
+        public void setValue(Object newValue) {
+            setValueUnchecked(index, newValue);
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return 37 * getDescriptor().hashCode() + 37 * (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Attribute)) {
+                return false;
+            }
+            Attribute other = (Attribute) obj;
+            if (!Utilities.equals(getDescriptor(), other.getDescriptor())) {
+                return false;
+            }
+            return Utilities.deepEquals(getValue(), other.getValue());
+        }
+
+        @Override
+        public void validate() {
+            Types.validate(getDescriptor(), getValue());
+        }
+
+        @Override
+        public String toString() {
+            return "CompactSimpleFeature.Attribute: " + getDescriptor().getLocalName() + "=" + getValue();
+        }
+    }
+
+    class CompactGeometryAttribute extends Attribute implements GeometryAttribute {
+
+        CompactGeometryAttribute(int index) {
+            super(index);
+        }
+
+        @Override
+        public GeometryType getType() {
+            return (GeometryType) super.getType();
+        }
+
+        @Override
+        public GeometryDescriptor getDescriptor() {
+            return (GeometryDescriptor) super.getDescriptor();
+        }
+
+        @Override
+        public BoundingBox getBounds() {
+            ReferencedEnvelope bounds = new ReferencedEnvelope(getFeatureType().getCoordinateReferenceSystem());
+            if (getValue() instanceof Geometry geometry) {
+                bounds.init(geometry.getEnvelopeInternal());
+            }
+            return bounds;
+        }
+
+        @Override
+        public void setBounds(BoundingBox bounds) {
+            // do nothing, this property is strictly derived
+        }
+
+        @Override
+        public int hashCode() {
+            return 17 * super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CompactGeometryAttribute)) {
+                return false;
+            }
+            return super.equals(obj);
+        }
+    }
+}
@@ -35,6 +35,7 @@
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.feature.FeatureBuilder;
 import org.geotools.feature.type.Types;
+import org.geotools.filter.identity.FeatureIdImpl;
 import org.locationtech.jts.geom.Geometry;
 
 /**
@@ -132,6 +133,12 @@ public class SimpleFeatureBuilder extends FeatureBuilder<FeatureType, Feature> {
 
     boolean validating;
 
+    /** Whether compact features are built, see {@link #setCompact(boolean)} */
+    boolean compact;
+
+    /** The compact features layout, looked up when compact mode is enabled */
+    CompactFeatureLayout layout;
+
     public SimpleFeatureBuilder(SimpleFeatureType featureType) {
         this(featureType, CommonFactoryFinder.getFeatureFactory(null));
     }
@@ -181,6 +188,15 @@ public void init(SimpleFeature feature) {
             if (impl.userData != null) {
                 featureUserData = new HashMap<>(impl.userData);
             }
+        } else if (feature instanceof CompactSimpleFeature compactFeature) {
+            // values are already converted, just copy them over
+            for (int i = 0; i < values.length; i++) {
+                values[i] = compactFeature.getAttribute(i);
+            }
+
+            if (compactFeature.userData != null) {
+                featureUserData = new HashMap<>(compactFeature.userData);
+            }
         } else {
             for (Object value : feature.getAttributes()) {
                 add(value);
@@ -316,7 +332,16 @@ public SimpleFeature buildFeature(String id) {
         Map<Object, Object>[] userData = this.userData;
         Map<Object, Object> featureUserData = this.featureUserData;
         reset();
-        SimpleFeature sf = factory.createSimpleFeature(values, featureType, id);
+        SimpleFeature sf;
+        if (compact) {
+            if (featureType.isAbstract()) {
+                throw new IllegalArgumentException(
+                        "Cannot create an feature of an abstract FeatureType " + featureType.getTypeName());
+            }
+            sf = new CompactSimpleFeature(values, layout, new FeatureIdImpl(id), false);
+        } else {
+            sf = factory.createSimpleFeature(values, featureType, id);
+        }
 
         // handle the per attribute user data
         if (userData != null) {
@@ -561,4 +586,21 @@ public boolean isValidating() {
     public void setValidating(boolean validating) {
         this.validating = validating;
     }
+
+    /** True if the builder creates {@link CompactSimpleFeature} instances, see {@link #setCompact(boolean)} */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Enables the compact mode, in which the builder creates {@link CompactSimpleFeature} instances, storing numeric
+     * and boolean attributes unboxed, instead of using the feature factory. Recommended when building large amounts of
+     * features that are going to be kept in memory.
+     */
+    public void setCompact(boolean compact) {
+        if (compact && layout == null) {
+            layout = CompactFeatureLayout.get(featureType);
+        }
+        this.compact = compact;
+    }
 }
@@ -44,6 +44,9 @@ public class SimpleFeatureTypeImpl extends FeatureTypeImpl implements SimpleFeat
 
     Map<String, AttributeDescriptor> descriptors;
 
+    /** The storage layout of compact features, lazily computed */
+    volatile CompactFeatureLayout compactLayout;
+
     @SuppressWarnings("unchecked")
     public SimpleFeatureTypeImpl(
             Name name,
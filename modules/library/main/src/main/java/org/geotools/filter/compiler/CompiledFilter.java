@@ -0,0 +1,88 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import java.util.function.Predicate;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterVisitor;
+
+/**
+ * A filter compiled by {@link FilterCompiler} for a given feature type. Features of that very type are evaluated by the
+ * compiled predicate, anything else by the original filter. Visitors are passed the original filter too, so the
+ * compiled filter can be used wherever the original one is expected.
+ */
+public class CompiledFilter implements Filter {
+
+    final Filter filter;
+
+    final SimpleFeatureType featureType;
+
+    final Predicate<SimpleFeature> predicate;
+
+    CompiledFilter(Filter filter, SimpleFeatureType featureType, Predicate<SimpleFeature> predicate) {
+        this.filter = filter;
+        this.featureType = featureType;
+        this.predicate = predicate;
+    }
+
+    /** The original filter */
+    public Filter getFilter() {
+        return filter;
+    }
+
+    /** The feature type the filter has been compiled for */
+    public SimpleFeatureType getFeatureType() {
+        return featureType;
+    }
+
+    @Override
+    public boolean evaluate(Object object) {
+        if (object instanceof SimpleFeature feature && feature.getFeatureType() == featureType) {
+            return predicate.test(feature);
+        }
+        return filter.evaluate(object);
+    }
+
+    @Override
+    public Object accept(FilterVisitor visitor, Object extraData) {
+        return filter.accept(visitor, extraData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompiledFilter)) {
+            return false;
+        }
+        CompiledFilter other = (CompiledFilter) obj;
+        return featureType == other.featureType && filter.equals(other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return filter.toString();
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.FeatureType;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.BinaryComparisonOperator;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.Not;
+import org.geotools.api.filter.Or;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.filter.AttributeExpressionImpl;
+import org.geotools.filter.IsBetweenImpl;
+import org.geotools.filter.IsEqualsToImpl;
+import org.geotools.filter.IsGreaterThanImpl;
+import org.geotools.filter.IsGreaterThanOrEqualToImpl;
+import org.geotools.filter.IsLessThenImpl;
+import org.geotools.filter.IsLessThenOrEqualToImpl;
+import org.geotools.filter.IsNotEqualToImpl;
+import org.geotools.filter.IsNullImpl;
+import org.geotools.util.Converters;
+import org.geotools.util.SoftValueHashMap;
+
+/**
+ * Compiles a {@link Filter} against a known {@link SimpleFeatureType}, into a {@link CompiledFilter} that evaluates
+ * features of that type with the attribute positions resolved, and the literals converted to the attribute types, once
+ * and for all.
+ *
+ * <p>The compiled form is a tree of predicates, where the logic operators, the null checks and the comparisons between
+ * an attribute and a literal are evaluated directly on the feature attribute values whenever the values are of the
+ * expected type. Any other case, as well as any other filter or expression, is delegated to the original filter, so
+ * that the results are always the same as evaluating the original filter.
+ *
+ * <p>Compiled filters are cached by filter and feature type. The transparent usage in the feature readers and the
+ * renderer is disabled by default, and can be enabled setting the {@link #COMPILE_FILTERS_KEY} system variable to
+ * true.
+ */
+public final class FilterCompiler {
+
+    /** The system variable enabling the usage of compiled filters, see {@link #optimize(Filter, FeatureType)} */
+    public static final String COMPILE_FILTERS_KEY = "org.geotools.filter.compile";
+
+    static final boolean ENABLED = Boolean.getBoolean(COMPILE_FILTERS_KEY);
+
+    static final SoftValueHashMap<CacheKey, CompiledFilter> CACHE = new SoftValueHashMap<>(100);
+
+    private FilterCompiler() {}
+
+    /** Returns true if the compiled filters are used by the feature readers and the renderer */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the compiled version of the filter for the specified feature type, if compilation is enabled and the
+     * type is a simple one, or the filter itself otherwise.
+     */
+    public static Filter optimize(Filter filter, FeatureType featureType) {
+        if (!ENABLED || !(featureType instanceof SimpleFeatureType simpleType)) {
+            return filter;
+        }
+        return compile(filter, simpleType);
+    }
+
+    /**
+     * Compiles the filter for the specified feature type. {@link Filter#INCLUDE}, {@link Filter#EXCLUDE}, and filters
+     * already compiled for the same type, are returned as is.
+     */
+    public static Filter compile(Filter filter, SimpleFeatureType featureType) {
+        if (filter == null || filter == Filter.INCLUDE || filter == Filter.EXCLUDE) {
+            return filter;
+        }
+        if (filter instanceof CompiledFilter compiled) {
+            if (compiled.getFeatureType() == featureType) {
+                return compiled;
+            }
+            filter = compiled.getFilter();
+        }
+        CacheKey key = new CacheKey(filter, featureType);
+        CompiledFilter compiled = CACHE.get(key);
+        if (compiled == null) {
+            compiled = new CompiledFilter(filter, featureType, compileFilter(filter, featureType));
+            CACHE.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    static Predicate<SimpleFeature> compileFilter(Filter filter, SimpleFeatureType type) {
+        if (filter == Filter.INCLUDE) {
+            return f -> true;
+        } else if (filter == Filter.EXCLUDE) {
+            return f -> false;
+        } else if (filter instanceof And and) {
+            Predicate<SimpleFeature>[] children = compileChildren(and.getChildren(), type);
+            return f -> {
+                for (Predicate<SimpleFeature> child : children) {
+                    if (!child.test(f)) return false;
+                }
+                return true;
+            };
+        } else if (filter instanceof Or or) {
+            Predicate<SimpleFeature>[] children = compileChildren(or.getChildren(), type);
+            return f -> {
+                for (Predicate<SimpleFeature> child : children) {
+                    if (child.test(f)) return true;
+                }
+                return false;
+            };
+        } else if (filter instanceof Not not) {
+            return compileFilter(not.getFilter(), type).negate();
+        } else if (filter.getClass() == IsNullImpl.class) {
+            int index = attributeIndex(((IsNullImpl) filter).getExpression(), type);
+            if (index >= 0) {
+                return f -> f.getAttribute(index) == null;
+            }
+        } else if (filter.getClass() == IsBetweenImpl.class) {
+            Predicate<SimpleFeature> between = compileBetween((IsBetweenImpl) filter, type);
+            if (between != null) {
+                return between;
+            }
+        } else if (filter instanceof BinaryComparisonOperator comparison) {
+            Predicate<SimpleFeature> compiled = compileComparison(comparison, type);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        return filter::evaluate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<SimpleFeature>[] compileChildren(List<Filter> children, SimpleFeatureType type) {
+        Predicate<SimpleFeature>[] result = new Predicate[children.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = compileFilter(children.get(i), type);
+        }
+        return result;
+    }
+
+    /**
+     * Compiles a comparison between an attribute and a literal. The fast path is taken when the attribute value is null
+     * or of the same class as the converted literal, for numbers and, when the attribute is on the left side, for other
+     * comparable values but strings, whose comparison involves number parsing.
+     */
+    private static Predicate<SimpleFeature> compileComparison(
+            BinaryComparisonOperator comparison, SimpleFeatureType type) {
+        Class<?> filterClass = comparison.getClass();
+        Expression e1 = comparison.getExpression1();
+        Expression e2 = comparison.getExpression2();
+        int index = attributeIndex(e1, type);
+        boolean swapped = false;
+        Object literal = null;
+        if (index >= 0 && e2 instanceof Literal l) {
+            literal = l.getValue();
+        } else if ((index = attributeIndex(e2, type)) >= 0 && e1 instanceof Literal l) {
+            literal = l.getValue();
+            swapped = true;
+        } else {
+            return null;
+        }
+        Object value = convertLiteral(literal, type.getDescriptor(index).getType().getBinding());
+        if (value == null) {
+            return null;
+        }
+        final int idx = index;
+        final Class<?> valueClass = value.getClass();
+
+        if (filterClass == IsEqualsToImpl.class || filterClass == IsNotEqualToImpl.class) {
+            boolean negate = filterClass == IsNotEqualToImpl.class;
+            boolean ignoreCase = !comparison.isMatchingCase() && value instanceof String;
+            return f -> {
+                Object v = f.getAttribute(idx);
+                if (v == null) {
+                    return negate;
+                } else if (v.getClass() != valueClass) {
+                    return comparison.evaluate(f);
+                }
+                boolean equal = ignoreCase ? ((String) v).equalsIgnoreCase((String) value) : v.equals(value);
+                return equal != negate;
+            };
+        }
+
+        ComparisonTest test;
+        if (filterClass == IsLessThenImpl.class) {
+            test = c -> c < 0;
+        } else if (filterClass == IsLessThenOrEqualToImpl.class) {
+            test = c -> c <= 0;
+        } else if (filterClass == IsGreaterThanImpl.class) {
+            test = c -> c > 0;
+        } else if (filterClass == IsGreaterThanOrEqualToImpl.class) {
+            test = c -> c >= 0;
+        } else {
+            return null;
+        }
+        if (value instanceof Number number) {
+            double literalValue = number.doubleValue();
+            final boolean sw = swapped;
+            return f -> {
+                Object v = f.getAttribute(idx);
+                if (v == null) {
+                    return false;
+                } else if (v.getClass() != valueClass) {
+                    return comparison.evaluate(f);
+                }
+                double attributeValue = ((Number) v).doubleValue();
+                return test.test(sw ? compare(literalValue, attributeValue) : compare(attributeValue, literalValue));
+            };
+        } else if (value instanceof Comparable && !(value instanceof String) && !swapped) {
+            return f -> {
+                Object v = f.getAttribute(idx);
+                if (v == null) {
+                    return false;
+                } else if (v.getClass() != valueClass) {
+                    return comparison.evaluate(f);
+                }
+                @SuppressWarnings("unchecked")
+                Comparable<Object> comparable = (Comparable<Object>) v;
+                return test.test(comparable.compareTo(value));
+            };
+        }
+        return null;
+    }
+
+    private static Predicate<SimpleFeature> compileBetween(IsBetweenImpl between, SimpleFeatureType type) {
+        int index = attributeIndex(between.getExpression(), type);
+        if (index < 0
+                || !(between.getLowerBoundary() instanceof Literal lower)
+                || !(between.getUpperBoundary() instanceof Literal upper)) {
+            return null;
+        }
+        Class<?> binding = type.getDescriptor(index).getType().getBinding();
+        // the original filter converts the boundaries with no hints
+        Object lowerValue = Converters.convert(lower.getValue(), binding);
+        Object upperValue = Converters.convert(upper.getValue(), binding);
+        if (!(lowerValue instanceof Comparable)
+                || !(upperValue instanceof Comparable)
+                || lowerValue.getClass() != binding
+                || upperValue.getClass() != binding
+                || lower.getValue() instanceof Collection
+                || upper.getValue() instanceof Collection) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lc = (Comparable<Object>) lowerValue;
+        @SuppressWarnings("unchecked")
+        Comparable<Object> uc = (Comparable<Object>) upperValue;
+        return f -> {
+            Object v = f.getAttribute(index);
+            if (v == null) {
+                return false;
+            } else if (v.getClass() != binding) {
+                return between.evaluate(f);
+            }
+            return lc.compareTo(v) <= 0 && uc.compareTo(v) >= 0;
+        };
+    }
+
+    /** Same comparison as {@link org.geotools.filter.CompareFilterImpl} for numbers */
+    private static int compare(double left, double right) {
+        return left > right ? 1 : left == right ? 0 : -1;
+    }
+
+    /**
+     * Converts the literal to the attribute binding, using only safe conversions, returns null if the literal cannot be
+     * converted or the resulting class does not match the binding.
+     */
+    private static Object convertLiteral(Object literal, Class<?> binding) {
+        if (literal == null || literal instanceof Collection || literal.getClass().isArray()) {
+            return null;
+        }
+        Object converted = binding.isInstance(literal)
+                ? literal
+                : Converters.convert(literal, binding, IsEqualsToImpl.SAFE_CONVERSION_HINTS);
+        if (converted == null || converted.getClass() != binding || converted instanceof Collection) {
+            return null;
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the position of the attribute referenced by a plain property name, or -1 if the expression is not a
+     * property name or the name is not a plain attribute name of the feature type.
+     */
+    static int attributeIndex(Expression expression, SimpleFeatureType type) {
+        if (expression == null || expression.getClass() != AttributeExpressionImpl.class) {
+            return -1;
+        }
+        String name = ((AttributeExpressionImpl) expression).getPropertyName();
+        if (name == null || name.isEmpty() || name.indexOf('/') >= 0 || name.indexOf(':') >= 0) {
+            return -1;
+        }
+        return type.indexOf(name);
+    }
+
+    @FunctionalInterface
+    interface ComparisonTest {
+        boolean test(int comparison);
+    }
+
+    /** Cache key, the filters are compared by value, the feature types by identity */
+    static final class CacheKey {
+        final Filter filter;
+        final SimpleFeatureType featureType;
+
+        CacheKey(Filter filter, SimpleFeatureType featureType) {
+            this.filter = filter;
+            this.featureType = featureType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return featureType == other.featureType && filter.equals(other.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(featureType) + filter.hashCode();
+        }
+    }
+}
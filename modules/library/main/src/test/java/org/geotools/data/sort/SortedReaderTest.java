@@ -4,15 +4,20 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.FilterFactory;
 import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
 import org.geotools.data.simple.DelegateSimpleFeatureReader;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.factory.CommonFactoryFinder;
@@ -20,9 +25,12 @@
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.util.factory.Hints;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -30,6 +38,9 @@
 
 public class SortedReaderTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     SimpleFeatureReader fr;
 
     FilterFactory ff;
@@ -218,6 +229,66 @@ public void testSortNaturalPartialLastPage() throws IOException {
         }
     }
 
+    @Test
+    public void testParallelFileSort() throws IOException {
+        File directory = folder.newFolder("runs");
+        Query query = new Query(schema.getTypeName());
+        query.setSortBy(peopleDesc);
+        Hints hints = new Hints(Hints.MAX_MEMORY_SORT, 7);
+        hints.put(Hints.MERGE_SORT_PARALLELISM, 4);
+        hints.put(Hints.MERGE_SORT_DIRECTORY, directory);
+        query.setHints(hints);
+        try (SimpleFeatureReader sr = new SortedFeatureReader(fr, query)) {
+            // the runs are written in the configured directory
+            assertTrue(directory.list().length > 1);
+            int prev = Integer.MAX_VALUE;
+            int count = 0;
+            while (sr.hasNext()) {
+                SimpleFeature f = sr.next();
+                int curr = (Integer) f.getAttribute("PERSONS");
+                assertTrue(curr <= prev);
+                prev = curr;
+                // all values survive the trip to disk
+                SimpleFeature original = DataUtilities.first(fc.subCollection(ff.id(ff.featureId(f.getID()))));
+                assertEquals(original.getAttributes(), f.getAttributes());
+                count++;
+            }
+            assertEquals(fc.size(), count);
+        }
+        // and removed on close
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void testFileSortStable() throws IOException {
+        // lots of duplicate values, that should be returned in their original order
+        SortBy[] byteAsc = {ff.sort("byte", SortOrder.ASCENDING)};
+        // the collection does not return the features in PERSONS order, compare with its own iteration order
+        Map<String, Integer> positions = new HashMap<>();
+        try (SimpleFeatureIterator fi = fc.features()) {
+            while (fi.hasNext()) {
+                positions.put(fi.next().getID(), positions.size());
+            }
+        }
+        try (SimpleFeatureReader sr = new SortedFeatureReader(fr, byteAsc, 10)) {
+            Byte prevByte = null;
+            int prevPosition = -1;
+            int count = 0;
+            while (sr.hasNext()) {
+                SimpleFeature f = sr.next();
+                Byte currByte = (Byte) f.getAttribute("byte");
+                int currPosition = positions.get(f.getID());
+                if (prevByte != null && currByte != null && prevByte.equals(currByte)) {
+                    assertTrue(currPosition > prevPosition);
+                }
+                prevByte = currByte;
+                prevPosition = currPosition;
+                count++;
+            }
+            assertEquals(fc.size(), count);
+        }
+    }
+
     private void assertSortedOnPeopleAsc(SimpleFeatureReader fr)
             throws IllegalArgumentException, NoSuchElementException, IOException {
         double prev = -1;
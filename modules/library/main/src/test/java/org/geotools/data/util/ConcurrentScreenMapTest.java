@@ -0,0 +1,109 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.geotools.referencing.operation.transform.IdentityTransform;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+
+public class ConcurrentScreenMapTest {
+
+    @Test
+    public void testSetAndGet() {
+        ScreenMap map = new ConcurrentScreenMap(10, 20, 100, 50);
+        assertTrue(map.isConcurrent());
+        assertFalse(map.get(10, 20));
+        assertFalse(map.checkAndSet(10, 20));
+        assertTrue(map.get(10, 20));
+        assertTrue(map.checkAndSet(10, 20));
+        // last pixel of the row, and first of the next one
+        assertFalse(map.checkAndSet(109, 20));
+        assertFalse(map.get(10, 21));
+        map.set(10, 20, false);
+        assertFalse(map.get(10, 20));
+        assertTrue(map.get(109, 20));
+
+        // out of the map, never busy
+        assertFalse(map.checkAndSet(9, 20));
+        assertFalse(map.checkAndSet(9, 20));
+        assertFalse(map.checkAndSet(110, 70));
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        ScreenMap original = new ScreenMap(-5, -5, 70, 30, IdentityTransform.create(2));
+        original.setSpans(1, 1);
+        original.set(-5, -5, true);
+        original.set(64, 24, true);
+        original.set(10, 3, true);
+        assertFalse(original.isConcurrent());
+
+        ScreenMap copy = ConcurrentScreenMap.of(original);
+        assertTrue(copy.isConcurrent());
+        assertSame(copy, ConcurrentScreenMap.of(copy));
+        for (int x = -5; x < 65; x++) {
+            for (int y = -5; y < 25; y++) {
+                assertEquals("x=" + x + " y=" + y, original.get(x, y), copy.get(x, y));
+            }
+        }
+        // transform and spans are copied
+        assertTrue(copy.get(new Envelope(10.1, 10.2, 3.1, 3.2)));
+        assertFalse(copy.checkAndSet(new Envelope(11.1, 11.2, 3.1, 3.2)));
+        assertTrue(copy.checkAndSet(new Envelope(11.1, 11.2, 3.1, 3.2)));
+    }
+
+    @Test
+    public void testConcurrentCheckAndSet() throws Exception {
+        final int width = 257;
+        final int height = 33;
+        final ScreenMap map = new ConcurrentScreenMap(0, 0, width, height);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    int acquired = 0;
+                    for (int y = 0; y < height; y++) {
+                        for (int x = 0; x < width; x++) {
+                            if (!map.checkAndSet(x, y)) acquired++;
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            // each pixel has been acquired by exactly one thread
+            assertEquals(width * height, total);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
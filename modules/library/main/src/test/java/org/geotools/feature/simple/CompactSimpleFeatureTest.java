@@ -0,0 +1,162 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.geotools.api.feature.GeometryAttribute;
+import org.geotools.api.feature.Property;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+public class CompactSimpleFeatureTest {
+
+    SimpleFeatureType schema;
+
+    SimpleFeatureBuilder builder;
+
+    Point point;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType(
+                "sample", "geom:Point,name:String,value:Double,count:Integer,big:Long,ratio:Float,flag:Boolean");
+        builder = new SimpleFeatureBuilder(schema);
+        builder.setCompact(true);
+        point = new GeometryFactory().createPoint(new Coordinate(1, 2));
+    }
+
+    @Test
+    public void testLayout() {
+        CompactFeatureLayout layout = CompactFeatureLayout.get(schema);
+        assertSame(layout, CompactFeatureLayout.get(schema));
+        assertEquals(2, layout.objectCount);
+        assertEquals(5, layout.primitiveCount);
+        // five values plus one word for the null bitmask
+        assertEquals(6, layout.primitiveLength);
+        assertEquals(0, layout.defaultGeometry);
+    }
+
+    @Test
+    public void testBuild() {
+        SimpleFeature feature = builder.buildFeature("sample.1", point, "abc", "1.5", 10, 20L, 0.5f, true);
+        assertTrue(feature instanceof CompactSimpleFeature);
+        assertEquals("sample.1", feature.getID());
+        assertEquals(point, feature.getDefaultGeometry());
+        assertEquals("abc", feature.getAttribute("name"));
+        assertEquals(1.5, feature.getAttribute("value"));
+        assertEquals(10, feature.getAttribute("count"));
+        assertEquals(20L, feature.getAttribute("big"));
+        assertEquals(0.5f, feature.getAttribute("ratio"));
+        assertEquals(Boolean.TRUE, feature.getAttribute("flag"));
+        assertNull(feature.getAttribute("notThere"));
+
+        // same values as a plain feature
+        SimpleFeatureBuilder plain = new SimpleFeatureBuilder(schema);
+        SimpleFeature reference = plain.buildFeature("sample.1", point, "abc", "1.5", 10, 20L, 0.5f, true);
+        assertEquals(reference.getAttributes(), feature.getAttributes());
+        assertEquals(reference.getBounds(), feature.getBounds());
+    }
+
+    @Test
+    public void testUnboxedAccess() {
+        CompactSimpleFeature feature =
+                (CompactSimpleFeature) builder.buildFeature("sample.1", point, "12", 1.5, 10, 20L, 0.5f, false);
+        assertEquals(1.5, feature.getDouble(2), 0d);
+        assertEquals(1.5, feature.getDouble("value"), 0d);
+        assertEquals(10, feature.getInt("count"));
+        assertEquals(10d, feature.getDouble("count"), 0d);
+        assertEquals(20L, feature.getLong("big"));
+        assertEquals(0.5, feature.getDouble("ratio"), 0d);
+        // non primitive attributes are converted
+        assertEquals(12, feature.getInt("name"));
+
+        feature.setDouble(2, 3.5);
+        feature.setInt(3, 7);
+        feature.setLong(4, 8L);
+        feature.setDouble(5, 0.25);
+        assertEquals(3.5, feature.getAttribute("value"));
+        assertEquals(7, feature.getAttribute("count"));
+        assertEquals(8L, feature.getAttribute("big"));
+        assertEquals(0.25f, feature.getAttribute("ratio"));
+        // setting a value of a different type converts it
+        feature.setDouble(3, 9);
+        assertEquals(9, feature.getAttribute("count"));
+    }
+
+    @Test
+    public void testNulls() {
+        CompactSimpleFeature feature = (CompactSimpleFeature) builder.buildFeature("sample.1");
+        for (int i = 0; i < schema.getAttributeCount(); i++) {
+            assertTrue(feature.isNull(i));
+            assertNull(feature.getAttribute(i));
+        }
+        assertTrue(Double.isNaN(feature.getDouble("value")));
+        assertEquals(0, feature.getInt("count"));
+
+        feature.setAttribute("count", "5");
+        assertFalse(feature.isNull(3));
+        assertEquals(5, feature.getAttribute("count"));
+        feature.setAttribute("count", null);
+        assertTrue(feature.isNull(3));
+        assertNull(feature.getAttribute("count"));
+    }
+
+    @Test
+    public void testProperties() {
+        SimpleFeature feature = builder.buildFeature("sample.1", point, "abc", 1.5, 10, 20L, 0.5f, true);
+        assertTrue(feature.getProperty("geom") instanceof GeometryAttribute);
+        Property value = feature.getProperty("value");
+        assertEquals(1.5, value.getValue());
+        value.setValue(2.5);
+        assertEquals(2.5, feature.getAttribute("value"));
+        assertEquals(schema.getAttributeCount(), feature.getProperties().size());
+        value.getUserData().put("key", "value");
+        assertEquals("value", feature.getProperty("value").getUserData().get("key"));
+    }
+
+    @Test
+    public void testCopyAndEquals() {
+        SimpleFeature feature = builder.buildFeature("sample.1", point, "abc", 1.5, 10, 20L, 0.5f, true);
+        feature.getUserData().put("key", "value");
+
+        builder.init(feature);
+        SimpleFeature copy = builder.buildFeature("sample.1");
+        assertEquals(feature, copy);
+        assertEquals(feature.hashCode(), copy.hashCode());
+        assertEquals("value", copy.getUserData().get("key"));
+
+        copy.setAttribute("count", 11);
+        assertNotEquals(feature, copy);
+
+        // plain copy
+        SimpleFeature plain = SimpleFeatureBuilder.copy(feature);
+        assertTrue(plain instanceof SimpleFeatureImpl);
+        assertEquals(feature.getAttributes(), plain.getAttributes());
+    }
+}
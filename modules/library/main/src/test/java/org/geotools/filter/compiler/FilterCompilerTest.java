@@ -0,0 +1,120 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.filter.visitor.DuplicatingFilterVisitor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FilterCompilerTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory(null);
+
+    SimpleFeatureType schema;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType("sample", "geom:Point,name:String,value:Double,count:Integer,day:Date");
+        features = new ArrayList<>();
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(schema);
+        features.add(fb.buildFeature("f.1", null, "abc", 1.5, 10, Date.valueOf("2020-01-01")));
+        features.add(fb.buildFeature("f.2", null, "ABC", 2.5, 20, Date.valueOf("2021-01-01")));
+        features.add(fb.buildFeature("f.3", null, null, null, null, null));
+        features.add(fb.buildFeature("f.4", null, "def", Double.NaN, -5, Date.valueOf("2019-06-01")));
+    }
+
+    /** Checks the compiled filter gives the same results as the original one, on all the features */
+    private void assertSameResults(Filter filter) {
+        Filter compiled = FilterCompiler.compile(filter, schema);
+        assertTrue(compiled instanceof CompiledFilter);
+        for (SimpleFeature feature : features) {
+            assertEquals(filter + " on " + feature.getID(), filter.evaluate(feature), compiled.evaluate(feature));
+        }
+    }
+
+    @Test
+    public void testComparisons() {
+        assertSameResults(FF.equals(FF.property("name"), FF.literal("abc")));
+        assertSameResults(FF.equal(FF.property("name"), FF.literal("abc"), false));
+        assertSameResults(FF.notEqual(FF.property("name"), FF.literal("abc")));
+        assertSameResults(FF.equals(FF.property("count"), FF.literal("10")));
+        assertSameResults(FF.equals(FF.literal(20), FF.property("count")));
+        assertSameResults(FF.equals(FF.property("value"), FF.literal(1.5)));
+        assertSameResults(FF.less(FF.property("value"), FF.literal(2)));
+        assertSameResults(FF.lessOrEqual(FF.property("count"), FF.literal("10")));
+        assertSameResults(FF.greater(FF.literal(15), FF.property("count")));
+        assertSameResults(FF.greaterOrEqual(FF.property("value"), FF.literal(1.5)));
+        assertSameResults(FF.greater(FF.property("day"), FF.literal("2020-06-01")));
+        assertSameResults(FF.less(FF.property("name"), FF.literal("b")));
+        assertSameResults(FF.between(FF.property("count"), FF.literal(0), FF.literal("15")));
+        assertSameResults(FF.isNull(FF.property("name")));
+        // not compiled, but delegated
+        assertSameResults(FF.like(FF.property("name"), "a*"));
+        assertSameResults(FF.equals(FF.property("name"), FF.property("name")));
+        assertSameResults(FF.equals(FF.property("notThere"), FF.literal("abc")));
+    }
+
+    @Test
+    public void testLogic() {
+        Filter f1 = FF.greater(FF.property("count"), FF.literal(0));
+        Filter f2 = FF.equal(FF.property("name"), FF.literal("abc"), false);
+        assertSameResults(FF.and(f1, f2));
+        assertSameResults(FF.or(FF.not(f1), f2));
+        assertSameResults(FF.and(FF.or(f1, Filter.EXCLUDE), FF.not(FF.isNull(FF.property("day")))));
+    }
+
+    @Test
+    public void testOtherFeatureType() throws Exception {
+        Filter filter = FF.equals(FF.property("name"), FF.literal("abc"));
+        Filter compiled = FilterCompiler.compile(filter, schema);
+        // same structure, different type instance, the original filter is used
+        SimpleFeatureType other = DataUtilities.createType("sample", "name:String");
+        SimpleFeature feature = SimpleFeatureBuilder.build(other, new Object[] {"abc"}, "o.1");
+        assertTrue(compiled.evaluate(feature));
+        assertTrue(compiled.evaluate(features.get(0)));
+    }
+
+    @Test
+    public void testCacheAndVisitors() {
+        Filter filter = FF.equals(FF.property("name"), FF.literal("abc"));
+        Filter compiled = FilterCompiler.compile(filter, schema);
+        assertSame(compiled, FilterCompiler.compile(filter, schema));
+        assertSame(compiled, FilterCompiler.compile(FF.equals(FF.property("name"), FF.literal("abc")), schema));
+        assertSame(compiled, FilterCompiler.compile(compiled, schema));
+        assertSame(Filter.INCLUDE, FilterCompiler.compile(Filter.INCLUDE, schema));
+
+        // visitors see the original filter
+        Filter copy = (Filter) compiled.accept(new DuplicatingFilterVisitor(), null);
+        assertEquals(filter, copy);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The thread pool shared by the operations splitting CPU bound work in tasks run in parallel, such as label layout or
+ * tile encoding and decoding. The threads are daemon ones, created on demand, and their number is set by the
+ * {@value #THREADS_KEY} system property, defaulting to the number of processors.
+ *
+ * <p>The tasks should not wait for other tasks of the pool, as all its threads could end up waiting.
+ *
+ * @since 36.0
+ */
+public final class ParallelTasks {
+
+    /** System property setting the number of threads running the parallel tasks */
+    public static final String THREADS_KEY = "org.geotools.parallelTasks.threads";
+
+    private static final int THREADS =
+            Math.max(1, Integer.getInteger(THREADS_KEY, Runtime.getRuntime().availableProcessors()));
+
+    private static volatile ExecutorService executor;
+
+    private ParallelTasks() {}
+
+    /** Returns the number of threads running the tasks, splitting work in more tasks than that is not useful */
+    public static int getThreads() {
+        return THREADS;
+    }
+
+    /**
+     * Submits a task to the shared threads.
+     *
+     * @param task The task to run
+     * @return The future result of the task
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+        return getExecutor().submit(task);
+    }
+
+    private static ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (ParallelTasks.class) {
+                result = executor;
+                if (result == null) {
+                    AtomicInteger counter = new AtomicInteger();
+                    result = executor = Executors.newFixedThreadPool(THREADS, r -> {
+                        Thread thread = new Thread(r, "GeoToolsParallelTask-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return result;
+    }
+}
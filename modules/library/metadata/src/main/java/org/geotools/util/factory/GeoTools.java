@@ -141,6 +141,16 @@ private static Properties loadProperites(String resource) {
      */
     public static final String CRS_AUTHORITY_EXTRA_DIRECTORY = "org.geotools.referencing.crs-directory";
 
+    /**
+     * The {@linkplain System#getProperty(String) system property} key for the default value to be assigned to the
+     * {@link Hints#CRS_CACHE_DIRECTORY CRS_CACHE_DIRECTORY} hint.
+     *
+     * @see Hints#CRS_CACHE_DIRECTORY
+     * @see #getDefaultHints
+     * @since 36.0
+     */
+    public static final String CRS_CACHE_DIRECTORY = "org.geotools.referencing.cache-directory";
+
     /**
      * The {@linkplain System#getProperty(String) system property} key for the default value to be assigned to the
      * {@link Hints#EPSG_DATA_SOURCE EPSG_DATA_SOURCE} hint.
@@ -301,6 +311,7 @@ private static Properties loadProperites(String resource) {
         Map<String, RenderingHints.Key> bindings = new HashMap<>();
         bind(ENCODE_WKT, Hints.ENCODE_EWKT, bindings);
         bind(CRS_AUTHORITY_EXTRA_DIRECTORY, Hints.CRS_AUTHORITY_EXTRA_DIRECTORY, bindings);
+        bind(CRS_CACHE_DIRECTORY, Hints.CRS_CACHE_DIRECTORY, bindings);
         bind(EPSG_DATA_SOURCE, Hints.EPSG_DATA_SOURCE, bindings);
         bind(FORCE_LONGITUDE_FIRST_AXIS_ORDER, Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, bindings);
         bind(ENTITY_RESOLVER, Hints.ENTITY_RESOLVER, bindings);
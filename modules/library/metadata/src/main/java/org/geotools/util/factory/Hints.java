@@ -183,6 +183,27 @@ public class Hints extends RenderingHints {
      */
     public static final FileKey CRS_AUTHORITY_EXTRA_DIRECTORY = new FileKey(false);
 
+    /**
+     * The directory where the referencing objects decoded from the EPSG database, the identifiers found for them and
+     * the coordinate operations between them are persisted, so that they can be reused after a restart without going
+     * back to the database. The value should be an instance of {@link File} or {@link String} refering to a writable
+     * directory. The persistent cache is disabled when this hint is not set.
+     *
+     * <p>This hint is only looked up in the {@linkplain GeoTools#getDefaultHints default hints}. To set the directory
+     * on the command line:
+     *
+     * <blockquote>
+     *
+     * <pre>
+     * -D{@value GeoTools#CRS_CACHE_DIRECTORY}=<var>path</var>
+     * </pre>
+     *
+     * </blockquote>
+     *
+     * @since 36.0
+     */
+    public static final FileKey CRS_CACHE_DIRECTORY = new FileKey(true);
+
     /**
      * The {@linkplain javax.sql.DataSource data source} name to lookup from JNDI when initializing the
      * {@linkplain org.geotools.referencing.factory.epsg EPSG factory}. Possible values:
@@ -542,6 +563,23 @@ public class Hints extends RenderingHints {
      */
     public static final Key MAX_MEMORY_SORT = new Key(Integer.class);
 
+    /**
+     * The directory where the fallback merge-sort writes its sorted runs, when they do not fit in memory. Defaults to
+     * the system temporary directory.
+     *
+     * @since 36.0
+     */
+    public static final Key MERGE_SORT_DIRECTORY = new Key(File.class);
+
+    /**
+     * The number of sorted runs the fallback merge-sort sorts and writes to disk in parallel, while the source is still
+     * being read. Each run holds up to {@link #MAX_MEMORY_SORT} features in memory, so up to that many times more
+     * features are kept in memory. Defaults to 1, sorting and writing the runs in the reading thread.
+     *
+     * @since 36.0
+     */
+    public static final Key MERGE_SORT_PARALLELISM = new Key(Integer.class);
+
     /**
      * Asks a datastore having a vector pyramid (pre-generalized geometries) to return the geometry version whose points
      * have been generalized less than the specified distance (further generalization might be performed by the client
@@ -0,0 +1,46 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class ParallelTasksTest {
+
+    @Test
+    public void testSubmit() throws Exception {
+        assertTrue(ParallelTasks.getThreads() >= 1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < ParallelTasks.getThreads() * 4; i++) {
+            int value = i;
+            futures.add(ParallelTasks.submit(() -> value * 2));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i * 2, futures.get(i).get().intValue());
+        }
+    }
+
+    @Test
+    public void testDaemonThreads() throws Exception {
+        assertTrue(ParallelTasks.submit(() -> Thread.currentThread().isDaemon()).get());
+    }
+}
@@ -763,6 +763,21 @@ public IdentifiedObject find(final IdentifiedObject object) throws FactoryExcept
             }
         }
 
+        /**
+         * Returns the codes of the coordinate reference systems with the same signature, looked up in a
+         * {@link CRSSignatureIndex} built on the first full scan, or all the codes for other objects.
+         */
+        @Override
+        protected Set<String> getCodeCandidates(final IdentifiedObject object) throws FactoryException {
+            if (object instanceof CoordinateReferenceSystem) {
+                final AbstractCachedAuthorityFactory factory = AbstractCachedAuthorityFactory.this;
+                final CRSSignatureIndex index =
+                        CRSSignatureIndex.getInstance(CRSSignatureIndex.getNamespace(factory), factory, true);
+                return index.getScanCandidates(object, super.getCodeCandidates(object));
+            }
+            return super.getCodeCandidates(object);
+        }
+
         /** Returns the identifier for the specified object. */
         @Override
         public String findIdentifier(final IdentifiedObject object) throws FactoryException {
@@ -351,13 +351,13 @@ public InternationalString getDescriptionText(final String code)
     public synchronized IdentifiedObject createObject(final String code) throws FactoryException {
         final IdentifiedObject object;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, IdentifiedObject.class);
         if (cached instanceof IdentifiedObject identifiedObject) {
             object = identifiedObject;
         } else {
             object = getBackingStore().createObject(code);
         }
-        put(key, object);
+        put(key, object, IdentifiedObject.class);
         return object;
     }
 
@@ -370,13 +370,13 @@ public synchronized IdentifiedObject createObject(final String code) throws Fact
     public synchronized Datum createDatum(final String code) throws FactoryException {
         final Datum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, Datum.class);
         if (cached instanceof Datum datum1) {
             datum = datum1;
         } else {
             datum = getBackingStore().createDatum(code);
         }
-        put(key, datum);
+        put(key, datum, Datum.class);
         return datum;
     }
 
@@ -389,13 +389,13 @@ public synchronized Datum createDatum(final String code) throws FactoryException
     public synchronized EngineeringDatum createEngineeringDatum(final String code) throws FactoryException {
         final EngineeringDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, EngineeringDatum.class);
         if (cached instanceof EngineeringDatum engineeringDatum) {
             datum = engineeringDatum;
         } else {
             datum = getBackingStore().createEngineeringDatum(code);
         }
-        put(key, datum);
+        put(key, datum, EngineeringDatum.class);
         return datum;
     }
 
@@ -408,13 +408,13 @@ public synchronized EngineeringDatum createEngineeringDatum(final String code) t
     public synchronized ImageDatum createImageDatum(final String code) throws FactoryException {
         final ImageDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, ImageDatum.class);
         if (cached instanceof ImageDatum imageDatum) {
             datum = imageDatum;
         } else {
             datum = getBackingStore().createImageDatum(code);
         }
-        put(key, datum);
+        put(key, datum, ImageDatum.class);
         return datum;
     }
 
@@ -427,13 +427,13 @@ public synchronized ImageDatum createImageDatum(final String code) throws Factor
     public synchronized VerticalDatum createVerticalDatum(final String code) throws FactoryException {
         final VerticalDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, VerticalDatum.class);
         if (cached instanceof VerticalDatum verticalDatum) {
             datum = verticalDatum;
         } else {
             datum = getBackingStore().createVerticalDatum(code);
         }
-        put(key, datum);
+        put(key, datum, VerticalDatum.class);
         return datum;
     }
 
@@ -446,13 +446,13 @@ public synchronized VerticalDatum createVerticalDatum(final String code) throws
     public synchronized TemporalDatum createTemporalDatum(final String code) throws FactoryException {
         final TemporalDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, TemporalDatum.class);
         if (cached instanceof TemporalDatum temporalDatum) {
             datum = temporalDatum;
         } else {
             datum = getBackingStore().createTemporalDatum(code);
         }
-        put(key, datum);
+        put(key, datum, TemporalDatum.class);
         return datum;
     }
 
@@ -465,13 +465,13 @@ public synchronized TemporalDatum createTemporalDatum(final String code) throws
     public synchronized GeodeticDatum createGeodeticDatum(final String code) throws FactoryException {
         final GeodeticDatum datum;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, GeodeticDatum.class);
         if (cached instanceof GeodeticDatum geodeticDatum) {
             datum = geodeticDatum;
         } else {
             datum = getBackingStore().createGeodeticDatum(code);
         }
-        put(key, datum);
+        put(key, datum, GeodeticDatum.class);
         return datum;
     }
 
@@ -484,13 +484,13 @@ public synchronized GeodeticDatum createGeodeticDatum(final String code) throws
     public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryException {
         final Ellipsoid ellipsoid;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, Ellipsoid.class);
         if (cached instanceof Ellipsoid ellipsoid1) {
             ellipsoid = ellipsoid1;
         } else {
             ellipsoid = getBackingStore().createEllipsoid(code);
         }
-        put(key, ellipsoid);
+        put(key, ellipsoid, Ellipsoid.class);
         return ellipsoid;
     }
 
@@ -503,13 +503,13 @@ public synchronized Ellipsoid createEllipsoid(final String code) throws FactoryE
     public synchronized PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
         final PrimeMeridian meridian;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, PrimeMeridian.class);
         if (cached instanceof PrimeMeridian primeMeridian) {
             meridian = primeMeridian;
         } else {
             meridian = getBackingStore().createPrimeMeridian(code);
         }
-        put(key, meridian);
+        put(key, meridian, PrimeMeridian.class);
         return meridian;
     }
 
@@ -522,13 +522,13 @@ public synchronized PrimeMeridian createPrimeMeridian(final String code) throws
     public synchronized Extent createExtent(final String code) throws FactoryException {
         final Extent extent;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, Extent.class);
         if (cached instanceof Extent extent1) {
             extent = extent1;
         } else {
             extent = getBackingStore().createExtent(code);
         }
-        put(key, extent);
+        put(key, extent, Extent.class);
         return extent;
     }
 
@@ -541,13 +541,13 @@ public synchronized Extent createExtent(final String code) throws FactoryExcepti
     public synchronized CoordinateSystem createCoordinateSystem(final String code) throws FactoryException {
         final CoordinateSystem cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CoordinateSystem.class);
         if (cached instanceof CoordinateSystem system) {
             cs = system;
         } else {
             cs = getBackingStore().createCoordinateSystem(code);
         }
-        put(key, cs);
+        put(key, cs, CoordinateSystem.class);
         return cs;
     }
 
@@ -560,13 +560,13 @@ public synchronized CoordinateSystem createCoordinateSystem(final String code) t
     public synchronized CartesianCS createCartesianCS(final String code) throws FactoryException {
         final CartesianCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CartesianCS.class);
         if (cached instanceof CartesianCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createCartesianCS(code);
         }
-        put(key, cs);
+        put(key, cs, CartesianCS.class);
         return cs;
     }
 
@@ -579,13 +579,13 @@ public synchronized CartesianCS createCartesianCS(final String code) throws Fact
     public synchronized PolarCS createPolarCS(final String code) throws FactoryException {
         final PolarCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, PolarCS.class);
         if (cached instanceof PolarCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createPolarCS(code);
         }
-        put(key, cs);
+        put(key, cs, PolarCS.class);
         return cs;
     }
 
@@ -598,13 +598,13 @@ public synchronized PolarCS createPolarCS(final String code) throws FactoryExcep
     public synchronized CylindricalCS createCylindricalCS(final String code) throws FactoryException {
         final CylindricalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CylindricalCS.class);
         if (cached instanceof CylindricalCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createCylindricalCS(code);
         }
-        put(key, cs);
+        put(key, cs, CylindricalCS.class);
         return cs;
     }
 
@@ -617,13 +617,13 @@ public synchronized CylindricalCS createCylindricalCS(final String code) throws
     public synchronized SphericalCS createSphericalCS(final String code) throws FactoryException {
         final SphericalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, SphericalCS.class);
         if (cached instanceof SphericalCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createSphericalCS(code);
         }
-        put(key, cs);
+        put(key, cs, SphericalCS.class);
         return cs;
     }
 
@@ -636,13 +636,13 @@ public synchronized SphericalCS createSphericalCS(final String code) throws Fact
     public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws FactoryException {
         final EllipsoidalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, EllipsoidalCS.class);
         if (cached instanceof EllipsoidalCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createEllipsoidalCS(code);
         }
-        put(key, cs);
+        put(key, cs, EllipsoidalCS.class);
         return cs;
     }
 
@@ -655,13 +655,13 @@ public synchronized EllipsoidalCS createEllipsoidalCS(final String code) throws
     public synchronized VerticalCS createVerticalCS(final String code) throws FactoryException {
         final VerticalCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, VerticalCS.class);
         if (cached instanceof VerticalCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createVerticalCS(code);
         }
-        put(key, cs);
+        put(key, cs, VerticalCS.class);
         return cs;
     }
 
@@ -674,13 +674,13 @@ public synchronized VerticalCS createVerticalCS(final String code) throws Factor
     public synchronized TimeCS createTimeCS(final String code) throws FactoryException {
         final TimeCS cs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, TimeCS.class);
         if (cached instanceof TimeCS cS) {
             cs = cS;
         } else {
             cs = getBackingStore().createTimeCS(code);
         }
-        put(key, cs);
+        put(key, cs, TimeCS.class);
         return cs;
     }
 
@@ -693,13 +693,13 @@ public synchronized TimeCS createTimeCS(final String code) throws FactoryExcepti
     public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String code) throws FactoryException {
         final CoordinateSystemAxis axis;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CoordinateSystemAxis.class);
         if (cached instanceof CoordinateSystemAxis systemAxis) {
             axis = systemAxis;
         } else {
             axis = getBackingStore().createCoordinateSystemAxis(code);
         }
-        put(key, axis);
+        put(key, axis, CoordinateSystemAxis.class);
         return axis;
     }
 
@@ -712,13 +712,13 @@ public synchronized CoordinateSystemAxis createCoordinateSystemAxis(final String
     public synchronized Unit<?> createUnit(final String code) throws FactoryException {
         final Unit<?> unit;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, Unit.class);
         if (cached instanceof Unit unit1) {
             unit = unit1;
         } else {
             unit = getBackingStore().createUnit(code);
         }
-        put(key, unit);
+        put(key, unit, Unit.class);
         return unit;
     }
 
@@ -732,13 +732,13 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
             throws FactoryException {
         final CoordinateReferenceSystem crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CoordinateReferenceSystem.class);
         if (cached instanceof CoordinateReferenceSystem system) {
             crs = system;
         } else {
             crs = getBackingStore().createCoordinateReferenceSystem(code);
         }
-        put(key, crs);
+        put(key, crs, CoordinateReferenceSystem.class);
         return crs;
     }
 
@@ -751,13 +751,13 @@ public synchronized CoordinateReferenceSystem createCoordinateReferenceSystem(fi
     public synchronized CompoundCRS createCompoundCRS(final String code) throws FactoryException {
         final CompoundCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CompoundCRS.class);
         if (cached instanceof CompoundCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createCompoundCRS(code);
         }
-        put(key, crs);
+        put(key, crs, CompoundCRS.class);
         return crs;
     }
 
@@ -770,13 +770,13 @@ public synchronized CompoundCRS createCompoundCRS(final String code) throws Fact
     public synchronized DerivedCRS createDerivedCRS(final String code) throws FactoryException {
         final DerivedCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, DerivedCRS.class);
         if (cached instanceof DerivedCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createDerivedCRS(code);
         }
-        put(key, crs);
+        put(key, crs, DerivedCRS.class);
         return crs;
     }
 
@@ -789,13 +789,13 @@ public synchronized DerivedCRS createDerivedCRS(final String code) throws Factor
     public synchronized EngineeringCRS createEngineeringCRS(final String code) throws FactoryException {
         final EngineeringCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, EngineeringCRS.class);
         if (cached instanceof EngineeringCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createEngineeringCRS(code);
         }
-        put(key, crs);
+        put(key, crs, EngineeringCRS.class);
         return crs;
     }
 
@@ -808,13 +808,13 @@ public synchronized EngineeringCRS createEngineeringCRS(final String code) throw
     public synchronized GeographicCRS createGeographicCRS(final String code) throws FactoryException {
         final GeographicCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, GeographicCRS.class);
         if (cached instanceof GeographicCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createGeographicCRS(code);
         }
-        put(key, crs);
+        put(key, crs, GeographicCRS.class);
         return crs;
     }
 
@@ -827,13 +827,13 @@ public synchronized GeographicCRS createGeographicCRS(final String code) throws
     public synchronized GeocentricCRS createGeocentricCRS(final String code) throws FactoryException {
         final GeocentricCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, GeocentricCRS.class);
         if (cached instanceof GeocentricCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createGeocentricCRS(code);
         }
-        put(key, crs);
+        put(key, crs, GeocentricCRS.class);
         return crs;
     }
 
@@ -846,13 +846,13 @@ public synchronized GeocentricCRS createGeocentricCRS(final String code) throws
     public synchronized ImageCRS createImageCRS(final String code) throws FactoryException {
         final ImageCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, ImageCRS.class);
         if (cached instanceof ImageCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createImageCRS(code);
         }
-        put(key, crs);
+        put(key, crs, ImageCRS.class);
         return crs;
     }
 
@@ -865,13 +865,13 @@ public synchronized ImageCRS createImageCRS(final String code) throws FactoryExc
     public synchronized ProjectedCRS createProjectedCRS(final String code) throws FactoryException {
         final ProjectedCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, ProjectedCRS.class);
         if (cached instanceof ProjectedCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createProjectedCRS(code);
         }
-        put(key, crs);
+        put(key, crs, ProjectedCRS.class);
         return crs;
     }
 
@@ -884,13 +884,13 @@ public synchronized ProjectedCRS createProjectedCRS(final String code) throws Fa
     public synchronized TemporalCRS createTemporalCRS(final String code) throws FactoryException {
         final TemporalCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, TemporalCRS.class);
         if (cached instanceof TemporalCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createTemporalCRS(code);
         }
-        put(key, crs);
+        put(key, crs, TemporalCRS.class);
         return crs;
     }
 
@@ -903,13 +903,13 @@ public synchronized TemporalCRS createTemporalCRS(final String code) throws Fact
     public synchronized VerticalCRS createVerticalCRS(final String code) throws FactoryException {
         final VerticalCRS crs;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, VerticalCRS.class);
         if (cached instanceof VerticalCRS rS) {
             crs = rS;
         } else {
             crs = getBackingStore().createVerticalCRS(code);
         }
-        put(key, crs);
+        put(key, crs, VerticalCRS.class);
         return crs;
     }
 
@@ -923,13 +923,13 @@ public synchronized VerticalCRS createVerticalCRS(final String code) throws Fact
     public synchronized ParameterDescriptor createParameterDescriptor(final String code) throws FactoryException {
         final ParameterDescriptor parameter;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, ParameterDescriptor.class);
         if (cached instanceof ParameterDescriptor descriptor) {
             parameter = descriptor;
         } else {
             parameter = getBackingStore().createParameterDescriptor(code);
         }
-        put(key, parameter);
+        put(key, parameter, ParameterDescriptor.class);
         return parameter;
     }
 
@@ -943,13 +943,13 @@ public synchronized ParameterDescriptor createParameterDescriptor(final String c
     public synchronized OperationMethod createOperationMethod(final String code) throws FactoryException {
         final OperationMethod method;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, OperationMethod.class);
         if (cached instanceof OperationMethod operationMethod) {
             method = operationMethod;
         } else {
             method = getBackingStore().createOperationMethod(code);
         }
-        put(key, method);
+        put(key, method, OperationMethod.class);
         return method;
     }
 
@@ -963,13 +963,13 @@ public synchronized OperationMethod createOperationMethod(final String code) thr
     public synchronized CoordinateOperation createCoordinateOperation(final String code) throws FactoryException {
         final CoordinateOperation operation;
         final String key = trimAuthority(code);
-        final Object cached = get(key);
+        final Object cached = get(key, CoordinateOperation.class);
         if (cached instanceof CoordinateOperation coordinateOperation) {
             operation = coordinateOperation;
         } else {
             operation = getBackingStore().createCoordinateOperation(code);
         }
-        put(key, operation);
+        put(key, operation, CoordinateOperation.class);
         return operation;
     }
 
@@ -984,7 +984,7 @@ public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystem
             final String sourceCRS, final String targetCRS) throws FactoryException {
         final Set<CoordinateOperation> operations;
         final CodePair key = new CodePair(trimAuthority(sourceCRS), trimAuthority(targetCRS));
-        final Object cached = get(key);
+        final Object cached = get(key, Set.class);
         if (cached instanceof Set) {
             @SuppressWarnings("unchecked")
             Set<CoordinateOperation> cast = (Set<CoordinateOperation>) cached;
@@ -993,7 +993,7 @@ public synchronized Set<CoordinateOperation> createFromCoordinateReferenceSystem
             operations = Collections.unmodifiableSet(
                     getBackingStore().createFromCoordinateReferenceSystemCodes(sourceCRS, targetCRS));
         }
-        put(key, operations);
+        put(key, operations, Set.class);
         return operations;
     }
 
@@ -1097,9 +1097,25 @@ public String findIdentifier(final IdentifiedObject object) throws FactoryExcept
             if (candidate != null) {
                 return getIdentifier(candidate);
             }
-            // We don't rely on super-class implementation, because we want to
-            // take advantage of the method overriden by AllAuthoritiesFactory.
-            return finder.findIdentifier(object);
+            // Full scans are the most expensive lookups, remember their outcome across restarts
+            final PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+            final String namespace = cache != null ? getPersistentCacheNamespace() : null;
+            final String digest = namespace != null ? PersistentReferencingCache.digest(object) : null;
+            if (digest == null) {
+                // We don't rely on super-class implementation, because we want to
+                // take advantage of the method overriden by AllAuthoritiesFactory.
+                return finder.findIdentifier(object);
+            }
+            final String key = namespace + ":identifier:" + isFullScanAllowed() + ':' + digest;
+            final Object cached = cache.get(key);
+            String identifier = cached instanceof String ? (String) cached : null;
+            if (identifier == null) {
+                identifier = finder.findIdentifier(object);
+                if (identifier != null) {
+                    cache.put(key, identifier);
+                }
+            }
+            return identifier;
         }
     }
 
@@ -1119,18 +1135,51 @@ public synchronized void dispose() throws FactoryException {
         super.dispose();
     }
 
+    /**
+     * Returns the namespace under which the objects created by this factory are stored in the
+     * {@linkplain PersistentReferencingCache persistent cache}, or {@code null} if they should not be persisted. The
+     * default implementation returns {@code null}. Subclasses can override this method if the objects they create only
+     * change with the GeoTools version, the namespace must then identify the backing store content.
+     *
+     * @return The namespace of this factory in the persistent cache, or {@code null}.
+     * @since 36.0
+     */
+    protected String getPersistentCacheNamespace() {
+        return null;
+    }
+
+    /**
+     * Returns the persistent cache key for the specified pool key and requested type, or {@code null} if objects are
+     * not persisted. Unlike the pool, the persistent cache is not updated when the same code is requested as a
+     * different type, so the type is part of the key.
+     */
+    private String getPersistentKey(final Object key, final Class<?> type) {
+        final String namespace = getPersistentCacheNamespace();
+        return namespace != null ? namespace + ':' + type.getSimpleName() + ':' + key : null;
+    }
+
     /**
      * Returns an object from the pool for the specified code. If the object was retained as a {@linkplain Reference
-     * weak reference}, the {@link Reference#get referent} is returned.
+     * weak reference}, the {@link Reference#get referent} is returned. If the object is not in the pool, it is looked
+     * up in the {@linkplain PersistentReferencingCache persistent cache}, if enabled.
      *
      * @todo Consider logging a message here to the finer or finest level.
      */
-    private Object get(final Object key) {
+    private Object get(final Object key, final Class<?> type) {
         assert Thread.holdsLock(this);
         Object object = pool.get(key);
         if (object instanceof Reference<?> reference) {
             object = reference.get();
         }
+        if (!type.isInstance(object)) {
+            final String persistentKey = getPersistentKey(key, type);
+            if (persistentKey != null) {
+                final PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+                if (cache != null) {
+                    object = cache.get(persistentKey);
+                }
+            }
+        }
         return object;
     }
 
@@ -1140,9 +1189,17 @@ private Object get(final Object key) {
      * strong reference (if applicable) and 2) Alters the linked hash set order, so that this object is declared as the
      * last one used.
      */
-    private void put(final Object key, final Object object) {
+    private void put(final Object key, final Object object, final Class<?> type) {
         assert Thread.holdsLock(this);
         pool.put(key, object);
+        final String persistentKey = getPersistentKey(key, type);
+        if (persistentKey != null) {
+            final PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+            if (cache != null) {
+                // no-op if already persisted
+                cache.put(persistentKey, object);
+            }
+        }
         int toReplace = pool.size() - maxStrongReferences;
         if (toReplace > 0) {
             for (final Iterator<Map.Entry<Object, Object>> it = pool.entrySet().iterator(); it.hasNext(); ) {
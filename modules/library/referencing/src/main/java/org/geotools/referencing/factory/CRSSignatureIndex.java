@@ -0,0 +1,344 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.parameter.GeneralParameterValue;
+import org.geotools.api.parameter.ParameterValue;
+import org.geotools.api.referencing.AuthorityFactory;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CompoundCRS;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeocentricCRS;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.crs.SingleCRS;
+import org.geotools.api.referencing.crs.VerticalCRS;
+import org.geotools.api.referencing.cs.CoordinateSystem;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.GeodeticDatum;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import org.geotools.api.util.InternationalString;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.projection.MapProjection;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+import si.uom.NonSI;
+import si.uom.SI;
+
+/**
+ * An index from a normalized signature of coordinate reference systems to the authority codes of the ones having it,
+ * used by {@link IdentifiedObjectFinder} implementations to avoid scanning all the authority codes.
+ *
+ * <p>The signature is built from the properties compared by {@link CRS#equalsIgnoreMetadata}: the kind of CRS, the
+ * ellipsoid axis lengths and the prime meridian of the datum, the map projection and its parameters and the absolute
+ * directions of the axes. Numbers are rounded, and the axis order is ignored, so that two CRS equal ignoring metadata
+ * always have the same signature. A CRS whose signature is not in the index can thus be reported as unknown without
+ * looking at any candidate. This does not hold when a {@linkplain Hints#COMPARISON_TOLERANCE comparison tolerance} is
+ * set, in which case the candidates from the index are returned if any, and the caller should fall back on a scan
+ * otherwise.
+ *
+ * <p>The index is built once per authority factory by creating all its coordinate reference systems, which takes as
+ * long as a single full scan, and is persisted in the {@linkplain PersistentReferencingCache persistent cache}, if
+ * enabled.
+ *
+ * @since 36.0
+ */
+public final class CRSSignatureIndex implements Serializable {
+
+    private static final long serialVersionUID = -4521683497146632754L;
+
+    static final Logger LOGGER = Logging.getLogger(CRSSignatureIndex.class);
+
+    /** Number of significant digits kept for the numbers in the signatures. */
+    private static final MathContext PRECISION = new MathContext(10);
+
+    /** The indexes returned by {@link #getInstance}, weak keys not to keep the factories from being collected */
+    private static final Map<CRSAuthorityFactory, Holder> INSTANCES = new WeakHashMap<>();
+
+    /** The authority codes for each signature. */
+    private final Map<String, Set<String>> codes;
+
+    private CRSSignatureIndex(Map<String, Set<String>> codes) {
+        this.codes = codes;
+    }
+
+    /**
+     * Builds the index of all the coordinate reference systems of the specified factory.
+     *
+     * @param factory The factory to index.
+     * @return The index of the factory coordinate reference systems.
+     * @throws FactoryException if the authority codes can not be listed.
+     */
+    public static CRSSignatureIndex build(CRSAuthorityFactory factory) throws FactoryException {
+        Map<String, Set<String>> codes = new HashMap<>();
+        for (String code : factory.getAuthorityCodes(CoordinateReferenceSystem.class)) {
+            final String signature;
+            try {
+                signature = getSignature(factory.createCoordinateReferenceSystem(code));
+            } catch (FactoryException | RuntimeException e) {
+                // skipped by scans as well
+                LOGGER.log(Level.FINEST, "Could not create '" + code + "':" + e);
+                continue;
+            }
+            // objects without signature can not be equal to one having it, no need to keep them
+            if (signature != null) {
+                codes.computeIfAbsent(signature, k -> new LinkedHashSet<>()).add(code);
+            }
+        }
+        return new CRSSignatureIndex(codes);
+    }
+
+    /**
+     * Returns the index of the coordinate reference systems of the specified factory. The index is looked up in memory,
+     * then in the {@linkplain PersistentReferencingCache persistent cache}, and is otherwise built if {@code build} is
+     * {@code true}.
+     *
+     * @param namespace A name identifying the content of the factory across restarts.
+     * @param factory The factory to index.
+     * @param build Whether the index should be built if not available yet.
+     * @return The index, or {@code null} if not available and {@code build} is {@code false}.
+     * @throws FactoryException if the index could not be built.
+     */
+    public static CRSSignatureIndex getInstance(String namespace, CRSAuthorityFactory factory, boolean build)
+            throws FactoryException {
+        final Holder holder;
+        synchronized (INSTANCES) {
+            holder = INSTANCES.computeIfAbsent(factory, f -> new Holder());
+        }
+        // builds the index of each factory at most once, without blocking the lookups on other factories
+        synchronized (holder) {
+            CRSSignatureIndex index = holder.index;
+            if (index != null) {
+                return index;
+            }
+            final String key = namespace + ":signatures";
+            final PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+            if (cache != null && cache.get(key) instanceof CRSSignatureIndex persisted) {
+                index = persisted;
+            } else if (build) {
+                long start = System.currentTimeMillis();
+                index = build(factory);
+                LOGGER.fine(() -> "Built the signature index of " + namespace + " in "
+                        + (System.currentTimeMillis() - start) + "ms");
+                if (cache != null) {
+                    cache.put(key, index);
+                }
+            } else {
+                return null;
+            }
+            holder.index = index;
+            return index;
+        }
+    }
+
+    /** Forgets the index of the specified factory, if any. */
+    static void dispose(CRSAuthorityFactory factory) {
+        synchronized (INSTANCES) {
+            INSTANCES.remove(factory);
+        }
+    }
+
+    /**
+     * Returns the codes of the coordinate reference systems that may be equal, ignoring metadata, to the specified one,
+     * or {@code null} if the index can not tell. The returned set is empty if the object is known not to be in the
+     * factory.
+     *
+     * @param object The object looked up.
+     * @return The candidate codes, or {@code null} if the object should be looked up by other means.
+     */
+    public Set<String> getCandidates(IdentifiedObject object) {
+        final String signature = getSignature(object);
+        if (signature == null) {
+            return null;
+        }
+        final Set<String> candidates = codes.get(signature);
+        if (candidates == null && !isExact()) {
+            return null;
+        }
+        return candidates != null ? Collections.unmodifiableSet(candidates) : Collections.emptySet();
+    }
+
+    /**
+     * Returns the codes to scan when looking up the specified object in all the authority codes. These are the
+     * {@linkplain #getCandidates candidates} if they are exhaustive, otherwise all the codes, starting with the
+     * candidates if any.
+     *
+     * @param object The object looked up.
+     * @param codes All the authority codes.
+     * @return The codes to scan.
+     */
+    public Set<String> getScanCandidates(IdentifiedObject object, Set<String> codes) {
+        final Set<String> candidates = getCandidates(object);
+        if (candidates == null) {
+            return codes;
+        }
+        if (isExact()) {
+            return candidates;
+        }
+        final Set<String> result = new LinkedHashSet<>(candidates);
+        result.addAll(codes);
+        return result;
+    }
+
+    /** Returns the number of distinct signatures in this index. */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Returns a namespace identifying the content of the specified factory, made of its class and of the
+     * {@linkplain Citation#getEdition edition} of its authority, to be used with {@link #getInstance}.
+     *
+     * @param factory The indexed factory.
+     * @return The factory namespace.
+     */
+    public static String getNamespace(AuthorityFactory factory) {
+        final Citation authority = factory.getAuthority();
+        final InternationalString edition = authority != null ? authority.getEdition() : null;
+        return factory.getClass().getName() + '[' + edition + ']';
+    }
+
+    /**
+     * Returns {@code true} if objects are compared without {@linkplain Hints#COMPARISON_TOLERANCE tolerance}. In this
+     * case two objects with different signatures can not be equal, and the candidates of an index are exhaustive.
+     */
+    public static boolean isExact() {
+        final Object tolerance = Hints.getSystemDefault(Hints.COMPARISON_TOLERANCE);
+        return !(tolerance instanceof Number) || ((Number) tolerance).doubleValue() == 0;
+    }
+
+    /**
+     * Returns the signature of the specified object, or {@code null} if it is not a coordinate reference system this
+     * index can handle.
+     *
+     * @param object The object to sign.
+     * @return The object signature, or {@code null}.
+     */
+    public static String getSignature(IdentifiedObject object) {
+        final StringBuilder buffer = new StringBuilder();
+        return appendSignature(buffer, object) ? buffer.toString() : null;
+    }
+
+    private static boolean appendSignature(StringBuilder buffer, IdentifiedObject object) {
+        if (object instanceof CompoundCRS compound) {
+            buffer.append("Compound(");
+            for (CoordinateReferenceSystem component : compound.getCoordinateReferenceSystems()) {
+                if (!appendSignature(buffer, component)) {
+                    return false;
+                }
+                buffer.append(';');
+            }
+            buffer.append(')');
+            return true;
+        }
+        final SingleCRS crs;
+        if (object instanceof ProjectedCRS projected) {
+            final MapProjection projection = CRS.getMapProjection(projected);
+            if (projection == null) {
+                return false;
+            }
+            buffer.append("Projected[").append(projection.getClass().getName());
+            final List<String> parameters = new ArrayList<>();
+            for (GeneralParameterValue value : projection.getParameterValues().values()) {
+                if (value instanceof ParameterValue<?> parameter && parameter.getValue() instanceof Number) {
+                    parameters.add(value.getDescriptor().getName().getCode() + '=' + round(parameter.doubleValue()));
+                }
+            }
+            Collections.sort(parameters);
+            buffer.append(parameters).append(']');
+            crs = projected;
+        } else if (object instanceof GeographicCRS geographic) {
+            buffer.append("Geographic");
+            crs = geographic;
+        } else if (object instanceof GeocentricCRS geocentric) {
+            buffer.append("Geocentric");
+            crs = geocentric;
+        } else if (object instanceof VerticalCRS vertical) {
+            buffer.append("Vertical");
+            crs = vertical;
+        } else {
+            return false;
+        }
+        if (!appendDatum(buffer, crs.getDatum())) {
+            return false;
+        }
+        appendAxes(buffer, crs.getCoordinateSystem());
+        return true;
+    }
+
+    private static boolean appendDatum(StringBuilder buffer, Datum datum) {
+        if (datum instanceof GeodeticDatum geodetic) {
+            final Ellipsoid ellipsoid = geodetic.getEllipsoid();
+            final PrimeMeridian meridian = geodetic.getPrimeMeridian();
+            if (ellipsoid == null || meridian == null) {
+                return false;
+            }
+            final double a = ellipsoid.getAxisUnit().getConverterTo(SI.METRE).convert(ellipsoid.getSemiMajorAxis());
+            final double b = ellipsoid.getAxisUnit().getConverterTo(SI.METRE).convert(ellipsoid.getSemiMinorAxis());
+            final double greenwich = meridian.getAngularUnit()
+                    .getConverterTo(NonSI.DEGREE_ANGLE)
+                    .convert(meridian.getGreenwichLongitude());
+            buffer.append("[a=")
+                    .append(round(a))
+                    .append(",b=")
+                    .append(round(b))
+                    .append(",pm=")
+                    .append(round(greenwich))
+                    .append(']');
+        }
+        return datum != null;
+    }
+
+    /** Appends the sorted absolute directions of the axes, which are not affected by axis order and orientation. */
+    private static void appendAxes(StringBuilder buffer, CoordinateSystem cs) {
+        final List<String> directions = new ArrayList<>();
+        for (int i = 0; i < cs.getDimension(); i++) {
+            directions.add(cs.getAxis(i).getDirection().absolute().name());
+        }
+        Collections.sort(directions);
+        buffer.append(directions);
+    }
+
+    private static String round(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return String.valueOf(value);
+        }
+        return new BigDecimal(value).round(PRECISION).stripTrailingZeros().toPlainString();
+    }
+
+    /** The index of a factory, once available. */
+    private static final class Holder {
+        CRSSignatureIndex index;
+    }
+}
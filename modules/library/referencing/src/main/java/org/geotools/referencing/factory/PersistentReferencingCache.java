@@ -0,0 +1,379 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.referencing.wkt.Formattable;
+import org.geotools.referencing.wkt.UnformattableObjectException;
+import org.geotools.util.factory.GeoTools;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A cache of referencing objects persisted on disk, allowing to reuse the objects decoded from an authority database,
+ * the identifiers found for them and the coordinate operations between them after a restart of the Java virtual
+ * machine.
+ *
+ * <p>The entries are serialized and appended to a single file in the cache directory. When the cache is opened only
+ * the keys are read, each object is then read and deserialized the first time it is requested. The file is bound to
+ * the GeoTools version that wrote it through its name and header, different versions sharing the directory use
+ * different files. It is not able to detect changes in the authority database itself, the directory should be cleared
+ * when the database is updated.
+ *
+ * <p>The default instance is configured with the {@link Hints#CRS_CACHE_DIRECTORY} hint, and is used by the
+ * {@linkplain BufferedAuthorityFactory#getPersistentCacheNamespace authority factories opting in} and by the
+ * {@linkplain org.geotools.referencing.operation.BufferedCoordinateOperationFactory buffered coordinate operation
+ * factory}. Several processes can share the same directory, the entries written by the others are seen on the next
+ * restart.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 36.0
+ */
+public final class PersistentReferencingCache {
+
+    static final Logger LOGGER = Logging.getLogger(PersistentReferencingCache.class);
+
+    /** The prefix of the name of the files holding the cache entries, followed by the GeoTools version. */
+    public static final String FILENAME_PREFIX = "referencing-";
+
+    /** The extension of the files holding the cache entries. */
+    public static final String FILENAME_EXTENSION = ".cache";
+
+    /** Magic number at the beginning of the file. */
+    private static final int MAGIC = 0x47544352;
+
+    /** Version of the file layout. */
+    private static final int FORMAT = 1;
+
+    /**
+     * Limits the deserialization to the classes that can be found in referencing objects and coordinate operations: the
+     * GeoTools and units of measure classes, the base and collection classes, big numbers for the unit converters, URI
+     * for the metadata on line resources, and the Java2D affine transform extended by the GeoTools one.
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter("org.geotools.**;"
+            + "javax.measure.**;tech.units.**;si.uom.**;systems.uom.**;"
+            + "java.lang.*;java.util.*;java.math.*;java.net.URI;java.awt.geom.*;!*");
+
+    /** The caches opened by {@link #getDefault}, a {@code null} value marks a directory that could not be used. */
+    private static final Map<File, PersistentReferencingCache> INSTANCES = new HashMap<>();
+
+    /** The file holding the entries. */
+    private final File file;
+
+    /** The header of the file, binding it to this GeoTools version. */
+    private final byte[] header;
+
+    /** The position and length of the serialized value for each key. */
+    private final Map<String, Entry> index = new HashMap<>();
+
+    /** The channel used to read and write the entries. */
+    private FileChannel channel;
+
+    /**
+     * Opens the cache stored in the specified directory, creating it if needed.
+     *
+     * @param directory The cache directory.
+     * @throws IOException if the directory or the cache file can not be created or read.
+     */
+    public PersistentReferencingCache(File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create the referencing cache directory " + directory);
+        }
+        this.file = new File(directory, FILENAME_PREFIX + GeoTools.getVersion() + FILENAME_EXTENSION);
+        this.header = createHeader();
+        this.channel = open(file);
+        try {
+            boolean valid;
+            try (FileLock lock = channel.lock()) {
+                valid = channel.size() == 0 || hasHeader();
+                if (valid) {
+                    long end = channel.size() == 0 ? 0 : scan();
+                    if (end == 0) {
+                        channel.write(ByteBuffer.wrap(header), 0);
+                    } else if (end < channel.size()) {
+                        // a partially written entry left by a crash, not indexed by any process, as entries are
+                        // appended under the file lock and read with positional reads, no mapping, it can be dropped
+                        channel.truncate(end);
+                    }
+                }
+            }
+            if (!valid) {
+                // not a cache file, replace it without touching the contents other processes might be reading
+                index.clear();
+                replace();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel open(File file) throws IOException {
+        return FileChannel.open(
+                file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /** Atomically replaces the cache file with an empty one, and switches the channel to it. */
+    private void replace() throws IOException {
+        Path tmp = Files.createTempFile(file.getParentFile().toPath(), FILENAME_PREFIX, ".tmp");
+        try {
+            Files.write(tmp, header);
+            Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        channel.close();
+        channel = open(file);
+    }
+
+    /**
+     * Returns the cache configured by the {@link Hints#CRS_CACHE_DIRECTORY} default hint, or {@code null} if the hint
+     * is not set or the cache can not be opened.
+     */
+    public static PersistentReferencingCache getDefault() {
+        Object hint = Hints.getSystemDefault(Hints.CRS_CACHE_DIRECTORY);
+        if (hint == null) {
+            return null;
+        }
+        File directory = hint instanceof File f ? f : new File(hint.toString());
+        synchronized (INSTANCES) {
+            if (INSTANCES.containsKey(directory)) {
+                return INSTANCES.get(directory);
+            }
+            PersistentReferencingCache cache = null;
+            try {
+                cache = new PersistentReferencingCache(directory);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not open the referencing cache in " + directory, e);
+            }
+            INSTANCES.put(directory, cache);
+            return cache;
+        }
+    }
+
+    /**
+     * Returns a digest of the WKT representation of the specified object, suitable to be used in a cache key, or
+     * {@code null} if the object can not be formatted as WKT.
+     */
+    public static String digest(IdentifiedObject object) {
+        if (!(object instanceof Formattable formattable)) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(formattable.toWKT(0, false).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (UnformattableObjectException e) {
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in all Java platforms
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] createHeader() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeUTF(GeoTools.getVersion().toString());
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Checks if the file starts with the header of this GeoTools version. */
+    private boolean hasHeader() throws IOException {
+        if (channel.size() < header.length) {
+            return false;
+        }
+        ByteBuffer existing = ByteBuffer.allocate(header.length);
+        while (existing.hasRemaining()) {
+            if (channel.read(existing, existing.position()) < 0) {
+                return false;
+            }
+        }
+        return existing.flip().equals(ByteBuffer.wrap(header));
+    }
+
+    /**
+     * Reads the keys of the entries following the header, skipping their values, and returns the position after the
+     * last complete entry.
+     */
+    private long scan() throws IOException {
+        long size = channel.size();
+        long position = header.length;
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(channel.position(position)), 65536));
+        while (position + 8 <= size) {
+            int keyLength = in.readInt();
+            int valueLength = in.readInt();
+            long valuePosition = position + 8 + keyLength;
+            if (keyLength <= 0 || valueLength < 0 || valuePosition + valueLength > size) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            in.readFully(key);
+            in.skipNBytes(valueLength);
+            // later entries win, the same key might have been written by different processes
+            index.put(new String(key, StandardCharsets.UTF_8), new Entry(valuePosition, valueLength));
+            position = valuePosition + valueLength;
+        }
+        // the stream is not closed, as it would close the channel
+        return position;
+    }
+
+    /** Returns the file holding the cache entries. */
+    public File getFile() {
+        return file;
+    }
+
+    /** Returns the number of entries in the cache. */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /** Returns {@code true} if the cache has an entry for the specified key. */
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Returns the object stored for the specified key, or {@code null} if none. Entries that can not be read back, for
+     * example because the classes changed, are logged and reported as missing.
+     */
+    @SuppressWarnings("BanSerializableRead")
+    public Object get(String key) {
+        ByteBuffer bytes;
+        synchronized (this) {
+            Entry entry = index.get(key);
+            if (entry == null || channel == null) {
+                return null;
+            }
+            bytes = ByteBuffer.allocate(entry.length);
+            try {
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, entry.position + bytes.position()) < 0) {
+                        // the file was replaced or truncated under us, treat as a miss
+                        return null;
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not read the referencing cache " + file, e);
+                return null;
+            }
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.array()))) {
+            in.setObjectInputFilter(FILTER);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Could not read the referencing cache entry " + key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the specified object, unless an entry already exists for the key. Objects that can not be serialized are
+     * silently skipped.
+     */
+    public void put(String key, Object value) {
+        if (contains(key)) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not serialize the referencing cache entry " + key, e);
+            return;
+        }
+        ByteBuffer entry = ByteBuffer.allocate(8 + keyBytes.length + bytes.size());
+        entry.putInt(keyBytes.length).putInt(bytes.size()).put(keyBytes).put(bytes.toByteArray());
+        entry.flip();
+        synchronized (this) {
+            if (channel == null || index.containsKey(key)) {
+                return;
+            }
+            try (FileLock lock = channel.lock()) {
+                long position = channel.size();
+                while (entry.hasRemaining()) {
+                    position += channel.write(entry, position);
+                }
+                index.put(key, new Entry(position - bytes.size(), bytes.size()));
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not write the referencing cache entry " + key, e);
+            }
+        }
+    }
+
+    /** Closes the cache file. The entries are not available anymore after this method call. */
+    public synchronized void close() throws IOException {
+        index.clear();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        synchronized (INSTANCES) {
+            INSTANCES.values().remove(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PersistentReferencingCache[" + file + "]";
+    }
+
+    /** The location of a serialized value in the file. */
+    private static final class Entry {
+
+        final long position;
+
+        final int length;
+
+        Entry(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
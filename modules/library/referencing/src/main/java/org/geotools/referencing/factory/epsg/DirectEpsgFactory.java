@@ -127,6 +127,7 @@
 import org.geotools.referencing.datum.DefaultGeodeticDatum;
 import org.geotools.referencing.factory.AbstractAuthorityFactory;
 import org.geotools.referencing.factory.BufferedAuthorityFactory;
+import org.geotools.referencing.factory.CRSSignatureIndex;
 import org.geotools.referencing.factory.DirectAuthorityFactory;
 import org.geotools.referencing.factory.IdentifiedObjectFinder;
 import org.geotools.referencing.factory.OrderedAxisAuthorityFactory;
@@ -3114,6 +3115,14 @@ private final class Finder extends IdentifiedObjectFinder {
          */
         @Override
         protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws FactoryException {
+            if (object instanceof CoordinateReferenceSystem) {
+                // the index is built at the cost of a single full scan, only if allowed
+                final CRSSignatureIndex index = getSignatureIndex(isFullScanAllowed());
+                final Set<String> candidates = index != null ? index.getCandidates(object) : null;
+                if (candidates != null) {
+                    return candidates;
+                }
+            }
             String select = "COORD_REF_SYS_CODE";
             String from = "[Coordinate Reference System]";
             String where, code;
@@ -3194,6 +3203,23 @@ protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws Fa
             return result;
         }
 
+        /**
+         * Returns the codes of the coordinate reference systems with the same signature, if the index says they are
+         * the only ones that can match, or all the codes otherwise.
+         */
+        @Override
+        protected Set<String> getCodeCandidates(final IdentifiedObject object) throws FactoryException {
+            if (object instanceof CoordinateReferenceSystem) {
+                return getSignatureIndex(true).getScanCandidates(object, super.getCodeCandidates(object));
+            }
+            return super.getCodeCandidates(object);
+        }
+
+        private CRSSignatureIndex getSignatureIndex(boolean build) throws FactoryException {
+            final DirectEpsgFactory factory = DirectEpsgFactory.this;
+            return CRSSignatureIndex.getInstance(CRSSignatureIndex.getNamespace(factory), factory, build);
+        }
+
         private Identifier identifySubObject(AbstractAuthorityFactory factory, IdentifiedObject dependency)
                 throws FactoryException {
             IdentifiedObjectFinder identifiedObjectFinder = factory.getIdentifiedObjectFinder(dependency.getClass());
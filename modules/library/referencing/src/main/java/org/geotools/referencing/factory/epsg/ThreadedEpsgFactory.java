@@ -409,6 +409,16 @@ protected void disposeBackingStore() {
         }
     }
 
+    /**
+     * Persists the objects decoded from the database when the data source is looked up by name, which is the case of
+     * the embedded databases. The objects are not persisted when an explicit {@link DataSource} has been provided, as
+     * it can not be identified across restarts.
+     */
+    @Override
+    protected String getPersistentCacheNamespace() {
+        return dynamicDataSource ? getClass().getName() + '[' + datasourceName + ']' : null;
+    }
+
     @Override
     public synchronized void dispose() throws FactoryException {
         super.dispose();
@@ -25,6 +25,7 @@
 import org.geotools.api.referencing.operation.OperationMethod;
 import org.geotools.api.referencing.operation.OperationNotFoundException;
 import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.PersistentReferencingCache;
 import org.geotools.util.SoftValueHashMap;
 import org.geotools.util.Utilities;
 import org.geotools.util.factory.BufferedFactory;
@@ -39,6 +40,9 @@
  * {@code BufferedCoordinateOperationFactory} should be automatically registered and returned by
  * {@link ReferencingFactoryFinder} in default Geotools configuration.
  *
+ * <p>When the {@link Hints#CRS_CACHE_DIRECTORY} hint is set, the operations are also stored in the
+ * {@linkplain PersistentReferencingCache persistent cache}, so that they can be reused after a restart.
+ *
  * @since 2.3
  * @version $Id$
  * @author Simone Giannecchini
@@ -224,12 +228,52 @@ public CoordinateOperation createOperation(
         final CRSPair key = new CRSPair(sourceCRS, targetCRS);
         CoordinateOperation op = pool.get(key);
         if (op == null) {
-            op = getBackingFactory().createOperation(sourceCRS, targetCRS);
+            final PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+            final String persistentKey = cache != null ? getPersistentKey(sourceCRS, targetCRS) : null;
+            if (persistentKey != null) {
+                final Object cached = cache.get(persistentKey);
+                if (cached instanceof CoordinateOperation operation && isFor(operation, sourceCRS, targetCRS)) {
+                    op = operation;
+                }
+            }
+            if (op == null) {
+                op = getBackingFactory().createOperation(sourceCRS, targetCRS);
+                if (persistentKey != null && isFor(op, sourceCRS, targetCRS)) {
+                    cache.put(persistentKey, op);
+                }
+            }
             pool.put(key, op);
         }
         return op;
     }
 
+    /**
+     * Returns the key of the operation between the specified CRS in the {@linkplain PersistentReferencingCache
+     * persistent cache}, or {@code null} if one of them can not be formatted as WKT. As for the in memory pool, the key
+     * depends on the hints of this factory.
+     */
+    private String getPersistentKey(
+            final CoordinateReferenceSystem sourceCRS, final CoordinateReferenceSystem targetCRS) {
+        final String source = PersistentReferencingCache.digest(sourceCRS);
+        final String target = PersistentReferencingCache.digest(targetCRS);
+        if (source == null || target == null) {
+            return null;
+        }
+        return "operation:" + getBackingFactory().getClass().getName() + '['
+                + getImplementationHints().get(Hints.LENIENT_DATUM_SHIFT) + "]:" + source + ':' + target;
+    }
+
+    /**
+     * Checks the operation source and target are the specified CRS, including their metadata, as the WKT used in the
+     * persistent key does not hold all of them.
+     */
+    private static boolean isFor(
+            final CoordinateOperation op,
+            final CoordinateReferenceSystem sourceCRS,
+            final CoordinateReferenceSystem targetCRS) {
+        return Utilities.equals(op.getSourceCRS(), sourceCRS) && Utilities.equals(op.getTargetCRS(), targetCRS);
+    }
+
     /**
      * Returns all available operations for conversion or transformation between two coordinate reference systems. The
      * operation creation is delegated to the {@linkplain CoordinateOperationFactory coordinate operation factory}
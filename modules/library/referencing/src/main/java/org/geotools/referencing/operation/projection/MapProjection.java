@@ -37,6 +37,7 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -812,6 +813,81 @@ protected abstract Point2D inverseTransformNormalized(double x, double y, final
     protected abstract Point2D transformNormalized(double lambda, double phi, final Point2D ptDst)
             throws ProjectionException;
 
+    /**
+     * Transforms in place a sequence of (<var>x</var>,<var>y</var>) coordinates, with the same conventions than
+     * {@link #inverseTransformNormalized(double, double, Point2D)}. This method is invoked by the bulk
+     * {@code transform} methods of the inverse projection. The default implementation invokes
+     * {@code inverseTransformNormalized} for each point, reusing the same {@link Point2D}. Subclasses can override it
+     * with a loop performing the computation inline.
+     *
+     * @param ordinates The coordinates to transform, as (<var>x</var>,<var>y</var>) pairs.
+     * @param offset The index of the first ordinate to transform.
+     * @param numPts The number of points to transform.
+     * @throws ProjectionException if a point can't be transformed. Every point is transformed anyway, and the ones
+     *     that can't be are set to {@link Double#NaN}. If more than one point can't be transformed, then this
+     *     exception may be about an arbitrary point.
+     * @since 36.0
+     */
+    protected void inverseTransformNormalized(final double[] ordinates, final int offset, final int numPts)
+            throws ProjectionException {
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            try {
+                final Point2D result = inverseTransformNormalized(ordinates[i], ordinates[i + 1], point);
+                ordinates[i] = result.getX();
+                ordinates[i + 1] = result.getY();
+            } catch (ProjectionException exception) {
+                ordinates[i] = Double.NaN;
+                ordinates[i + 1] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /**
+     * Transforms in place a sequence of (<var>&lambda;</var>,<var>&phi;</var>) coordinates, with the same conventions
+     * than {@link #transformNormalized(double, double, Point2D)}. This method is invoked by the bulk {@code transform}
+     * methods. The default implementation invokes {@code transformNormalized} for each point, reusing the same
+     * {@link Point2D}. Subclasses can override it with a loop performing the computation inline.
+     *
+     * @param ordinates The coordinates to transform, as (<var>&lambda;</var>,<var>&phi;</var>) pairs in radians.
+     * @param offset The index of the first ordinate to transform.
+     * @param numPts The number of points to transform.
+     * @throws ProjectionException if a point can't be transformed. Every point is transformed anyway, and the ones
+     *     that can't be are set to {@link Double#NaN}. If more than one point can't be transformed, then this
+     *     exception may be about an arbitrary point.
+     * @since 36.0
+     */
+    protected void transformNormalized(final double[] ordinates, final int offset, final int numPts)
+            throws ProjectionException {
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        final int end = offset + 2 * numPts;
+        for (int i = offset; i < end; i += 2) {
+            try {
+                final Point2D result = transformNormalized(ordinates[i], ordinates[i + 1], point);
+                ordinates[i] = result.getX();
+                ordinates[i + 1] = result.getY();
+            } catch (ProjectionException exception) {
+                ordinates[i] = Double.NaN;
+                ordinates[i + 1] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
     /**
      * Transforms the specified {@code ptSrc} and stores the result in {@code ptDst}.
      *
@@ -868,35 +944,48 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
     @Override
     public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
+        if (numPts <= 0) {
+            return;
+        }
         /*
-         * Vérifie s'il faudra parcourir le tableau en sens inverse.
-         * Ce sera le cas si les tableaux source et destination se
-         * chevauchent et que la destination est après la source.
+         * Copies the coordinates in the destination array (System.arraycopy takes care of the
+         * overlapping case), then transforms them in place, in three passes: normalization,
+         * projection on the unit ellipse and denormalization. The source is kept only for the
+         * assertions.
          */
-        final boolean reverse = srcPts == dstPts && srcOff < dstOff && srcOff + 2 * numPts > dstOff;
-        if (reverse) {
-            srcOff += 2 * numPts;
-            dstOff += 2 * numPts;
+        final int length = 2 * numPts;
+        double[] source = null;
+        assert (source = Arrays.copyOfRange(srcPts, srcOff, srcOff + length)) != null;
+        if (srcPts != dstPts || srcOff != dstOff) {
+            System.arraycopy(srcPts, srcOff, dstPts, dstOff, length);
         }
-        final Point2D.Double point = new Point2D.Double();
-        ProjectionException firstException = null;
-        while (--numPts >= 0) {
-            try {
-                point.x = srcPts[srcOff++];
-                point.y = srcPts[srcOff++];
-                transform(point, point);
-                dstPts[dstOff++] = point.x;
-                dstPts[dstOff++] = point.y;
-            } catch (ProjectionException exception) {
-                dstPts[dstOff++] = Double.NaN;
-                dstPts[dstOff++] = Double.NaN;
-                if (firstException == null) {
-                    firstException = exception;
-                }
+        final int end = dstOff + length;
+        boolean verify = verifyCoordinateRanges();
+        for (int i = dstOff; i < end; i += 2) {
+            final double x = dstPts[i];
+            final double y = dstPts[i + 1];
+            if (verify && verifyGeographicRanges(this, x, y)) {
+                warningLogged();
+                verify = false;
             }
-            if (reverse) {
-                srcOff -= 4;
-                dstOff -= 4;
+            // See transform(Point2D, Point2D) about the longitude rolling.
+            dstPts[i] = centralMeridian != 0 ? rollLongitude(toRadians(x) - centralMeridian) : toRadians(x);
+            dstPts[i + 1] = toRadians(y);
+        }
+        ProjectionException firstException = null;
+        try {
+            transformNormalized(dstPts, dstOff, numPts);
+        } catch (ProjectionException exception) {
+            firstException = exception;
+        }
+        for (int i = dstOff; i < end; i += 2) {
+            dstPts[i] = globalScale * dstPts[i] + falseEasting;
+            dstPts[i + 1] = globalScale * dstPts[i + 1] + falseNorthing;
+        }
+        if (source != null && invertible) {
+            final ProjectionException exception = checkReciprocal(source, dstPts, dstOff, numPts, true);
+            if (firstException == null) {
+                firstException = exception;
             }
         }
         if (firstException != null) {
@@ -915,37 +1004,89 @@ public final void transform(final double[] srcPts, int srcOff, final double[] ds
     @Override
     public final void transform(final float[] srcPts, int srcOff, final float[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
+        transformFloats(srcPts, srcOff, dstPts, dstOff, numPts, this);
+    }
+
+    /**
+     * Transforms {@code float} coordinates with the {@code double} version of the {@code transform} method, through a
+     * temporary buffer, for reducing rounding errors.
+     */
+    private static void transformFloats(
+            final float[] srcPts, int srcOff, final float[] dstPts, int dstOff, int numPts, final MathTransform2D mt)
+            throws ProjectionException {
+        if (numPts <= 0) {
+            return;
+        }
         final boolean reverse = srcPts == dstPts && srcOff < dstOff && srcOff + 2 * numPts > dstOff;
         if (reverse) {
-            srcOff += 2 * numPts;
-            dstOff += 2 * numPts;
+            // Moves the source where the results will go, so that the chunks can be transformed in place.
+            System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+            srcOff = dstOff;
         }
-        final Point2D.Double point = new Point2D.Double();
+        final double[] buffer = new double[2 * Math.min(numPts, 512)];
         ProjectionException firstException = null;
-        while (--numPts >= 0) {
+        while (numPts > 0) {
+            final int count = Math.min(numPts, buffer.length / 2);
+            final int length = 2 * count;
+            for (int i = 0; i < length; i++) {
+                buffer[i] = srcPts[srcOff++];
+            }
             try {
-                point.x = srcPts[srcOff++];
-                point.y = srcPts[srcOff++];
-                transform(point, point);
-                dstPts[dstOff++] = (float) point.x;
-                dstPts[dstOff++] = (float) point.y;
+                mt.transform(buffer, 0, buffer, 0, count);
             } catch (ProjectionException exception) {
-                dstPts[dstOff++] = Float.NaN;
-                dstPts[dstOff++] = Float.NaN;
                 if (firstException == null) {
                     firstException = exception;
                 }
+            } catch (TransformException exception) {
+                if (firstException == null) {
+                    firstException = new ProjectionException(exception);
+                }
             }
-            if (reverse) {
-                srcOff -= 4;
-                dstOff -= 4;
+            for (int i = 0; i < length; i++) {
+                dstPts[dstOff++] = (float) buffer[i];
             }
+            numPts -= count;
         }
         if (firstException != null) {
             throw firstException;
         }
     }
 
+    /**
+     * Checks the reciprocal of every transformed point, as {@link #checkReciprocal(Point2D, Point2D, boolean)} does for
+     * a single point. The points failing the check are set to {@link Double#NaN}. This method is invoked during
+     * assertions only.
+     *
+     * @return The exception about the first point failing the check, or {@code null} if none.
+     */
+    private ProjectionException checkReciprocal(
+            final double[] source,
+            final double[] target,
+            final int targetOff,
+            final int numPts,
+            final boolean inverse) {
+        ProjectionException firstException = null;
+        for (int i = 0; i < numPts; i++) {
+            final int t = targetOff + 2 * i;
+            if (Double.isNaN(target[t]) || Double.isNaN(target[t + 1])) {
+                continue;
+            }
+            try {
+                checkReciprocal(
+                        new Point2D.Double(target[t], target[t + 1]),
+                        new Point2D.Double(source[2 * i], source[2 * i + 1]),
+                        inverse);
+            } catch (ProjectionException exception) {
+                target[t] = Double.NaN;
+                target[t + 1] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
     /**
      * Inverse of a map projection. Will be created by {@link MapProjection#inverse()} only when first required.
      * Implementation of {@code transform(...)} methods are mostly identical to {@code MapProjection.transform(...)},
@@ -1019,35 +1160,43 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
         @Override
         public final void transform(final double[] src, int srcOffset, final double[] dest, int dstOffset, int numPts)
                 throws TransformException {
-            /*
-             * Vérifie s'il faudra parcourir le tableau en sens inverse.
-             * Ce sera le cas si les tableaux source et destination se
-             * chevauchent et que la destination est après la source.
-             */
-            final boolean reverse = src == dest && srcOffset < dstOffset && srcOffset + 2 * numPts > dstOffset;
-            if (reverse) {
-                srcOffset += 2 * numPts;
-                dstOffset += 2 * numPts;
+            if (numPts <= 0) {
+                return;
+            }
+            // Same three passes approach than MapProjection.transform(double[], ...)
+            final int length = 2 * numPts;
+            double[] source = null;
+            assert (source = Arrays.copyOfRange(src, srcOffset, srcOffset + length)) != null;
+            if (src != dest || srcOffset != dstOffset) {
+                System.arraycopy(src, srcOffset, dest, dstOffset, length);
+            }
+            final int end = dstOffset + length;
+            for (int i = dstOffset; i < end; i += 2) {
+                dest[i] = (dest[i] - falseEasting) / globalScale;
+                dest[i + 1] = (dest[i + 1] - falseNorthing) / globalScale;
             }
-            final Point2D.Double point = new Point2D.Double();
             ProjectionException firstException = null;
-            while (--numPts >= 0) {
-                try {
-                    point.x = src[srcOffset++];
-                    point.y = src[srcOffset++];
-                    transform(point, point);
-                    dest[dstOffset++] = point.x;
-                    dest[dstOffset++] = point.y;
-                } catch (ProjectionException exception) {
-                    dest[dstOffset++] = Double.NaN;
-                    dest[dstOffset++] = Double.NaN;
-                    if (firstException == null) {
-                        firstException = exception;
-                    }
+            try {
+                inverseTransformNormalized(dest, dstOffset, numPts);
+            } catch (ProjectionException exception) {
+                firstException = exception;
+            }
+            boolean verify = verifyCoordinateRanges();
+            for (int i = dstOffset; i < end; i += 2) {
+                // See transform(Point2D, Point2D) about the longitude rolling.
+                final double x = toDegrees(centralMeridian != 0 ? rollLongitude(dest[i] + centralMeridian) : dest[i]);
+                final double y = toDegrees(dest[i + 1]);
+                dest[i] = x;
+                dest[i + 1] = y;
+                if (verify && verifyGeographicRanges(this, x, y)) {
+                    warningLogged();
+                    verify = false;
                 }
-                if (reverse) {
-                    srcOffset -= 4;
-                    dstOffset -= 4;
+            }
+            if (source != null) {
+                final ProjectionException exception = checkReciprocal(source, dest, dstOffset, numPts, false);
+                if (firstException == null) {
+                    firstException = exception;
                 }
             }
             if (firstException != null) {
@@ -1066,35 +1215,7 @@ public final void transform(final double[] src, int srcOffset, final double[] de
         @Override
         public final void transform(final float[] src, int srcOffset, final float[] dest, int dstOffset, int numPts)
                 throws ProjectionException {
-            final boolean reverse = src == dest && srcOffset < dstOffset && srcOffset + 2 * numPts > dstOffset;
-            if (reverse) {
-                srcOffset += 2 * numPts;
-                dstOffset += 2 * numPts;
-            }
-            final Point2D.Double point = new Point2D.Double();
-            ProjectionException firstException = null;
-            while (--numPts >= 0) {
-                try {
-                    point.x = src[srcOffset++];
-                    point.y = src[srcOffset++];
-                    transform(point, point);
-                    dest[dstOffset++] = (float) point.x;
-                    dest[dstOffset++] = (float) point.y;
-                } catch (ProjectionException exception) {
-                    dest[dstOffset++] = Float.NaN;
-                    dest[dstOffset++] = Float.NaN;
-                    if (firstException == null) {
-                        firstException = exception;
-                    }
-                }
-                if (reverse) {
-                    srcOffset -= 4;
-                    dstOffset -= 4;
-                }
-            }
-            if (firstException != null) {
-                throw firstException;
-            }
+            transformFloats(src, srcOffset, dest, dstOffset, numPts, this);
         }
 
         /** Returns the original map projection. */
@@ -166,6 +166,51 @@ protected Point2D inverseTransformNormalized(double x, double y, final Point2D p
         return new Point2D.Double(x, y);
     }
 
+    /** Transforms in place a sequence of (<var>&lambda;</var>,<var>&phi;</var>) coordinates. */
+    @Override
+    protected void transformNormalized(final double[] ordinates, final int offset, final int numPts)
+            throws ProjectionException {
+        ProjectionException firstException = null;
+        final int end = offset + 2 * numPts;
+        for (int i = offset + 1; i < end; i += 2) {
+            final double y = ordinates[i];
+            if (abs(y) > PI / 2 - EPSILON) {
+                ordinates[i - 1] = Double.NaN;
+                ordinates[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = new ProjectionException(y);
+                }
+            } else {
+                ordinates[i] = -log(tsfn(y, sin(y)));
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /** Transforms in place a sequence of (<var>x</var>,<var>y</var>) coordinates. */
+    @Override
+    protected void inverseTransformNormalized(final double[] ordinates, final int offset, final int numPts)
+            throws ProjectionException {
+        ProjectionException firstException = null;
+        final int end = offset + 2 * numPts;
+        for (int i = offset + 1; i < end; i += 2) {
+            try {
+                ordinates[i] = cphi2(exp(-ordinates[i]));
+            } catch (ProjectionException exception) {
+                ordinates[i - 1] = Double.NaN;
+                ordinates[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
     /**
      * Provides the transform equations for the spherical case of the Mercator projection.
      *
@@ -229,6 +274,38 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
             }
             return new Point2D.Double(x, y);
         }
+
+        /** Transforms in place a sequence of (<var>&lambda;</var>,<var>&phi;</var>) coordinates on a sphere. */
+        @Override
+        protected void transformNormalized(final double[] ordinates, final int offset, final int numPts)
+                throws ProjectionException {
+            ProjectionException firstException = null;
+            final int end = offset + 2 * numPts;
+            for (int i = offset + 1; i < end; i += 2) {
+                final double y = ordinates[i];
+                if (abs(y) > PI / 2 - EPSILON) {
+                    ordinates[i - 1] = Double.NaN;
+                    ordinates[i] = Double.NaN;
+                    if (firstException == null) {
+                        firstException = new ProjectionException(y);
+                    }
+                } else {
+                    ordinates[i] = log(tan(PI / 4 + 0.5 * y));
+                }
+            }
+            if (firstException != null) {
+                throw firstException;
+            }
+        }
+
+        /** Transforms in place a sequence of (<var>x</var>,<var>y</var>) coordinates on a sphere. */
+        @Override
+        protected void inverseTransformNormalized(final double[] ordinates, final int offset, final int numPts) {
+            final int end = offset + 2 * numPts;
+            for (int i = offset + 1; i < end; i += 2) {
+                ordinates[i] = PI / 2 - 2.0 * atan(exp(-ordinates[i]));
+            }
+        }
     }
 
     /** Returns a hash value for this projection. */
@@ -0,0 +1,415 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.Matrix;
+import org.geotools.api.referencing.operation.NoninvertibleTransformException;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.operation.LinearTransform;
+import org.geotools.referencing.wkt.Formatter;
+import org.geotools.util.SoftValueHashMap;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Approximates a {@link MathTransform2D} in a rectangular domain by bilinear interpolation over a regular grid of
+ * exactly transformed points. Meant for rendering, where the full transform from the data to the screen can be
+ * approximated within a fraction of a pixel, at a fraction of the cost of the exact transform.
+ *
+ * <p>The grid density is first estimated with the same recursive subdivision used by {@link WarpBuilder}, then the
+ * grid is checked against the exact transform at the center and at the middle of the edges of every cell, doubling the
+ * density until the error measured there is below the requested one. If that cannot be achieved with a reasonably
+ * sized grid, or the transform fails anywhere in the domain, no approximation is built and {@link #create} returns the
+ * original transform.
+ *
+ * <p>The measured error is an estimate, not a bound: it is exact for transforms whose second derivatives are constant
+ * within each cell, while transforms changing faster than the grid density, e.g. close to a singularity, can exceed it
+ * elsewhere in the cells.
+ *
+ * <p>Points outside of the domain are transformed with the exact transform. The {@linkplain #inverse inverse} is the
+ * exact inverse of the original transform.
+ *
+ * @since 36.0
+ */
+public class InterpolatedGridTransform2D extends AbstractMathTransform implements MathTransform2D {
+
+    static final Logger LOGGER = Logging.getLogger(InterpolatedGridTransform2D.class);
+
+    /** The maximum number of cells in the grid, beyond it the approximation is not worth it */
+    static final int MAX_CELLS = 256 * 256;
+
+    /**
+     * The recently built grids, the same transform and domain are often requested over and over (e.g., tiles). A grid
+     * can take up to 1MB, only a few are strongly referenced, the others can be reclaimed when memory is short.
+     */
+    static final SoftValueHashMap<GridKey, MathTransform2D> CACHE = new SoftValueHashMap<>(8);
+
+    final MathTransform2D transform;
+
+    final double minX, minY, maxX, maxY;
+
+    final int rows, cols;
+
+    /** Grid cells per unit along the two axes */
+    final double scaleX, scaleY;
+
+    /** The transformed grid nodes, as (x,y) pairs, row by row */
+    final double[] nodes;
+
+    /** The estimated maximum error, measured when checking the grid */
+    final double estimatedError;
+
+    InterpolatedGridTransform2D(
+            MathTransform2D transform, Rectangle2D domain, int rows, int cols, double[] nodes, double estimatedError) {
+        this.transform = transform;
+        this.minX = domain.getMinX();
+        this.minY = domain.getMinY();
+        this.maxX = domain.getMaxX();
+        this.maxY = domain.getMaxY();
+        this.rows = rows;
+        this.cols = cols;
+        this.scaleX = cols / (maxX - minX);
+        this.scaleY = rows / (maxY - minY);
+        this.nodes = nodes;
+        this.estimatedError = estimatedError;
+    }
+
+    /**
+     * Returns a transform approximating the given one inside the domain, in source units, with an estimated error
+     * below the given one, in target units. Returns the original transform if it is affine, or if it cannot be
+     * approximated.
+     *
+     * @param transform The transform to approximate
+     * @param domain The area where the transform will be approximated
+     * @param maxEstimatedError The maximum distance between the exact and approximated points, as estimated over the
+     *     grid cells, e.g., a fraction of pixel if the transform goes to the screen
+     */
+    public static MathTransform2D create(MathTransform2D transform, Rectangle2D domain, double maxEstimatedError) {
+        if (transform instanceof LinearTransform
+                || transform instanceof InterpolatedGridTransform2D
+                || maxEstimatedError <= 0
+                || !(domain.getWidth() > 0 && domain.getHeight() > 0)) {
+            return transform;
+        }
+
+        GridKey key = new GridKey(transform, domain, maxEstimatedError);
+        synchronized (CACHE) {
+            MathTransform2D cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        MathTransform2D result = build(transform, domain, maxEstimatedError);
+        synchronized (CACHE) {
+            CACHE.put(key, result);
+        }
+        return result;
+    }
+
+    private static MathTransform2D build(MathTransform2D transform, Rectangle2D domain, double maxEstimatedError) {
+        int[] rowCols = new WarpBuilder(maxEstimatedError)
+                .getRowColsSplit(
+                        transform,
+                        new Rectangle2D.Double(domain.getX(), domain.getY(), domain.getWidth(), domain.getHeight()));
+        if (rowCols == null) {
+            return transform;
+        }
+        int rows = rowCols[0];
+        int cols = rowCols[1];
+        try {
+            while (rows * cols <= MAX_CELLS) {
+                double[] nodes = transformNodes(transform, domain, rows, cols);
+                if (nodes == null) {
+                    break;
+                }
+                InterpolatedGridTransform2D grid =
+                        new InterpolatedGridTransform2D(transform, domain, rows, cols, nodes, Double.NaN);
+                double error = grid.measureError();
+                if (error < maxEstimatedError) {
+                    LOGGER.log(
+                            Level.FINE,
+                            "Approximating transform with a {0}x{1} grid, estimated error {2}",
+                            new Object[] {rows, cols, error});
+                    return new InterpolatedGridTransform2D(transform, domain, rows, cols, nodes, error);
+                }
+                rows *= 2;
+                cols *= 2;
+            }
+        } catch (TransformException e) {
+            LOGGER.log(Level.FINE, "Failed to build the interpolation grid, using the exact transform", e);
+        }
+        return transform;
+    }
+
+    /** Transforms the grid nodes, returns null if any of them cannot be transformed */
+    private static double[] transformNodes(MathTransform2D transform, Rectangle2D domain, int rows, int cols)
+            throws TransformException {
+        double[] nodes = new double[(rows + 1) * (cols + 1) * 2];
+        double dx = domain.getWidth() / cols;
+        double dy = domain.getHeight() / rows;
+        int idx = 0;
+        for (int r = 0; r <= rows; r++) {
+            // use the exact domain bounds on the last row and column, avoid rounding errors
+            double y = r == rows ? domain.getMaxY() : domain.getMinY() + r * dy;
+            for (int c = 0; c <= cols; c++) {
+                nodes[idx++] = c == cols ? domain.getMaxX() : domain.getMinX() + c * dx;
+                nodes[idx++] = y;
+            }
+        }
+        transform.transform(nodes, 0, nodes, 0, nodes.length / 2);
+        for (double n : nodes) {
+            if (!Double.isFinite(n)) {
+                return null;
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Estimates the max error measuring the distance between the exact and the interpolated points at the center and
+     * at the middle of the edges of each cell, the points where the bilinear interpolation is the furthest from the
+     * nodes. Returns infinity if the exact transform fails on any of them.
+     */
+    double measureError() throws TransformException {
+        double dx = (maxX - minX) / cols;
+        double dy = (maxY - minY) / rows;
+        // center, bottom and left edge of each cell, plus top edges of the last row and right edges of the last column
+        double[] exact = new double[(rows * cols * 3 + rows + cols) * 2];
+        int idx = 0;
+        for (int r = 0; r < rows; r++) {
+            double y = minY + r * dy;
+            for (int c = 0; c < cols; c++) {
+                double x = minX + c * dx;
+                idx = add(exact, idx, x + dx / 2, y + dy / 2);
+                idx = add(exact, idx, x + dx / 2, y);
+                idx = add(exact, idx, x, y + dy / 2);
+            }
+            idx = add(exact, idx, maxX, y + dy / 2);
+        }
+        for (int c = 0; c < cols; c++) {
+            idx = add(exact, idx, minX + c * dx + dx / 2, maxY);
+        }
+        double[] approximate = exact.clone();
+        transform.transform(exact, 0, exact, 0, exact.length / 2);
+        transform(approximate, 0, approximate, 0, approximate.length / 2);
+
+        double max = 0;
+        for (int i = 0; i < exact.length; i += 2) {
+            double distance = Math.hypot(exact[i] - approximate[i], exact[i + 1] - approximate[i + 1]);
+            if (!(distance <= max)) {
+                // NaN included
+                max = Double.isNaN(distance) ? Double.POSITIVE_INFINITY : distance;
+            }
+        }
+        return max;
+    }
+
+    private static int add(double[] ordinates, int idx, double x, double y) {
+        ordinates[idx++] = x;
+        ordinates[idx++] = y;
+        return idx;
+    }
+
+    /** The transform being approximated */
+    public MathTransform2D getTransform() {
+        return transform;
+    }
+
+    /** The area where the transform is approximated, in source units */
+    public Rectangle2D getDomain() {
+        return new Rectangle2D.Double(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /** The max distance between the exact and approximated points, as estimated when building the grid */
+    public double getEstimatedError() {
+        return estimatedError;
+    }
+
+    @Override
+    public int getSourceDimensions() {
+        return 2;
+    }
+
+    @Override
+    public int getTargetDimensions() {
+        return 2;
+    }
+
+    private boolean contains(double x, double y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /** Interpolates the point, that must be inside the domain, and stores the result in the array */
+    private void interpolate(double x, double y, double[] dst, int dstOff) {
+        double gx = (x - minX) * scaleX;
+        double gy = (y - minY) * scaleY;
+        int c = Math.min((int) gx, cols - 1);
+        int r = Math.min((int) gy, rows - 1);
+        double fx = gx - c;
+        double fy = gy - r;
+        int i00 = (r * (cols + 1) + c) * 2;
+        int i01 = i00 + (cols + 1) * 2;
+        double[] n = nodes;
+        double bx = n[i00] + fx * (n[i00 + 2] - n[i00]);
+        double by = n[i00 + 1] + fx * (n[i00 + 3] - n[i00 + 1]);
+        double tx = n[i01] + fx * (n[i01 + 2] - n[i01]);
+        double ty = n[i01 + 1] + fx * (n[i01 + 3] - n[i01 + 1]);
+        dst[dstOff] = bx + fy * (tx - bx);
+        dst[dstOff + 1] = by + fy * (ty - by);
+    }
+
+    @Override
+    public Point2D transform(Point2D ptSrc, Point2D ptDst) throws TransformException {
+        if (!contains(ptSrc.getX(), ptSrc.getY())) {
+            return transform.transform(ptSrc, ptDst);
+        }
+        double[] result = new double[2];
+        interpolate(ptSrc.getX(), ptSrc.getY(), result, 0);
+        if (ptDst == null) {
+            ptDst = new Point2D.Double();
+        }
+        ptDst.setLocation(result[0], result[1]);
+        return ptDst;
+    }
+
+    @Override
+    public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts)
+            throws TransformException {
+        if (numPts <= 0) {
+            return;
+        }
+        // copy first, then work in place, System.arraycopy takes care of overlapping ranges
+        if (srcPts != dstPts || srcOff != dstOff) {
+            System.arraycopy(srcPts, srcOff, dstPts, dstOff, numPts * 2);
+        }
+        final int end = dstOff + numPts * 2;
+        for (int i = dstOff; i < end; i += 2) {
+            double x = dstPts[i];
+            double y = dstPts[i + 1];
+            if (contains(x, y)) {
+                interpolate(x, y, dstPts, i);
+            } else {
+                transform.transform(dstPts, i, dstPts, i, 1);
+            }
+        }
+    }
+
+    @Override
+    public void transform(float[] srcPts, int srcOff, float[] dstPts, int dstOff, int numPts)
+            throws TransformException {
+        if (numPts <= 0) {
+            return;
+        }
+        if (srcPts == dstPts && srcOff < dstOff && srcOff + numPts * 2 > dstOff) {
+            System.arraycopy(srcPts, srcOff, dstPts, dstOff, numPts * 2);
+            srcOff = dstOff;
+        }
+        final double[] buffer = new double[Math.min(numPts, 512) * 2];
+        while (numPts > 0) {
+            final int count = Math.min(numPts, buffer.length / 2);
+            for (int i = 0; i < count * 2; i++) {
+                buffer[i] = srcPts[srcOff++];
+            }
+            transform(buffer, 0, buffer, 0, count);
+            for (int i = 0; i < count * 2; i++) {
+                dstPts[dstOff++] = (float) buffer[i];
+            }
+            numPts -= count;
+        }
+    }
+
+    @Override
+    public Matrix derivative(Point2D point) throws TransformException {
+        return transform.derivative(point);
+    }
+
+    /** Returns the exact inverse of the approximated transform. */
+    @Override
+    public MathTransform2D inverse() throws NoninvertibleTransformException {
+        return transform.inverse();
+    }
+
+    @Override
+    public int hashCode() {
+        return transform.hashCode() * 37 + Objects.hash(minX, minY, maxX, maxY, rows, cols);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof InterpolatedGridTransform2D)) {
+            return false;
+        }
+        InterpolatedGridTransform2D other = (InterpolatedGridTransform2D) object;
+        return rows == other.rows
+                && cols == other.cols
+                && Double.compare(minX, other.minX) == 0
+                && Double.compare(minY, other.minY) == 0
+                && Double.compare(maxX, other.maxX) == 0
+                && Double.compare(maxY, other.maxY) == 0
+                && transform.equals(other.transform);
+    }
+
+    /** Formats the approximated transform, the approximation is a runtime optimization not worth representing. */
+    @Override
+    protected String formatWKT(final Formatter formatter) {
+        formatter.append(transform);
+        return "CONCAT_MT";
+    }
+
+    /** Cache key, compares the transforms by equality */
+    static final class GridKey {
+        final MathTransform transform;
+        final double minX, minY, maxX, maxY, tolerance;
+
+        GridKey(MathTransform transform, Rectangle2D domain, double tolerance) {
+            this.transform = transform;
+            this.minX = domain.getMinX();
+            this.minY = domain.getMinY();
+            this.maxX = domain.getMaxX();
+            this.maxY = domain.getMaxY();
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GridKey)) {
+                return false;
+            }
+            GridKey other = (GridKey) obj;
+            return Double.compare(minX, other.minX) == 0
+                    && Double.compare(minY, other.minY) == 0
+                    && Double.compare(maxX, other.maxX) == 0
+                    && Double.compare(maxY, other.maxY) == 0
+                    && Double.compare(tolerance, other.tolerance) == 0
+                    && transform.equals(other.transform);
+        }
+
+        @Override
+        public int hashCode() {
+            return transform.hashCode() * 37 + Objects.hash(minX, minY, maxX, maxY, tolerance);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultEngineeringCRS;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CRSSignatureIndexTest {
+
+    static final String WGS84 = "GEOGCS[\"WGS 84\", DATUM[\"World Geodetic System 1984\", "
+            + "SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]], PRIMEM[\"Greenwich\", 0.0], "
+            + "UNIT[\"degree\", 0.017453292519943295], AXIS[\"Geodetic latitude\", NORTH], "
+            + "AXIS[\"Geodetic longitude\", EAST]]";
+
+    static final String WGS84_LON_LAT = "GEOGCS[\"GCS_WGS_1984\", DATUM[\"D_WGS_1984\", "
+            + "SPHEROID[\"WGS_1984\", 6378137.0, 298.257223563]], PRIMEM[\"Greenwich\", 0.0], "
+            + "UNIT[\"degree\", 0.017453292519943295], AXIS[\"Longitude\", EAST], AXIS[\"Latitude\", NORTH]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    PropertyAuthorityFactory factory;
+
+    @After
+    public void cleanup() {
+        if (factory != null) {
+            CRSSignatureIndex.dispose(factory);
+        }
+    }
+
+    static String utm(String name, int zone) {
+        return "PROJCS[\"" + name + "\", " + WGS84_LON_LAT + ", PROJECTION[\"Transverse_Mercator\"], "
+                + "PARAMETER[\"central_meridian\", " + (zone * 6 - 183) + "], "
+                + "PARAMETER[\"latitude_of_origin\", 0.0], PARAMETER[\"scale_factor\", 0.9996], "
+                + "PARAMETER[\"false_easting\", 500000.0], PARAMETER[\"false_northing\", 0.0], "
+                + "UNIT[\"m\", 1.0], AXIS[\"Easting\", EAST], AXIS[\"Northing\", NORTH]]";
+    }
+
+    @Test
+    public void testSignature() throws Exception {
+        String geographic = CRSSignatureIndex.getSignature(CRS.parseWKT(WGS84));
+        assertNotNull(geographic);
+        // names and axis order do not matter
+        assertEquals(geographic, CRSSignatureIndex.getSignature(CRS.parseWKT(WGS84_LON_LAT)));
+
+        String utm32 = CRSSignatureIndex.getSignature(CRS.parseWKT(utm("WGS 84 / UTM zone 32N", 32)));
+        assertEquals(utm32, CRSSignatureIndex.getSignature(CRS.parseWKT(utm("UTM_32N", 32))));
+        assertNotEquals(utm32, CRSSignatureIndex.getSignature(CRS.parseWKT(utm("UTM_33N", 33))));
+        assertNotEquals(utm32, geographic);
+
+        assertNull(CRSSignatureIndex.getSignature(DefaultEngineeringCRS.CARTESIAN_2D));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        File definitions = folder.newFile("test.properties");
+        String properties = "4326=" + WGS84 + "\n"
+                + "32632=" + utm("WGS 84 / UTM zone 32N", 32) + "\n"
+                + "32633=" + utm("WGS 84 / UTM zone 33N", 33) + "\n";
+        Files.write(definitions.toPath(), properties.getBytes(StandardCharsets.ISO_8859_1));
+        factory = new PropertyAuthorityFactory(
+                ReferencingFactoryContainer.instance(null),
+                Citations.fromName("TEST"),
+                definitions.toURI().toURL());
+
+        CRSSignatureIndex index = CRSSignatureIndex.build(factory);
+        assertEquals(3, index.size());
+        assertEquals(Set.of("4326"), index.getCandidates(CRS.parseWKT(WGS84_LON_LAT)));
+        CoordinateReferenceSystem utm33 = CRS.parseWKT(utm("UTM_33N", 33));
+        assertEquals(Set.of("32633"), index.getCandidates(utm33));
+        Set<String> codes = factory.getAuthorityCodes(CoordinateReferenceSystem.class);
+        assertEquals(Set.of("32633"), index.getScanCandidates(utm33, codes));
+        // known not to be there
+        assertTrue(index.getCandidates(CRS.parseWKT(utm("UTM_34N", 34))).isEmpty());
+        // can not tell
+        assertNull(index.getCandidates(DefaultEngineeringCRS.CARTESIAN_2D));
+
+        // the same index is returned for the same factory
+        String namespace = CRSSignatureIndex.getNamespace(factory);
+        CRSSignatureIndex instance = CRSSignatureIndex.getInstance(namespace, factory, true);
+        assertEquals(3, instance.size());
+        assertSame(instance, CRSSignatureIndex.getInstance(namespace, factory, false));
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.CoordinateOperation;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.referencing.operation.BufferedCoordinateOperationFactory;
+import org.geotools.referencing.operation.DefaultCoordinateOperationFactory;
+import org.geotools.util.factory.AbstractFactory;
+import org.geotools.util.factory.Hints;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PersistentReferencingCacheTest {
+
+    static final String UTM_32N = "PROJCS[\"WGS 84 / UTM zone 32N\", GEOGCS[\"WGS 84\", "
+            + "DATUM[\"World Geodetic System 1984\", SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]], "
+            + "PRIMEM[\"Greenwich\", 0.0], UNIT[\"degree\", 0.017453292519943295], "
+            + "AXIS[\"Geodetic longitude\", EAST], AXIS[\"Geodetic latitude\", NORTH]], "
+            + "PROJECTION[\"Transverse_Mercator\"], PARAMETER[\"central_meridian\", 9.0], "
+            + "PARAMETER[\"latitude_of_origin\", 0.0], PARAMETER[\"scale_factor\", 0.9996], "
+            + "PARAMETER[\"false_easting\", 500000.0], PARAMETER[\"false_northing\", 0.0], "
+            + "UNIT[\"m\", 1.0], AXIS[\"Easting\", EAST], AXIS[\"Northing\", NORTH], AUTHORITY[\"EPSG\",\"32632\"]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    File directory;
+
+    CoordinateReferenceSystem utm;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = folder.newFolder("cache");
+        utm = CRS.parseWKT(UTM_32N);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+        if (cache != null) {
+            cache.close();
+        }
+        Hints.removeSystemDefault(Hints.CRS_CACHE_DIRECTORY);
+    }
+
+    /** An authority factory persisting the objects it creates from a properties file */
+    static class PersistentFactory extends BufferedAuthorityFactory implements CRSAuthorityFactory {
+
+        PersistentFactory(File definitions) throws IOException {
+            super(new PropertyAuthorityFactory(
+                    ReferencingFactoryContainer.instance(null),
+                    Citations.fromName("TEST"),
+                    definitions.toURI().toURL()));
+        }
+
+        @Override
+        protected String getPersistentCacheNamespace() {
+            return "test";
+        }
+    }
+
+    /** Counts the operations created */
+    static class CountingOperationFactory extends DefaultCoordinateOperationFactory {
+
+        int count;
+
+        @Override
+        public CoordinateOperation createOperation(
+                CoordinateReferenceSystem sourceCRS, CoordinateReferenceSystem targetCRS) throws FactoryException {
+            count++;
+            return super.createOperation(sourceCRS, targetCRS);
+        }
+    }
+
+    @Test
+    public void testReopen() throws Exception {
+        CoordinateOperation operation =
+                CRS.getCoordinateOperationFactory(true).createOperation(DefaultGeographicCRS.WGS84, utm);
+        PersistentReferencingCache cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(0, cache.size());
+            cache.put("4326", DefaultGeographicCRS.WGS84);
+            cache.put("32632", utm);
+            cache.put("operation", operation);
+            // first entry wins
+            cache.put("4326", utm);
+            assertEquals(3, cache.size());
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+        } finally {
+            cache.close();
+        }
+
+        cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(3, cache.size());
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+            assertEquals(utm, cache.get("32632"));
+            assertNull(cache.get("4258"));
+
+            CoordinateOperation restored = (CoordinateOperation) cache.get("operation");
+            assertEquals(DefaultGeographicCRS.WGS84, restored.getSourceCRS());
+            assertEquals(utm, restored.getTargetCRS());
+            double[] expected = new double[2];
+            double[] actual = new double[2];
+            operation.getMathTransform().transform(new double[] {10, 45}, 0, expected, 0, 1);
+            restored.getMathTransform().transform(new double[] {10, 45}, 0, actual, 0, 1);
+            assertArrayEquals(expected, actual, 0d);
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void testPartialEntry() throws Exception {
+        PersistentReferencingCache cache = new PersistentReferencingCache(directory);
+        cache.put("4326", DefaultGeographicCRS.WGS84);
+        cache.close();
+        File file = cache.getFile();
+        long length = file.length();
+        // simulates a crash while writing an entry
+        try (OutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[] {0, 0, 0, 4, 0, 0, 1, 0, '1', '2'});
+        }
+
+        cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(length, file.length());
+            assertEquals(1, cache.size());
+            cache.put("32632", utm);
+        } finally {
+            cache.close();
+        }
+
+        cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+            assertEquals(utm, cache.get("32632"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void testOtherVersion() throws Exception {
+        byte[] contents = {0x47, 0x54, 0x43, 0x52, 0, 0, 0, 1, 0, 3, '1', '.', '0'};
+        File other = new File(directory, PersistentReferencingCache.FILENAME_PREFIX + "1.0"
+                + PersistentReferencingCache.FILENAME_EXTENSION);
+        Files.write(other.toPath(), contents);
+        PersistentReferencingCache cache = new PersistentReferencingCache(directory);
+        try {
+            assertNotEquals(other, cache.getFile());
+            assertEquals(0, cache.size());
+            cache.put("4326", DefaultGeographicCRS.WGS84);
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+        } finally {
+            cache.close();
+        }
+        // the file of the other version is left alone
+        assertArrayEquals(contents, Files.readAllBytes(other.toPath()));
+    }
+
+    @Test
+    public void testInvalidHeader() throws Exception {
+        PersistentReferencingCache cache = new PersistentReferencingCache(directory);
+        File file = cache.getFile();
+        cache.close();
+        Files.write(file.toPath(), new byte[] {0x47, 0x54, 0x43, 0x52, 0, 0, 0, 0, 0, 3, '1', '.', '0'});
+
+        cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(0, cache.size());
+            cache.put("4326", DefaultGeographicCRS.WGS84);
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+        } finally {
+            cache.close();
+        }
+
+        cache = new PersistentReferencingCache(directory);
+        try {
+            assertEquals(DefaultGeographicCRS.WGS84, cache.get("4326"));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void testAuthorityFactory() throws Exception {
+        File definitions = folder.newFile("test.properties");
+        Files.write(definitions.toPath(), ("32632=" + UTM_32N + "\n").getBytes(StandardCharsets.ISO_8859_1));
+        File empty = folder.newFile("empty.properties");
+
+        Hints.putSystemDefault(Hints.CRS_CACHE_DIRECTORY, directory);
+        BufferedAuthorityFactory factory = new PersistentFactory(definitions);
+        CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem("32632");
+        assertSame(crs, factory.createProjectedCRS("32632"));
+        PersistentReferencingCache cache = PersistentReferencingCache.getDefault();
+        assertTrue(cache.contains("test:CoordinateReferenceSystem:32632"));
+        assertTrue(cache.contains("test:ProjectedCRS:32632"));
+        assertFalse(cache.contains("test:GeographicCRS:32632"));
+
+        // as after a restart, the objects are found in the persistent cache without using the backing store
+        BufferedAuthorityFactory restarted = new PersistentFactory(empty);
+        assertEquals(crs, restarted.createCoordinateReferenceSystem("32632"));
+        assertEquals(crs, restarted.createProjectedCRS("32632"));
+        try {
+            restarted.createGeographicCRS("32632");
+            fail("Not a geographic CRS, and not in the backing store");
+        } catch (FactoryException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOperationFactory() throws Exception {
+        Hints.putSystemDefault(Hints.CRS_CACHE_DIRECTORY, directory);
+        CountingOperationFactory backing = new CountingOperationFactory();
+        BufferedCoordinateOperationFactory factory =
+                new BufferedCoordinateOperationFactory(backing, AbstractFactory.NORMAL_PRIORITY);
+        CoordinateOperation operation = factory.createOperation(DefaultGeographicCRS.WGS84, utm);
+        assertEquals(1, backing.count);
+        assertEquals(1, PersistentReferencingCache.getDefault().size());
+
+        // as after a restart, the operation is found in the persistent cache
+        CountingOperationFactory restartedBacking = new CountingOperationFactory();
+        BufferedCoordinateOperationFactory restarted =
+                new BufferedCoordinateOperationFactory(restartedBacking, AbstractFactory.NORMAL_PRIORITY);
+        CoordinateOperation restored = restarted.createOperation(DefaultGeographicCRS.WGS84, utm);
+        assertEquals(0, restartedBacking.count);
+        assertEquals(operation.getSourceCRS(), restored.getSourceCRS());
+        assertEquals(operation.getTargetCRS(), restored.getTargetCRS());
+        assertEquals(operation.getMathTransform(), restored.getMathTransform());
+    }
+
+
+    @Test
+    public void testNotSerializable() throws IOException {
+        PersistentReferencingCache cache = new PersistentReferencingCache(directory);
+        try {
+            cache.put("object", new Object());
+            assertFalse(cache.contains("object"));
+            cache.put("string", "EPSG:4326");
+            assertTrue(cache.contains("string"));
+            assertEquals("EPSG:4326", cache.get("string"));
+        } finally {
+            cache.close();
+        }
+        assertNull(cache.get("string"));
+    }
+
+    @Test
+    public void testDigest() throws Exception {
+        String digest = PersistentReferencingCache.digest(utm);
+        assertNotNull(digest);
+        assertEquals(digest, PersistentReferencingCache.digest(CRS.parseWKT(UTM_32N)));
+        assertNotEquals(digest, PersistentReferencingCache.digest(DefaultGeographicCRS.WGS84));
+    }
+}
@@ -20,6 +20,7 @@
 import static org.geotools.referencing.operation.projection.MapProjection.AbstractProvider.SEMI_MINOR;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.awt.geom.Point2D;
 import org.geotools.api.parameter.ParameterValueGroup;
@@ -122,4 +123,88 @@ public void testOrthodromicDistance() throws FactoryException {
         Point2D target2 = new Point2D.Double(src.getX(), src.getY() + 0.000000000001);
         assertEquals(1.1117412E-7, mt.orthodromicDistance(src, target2), 1E-12);
     }
+
+    private static MapProjection createProjection(String name, double centralMeridian) throws FactoryException {
+        MathTransformFactory mtFactory = ReferencingFactoryFinder.getMathTransformFactory(null);
+        final ParameterValueGroup parameters = mtFactory.getDefaultParameters(name);
+        parameters.parameter(SEMI_MAJOR.getName().getCode()).setValue(6378137.0);
+        parameters.parameter(SEMI_MINOR.getName().getCode()).setValue(6356752.314245179);
+        parameters.parameter("central_meridian").setValue(centralMeridian);
+        return (MapProjection) mtFactory.createParameterizedTransform(parameters);
+    }
+
+    /** Checks the bulk transforms give the same results as the single point ones, both ways. */
+    private static void assertBulkMatchesPointwise(MapProjection mt, double[] geographic) throws TransformException {
+        final int numPts = geographic.length / 2;
+        final double[] projected = new double[geographic.length];
+        mt.transform(geographic, 0, projected, 0, numPts);
+        final double[] back = new double[geographic.length];
+        mt.inverse().transform(projected, 0, back, 0, numPts);
+        for (int i = 0; i < numPts; i++) {
+            Point2D expected = mt.transform(new Point2D.Double(geographic[2 * i], geographic[2 * i + 1]), null);
+            assertEquals(expected.getX(), projected[2 * i], 1e-9);
+            assertEquals(expected.getY(), projected[2 * i + 1], 1e-9);
+            Point2D inverse = mt.inverse().transform(expected, null);
+            assertEquals(inverse.getX(), back[2 * i], 1e-12);
+            assertEquals(inverse.getY(), back[2 * i + 1], 1e-12);
+        }
+
+        // float version
+        final float[] floats = new float[geographic.length];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = (float) geographic[i];
+        }
+        mt.transform(floats, 0, floats, 0, numPts);
+        for (int i = 0; i < floats.length; i++) {
+            assertEquals(projected[i], floats[i], Math.abs(projected[i]) * 1e-6 + 1);
+        }
+    }
+
+    @Test
+    public void testBulkTransform() throws TransformException, FactoryException {
+        final double[] geographic = {
+            9, 45, -170, -60, 179.5, 10, 0, 0, 12.5, 80, -3, -45.5,
+        };
+        // Mercator has its own bulk implementation, both for ellipsoids and spheres
+        assertBulkMatchesPointwise(createProjection("Mercator_1SP", 0), geographic);
+        assertBulkMatchesPointwise(createGoogleMercator(), geographic);
+        // Transverse Mercator uses the default one
+        assertBulkMatchesPointwise(createProjection("Transverse_Mercator", 9), new double[] {9, 45, 10, 46, 8, -30});
+    }
+
+    @Test
+    public void testBulkTransformOverlapping() throws TransformException, FactoryException {
+        MapProjection mt = createProjection("Mercator_1SP", 10);
+        final double[] expected = new double[6];
+        mt.transform(new double[] {1, 2, 3, 4, 5, 6}, 0, expected, 0, 3);
+
+        // destination after the source
+        double[] ordinates = {1, 2, 3, 4, 5, 6, 0, 0};
+        mt.transform(ordinates, 0, ordinates, 2, 3);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], ordinates[i + 2], 1e-9);
+        }
+        // destination before the source
+        ordinates = new double[] {0, 0, 1, 2, 3, 4, 5, 6};
+        mt.transform(ordinates, 2, ordinates, 0, 3);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], ordinates[i], 1e-9);
+        }
+    }
+
+    @Test
+    public void testBulkTransformFailures() throws FactoryException {
+        MapProjection mt = createProjection("Mercator_1SP", 0);
+        final double[] ordinates = {10, 10, 10, 90, 20, 20};
+        try {
+            mt.transform(ordinates, 0, ordinates, 0, 3);
+            fail("The pole cannot be projected in Mercator");
+        } catch (TransformException e) {
+            // the failing point is NaN, the others have been projected anyway
+            assertTrue(Double.isNaN(ordinates[2]));
+            assertTrue(Double.isNaN(ordinates[3]));
+            assertTrue(ordinates[0] > 1000000);
+            assertTrue(ordinates[5] > 2000000);
+        }
+    }
 }
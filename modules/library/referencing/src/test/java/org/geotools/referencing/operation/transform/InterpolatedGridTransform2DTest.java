@@ -0,0 +1,120 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.MathTransformFactory;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterpolatedGridTransform2DTest {
+
+    /** From geographic coordinates to a 1000x1000 image showing most of Europe in Lambert Conformal */
+    MathTransform2D toScreen;
+
+    Rectangle2D domain = new Rectangle2D.Double(-10, 35, 40, 30);
+
+    @Before
+    public void setUp() throws Exception {
+        MathTransformFactory factory = ReferencingFactoryFinder.getMathTransformFactory(null);
+        ParameterValueGroup parameters = factory.getDefaultParameters("Lambert_Conformal_Conic_2SP");
+        parameters.parameter("semi_major").setValue(6378137.0);
+        parameters.parameter("semi_minor").setValue(6356752.314245179);
+        parameters.parameter("central_meridian").setValue(10);
+        parameters.parameter("latitude_of_origin").setValue(52);
+        parameters.parameter("standard_parallel_1").setValue(35);
+        parameters.parameter("standard_parallel_2").setValue(65);
+        MathTransform projection = factory.createParameterizedTransform(parameters);
+        Rectangle2D projected = CRS.transform((MathTransform2D) projection, domain);
+        AffineTransform worldToScreen = new AffineTransform(
+                1000 / projected.getWidth(),
+                0,
+                0,
+                -1000 / projected.getHeight(),
+                -projected.getMinX() * 1000 / projected.getWidth(),
+                projected.getMaxY() * 1000 / projected.getHeight());
+        toScreen = (MathTransform2D) ConcatenatedTransform.create(projection, new AffineTransform2D(worldToScreen));
+    }
+
+    @Test
+    public void testWithinTolerance() throws Exception {
+        double tolerance = 0.1;
+        MathTransform2D approximate = InterpolatedGridTransform2D.create(toScreen, domain, tolerance);
+        assertTrue(approximate instanceof InterpolatedGridTransform2D);
+        InterpolatedGridTransform2D grid = (InterpolatedGridTransform2D) approximate;
+        assertTrue(grid.getEstimatedError() < tolerance);
+
+        Random random = new Random(0);
+        int numPts = 10000;
+        double[] points = new double[numPts * 2];
+        for (int i = 0; i < numPts; i++) {
+            points[i * 2] = domain.getMinX() + random.nextDouble() * domain.getWidth();
+            points[i * 2 + 1] = domain.getMinY() + random.nextDouble() * domain.getHeight();
+        }
+        double[] exact = new double[points.length];
+        double[] approximated = new double[points.length];
+        toScreen.transform(points, 0, exact, 0, numPts);
+        approximate.transform(points, 0, approximated, 0, numPts);
+        for (int i = 0; i < numPts; i++) {
+            double distance =
+                    Math.hypot(exact[i * 2] - approximated[i * 2], exact[i * 2 + 1] - approximated[i * 2 + 1]);
+            assertTrue("Error " + distance + " at point " + i, distance < tolerance);
+        }
+    }
+
+    @Test
+    public void testOutsideDomain() throws Exception {
+        MathTransform2D approximate = InterpolatedGridTransform2D.create(toScreen, domain, 0.5);
+        // outside of the domain, the exact transform is used
+        double[] points = {-20, 40, 15, 50, 30, 70};
+        double[] exact = new double[points.length];
+        toScreen.transform(points, 0, exact, 0, 3);
+        approximate.transform(points, 0, points, 0, 3);
+        assertEquals(exact[0], points[0], 0d);
+        assertEquals(exact[1], points[1], 0d);
+        assertEquals(exact[2], points[2], 0.5);
+        assertEquals(exact[3], points[3], 0.5);
+        assertEquals(exact[4], points[4], 0d);
+        assertEquals(exact[5], points[5], 0d);
+    }
+
+    @Test
+    public void testNotApproximated() throws Exception {
+        MathTransform2D affine = new AffineTransform2D(AffineTransform.getScaleInstance(2, 3));
+        assertSame(affine, InterpolatedGridTransform2D.create(affine, domain, 0.5));
+        assertSame(toScreen, InterpolatedGridTransform2D.create(toScreen, domain, 0));
+        assertSame(toScreen, InterpolatedGridTransform2D.create(toScreen, new Rectangle2D.Double(0, 0, 0, 10), 0.5));
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        MathTransform2D approximate = InterpolatedGridTransform2D.create(toScreen, domain, 0.25);
+        assertSame(approximate, InterpolatedGridTransform2D.create(toScreen, domain, 0.25));
+        assertSame(toScreen.inverse(), approximate.inverse());
+    }
+}
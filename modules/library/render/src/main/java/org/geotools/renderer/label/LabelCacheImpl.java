@@ -34,11 +34,16 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -63,6 +68,7 @@
 import org.geotools.renderer.style.SLDStyleFactory;
 import org.geotools.renderer.style.TextStyle2D;
 import org.geotools.util.NumberRange;
+import org.geotools.util.ParallelTasks;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
@@ -113,6 +119,16 @@ public class LabelCacheImpl implements LabelCache {
     public static boolean DISABLE_LETTER_LEVEL_CONFLICT =
             Boolean.getBoolean("org.geotools.labelcache.disableLetterLevelConflict");
 
+    /**
+     * When set, rotated point and polygon labels are checked for conflicts using their rotated bounds, instead of the
+     * envelope of the rotated bounds. Labels can then be packed closer, which changes the output.
+     */
+    public static boolean ENABLE_ORIENTED_CONFLICT =
+            Boolean.getBoolean("org.geotools.labelcache.enableOrientedConflict");
+
+    /** The minimum number of labels for their layout to be computed in parallel, see {@link ParallelTasks} */
+    static final int PARALLEL_LAYOUT_THRESHOLD = 64;
+
     public enum LabelRenderingMode {
         /**
          * Always uses {@link Graphics2D#drawGlyphVector(java.awt.font.GlyphVector, float, float)} to draw the straight
@@ -545,9 +561,6 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
                     + " are layers that started rendering but have not completed,"
                     + " stop() or endLayer() must be called before end() is called");
         }
-        LabelIndex glyphs = new LabelIndex();
-        glyphs.reserveArea(reserved);
-
         // Used to check the paintLineLabel function
         int paintedLineLabels = 0;
 
@@ -562,6 +575,9 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
         displayArea.width -= 1;
         displayArea.height -= 1;
 
+        LabelIndex glyphs = new LabelIndex(displayArea);
+        glyphs.reserveArea(reserved);
+
         // prepare the geometry clipper
         clipper = new GeometryClipper(new Envelope(
                 displayArea.getMinX(), displayArea.getMaxX(), displayArea.getMinY(), displayArea.getMaxY()));
@@ -573,6 +589,7 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
             items = getActiveLabels();
         }
         LabelPainter painter = constructPainter.apply(graphics, labelRenderingMode);
+        painter.setLayouts(layoutLabels(graphics, items));
         for (LabelCacheItem labelItem : items) {
             if (stop) return;
 
@@ -584,6 +601,110 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
         LOGGER.log(Level.FINE, "REMAINING LINE LABELS : {0}", items.size() - paintedLineLabels);
     }
 
+    /**
+     * Lays out the labels in parallel, in one batch per thread, each one using its own copy of the graphics. The
+     * conflict resolution and painting still happen in order, the painter just picks up the precomputed layouts.
+     * Returns null if the labels are too few to be worth it, or the layout cannot be performed in parallel.
+     */
+    Map<LabelCacheItem, LabelPainter.Layout> layoutLabels(Graphics2D graphics, List<LabelCacheItem> items) {
+        int threads = ParallelTasks.getThreads();
+        if (items.size() < PARALLEL_LAYOUT_THRESHOLD || threads <= 1) {
+            return null;
+        }
+
+        int batchSize = (items.size() + threads - 1) / threads;
+        List<Graphics2D> copies = new ArrayList<>();
+        List<Future<Map<LabelCacheItem, LabelPainter.Layout>>> futures = new ArrayList<>();
+        // the batches started, or given up before starting, and the count of the ones not done yet
+        List<AtomicBoolean> started = new ArrayList<>();
+        CountDownLatch running = null;
+        try {
+            for (int i = 0; i < items.size(); i += batchSize) {
+                // the label splitter changes the graphics font, each thread needs its own copy
+                Graphics2D copy = (Graphics2D) graphics.create();
+                if (copy == null) {
+                    return null;
+                }
+                copies.add(copy);
+            }
+            CountDownLatch batchesRunning = running = new CountDownLatch(copies.size());
+            for (int i = 0; i < copies.size(); i++) {
+                List<LabelCacheItem> batch = items.subList(i * batchSize, Math.min(items.size(), (i + 1) * batchSize));
+                Graphics2D copy = copies.get(i);
+                AtomicBoolean start = new AtomicBoolean();
+                started.add(start);
+                futures.add(ParallelTasks.submit(() -> {
+                    if (!start.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        return layoutBatch(batch, copy);
+                    } finally {
+                        batchesRunning.countDown();
+                    }
+                }));
+            }
+            Map<LabelCacheItem, LabelPainter.Layout> layouts = new IdentityHashMap<>();
+            for (Future<Map<LabelCacheItem, LabelPainter.Layout>> future : futures) {
+                layouts.putAll(future.get());
+            }
+            return layouts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // the labels will be laid out while painting
+            LOGGER.log(Level.FINE, "Failure while laying out labels", e);
+            return null;
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+            if (running != null) {
+                // the graphics copies can be disposed only once the batches using them are done
+                for (int i = 0; i < copies.size(); i++) {
+                    if (i >= started.size() || started.get(i).compareAndSet(false, true)) {
+                        running.countDown();
+                    }
+                }
+                awaitUninterruptibly(running);
+            }
+            copies.forEach(Graphics2D::dispose);
+        }
+    }
+
+    /** Waits for the latch to count down, preserving the interrupted status of the thread */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<LabelCacheItem, LabelPainter.Layout> layoutBatch(
+            List<LabelCacheItem> batch, Graphics2D graphics) {
+        LabelSplitter splitter = new LabelSplitter();
+        Map<LabelCacheItem, LabelPainter.Layout> layouts = new IdentityHashMap<>();
+        for (LabelCacheItem item : batch) {
+            if (Thread.currentThread().isInterrupted()) {
+                // canceled
+                break;
+            }
+            try {
+                layouts.put(item, LabelPainter.layout(item, splitter, graphics));
+            } catch (Exception e) {
+                // the label will be laid out, and the failure reported, while painting
+                LOGGER.log(Level.FINEST, "Failure while laying out label", e);
+            }
+        }
+        return layouts;
+    }
+
     int paintLabel(
             Graphics2D graphics,
             Rectangle displayArea,
@@ -739,7 +860,7 @@ private boolean paintLineLabelsWithLetterConflict(
             labelDistance += textBounds.getWidth();
         }
         // min distance, if any
-        LabelIndex groupLabels = new LabelIndex();
+        LabelIndex groupLabels = new LabelIndex(displayArea);
         // Max displacement for the current label
         double labelOffset = labelItem.getMaxDisplacement();
         boolean allowOverruns = labelItem.allowOverruns();
@@ -945,7 +1066,7 @@ private boolean paintLineLabels(
         int labelDistance = labelItem.getRepeat();
         // min distance, if any
         int minDistance = labelItem.getMinGroupDistance();
-        LabelIndex groupLabels = new LabelIndex();
+        LabelIndex groupLabels = new LabelIndex(displayArea);
         // Max displacement for the current label
         double labelOffset = labelItem.getMaxDisplacement();
         boolean allowOverruns = labelItem.allowOverruns();
@@ -1418,7 +1539,7 @@ private boolean paintPointLabelInternal(
                 .getBounds2D();
         if (!(displayArea.contains(transformed) || labelItem.isPartialsEnabled())
                 || labelItem.isConflictResolutionEnabled()
-                        && glyphs.labelsWithinDistance(transformed, labelItem.getSpaceAround())) {
+                        && labelsWithinDistance(glyphs, painter, tempTransform, transformed, labelItem)) {
             return false;
         } else {
             painter.paintStraightLabel(tempTransform, point.getCoordinate());
@@ -1427,7 +1548,9 @@ private boolean paintPointLabelInternal(
                 painter.graphics.setColor(Color.RED);
                 painter.graphics.draw(transformed);
             }
-            if (labelItem.isConflictResolutionEnabled()) glyphs.addLabel(labelItem, transformed);
+            if (labelItem.isConflictResolutionEnabled()) {
+                addLabel(glyphs, painter, tempTransform, transformed, labelItem);
+            }
             return true;
         }
     }
@@ -1604,7 +1727,7 @@ private boolean paintPolygonLabelInternal(
                 .getBounds2D();
         if (!(displayArea.contains(transformed) || labelItem.isPartialsEnabled())
                 || labelItem.isConflictResolutionEnabled()
-                        && glyphs.labelsWithinDistance(transformed, labelItem.getSpaceAround())
+                        && labelsWithinDistance(glyphs, painter, tempTransform, transformed, labelItem)
                 || goodnessOfFit(painter, tempTransform, pg)
                         < painter.getLabel().getGoodnessOfFit()) {
             // try the alternate rotation if possible
@@ -1617,7 +1740,7 @@ private boolean paintPolygonLabelInternal(
                         .getBounds2D();
                 if (!(displayArea.contains(transformed) || labelItem.isPartialsEnabled())
                         || labelItem.isConflictResolutionEnabled()
-                                && glyphs.labelsWithinDistance(transformed, labelItem.getSpaceAround())
+                                && labelsWithinDistance(glyphs, painter, tempTransform, transformed, labelItem)
                         || goodnessOfFit(painter, tempTransform, pg)
                                 < painter.getLabel().getGoodnessOfFit()) {
                     textStyle.flipRotation(pg.getGeometry());
@@ -1635,11 +1758,41 @@ private boolean paintPolygonLabelInternal(
         }
         painter.paintStraightLabel(tempTransform);
         if (labelItem.isConflictResolutionEnabled()) {
-            glyphs.addLabel(labelItem, transformed);
+            addLabel(glyphs, painter, tempTransform, transformed, labelItem);
         }
         return true;
     }
 
+    /**
+     * Checks for conflicts with the labels already painted, using the envelope of the label bounds if rotated, or the
+     * actual label bounds if {@link #ENABLE_ORIENTED_CONFLICT} is set
+     */
+    private boolean labelsWithinDistance(
+            LabelIndex glyphs,
+            LabelPainter painter,
+            AffineTransform tx,
+            Rectangle2D transformed,
+            LabelCacheItem labelItem) {
+        if (ENABLE_ORIENTED_CONFLICT) {
+            return glyphs.labelsWithinDistance(painter.getFullLabelBounds(), tx, labelItem.getSpaceAround());
+        }
+        return glyphs.labelsWithinDistance(transformed, labelItem.getSpaceAround());
+    }
+
+    /** Adds the label in the index, either as its rotated bounds or their envelope */
+    private void addLabel(
+            LabelIndex glyphs,
+            LabelPainter painter,
+            AffineTransform tx,
+            Rectangle2D transformed,
+            LabelCacheItem labelItem) {
+        if (ENABLE_ORIENTED_CONFLICT) {
+            glyphs.addLabel(labelItem, painter.getFullLabelBounds(), tx);
+        } else {
+            glyphs.addLabel(labelItem, transformed);
+        }
+    }
+
     Geometry widestGeometry(Geometry geometry) {
         if (!(geometry instanceof GeometryCollection)) {
             return geometry;
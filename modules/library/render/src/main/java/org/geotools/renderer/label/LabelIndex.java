@@ -16,21 +16,68 @@
  */
 package org.geotools.renderer.label;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import org.locationtech.jts.geom.Envelope;
-import org.locationtech.jts.index.quadtree.Quadtree;
 
 /**
  * Stores label items and helps in finding the interferering ones, either by pure overlap or within a certain distance
  * from the specified bounds
  *
+ * <p>The items are stored in a uniform grid of cells covering the output area, each item being registered in all the
+ * cells its bounds touch. Bounds falling outside of the area are clamped to the border cells, so labels partially (or
+ * totally) outside of it are still handled correctly, just less efficiently.
+ *
+ * <p>Labels can also be added and checked as rotated rectangles, in which case the overlap is verified against the
+ * actual rotated boxes, instead of their axis aligned bounds, allowing rotated labels to pack closer.
+ *
  * @author Andrea Aime
  */
 public class LabelIndex {
 
-    Quadtree index = new Quadtree();
+    /** The area covered by the grid, when none is specified */
+    static final Rectangle2D DEFAULT_AREA = new Rectangle2D.Double(0, 0, 1024, 1024);
+
+    /** The minimum cell size, in pixels */
+    static final double MIN_CELL_SIZE = 16;
+
+    /** The maximum number of cells along each side of the grid */
+    static final int MAX_CELLS = 64;
+
+    final double minX;
+
+    final double minY;
+
+    final double cellSize;
+
+    final int columns;
+
+    final int rows;
+
+    /** The cells of the grid, row by row, allocated on the first insertion */
+    List<InterferenceItem>[] cells;
+
+    /** Builds an index with a grid covering a 1024x1024 area */
+    public LabelIndex() {
+        this(DEFAULT_AREA);
+    }
+
+    /**
+     * Builds an index with a grid covering the specified area, usually the output image one
+     *
+     * @since 36.0
+     */
+    public LabelIndex(Rectangle2D area) {
+        double width = Math.max(area.getWidth(), 1);
+        double height = Math.max(area.getHeight(), 1);
+        this.minX = area.getMinX();
+        this.minY = area.getMinY();
+        this.cellSize = Math.max(MIN_CELL_SIZE, Math.max(width, height) / MAX_CELLS);
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+    }
 
     /**
      * Returns true if there is any label in the index within the specified distance from the bounds. For speed reasons
@@ -41,21 +88,63 @@ public boolean labelsWithinDistance(Rectangle2D bounds, double distance) {
 
         Envelope e = toEnvelope(bounds);
         e.expandBy(distance);
-        AtomicBoolean intersectionFound = new AtomicBoolean(false);
-        index.query(e, o -> {
-            if (intersectionFound.get()) return;
-            InterferenceItem item = (InterferenceItem) o;
-            if (item.env.intersects(e)) {
-                intersectionFound.set(true);
-            }
-        });
-        return intersectionFound.get();
+        return query(e, null);
+    }
+
+    /**
+     * Returns true if there is any label in the index within the specified distance from the bounds, once transformed
+     * by the given transformation. When the transformation contains a rotation the check is performed against the
+     * rotated bounds, rather than their axis aligned envelope. The bounds are expanded by the distance before being
+     * transformed.
+     *
+     * @since 36.0
+     */
+    public boolean labelsWithinDistance(Rectangle2D bounds, AffineTransform tx, double distance) {
+        if (distance < 0) return false;
+        if (!isRotated(tx)) {
+            return labelsWithinDistance(tx.createTransformedShape(bounds).getBounds2D(), distance);
+        }
+
+        Rectangle2D expanded = new Rectangle2D.Double(
+                bounds.getMinX() - distance,
+                bounds.getMinY() - distance,
+                bounds.getWidth() + distance * 2,
+                bounds.getHeight() + distance * 2);
+        double[] box = toBox(expanded, tx);
+        return query(toEnvelope(box), box);
     }
 
     /** Adds a label into the index */
     public void addLabel(LabelCacheItem item, Rectangle2D bounds) {
         Envelope e = toEnvelope(bounds);
-        index.insert(e, new InterferenceItem(e, item));
+        insert(new InterferenceItem(e, item));
+    }
+
+    /**
+     * Adds a label into the index, the bounds being transformed by the given transformation. When the transformation
+     * contains a rotation, the rotated bounds are stored and used for the overlap checks.
+     *
+     * @since 36.0
+     */
+    public void addLabel(LabelCacheItem item, Rectangle2D bounds, AffineTransform tx) {
+        if (!isRotated(tx)) {
+            addLabel(item, tx.createTransformedShape(bounds).getBounds2D());
+            return;
+        }
+        double[] box = toBox(bounds, tx);
+        InterferenceItem interference = new InterferenceItem(toEnvelope(box), item);
+        interference.box = box;
+        insert(interference);
+    }
+
+    /** Reserve the area indicated by these Geometry. */
+    public void reserveArea(List<Rectangle2D> reserved) {
+        for (Rectangle2D area : reserved) {
+            Envelope env = toEnvelope(area);
+
+            InterferenceItem item = new InterferenceItem(env, null);
+            insert(item);
+        }
     }
 
     /** Turns the specified Java2D rectangle into a JTS envelope */
@@ -63,14 +152,92 @@ private Envelope toEnvelope(Rectangle2D bounds) {
         return new Envelope(bounds.getMinX(), bounds.getMaxX(), bounds.getMinY(), bounds.getMaxY());
     }
 
+    /** Returns the envelope of a box */
+    private static Envelope toEnvelope(double[] box) {
+        Envelope e = new Envelope();
+        for (int i = 0; i < 8; i += 2) {
+            e.expandToInclude(box[i], box[i + 1]);
+        }
+        return e;
+    }
+
+    /** Returns the four corners of the transformed bounds, in order, as x/y pairs */
+    private static double[] toBox(Rectangle2D bounds, AffineTransform tx) {
+        double[] box = toBox(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+        tx.transform(box, 0, box, 0, 4);
+        return box;
+    }
+
+    private static double[] toBox(double minX, double minY, double maxX, double maxY) {
+        return new double[] {minX, minY, maxX, minY, maxX, maxY, minX, maxY};
+    }
+
+    private static boolean isRotated(AffineTransform tx) {
+        return tx.getShearX() != 0 || tx.getShearY() != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void insert(InterferenceItem item) {
+        if (cells == null) {
+            cells = new List[columns * rows];
+        }
+        Envelope e = item.env;
+        int c1 = column(e.getMaxX());
+        int r1 = row(e.getMaxY());
+        for (int r = row(e.getMinY()); r <= r1; r++) {
+            for (int c = column(e.getMinX()); c <= c1; c++) {
+                int idx = r * columns + c;
+                List<InterferenceItem> cell = cells[idx];
+                if (cell == null) {
+                    cell = cells[idx] = new ArrayList<>(4);
+                }
+                cell.add(item);
+            }
+        }
+    }
+
+    /** Returns true if any item intersects the envelope and, if either has one, the rotated box */
+    private boolean query(Envelope e, double[] box) {
+        if (cells == null) return false;
+        int c1 = column(e.getMaxX());
+        int r1 = row(e.getMaxY());
+        for (int r = row(e.getMinY()); r <= r1; r++) {
+            for (int c = column(e.getMinX()); c <= c1; c++) {
+                List<InterferenceItem> cell = cells[r * columns + c];
+                if (cell == null) continue;
+                for (InterferenceItem item : cell) {
+                    if (item.env.intersects(e) && (box == null && item.box == null || item.intersects(e, box))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor((x - minX) / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor((y - minY) / cellSize), rows);
+    }
+
+    private static int clamp(int value, int size) {
+        return value < 0 ? 0 : value >= size ? size - 1 : value;
+    }
+
     /**
-     * Simple structure stored into the quadtree (keeping the item around helps in debugging)
+     * Simple structure stored into the grid (keeping the item around helps in debugging)
      *
      * @author Andrea Aime
      */
     static class InterferenceItem {
         Envelope env;
 
+        /** The corners of the rotated bounds, if any */
+        double[] box;
+
         LabelCacheItem item;
 
         public InterferenceItem(Envelope env, LabelCacheItem item) {
@@ -78,15 +245,36 @@ public InterferenceItem(Envelope env, LabelCacheItem item) {
             this.env = env;
             this.item = item;
         }
-    }
 
-    /** Reserve the area indicated by these Geometry. */
-    public void reserveArea(List<Rectangle2D> reserved) {
-        for (Rectangle2D area : reserved) {
-            Envelope env = toEnvelope(area);
+        /** Checks the overlap of two boxes, using their envelopes when no rotated box is available */
+        boolean intersects(Envelope otherEnv, double[] otherBox) {
+            double[] a = box != null ? box : toBox(env);
+            double[] b = otherBox != null ? otherBox : toBox(otherEnv);
+            // separating axis test, the boxes are parallelograms, two axes each are enough
+            return !separated(a, b, 0) && !separated(a, b, 2) && !separated(b, a, 0) && !separated(b, a, 2);
+        }
 
-            InterferenceItem item = new InterferenceItem(env, null);
-            index.insert(env, item);
+        private static double[] toBox(Envelope e) {
+            return LabelIndex.toBox(e.getMinX(), e.getMinY(), e.getMaxX(), e.getMaxY());
+        }
+
+        /** Checks if the normal to the edge of box a starting at the given corner separates the two boxes */
+        private static boolean separated(double[] a, double[] b, int corner) {
+            double nx = a[corner + 1] - a[corner + 3];
+            double ny = a[corner + 2] - a[corner];
+            double minA = Double.POSITIVE_INFINITY;
+            double maxA = Double.NEGATIVE_INFINITY;
+            double minB = Double.POSITIVE_INFINITY;
+            double maxB = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < 8; i += 2) {
+                double pa = a[i] * nx + a[i + 1] * ny;
+                minA = Math.min(minA, pa);
+                maxA = Math.max(maxA, pa);
+                double pb = b[i] * nx + b[i + 1] * ny;
+                minB = Math.min(minB, pb);
+                maxB = Math.max(maxB, pb);
+            }
+            return maxA < minB || maxB < minA;
         }
     }
 }
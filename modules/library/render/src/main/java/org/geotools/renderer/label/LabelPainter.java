@@ -37,7 +37,10 @@
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import javax.swing.Icon;
 import org.geotools.geometry.jts.LineStringCursor;
 import org.geotools.geometry.jts.LiteShape;
@@ -94,6 +97,9 @@ public class LabelPainter {
     /** The class in charge of splitting the labels in multiple lines/scripts/fonts */
     LabelSplitter splitter = new LabelSplitter();
 
+    /** The label layouts computed in advance, if any */
+    Map<LabelCacheItem, Layout> layouts;
+
     /** Builds a new painter */
     public LabelPainter(Graphics2D graphics, LabelRenderingMode labelRenderingMode) {
         this.graphics = graphics;
@@ -113,8 +119,31 @@ public void setLabel(LabelCacheItem labelItem) {
         labelBounds = null;
         lines = null;
 
-        // layout the label elements
-        lines = splitter.layout(labelItem, graphics);
+        // layout the label elements, unless already done in advance
+        Layout layout = layouts != null ? layouts.get(labelItem) : null;
+        if (layout == null || !layout.isValid(labelItem)) {
+            layout = layout(labelItem, splitter, graphics);
+        }
+        lines = layout.lines;
+        labelBounds = layout.bounds;
+    }
+
+    /**
+     * Sets the label layouts computed in advance with {@link #layout(LabelCacheItem, LabelSplitter, Graphics2D)}, by
+     * label item identity. They are used in place of laying out again the same labels, as long as their text style is
+     * not changed in the meantime.
+     */
+    void setLayouts(Map<LabelCacheItem, Layout> layouts) {
+        this.layouts = layouts;
+    }
+
+    /**
+     * Lays out the label elements and computes the label bounds. Does not alter the painter state, so it can be called
+     * concurrently for different labels, as long as each thread uses its own graphics.
+     */
+    static Layout layout(LabelCacheItem labelItem, LabelSplitter splitter, Graphics2D graphics) {
+        TextStyle2D textStyle = labelItem.getTextStyle();
+        List<LineInfo> lines = splitter.layout(labelItem, graphics);
 
         // compute the max line length
         double maxWidth = 0;
@@ -124,6 +153,7 @@ public void setLabel(LabelCacheItem labelItem) {
 
         // now that we know how big each line and how big is the longest,
         // we can layout the items and compute the total bounds
+        Rectangle2D labelBounds = null;
         double boundsY = 0;
         double labelY = 0;
         LineInfo previous = null;
@@ -155,13 +185,43 @@ public void setLabel(LabelCacheItem labelItem) {
             previous = info;
         }
         normalizeBounds(labelBounds);
+        return new Layout(labelItem, lines, labelBounds);
+    }
+
+    /** The lines and bounds of a laid out label */
+    static class Layout {
+
+        final TextStyle2D textStyle;
+
+        final Font[] fonts;
+
+        final String label;
+
+        final List<LineInfo> lines;
+
+        final Rectangle2D bounds;
+
+        Layout(LabelCacheItem labelItem, List<LineInfo> lines, Rectangle2D bounds) {
+            this.textStyle = labelItem.getTextStyle();
+            this.fonts = textStyle.getFonts() != null ? textStyle.getFonts().clone() : null;
+            this.label = labelItem.getLabel();
+            this.lines = lines;
+            this.bounds = bounds;
+        }
+
+        /** Checks the label text and style did not change since the layout was computed */
+        boolean isValid(LabelCacheItem labelItem) {
+            return textStyle == labelItem.getTextStyle()
+                    && Arrays.equals(fonts, textStyle.getFonts())
+                    && Objects.equals(label, labelItem.getLabel());
+        }
     }
 
     /**
      * If, for any reason, a font size of 0 is provided to the renderer, resulting bounds will become empty and this
      * will ruin most geometric computations dealing with spacing and orientations. Enlarge the envelope a tiny bit
      */
-    void normalizeBounds(Rectangle2D bounds) {
+    static void normalizeBounds(Rectangle2D bounds) {
         if (bounds != null && bounds.isEmpty()) {
             bounds.setRect(bounds.getCenterX() - 1, bounds.getCenterY() - 1, 2, 2);
         }
@@ -19,10 +19,13 @@
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.util.List;
+import org.geotools.api.feature.type.FeatureType;
+import org.geotools.api.filter.Filter;
 import org.geotools.api.filter.expression.Expression;
 import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.style.Rule;
 import org.geotools.data.util.ScreenMap;
+import org.geotools.filter.compiler.FilterCompiler;
 import org.geotools.map.Layer;
 import org.geotools.renderer.crs.ProjectionHandler;
 
@@ -91,6 +94,11 @@ final class LiteFeatureTypeStyle {
     /** The meta buffer for the current layer */
     int metaBuffer;
 
+    /** The rule filters, optimized for {@link #ruleFiltersType}, see {@link #getRuleFilters(FeatureType)} */
+    private Filter[] ruleFilters;
+
+    private FeatureType ruleFiltersType;
+
     /**
      * use this for only the 1st FTS. We don't actually create an image for it -- we just use the graphics. WATCH OUT
      * FOR THIS. NOTE: image=null in this case
@@ -103,4 +111,23 @@ public LiteFeatureTypeStyle(
         this.elseRules = elseRuleList.toArray(new Rule[elseRuleList.size()]);
         this.transformation = transformation;
     }
+
+    /**
+     * Returns the filters of {@link #ruleList}, in the same order, compiled for the specified feature type when filter
+     * compilation is enabled (see {@link FilterCompiler}). Rules without a filter have a null entry. The result is
+     * cached for the last feature type, as all the features of a layer usually share the same one.
+     */
+    Filter[] getRuleFilters(FeatureType featureType) {
+        Filter[] filters = ruleFilters;
+        if (filters == null || filters.length != ruleList.length || ruleFiltersType != featureType) {
+            filters = new Filter[ruleList.length];
+            for (int i = 0; i < ruleList.length; i++) {
+                Filter filter = ruleList[i].getFilter();
+                filters[i] = filter == null ? null : FilterCompiler.optimize(filter, featureType);
+            }
+            ruleFiltersType = featureType;
+            ruleFilters = filters;
+        }
+        return filters;
+    }
 }
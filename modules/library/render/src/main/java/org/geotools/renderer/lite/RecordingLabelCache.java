@@ -0,0 +1,150 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.style.TextSymbolizer;
+import org.geotools.geometry.jts.LiteShape2;
+import org.geotools.util.NumberRange;
+
+/**
+ * A label cache that does not place labels, but just records the labels and the reserved areas it receives, so that
+ * they can be replayed later, in order, against the real label cache. Used by the parallel layer rendering mode of
+ * {@link StreamingRenderer}, where each layer is rendered by a separate thread but labels must still be placed in a
+ * deterministic order, the same one used by sequential rendering.
+ *
+ * <p>Lifecycle methods ({@link #start()}, {@link #end(Graphics2D, Rectangle)}, {@link #clear()}, ...) are no-ops, the
+ * lifecycle is managed by the renderer owning the target label cache.
+ */
+class RecordingLabelCache implements LabelCache {
+
+    /** A label recorded for later replay */
+    private static class RecordedLabel {
+        TextSymbolizer symbolizer;
+
+        Feature feature;
+
+        LiteShape2 shape;
+
+        NumberRange<Double> scaleRange;
+
+        Rectangle2D reservedArea;
+    }
+
+    private final List<RecordedLabel> labels = new ArrayList<>();
+
+    @Override
+    public void start() {
+        // nothing to do
+    }
+
+    @Override
+    public void startLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public void put(
+            String layerId,
+            TextSymbolizer symbolizer,
+            Feature feature,
+            LiteShape2 shape,
+            NumberRange<Double> scaleRange) {
+        RecordedLabel label = new RecordedLabel();
+        label.symbolizer = symbolizer;
+        label.feature = feature;
+        label.shape = shape;
+        label.scaleRange = scaleRange;
+        labels.add(label);
+    }
+
+    @Override
+    public void put(Rectangle2D area) {
+        RecordedLabel label = new RecordedLabel();
+        label.reservedArea = area;
+        labels.add(label);
+    }
+
+    @Override
+    public void endLayer(String layerId, Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do
+    }
+
+    @Override
+    public void end(Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do
+    }
+
+    @Override
+    public void stop() {
+        // nothing to do
+    }
+
+    @Override
+    public void clear() {
+        // nothing to do, the recorded labels are discarded by replay
+    }
+
+    @Override
+    public void clear(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public void disableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public void enableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public List orderedLabels() {
+        return Collections.emptyList();
+    }
+
+    /** Returns the number of labels and reserved areas recorded so far */
+    int size() {
+        return labels.size();
+    }
+
+    /**
+     * Replays all the recorded labels and reserved areas, in the same order they were received, into the target label
+     * cache, and then forgets about them.
+     *
+     * @param target the label cache receiving the labels
+     * @param layerId the layer identifier to be used in the target label cache
+     */
+    void replay(LabelCache target, String layerId) {
+        for (RecordedLabel label : labels) {
+            if (label.reservedArea != null) {
+                target.put(label.reservedArea);
+            } else {
+                target.put(layerId, label.symbolizer, label.feature, label.shape, label.scaleRange);
+            }
+        }
+        labels.clear();
+    }
+}
@@ -25,6 +25,7 @@
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.RenderingHints.Key;
@@ -51,6 +52,7 @@
 import java.util.Spliterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -132,6 +134,7 @@
 import org.geotools.geometry.jts.coordinatesequence.CoordinateSequences;
 import org.geotools.image.util.ImageUtilities;
 import org.geotools.map.DirectLayer;
+import org.geotools.map.FeatureLayer;
 import org.geotools.map.Layer;
 import org.geotools.map.MapContent;
 import org.geotools.map.StyleLayer;
@@ -141,6 +144,7 @@
 import org.geotools.referencing.operation.matrix.XAffineTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
 import org.geotools.referencing.operation.transform.ConcatenatedTransform;
+import org.geotools.referencing.operation.transform.InterpolatedGridTransform2D;
 import org.geotools.referencing.operation.transform.ProjectiveTransform;
 import org.geotools.referencing.operation.transform.WarpBuilder;
 import org.geotools.renderer.GTRenderer;
@@ -156,6 +160,7 @@
 import org.geotools.renderer.style.SLDStyleFactory;
 import org.geotools.renderer.style.Style2D;
 import org.geotools.renderer.style.StyleAttributeExtractor;
+import org.geotools.renderer.style.SymbolCache;
 import org.geotools.styling.RuleImpl;
 import org.geotools.styling.visitor.DpiRescaleStyleVisitor;
 import org.geotools.styling.visitor.DuplicatingStyleVisitor;
@@ -364,6 +369,15 @@ public class StreamingRenderer implements GTRenderer {
 
     private static boolean VECTOR_RENDERING_ENABLED_DEFAULT = false;
 
+    /**
+     * Boolean flag indicating whether static marks and graphics should be painted by copying pre-rasterized versions of
+     * them, placed with a quarter of pixel accuracy, instead of painting them as vectors at each point. Used only when
+     * vector rendering is disabled, off by default. See {@link StyledShapePainter#setSymbolStampingEnabled(boolean)}.
+     *
+     * @since 36.0
+     */
+    public static final String SYMBOL_STAMPING_KEY = "symbolStampingEnabled";
+
     /** Boolean flag indicating whether advanced projection densification should be used when needed. */
     public static final String ADVANCED_PROJECTION_DENSIFICATION_KEY = "advancedProjectionDensificationEnabled";
 
@@ -375,6 +389,14 @@ public class StreamingRenderer implements GTRenderer {
 
     private static double ADVANCED_PROJECTION_DENSIFICATION_TOLERANCE_DEFAULT = 0.8;
 
+    /**
+     * Tolerance, in pixels, within which the reprojection of the geometries to the screen can be approximated by
+     * interpolation over a grid of exactly reprojected points (see {@link InterpolatedGridTransform2D}). The error is
+     * estimated over the grid cells, not strictly bounded. Used only when the advanced projection handling is disabled.
+     * The value is a Double, by default no approximation is performed.
+     */
+    public static final String REPROJECTION_TOLERANCE_KEY = "reprojectionTolerance";
+
     /** Boolean flag indicating whether advanced projection wrapping heuristic should be used or nto. */
     public static final String DATELINE_WRAPPING_HEURISTIC_KEY = "datelineWrappingCheckEnabled";
 
@@ -416,6 +438,15 @@ public class StreamingRenderer implements GTRenderer {
 
     private PainterThread painterThread;
 
+    /** The thread pool used to render layers in parallel, if any */
+    private ExecutorService layerThreadPool;
+
+    /** The renderers painting layers in parallel, tracked in order to propagate rendering stop requests */
+    private List<StreamingRenderer> layerRenderers = new CopyOnWriteArrayList<>();
+
+    /** The renderer this one paints a layer in parallel for, if any, whose stop requests apply to this one too */
+    private StreamingRenderer parentRenderer;
+
     private static int MAX_PIXELS_DENSIFY =
             Integer.valueOf(System.getProperty("ADVANCED_PROJECTION_DENSIFY_MAX_PIXELS", "5"));
 
@@ -430,6 +461,29 @@ public void setThreadPool(ExecutorService threadPool) {
         this.threadPool = threadPool;
     }
 
+    /**
+     * Sets a thread pool used to render layers in parallel. When set, each eligible layer is read, transformed and
+     * painted by a separate task on its own back buffer, and the back buffers are then merged in z-order on the target
+     * graphics. Labels are still collected and placed in layer order, so the output is the same as sequential
+     * rendering.
+     *
+     * <p>Layers using composite operations other than plain alpha, direct layers and z-group layers are always rendered
+     * sequentially, as they need to see the output of the layers below them. Each layer rendered in parallel uses a
+     * back buffer as big as the output image, trading memory for latency. Feature rendered and error events are
+     * notified from the layer rendering threads, so the render listeners must be thread safe.
+     *
+     * @param layerThreadPool the pool running the layer rendering tasks, or null to render layers sequentially (the
+     *     default)
+     */
+    public void setLayerThreadPool(ExecutorService layerThreadPool) {
+        this.layerThreadPool = layerThreadPool;
+    }
+
+    /** Returns the thread pool used to render layers in parallel, or null if layers are rendered sequentially */
+    public ExecutorService getLayerThreadPool() {
+        return layerThreadPool;
+    }
+
     /**
      * Sets the flag which controls behaviour for applying affine transformation to the graphics object.
      *
@@ -515,6 +569,9 @@ private void fireErrorEvent(Throwable t) {
     @Override
     public void stopRendering() {
         renderingStopRequested = true;
+        for (StreamingRenderer layerRenderer : layerRenderers) {
+            layerRenderer.renderingStopRequested = true;
+        }
         // un-block the queue in case it was filled with requests and the main
         // thread got blocked on it
         requests.clear();
@@ -738,8 +795,8 @@ public void paint(
         Point2D textureAnchor =
                 new Point2D.Double(worldToScreenTransform.getTranslateX(), worldToScreenTransform.getTranslateY());
         graphics.setRenderingHint(StyledShapePainter.TEXTURE_ANCHOR_HINT_KEY, textureAnchor);
-        // reset the abort flag
-        renderingStopRequested = false;
+        // reset the abort flag, unless the renderer painting a layer in parallel for this one has been stopped already
+        renderingStopRequested = parentRenderer != null && parentRenderer.renderingStopRequested;
 
         // setup the graphic clip
         graphics.setClip(paintArea);
@@ -787,6 +844,7 @@ public void paint(
         }
         Future painterFuture = localThreadPool.submit(painterThread);
         List<CompositingGroup> compositingGroups = null;
+        List<Future<RenderedLayer>> parallelLayers = new ArrayList<>();
         try {
             if (mapContent == null) {
                 throw new IllegalStateException("Cannot call paint, you did not set a MapContent in this renderer");
@@ -816,7 +874,12 @@ public void paint(
                     impl.setLabelRenderingMode(LabelRenderingMode.valueOf(getTextRenderingMethod()));
                 }
 
+                List<Future<RenderedLayer>> groupLayers = submitParallelLayers(currentMapContent.layers(), paintArea);
+                parallelLayers.addAll(groupLayers);
+                int groupLayerIndex = 0;
+
                 for (Layer layer : currentMapContent.layers()) {
+                    Future<RenderedLayer> renderedLayer = groupLayers.get(groupLayerIndex++);
                     try {
                         renderListeners.forEach(l -> l.layerStart(layer));
                     } catch (Exception e) {
@@ -840,7 +903,13 @@ public void paint(
                     }
 
                     labelCache.startLayer(layerId);
-                    if (layer instanceof DirectLayer directLayer) {
+                    if (renderedLayer != null) {
+                        try {
+                            mergeParallelLayer(compositingGraphic, renderedLayer, layerId);
+                        } catch (Throwable t) {
+                            fireErrorEvent(t);
+                        }
+                    } else if (layer instanceof DirectLayer directLayer) {
                         RenderingRequest request = new RenderDirectLayerRequest(compositingGraphic, directLayer);
                         try {
                             requests.put(request);
@@ -882,6 +951,12 @@ public void paint(
                 }
             }
         } finally {
+            // if we got here due to a rendering stop or an error, parallel layers might still be running
+            for (Future<RenderedLayer> parallelLayer : parallelLayers) {
+                if (parallelLayer != null) {
+                    parallelLayer.cancel(true);
+                }
+            }
             try {
                 // clean up generated map contents (in finally block to ensure it's done regardless
                 // of how we got here
@@ -925,6 +1000,8 @@ public void paint(
                     .append(styleFactory.getHits())
                     .append(", requests ")
                     .append(styleFactory.getRequests())
+                    .append(", symbol cache ")
+                    .append(styleFactory.getCacheMetrics())
                     .toString());
         if (error > 0) {
             LOGGER.warning(new StringBuffer("Number of Errors during paint(Graphics2D, AffineTransform) = ")
@@ -947,6 +1024,159 @@ protected void fillBackground(Graphics2D graphics, Rectangle paintArea, Style st
         graphics.fill(paintArea);
     }
 
+    /**
+     * Submits the layers that can be rendered in parallel to the layer thread pool.
+     *
+     * @return a list with the same size as the layers one, containing the future of each layer rendered in parallel,
+     *     or null for the layers that need to be rendered sequentially
+     */
+    private List<Future<RenderedLayer>> submitParallelLayers(List<Layer> layers, Rectangle paintArea) {
+        List<Future<RenderedLayer>> result = new ArrayList<>(Collections.nCopies(layers.size(), null));
+        // concatenated transforms would need to be replicated on each back buffer, keep it simple
+        if (layerThreadPool == null || concatTransforms) {
+            return result;
+        }
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < layers.size(); i++) {
+            if (isParallelRenderable(layers.get(i))) {
+                candidates.add(i);
+            }
+        }
+        // no point paying for back buffers if there is nothing to run in parallel
+        if (candidates.size() < 2) {
+            return result;
+        }
+
+        // capture the current rendering state, it's the same for all layers
+        final ReferencedEnvelope mapArea = originalMapExtent;
+        final AffineTransform worldToScreen = worldToScreenTransform;
+        for (Integer i : candidates) {
+            final Layer layer = layers.get(i);
+            result.set(i, layerThreadPool.submit(() -> renderLayer(layer, paintArea, mapArea, worldToScreen)));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the layer can be rendered on its own back buffer, without looking at the output of the layers below it
+     */
+    private boolean isParallelRenderable(Layer layer) {
+        if (!layer.isVisible()
+                || layer instanceof DirectLayer
+                || layer instanceof ZGroupLayer
+                || layer.getStyle() == null
+                || layer.getFeatureSource() == null) {
+            return false;
+        }
+        for (FeatureTypeStyle fts : layer.getStyle().featureTypeStyles()) {
+            if (SLDStyleFactory.getComposite(fts.getOptions()) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders a single layer on its own back buffer using a separate renderer, recording the labels so that they can be
+     * replayed in order against the main label cache
+     */
+    private RenderedLayer renderLayer(
+            Layer layer, Rectangle paintArea, ReferencedEnvelope mapArea, AffineTransform worldToScreen) {
+        RecordingLabelCache labels = new RecordingLabelCache();
+        StreamingRenderer renderer = createLayerRenderer(labels);
+        // stop requests from now on are propagated to the layer renderer, earlier ones are picked up when it starts
+        layerRenderers.add(renderer);
+
+        // the background, if any, is painted by the main renderer, use a copy of the style without it
+        Style style = STYLE_FACTORY.createStyle();
+        style.featureTypeStyles().addAll(layer.getStyle().featureTypeStyles());
+        FeatureLayer clone = new FeatureLayer(layer.getFeatureSource(), style);
+        clone.setQuery(layer.getQuery());
+        clone.getUserData().putAll(layer.getUserData());
+        clone.setTitle(layer.getTitle());
+        MapContent content = new MapContent();
+        content.addLayer(clone);
+
+        BufferedImage image = new BufferedImage(paintArea.width, paintArea.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D graphics = image.createGraphics();
+        // the back buffer only covers the paint area
+        graphics.translate(-paintArea.x, -paintArea.y);
+        try {
+            renderer.setMapContent(content);
+            renderer.paint(graphics, paintArea, mapArea, worldToScreen);
+        } finally {
+            graphics.dispose();
+            content.dispose();
+            layerRenderers.remove(renderer);
+        }
+
+        return new RenderedLayer(image, paintArea.getLocation(), labels);
+    }
+
+    /** Creates a renderer for a single layer, configured just like this one, but using the specified label cache */
+    private StreamingRenderer createLayerRenderer(LabelCache labels) {
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.parentRenderer = this;
+        if (java2dHints != null) {
+            renderer.setJava2DHints(java2dHints);
+        }
+        Map<Object, Object> hints = new HashMap<>();
+        if (rendererHints != null) {
+            hints.putAll(rendererHints);
+        }
+        hints.put(LABEL_CACHE_KEY, labels);
+        renderer.setRendererHints(hints);
+        renderer.setInteractive(interactive);
+        renderer.setGeneralizationDistance(generalizationDistance);
+        renderer.addRenderListener(new RenderListener() {
+
+            @Override
+            public void featureRenderer(SimpleFeature feature) {
+                fireFeatureRenderedEvent(feature);
+            }
+
+            @Override
+            public void errorOccurred(Exception e) {
+                // already logged by the layer renderer, just forward to the listeners
+                for (RenderListener listener : renderListeners) {
+                    listener.errorOccurred(e);
+                }
+            }
+        });
+        return renderer;
+    }
+
+    /**
+     * Waits for a layer rendered in parallel to complete, replays its labels against the label cache, and schedules
+     * the merge of its back buffer on the target graphics
+     */
+    private void mergeParallelLayer(Graphics2D graphics, Future<RenderedLayer> future, String layerId)
+            throws Exception {
+        RenderedLayer rendered;
+        try {
+            rendered = future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        rendered.labels.replay(labelCache, layerId);
+        requests.put(new MergeLayerImageRequest(graphics, rendered.image, rendered.origin));
+    }
+
+    /** The outcome of a layer rendered in parallel, its back buffer, located at the origin, and its labels */
+    private static class RenderedLayer {
+        BufferedImage image;
+
+        Point origin;
+
+        RecordingLabelCache labels;
+
+        RenderedLayer(BufferedImage image, Point origin, RecordingLabelCache labels) {
+            this.image = image;
+            this.origin = origin;
+            this.labels = labels;
+        }
+    }
+
     /** Builds the blocking queue used to bridge between the data loading thread and the painting one */
     protected BlockingQueue<RenderingRequest> getRequestsQueue() {
         return new RenderingBlockingQueue(10000);
@@ -1634,6 +1864,12 @@ private boolean isVectorRenderingEnabled() {
         return ((Boolean) result).booleanValue();
     }
 
+    /** Checks if point symbols can be stamped, see {@link StyledShapePainter#setSymbolStampingEnabled(boolean)} */
+    private boolean isSymbolStampingEnabled() {
+        if (rendererHints == null) return false;
+        return Boolean.TRUE.equals(rendererHints.get(SYMBOL_STAMPING_KEY));
+    }
+
     /** Checks if advanced projection densification is enabled or not. */
     private boolean isAdvancedProjectionDensificationEnabled() {
         if (rendererHints == null) return false;
@@ -1649,6 +1885,33 @@ private double getAdvancedProjectionDensificationTolerance() {
         return ((Double) result).doubleValue();
     }
 
+    /** Returns the tolerance for approximated reprojection, in pixels, or 0 if disabled */
+    private double getReprojectionTolerance() {
+        if (rendererHints == null) return 0;
+        Object result = rendererHints.get(REPROJECTION_TOLERANCE_KEY);
+        if (result == null) return 0;
+        return ((Number) result).doubleValue();
+    }
+
+    /**
+     * Approximates the full transform from the data to the screen with an interpolation grid covering the paint area,
+     * if enabled with the {@link #REPROJECTION_TOLERANCE_KEY} hint. Returns the transform unchanged otherwise.
+     */
+    private MathTransform approximateFullTransform(MathTransform fullTransform) {
+        double tolerance = getReprojectionTolerance();
+        if (tolerance <= 0 || screenSize == null || !(fullTransform instanceof MathTransform2D)) {
+            return fullTransform;
+        }
+        try {
+            MathTransform2D mt = (MathTransform2D) fullTransform;
+            Rectangle2D domain = CRS.transform(mt.inverse(), screenSize);
+            return InterpolatedGridTransform2D.create(mt, domain, tolerance);
+        } catch (TransformException e) {
+            LOGGER.log(Level.FINE, "Could not approximate the reprojection, using the exact one", e);
+            return fullTransform;
+        }
+    }
+
     /** Checks if advanced projection wrapping heuristic should be enabled. */
     private boolean isWrappingHeuristicEnabled() {
         if (rendererHints == null) return true;
@@ -2161,6 +2424,12 @@ private void processStylers(final Graphics2D graphics, final Layer layer, String
                 }
             }
 
+            // prepare the feature independent styles, icons and marks before the features start flowing
+            for (LiteFeatureTypeStyle fts : uniformLfts) {
+                styleFactory.prewarm(fts.ruleList);
+                styleFactory.prewarm(fts.elseRules);
+            }
+
             // finally, perform rendering
             if (isOptimizedFTSRenderingEnabled() && lfts.size() > 1) {
                 drawOptimized(graphics, layerId, features, uniformLfts);
@@ -2718,14 +2987,15 @@ void processFeature(RenderableFeature rf, LiteFeatureTypeStyle fts, ProjectionHa
             boolean doElse = true;
             Rule[] elseRuleList = fts.elseRules;
             Rule[] ruleList = fts.ruleList;
+            Filter[] ruleFilters = fts.getRuleFilters(rf.feature.getType());
             Rule r;
             Filter filter;
             Graphics2D graphics = fts.graphics;
             // applicable rules
             int paintCommands = 0;
-            for (Rule value : ruleList) {
-                r = value;
-                filter = r.getFilter();
+            for (int i = 0; i < ruleList.length; i++) {
+                r = ruleList[i];
+                filter = ruleFilters[i];
 
                 if (filter == null || filter.evaluate(rf.feature)) {
                     doElse = false;
@@ -3159,8 +3429,9 @@ public void setRendererHints(Map<?, ?> hints) {
         }
         rendererHints = hints;
 
-        // sets whether vector rendering is enabled in the SLDStyleFactory
+        // sets whether vector rendering is enabled in the SLDStyleFactory, point symbols can be stamped otherwise
         styleFactory.setVectorRenderingEnabled(isVectorRenderingEnabled());
+        painter.setSymbolStampingEnabled(isSymbolStampingEnabled() && !isVectorRenderingEnabled());
     }
 
     /*
@@ -3174,6 +3445,16 @@ public Map<Object, Object> getRendererHints() {
         return (Map<Object, Object>) rendererHints;
     }
 
+    /**
+     * Returns the lookups this renderer performed in its own and in the shared {@link SymbolCache}, for rendered
+     * styles, icons and mark shapes
+     *
+     * @since 36.0
+     */
+    public SymbolCache.Metrics getSymbolCacheMetrics() {
+        return styleFactory.getCacheMetrics();
+    }
+
     @Override
     public void setMapContent(MapContent mapContent) {
         this.mapContent = mapContent;
@@ -3295,6 +3576,9 @@ && getGeometryIndex(g) == -1) {
                         crsTransform = buildTransform(sa.crs, destinationCrs);
                         atTransform = ProjectiveTransform.create(worldToScreenTransform);
                         fullTransform = buildFullTransform(sa.crs, destinationCrs, at);
+                        if (projectionHandler == null) {
+                            fullTransform = approximateFullTransform(fullTransform);
+                        }
                     } catch (Exception e) {
                         // fall through
                         LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
@@ -3583,6 +3867,35 @@ void execute() {
         }
     }
 
+    /** A request to merge the back buffer of a layer rendered in parallel to the main graphics */
+    protected static class MergeLayerImageRequest extends RenderingRequest {
+        Graphics2D graphics;
+
+        BufferedImage image;
+
+        Point origin;
+
+        public MergeLayerImageRequest(Graphics2D graphics, BufferedImage image, Point origin) {
+            this.graphics = graphics;
+            this.image = image;
+            this.origin = origin;
+        }
+
+        @Override
+        void execute() {
+            if (graphics instanceof DelayedBackbufferGraphic graphic) {
+                graphic.init();
+            }
+            Composite previous = graphics.getComposite();
+            try {
+                graphics.setComposite(AlphaComposite.SrcOver);
+                graphics.drawImage(image, origin.x, origin.y, null);
+            } finally {
+                graphics.setComposite(previous);
+            }
+        }
+    }
+
     protected static class MargeCompositingGroupRequest extends RenderingRequest {
         Graphics2D graphics;
 
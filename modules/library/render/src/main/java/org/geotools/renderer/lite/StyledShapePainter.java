@@ -79,9 +79,21 @@ public class StyledShapePainter {
     public static boolean OPTIMIZE_VECTOR_HATCH_FILLS =
             Boolean.parseBoolean(System.getProperty("org.geotools.renderer.lite.optimizeVectorHatchFills", "true"));
 
+    /**
+     * Whether static marks and graphics can be painted by copying pre-rasterized versions of them, when symbol stamping
+     * is enabled (on by default, this is just a safeguard)
+     */
+    public static boolean STAMP_POINT_SYMBOLS =
+            Boolean.parseBoolean(System.getProperty("org.geotools.renderer.lite.stampPointSymbols", "true"));
+
     /** the label cache, used to populate the label cache with reserved areas for labeling obstacles */
     LabelCache labelCache;
 
+    /** The pre-rasterized point symbols */
+    SymbolStamps stamps = new SymbolStamps();
+
+    boolean symbolStampingEnabled;
+
     public StyledShapePainter() {
         // nothing do do, just needs to exist
     }
@@ -90,6 +102,31 @@ public StyledShapePainter(LabelCache cache) {
         this.labelCache = cache;
     }
 
+    /**
+     * Enables painting static marks and graphics by copying onto the target raster versions of them rasterized once,
+     * instead of painting them as vectors at each point. The stamped symbols are placed with a quarter of pixel
+     * accuracy, so the output can differ slightly from the vector painting. Disabled by default, it should be enabled
+     * only when painting on images, {@link StreamingRenderer} does so when the
+     * {@link StreamingRenderer#SYMBOL_STAMPING_KEY} hint is set.
+     *
+     * @since 36.0
+     */
+    public void setSymbolStampingEnabled(boolean symbolStampingEnabled) {
+        this.symbolStampingEnabled = symbolStampingEnabled;
+        if (!symbolStampingEnabled) {
+            stamps.clear();
+        }
+    }
+
+    /**
+     * Returns true if static marks and graphics are painted by copying pre-rasterized versions of them
+     *
+     * @since 36.0
+     */
+    public boolean isSymbolStampingEnabled() {
+        return symbolStampingEnabled;
+    }
+
     public void paint(final Graphics2D graphics, final LiteShape2 shape, final Style2D style, final double scale) {
         paint(graphics, shape, style, scale, false);
     }
@@ -168,26 +205,31 @@ public void paint(
             // get the point onto the shape has to be painted
             float[] coords = new float[2];
 
+            SymbolStamps.Stamp stamp = getStamp(graphics, ms2d);
             Shape transformedShape;
             while (!citer.isDone()) {
                 if (citer.currentSegment(coords) != PathIterator.SEG_MOVETO) {
-                    transformedShape = ms2d.getTransformedShape(coords[0], coords[1]);
-                    if (transformedShape != null) {
-                        if (ms2d.getFill() != null) {
-                            graphics.setPaint(ms2d.getFill());
-                            graphics.setComposite(ms2d.getFillComposite());
-                            graphics.fill(transformedShape);
-                        }
-
-                        if (ms2d.getContour() != null) {
-                            graphics.setPaint(ms2d.getContour());
-                            graphics.setStroke(ms2d.getStroke());
-                            graphics.setComposite(ms2d.getContourComposite());
-                            graphics.draw(transformedShape);
-                        }
-
-                        if (isLabelObstacle) {
-                            labelCache.put(transformedShape.getBounds2D());
+                    if (stamp != null) {
+                        paintStamp(graphics, stamp, coords, isLabelObstacle);
+                    } else {
+                        transformedShape = ms2d.getTransformedShape(coords[0], coords[1]);
+                        if (transformedShape != null) {
+                            if (ms2d.getFill() != null) {
+                                graphics.setPaint(ms2d.getFill());
+                                graphics.setComposite(ms2d.getFillComposite());
+                                graphics.fill(transformedShape);
+                            }
+
+                            if (ms2d.getContour() != null) {
+                                graphics.setPaint(ms2d.getContour());
+                                graphics.setStroke(ms2d.getStroke());
+                                graphics.setComposite(ms2d.getContourComposite());
+                                graphics.draw(transformedShape);
+                            }
+
+                            if (isLabelObstacle) {
+                                labelCache.put(transformedShape.getBounds2D());
+                            }
                         }
                     }
                 }
@@ -201,18 +243,23 @@ public void paint(
             BufferedImage image = gs2d.getImage();
             double dx = gs2d.getDisplacementX() - gs2d.getAnchorPointX() * image.getWidth();
             double dy = gs2d.getDisplacementY() - (1 - gs2d.getAnchorPointY()) * image.getHeight();
+            SymbolStamps.Stamp stamp = getStamp(graphics, gs2d);
             while (!iter.isDone()) {
                 if (iter.currentSegment(coords) != PathIterator.SEG_MOVETO) {
-                    renderImage(
-                            graphics,
-                            coords[0],
-                            coords[1],
-                            dx,
-                            dy,
-                            image,
-                            gs2d.getRotation(),
-                            gs2d.getComposite(),
-                            isLabelObstacle);
+                    if (stamp != null) {
+                        paintStamp(graphics, stamp, coords, isLabelObstacle);
+                    } else {
+                        renderImage(
+                                graphics,
+                                coords[0],
+                                coords[1],
+                                dx,
+                                dy,
+                                image,
+                                gs2d.getRotation(),
+                                gs2d.getComposite(),
+                                isLabelObstacle);
+                    }
                 }
                 iter.next();
             }
@@ -444,6 +491,21 @@ Shape dashShape(Shape shape, Stroke stroke) {
         return new DashedShape(shape, bs.getDashArray(), bs.getDashPhase());
     }
 
+    /** Returns the pre-rasterized version of the point symbol, or null if it has to be painted as vectors */
+    private SymbolStamps.Stamp getStamp(Graphics2D graphics, Style2D style) {
+        if (!symbolStampingEnabled || !STAMP_POINT_SYMBOLS) {
+            return null;
+        }
+        return stamps.getStamp(graphics, style);
+    }
+
+    private void paintStamp(Graphics2D graphics, SymbolStamps.Stamp stamp, float[] coords, boolean isLabelObstacle) {
+        stamp.paint(graphics, coords[0], coords[1]);
+        if (isLabelObstacle) {
+            labelCache.put(stamp.getBounds(coords[0], coords[1]));
+        }
+    }
+
     /** Extracts a ath iterator from the shape */
     private PathIterator getPathIterator(final LiteShape2 shape) {
         return shape.getPathIterator(IDENTITY_TRANSFORM);
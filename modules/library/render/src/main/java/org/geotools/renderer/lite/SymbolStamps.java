@@ -0,0 +1,295 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.geotools.renderer.style.GraphicStyle2D;
+import org.geotools.renderer.style.MarkStyle2D;
+import org.geotools.renderer.style.Style2D;
+
+/**
+ * Keeps pre-rasterized copies of the point symbols painted over and over by {@link StyledShapePainter}, so that
+ * painting a symbol boils down to copying its pixels onto the target raster, instead of filling and stroking the mark
+ * shape, or resampling the rotated graphic, at each point.
+ *
+ * <p>Each symbol is rasterized on demand at {@link #SUBPIXEL_STEPS} sub-pixel offsets along each axis, to preserve the
+ * placement accuracy of the vector painting. Only the styles seen more than once get stamped, as the ones depending on
+ * feature attributes are built anew for each feature, and would not benefit from it. Symbols painted with composites
+ * other than source over, or with paints other than plain colors, are always painted as vectors.
+ *
+ * <p>The stamps are kept by style identity, for a limited number of styles. Not thread safe, like the painter using it.
+ */
+class SymbolStamps {
+
+    /** The number of sub-pixel offsets, along each axis, a symbol is rasterized at */
+    static final int SUBPIXEL_STEPS = 4;
+
+    /** The largest symbol area, in pixels, worth stamping */
+    static final int MAX_STAMP_AREA = 128 * 128;
+
+    /** The maximum number of styles tracked */
+    static final int MAX_STYLES = 64;
+
+    /** Marks the styles that cannot be stamped */
+    private static final Stamp UNSUPPORTED = new Stamp(new Rectangle(), new Rectangle(), null, null, g -> {});
+
+    private final Map<Style2D, Stamp> stamps = new IdentityHashMap<>();
+
+    private final Set<Style2D> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Returns the stamp painting the style onto the graphics, or null if the style has to be painted as vectors
+     *
+     * @param graphics the target graphics
+     * @param style a {@link MarkStyle2D} or a {@link GraphicStyle2D}
+     */
+    Stamp getStamp(Graphics2D graphics, Style2D style) {
+        if (!isRasterTarget(graphics)) {
+            return null;
+        }
+        Stamp stamp = stamps.get(style);
+        if (stamp == UNSUPPORTED) {
+            return null;
+        } else if (stamp != null && stamp.matches(graphics)) {
+            return stamp;
+        }
+
+        // wait for the style to show up again before rasterizing it
+        if (stamp == null && !seen.contains(style)) {
+            if (seen.size() >= MAX_STYLES) {
+                seen.clear();
+            }
+            seen.add(style);
+            return null;
+        }
+
+        stamp = createStamp(graphics, style);
+        if (stamps.size() >= MAX_STYLES) {
+            stamps.clear();
+        }
+        stamps.put(style, stamp != null ? stamp : UNSUPPORTED);
+        seen.remove(style);
+        return stamp;
+    }
+
+    /** Drops all the stamps */
+    void clear() {
+        stamps.clear();
+        seen.clear();
+    }
+
+    /** Checks the graphics paints on a raster, with at most an integer translation */
+    private static boolean isRasterTarget(Graphics2D graphics) {
+        AffineTransform tx = graphics.getTransform();
+        if (!tx.isIdentity()
+                && (tx.getType() != AffineTransform.TYPE_TRANSLATION
+                        || tx.getTranslateX() != Math.rint(tx.getTranslateX())
+                        || tx.getTranslateY() != Math.rint(tx.getTranslateY()))) {
+            return false;
+        }
+        GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+        return configuration != null && configuration.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER;
+    }
+
+    private static Stamp createStamp(Graphics2D graphics, Style2D style) {
+        if (style instanceof MarkStyle2D mark) {
+            return createMarkStamp(graphics, mark);
+        } else if (style instanceof GraphicStyle2D graphic) {
+            return createGraphicStamp(graphics, graphic);
+        }
+        return null;
+    }
+
+    private static Stamp createMarkStamp(Graphics2D graphics, MarkStyle2D style) {
+        Paint fill = style.getFill();
+        Paint contour = style.getContour();
+        Stroke stroke = style.getStroke();
+        Composite fillComposite = style.getFillComposite();
+        Composite contourComposite = style.getContourComposite();
+        if (fill != null && (!(fill instanceof Color) || !isSourceOver(fillComposite))) {
+            return null;
+        }
+        if (contour != null && (!(contour instanceof Color) || stroke == null || !isSourceOver(contourComposite))) {
+            return null;
+        }
+        Shape shape = style.getTransformedShape(0, 0);
+        if (shape == null) {
+            return null;
+        }
+
+        Rectangle2D bounds = shape.getBounds2D();
+        Rectangle2D paintedBounds = bounds;
+        if (contour != null) {
+            paintedBounds = stroke.createStrokedShape(shape).getBounds2D().createUnion(bounds);
+        }
+        return createStamp(graphics, bounds, paintedBounds, g -> {
+            if (fill != null) {
+                g.setPaint(fill);
+                if (fillComposite != null) g.setComposite(fillComposite);
+                g.fill(shape);
+            }
+            if (contour != null) {
+                g.setPaint(contour);
+                g.setStroke(stroke);
+                if (contourComposite != null) g.setComposite(contourComposite);
+                g.draw(shape);
+            }
+        });
+    }
+
+    private static Stamp createGraphicStamp(Graphics2D graphics, GraphicStyle2D style) {
+        // unrotated images are already copied pixel by pixel, unless told not to round their position
+        BufferedImage image = style.getImage();
+        Composite composite = style.getComposite();
+        if (image == null
+                || style.getRotation() == 0 && StyledShapePainter.ROUND_ICON_COORDS
+                || !isSourceOver(composite)) {
+            return null;
+        }
+
+        // same placement as the painter
+        double dx = style.getDisplacementX() - style.getAnchorPointX() * image.getWidth();
+        double dy = style.getDisplacementY() - (1 - style.getAnchorPointY()) * image.getHeight();
+        AffineTransform at = AffineTransform.getRotateInstance(style.getRotation());
+        at.translate(dx, dy);
+        int width = Math.max(image.getWidth(), 1);
+        int height = Math.max(image.getHeight(), 1);
+        Rectangle2D bounds = new Rectangle2D.Double(dx, dy, width, height);
+        Rectangle2D paintedBounds = at.createTransformedShape(new Rectangle(0, 0, image.getWidth(), image.getHeight()))
+                .getBounds2D();
+        return createStamp(graphics, bounds, paintedBounds, g -> {
+            if (composite != null) g.setComposite(composite);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawRenderedImage(image, at);
+        });
+    }
+
+    private static Stamp createStamp(
+            Graphics2D graphics, Rectangle2D bounds, Rectangle2D paintedBounds, Consumer<Graphics2D> painter) {
+        // a pixel of margin for antialiasing, and one for the sub-pixel offsets
+        int minX = (int) Math.floor(paintedBounds.getMinX()) - 1;
+        int minY = (int) Math.floor(paintedBounds.getMinY()) - 1;
+        int width = (int) Math.ceil(paintedBounds.getMaxX()) + 2 - minX;
+        int height = (int) Math.ceil(paintedBounds.getMaxY()) + 2 - minY;
+        if ((long) width * height > MAX_STAMP_AREA) {
+            return null;
+        }
+        return new Stamp(
+                bounds,
+                new Rectangle(minX, minY, width, height),
+                graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+                graphics.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL),
+                painter);
+    }
+
+    private static boolean isSourceOver(Composite composite) {
+        return composite == null || composite instanceof AlphaComposite ac && ac.getRule() == AlphaComposite.SRC_OVER;
+    }
+
+    /** A symbol rasterized at the different sub-pixel offsets */
+    static final class Stamp {
+
+        /** The symbol bounds, as a label obstacle, when painted at the origin */
+        final Rectangle2D bounds;
+
+        /** The area covered by the rasterized symbol, when painted at the origin */
+        final Rectangle area;
+
+        final Object antialiasing;
+
+        final Object strokeControl;
+
+        final Consumer<Graphics2D> painter;
+
+        final BufferedImage[] variants = new BufferedImage[SUBPIXEL_STEPS * SUBPIXEL_STEPS];
+
+        Stamp(
+                Rectangle2D bounds,
+                Rectangle area,
+                Object antialiasing,
+                Object strokeControl,
+                Consumer<Graphics2D> painter) {
+            this.bounds = bounds;
+            this.area = area;
+            this.antialiasing = antialiasing;
+            this.strokeControl = strokeControl;
+            this.painter = painter;
+        }
+
+        /** Checks the symbol was rasterized with the same quality settings as the graphics */
+        boolean matches(Graphics2D graphics) {
+            return Objects.equals(antialiasing, graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING))
+                    && Objects.equals(strokeControl, graphics.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL));
+        }
+
+        /** Paints the symbol at the specified location */
+        void paint(Graphics2D graphics, double x, double y) {
+            long sx = Math.round(x * SUBPIXEL_STEPS);
+            long sy = Math.round(y * SUBPIXEL_STEPS);
+            BufferedImage image = getVariant(Math.floorMod(sx, SUBPIXEL_STEPS), Math.floorMod(sy, SUBPIXEL_STEPS));
+            graphics.setComposite(AlphaComposite.SrcOver);
+            graphics.drawImage(
+                    image,
+                    (int) Math.floorDiv(sx, SUBPIXEL_STEPS) + area.x,
+                    (int) Math.floorDiv(sy, SUBPIXEL_STEPS) + area.y,
+                    null);
+        }
+
+        /** Returns the symbol bounds when painted at the specified location */
+        Rectangle2D getBounds(double x, double y) {
+            return new Rectangle2D.Double(bounds.getX() + x, bounds.getY() + y, bounds.getWidth(), bounds.getHeight());
+        }
+
+        private BufferedImage getVariant(int fx, int fy) {
+            int index = fy * SUBPIXEL_STEPS + fx;
+            BufferedImage image = variants[index];
+            if (image == null) {
+                image = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_ARGB_PRE);
+                Graphics2D g = image.createGraphics();
+                try {
+                    if (antialiasing != null) g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+                    if (strokeControl != null) g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, strokeControl);
+                    g.translate(fx / (double) SUBPIXEL_STEPS - area.x, fy / (double) SUBPIXEL_STEPS - area.y);
+                    painter.accept(g);
+                } finally {
+                    g.dispose();
+                }
+                variants[index] = image;
+            }
+            return image;
+        }
+    }
+}
@@ -23,6 +23,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -33,7 +34,6 @@
 import org.geotools.api.filter.expression.Expression;
 import org.geotools.data.ows.URLCheckers;
 import org.geotools.image.io.ImageIOExt;
-import org.geotools.util.SoftValueHashMap;
 import org.geotools.util.logging.Logging;
 
 /**
@@ -57,7 +57,10 @@ public class ImageGraphicFactory implements ExternalGraphicFactory, GraphicCache
      * Expression.evaluate(feature, URI.class) return null
      */
     @SuppressWarnings("URLEqualsHashCode")
-    static Map<URL, BufferedImage> imageCache = Collections.synchronizedMap(new SoftValueHashMap<>());
+    static Map<URL, BufferedImage> imageCache = SymbolCache.getDefault().getMap("images");
+
+    /** The images rescaled to a given size, keyed by location and size */
+    static Map<List<Object>, BufferedImage> rescaledImageCache = SymbolCache.getDefault().getMap("rescaledImages");
 
     /** Holds the of graphic formats supported by the current jdk */
     static Set<String> supportedGraphicFormats = new HashSet<>(Arrays.asList(ImageIO.getReaderMIMETypes()));
@@ -93,14 +96,20 @@ public Icon getIcon(Feature feature, Expression url, String format, int size) {
 
         // if scaling is needed, perform it
         if (size > 0 && image.getHeight() != size) {
-            double dsize = size;
-
-            double scaleY = dsize / image.getHeight(); // >1 if you're magnifying
-            double scaleX = scaleY; // keep aspect ratio!
-
-            AffineTransform scaleTx = AffineTransform.getScaleInstance(scaleX, scaleY);
-            AffineTransformOp ato = new AffineTransformOp(scaleTx, AffineTransformOp.TYPE_BILINEAR);
-            image = ato.filter(image, null);
+            List<Object> key = List.of(location.toExternalForm(), size);
+            BufferedImage rescaled = rescaledImageCache.get(key);
+            if (rescaled == null) {
+                double dsize = size;
+
+                double scaleY = dsize / image.getHeight(); // >1 if you're magnifying
+                double scaleX = scaleY; // keep aspect ratio!
+
+                AffineTransform scaleTx = AffineTransform.getScaleInstance(scaleX, scaleY);
+                AffineTransformOp ato = new AffineTransformOp(scaleTx, AffineTransformOp.TYPE_BILINEAR);
+                rescaled = ato.filter(image, null);
+                rescaledImageCache.put(key, rescaled);
+            }
+            image = rescaled;
         }
 
         return new ImageIcon(image);
@@ -114,6 +123,7 @@ public Set<String> getSupportedMimeTypes() {
     /** Images are cached by the factory, this method can be used to drop the cache */
     public static void resetCache() {
         imageCache.clear();
+        rescaledImageCache.clear();
     }
 
     @Override
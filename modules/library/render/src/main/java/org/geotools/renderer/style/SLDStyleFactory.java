@@ -66,6 +66,8 @@
 import org.geotools.api.style.PointPlacement;
 import org.geotools.api.style.PointSymbolizer;
 import org.geotools.api.style.PolygonSymbolizer;
+import org.geotools.api.style.Rule;
+import org.geotools.api.style.Style;
 import org.geotools.api.style.StyleFactory;
 import org.geotools.api.style.Symbolizer;
 import org.geotools.api.style.TextSymbolizer;
@@ -78,7 +80,6 @@
 import org.geotools.styling.MarkImpl;
 import org.geotools.styling.PointPlacementImpl;
 import org.geotools.util.Range;
-import org.geotools.util.SoftValueHashMap;
 import org.geotools.util.factory.Hints;
 
 /**
@@ -97,6 +98,9 @@ public class SLDStyleFactory {
     /** The threshold at which we switch from pre-rasterized icons to dynamically painted ones (to avoid OOM) */
     private static final int MAX_RASTERIZATION_SIZE = 512;
 
+    /** The namespace of the mark shapes in the {@link SymbolCache} */
+    static final String MARK_SHAPES = "markShapes";
+
     /** Holds a lookup bewteen SLD names and java constants. */
     private static final java.util.Map<String, Integer> JOIN_LOOKUP = new java.util.HashMap<>();
 
@@ -147,11 +151,29 @@ public class SLDStyleFactory {
         ALPHA_COMPOSITE_LOOKUP.put("xor", AlphaComposite.XOR);
     }
 
+    /** The maximum number of bytes held by the caches private to each factory */
+    private static final long LOCAL_CACHE_SIZE = 8 * 1024 * 1024;
+
+    /** The lookups performed by this factory in the {@link SymbolCache} */
+    private final SymbolCache.Metrics cacheMetrics = new SymbolCache.Metrics();
+
+    /**
+     * Holds the rendered styles and icons of this factory, which are not shared: text styles are mutated while
+     * labelling, and the factory hints drive the graphic factory lookup
+     */
+    private final SymbolCache localCache = new SymbolCache(LOCAL_CACHE_SIZE);
+
     /** Symbolizers that depend on attributes */
-    Map<SymbolizerKey, Boolean> dynamicSymbolizers = new SoftValueHashMap<>();
+    Map<SymbolizerKey, Boolean> dynamicSymbolizers = localCache.getMap("dynamicSymbolizers", cacheMetrics);
 
     /** Symbolizers that do not depend on attributes */
-    Map<SymbolizerKey, Style2D> staticSymbolizers = new SoftValueHashMap<>();
+    Map<SymbolizerKey, Style2D> staticSymbolizers = localCache.getMap("staticSymbolizers", cacheMetrics);
+
+    /** Icons of the external graphics with a static location and format, by location, format and size */
+    Map<List<Object>, Icon> icons = localCache.getMap("icons", cacheMetrics);
+
+    /** Shapes of the marks with a static name, shared among all factories */
+    Map<String, Shape> markShapes = SymbolCache.getDefault().getMap(MARK_SHAPES, cacheMetrics);
 
     /** Build a default rendering hint to avoid NPE */
     RenderingHints renderingHints =
@@ -228,6 +250,60 @@ public void setVectorRenderingEnabled(boolean vectorRenderingEnabled) {
         this.vectorRenderingEnabled = vectorRenderingEnabled;
     }
 
+    /**
+     * Returns the lookups performed by this factory in the {@link SymbolCache}, for rendered styles, icons and mark
+     * shapes
+     *
+     * @since 36.0
+     */
+    public SymbolCache.Metrics getCacheMetrics() {
+        return cacheMetrics;
+    }
+
+    /**
+     * Pre-populates the caches with the rendered styles of the symbolizers that do not depend on feature attributes,
+     * along with the icons and marks they use, so that the first features rendered do not pay for their creation.
+     * Text symbolizers are skipped, as the labels are styled by the label cache.
+     *
+     * @since 36.0
+     */
+    public void prewarm(Style style) {
+        for (FeatureTypeStyle fts : style.featureTypeStyles()) {
+            prewarm(fts.rules().toArray(new Rule[fts.rules().size()]));
+        }
+    }
+
+    /**
+     * Pre-populates the caches with the rendered styles of the rules symbolizers, as described in
+     * {@link #prewarm(Style)}
+     *
+     * @since 36.0
+     */
+    public void prewarm(Rule... rules) {
+        for (Rule rule : rules) {
+            for (Symbolizer symbolizer : rule.symbolizers()) {
+                if (symbolizer instanceof TextSymbolizer || !isStatic(symbolizer)) {
+                    continue;
+                }
+                try {
+                    createStyle(null, symbolizer);
+                } catch (Exception e) {
+                    LOGGER.log(Level.FINE, "Could not prewarm symbolizer " + symbolizer, e);
+                }
+            }
+        }
+    }
+
+    /** Returns true if the symbolizer does not depend on feature attributes nor on volatile functions */
+    private static boolean isStatic(Symbolizer symbolizer) {
+        StyleAttributeExtractorTruncated sae = new StyleAttributeExtractorTruncated();
+        sae.visit(symbolizer);
+
+        Set nameSet = sae.getAttributeNameSet();
+        boolean noAttributes = nameSet == null || nameSet.isEmpty();
+        return noAttributes && !sae.isUsingVolatileFunctions();
+    }
+
     public double getHitRatio() {
         return hits / (double) requests;
     }
@@ -290,12 +366,7 @@ public Style2D createStyle(Object drawMe, Symbolizer symbolizer, Range scaleRang
                 return style;
             } else {
                 // lets see if it's static or dynamic
-                StyleAttributeExtractorTruncated sae = new StyleAttributeExtractorTruncated();
-                sae.visit(symbolizer);
-
-                Set nameSet = sae.getAttributeNameSet();
-                boolean noAttributes = nameSet == null || nameSet.isEmpty();
-                if (noAttributes && !sae.isUsingVolatileFunctions()) {
+                if (isStatic(symbolizer)) {
                     staticSymbolizers.put(key, style);
                 } else {
                     dynamicSymbolizers.put(key, Boolean.TRUE);
@@ -1254,6 +1325,16 @@ private Icon getIcon(ExternalGraphic eg, Object feature, double size) {
             location = ff.literal(strLocation);
         }
 
+        // icons with a static location and format can be reused
+        List<Object> iconKey = null;
+        if (location instanceof Literal && isStatic(eg.getFormat())) {
+            iconKey = List.of(strLocation, String.valueOf(eg.getFormat()), toImageSize(size));
+            Icon icon = icons.get(iconKey);
+            if (icon != null) {
+                return icon;
+            }
+        }
+
         // scan the external graphic factories and see which one can be used
         Iterator<ExternalGraphicFactory> it =
                 DynamicSymbolFactoryFinder.getExternalGraphicFactories(new Hints(renderingHints));
@@ -1267,6 +1348,9 @@ private Icon getIcon(ExternalGraphic eg, Object feature, double size) {
                 }
                 Icon icon = egf.getIcon((Feature) feature, location, format, toImageSize(size));
                 if (icon != null) {
+                    if (iconKey != null) {
+                        icons.put(iconKey, icon);
+                    }
                     return icon;
                 }
             } catch (Exception e) {
@@ -1277,6 +1361,15 @@ private Icon getIcon(ExternalGraphic eg, Object feature, double size) {
         return null;
     }
 
+    /** Returns true if the string does not contain any embedded ${cqlExpression} */
+    private boolean isStatic(String value) {
+        try {
+            return value == null || ExpressionExtractor.extractCqlExpressions(value) instanceof Literal;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Given a mark and a feature, returns the Shape provided by the first {@link MarkFactory} that was able to handle
      * the Mark
@@ -1301,12 +1394,31 @@ private Shape getShape(Mark mark, Object feature) {
             if (expression != null) name = ExpressionExtractor.extractCqlExpressions(expression);
         }
 
+        // shapes of marks with a static name can be reused, unless the mark factories lookup is customized
+        String shapeKey = null;
+        if (name instanceof Literal
+                && !renderingHints.containsKey(DynamicSymbolFactoryFinder.MARK_FACTORY_FILTER)
+                && !renderingHints.containsKey(DynamicSymbolFactoryFinder.MARK_FACTORY_ORDER)) {
+            shapeKey = name.evaluate(null, String.class);
+        }
+        if (shapeKey != null) {
+            Shape shape = markShapes.get(shapeKey);
+            if (shape != null) {
+                return shape;
+            }
+        }
+
         Iterator<MarkFactory> it = DynamicSymbolFactoryFinder.getMarkFactories(new Hints(renderingHints));
         while (it.hasNext()) {
             MarkFactory factory = it.next();
             try {
                 Shape shape = factory.getShape(null, name, (Feature) feature);
-                if (shape != null) return shape;
+                if (shape != null) {
+                    if (shapeKey != null) {
+                        markShapes.put(shapeKey, shape);
+                    }
+                    return shape;
+                }
             } catch (Exception e) {
                 LOGGER.log(Level.FINE, "Exception while scanning for " + "the appropriate mark factory", e);
             }
@@ -0,0 +1,333 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.style;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import java.awt.Shape;
+import java.awt.TexturePaint;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.swing.Icon;
+
+/**
+ * A size bounded cache of the objects used during rendering: decoded and rescaled external graphics, mark shapes and
+ * {@link Style2D} objects. The size is accounted as an estimate of the bytes held by the cached objects, mostly driven
+ * by the image rasters, and the least recently used entries are evicted first when the cache grows past its maximum
+ * size. Unlike the soft reference based caches it replaces, the entries are not all flushed at once under memory
+ * pressure, and lookups do not contend on a single lock.
+ *
+ * <p>The cache is accessed through {@link #getMap(Object, Metrics) map views}, each one with its own key space, and
+ * optionally recording the lookups in a {@link Metrics} object, which allows to track the cache usage of each renderer
+ * even when the cache is shared. The default instance size is set by the {@link #MAX_SIZE_KEY} system property (64MB
+ * by default). Thread-safe.
+ */
+public final class SymbolCache {
+
+    /** System property setting the maximum size of the default cache, in bytes */
+    public static final String MAX_SIZE_KEY = "org.geotools.renderer.symbolCacheSize";
+
+    private static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+    /** The estimated size of objects not holding images or shapes */
+    static final int BASE_WEIGHT = 128;
+
+    private static volatile SymbolCache defaultCache;
+
+    private final long maximumSizeBytes;
+
+    private final Cache<Key, CachedValue> cache;
+
+    /** @param maximumSizeBytes the maximum number of bytes held by the cache */
+    public SymbolCache(long maximumSizeBytes) {
+        this.maximumSizeBytes = maximumSizeBytes;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(Math.max(maximumSizeBytes, 0))
+                .weigher((Key key, CachedValue entry) -> entry.weight)
+                .removalListener(notification -> {
+                    CachedValue entry = notification.getValue();
+                    if (notification.getCause() == RemovalCause.SIZE && entry != null && entry.metrics != null) {
+                        entry.metrics.evictions.increment();
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cache shared by default by the renderers and graphic factories */
+    public static SymbolCache getDefault() {
+        SymbolCache result = defaultCache;
+        if (result == null) {
+            synchronized (SymbolCache.class) {
+                result = defaultCache;
+                if (result == null) {
+                    result = defaultCache = new SymbolCache(Long.getLong(MAX_SIZE_KEY, DEFAULT_MAX_SIZE));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of the cache for the specified namespace, the keys of different namespaces never clash
+     *
+     * @param namespace the namespace of the view keys, compared by equality
+     */
+    public <K, V> Map<K, V> getMap(Object namespace) {
+        return getMap(namespace, null);
+    }
+
+    /**
+     * Returns a view of the cache for the specified namespace, recording lookups, and evictions of the values it put
+     * in the cache, in the given metrics
+     *
+     * @param namespace the namespace of the view keys, compared by equality
+     * @param metrics the metrics to update, or {@code null}
+     */
+    public <K, V> Map<K, V> getMap(Object namespace, Metrics metrics) {
+        return new CacheMap<>(namespace, metrics);
+    }
+
+    /** Returns the maximum number of bytes held by the cache */
+    public long getMaximumSizeBytes() {
+        return maximumSizeBytes;
+    }
+
+    /** Drops all the cached objects */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** Returns the number of cached objects */
+    public long size() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    /** Returns the number of lookups served by the cache */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** Returns the number of lookups that did not find the object in the cache */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /** Returns the number of objects evicted to honor the size limit */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /** Returns a snapshot of the cache statistics */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+
+    /** Returns the estimated number of bytes held by the object */
+    static long weigh(Object value) {
+        if (value instanceof BufferedImage image) {
+            DataBuffer buffer = image.getRaster().getDataBuffer();
+            long elements = (long) buffer.getSize() * buffer.getNumBanks();
+            return elements * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+        } else if (value instanceof Icon icon) {
+            return (long) icon.getIconWidth() * icon.getIconHeight() * 4;
+        } else if (value instanceof Shape shape) {
+            long segments = 0;
+            for (PathIterator it = shape.getPathIterator(null); !it.isDone(); it.next()) {
+                segments++;
+            }
+            return BASE_WEIGHT + segments * 24;
+        } else if (value instanceof GraphicStyle2D style) {
+            return BASE_WEIGHT + weigh(style.getImage());
+        } else if (value instanceof IconStyle2D style) {
+            return BASE_WEIGHT + weigh(style.getIcon());
+        } else if (value instanceof MarkStyle2D style) {
+            return BASE_WEIGHT + weigh(style.getShape());
+        } else if (value instanceof PolygonStyle2D style && style.getFill() instanceof TexturePaint paint) {
+            return BASE_WEIGHT + weigh(paint.getImage());
+        }
+        return BASE_WEIGHT;
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return "SymbolCache[maximumSizeBytes=" + maximumSizeBytes + ", entries=" + cache.size() + ", hits="
+                + stats.hitCount() + ", misses=" + stats.missCount() + ", evictions=" + stats.evictionCount() + "]";
+    }
+
+    /** The lookups performed by a consumer of the cache, usually a renderer */
+    public static class Metrics {
+
+        final LongAdder hits = new LongAdder();
+
+        final LongAdder misses = new LongAdder();
+
+        final LongAdder evictions = new LongAdder();
+
+        /** The number of lookups served by the cache */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /** The number of lookups that did not find the object in the cache */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /** The number of objects put in the cache by this consumer, and then evicted to honor the size limit */
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        /** The ratio of the lookups served by the cache, 1 if no lookup was performed */
+        public double getHitRatio() {
+            long hits = getHits();
+            long lookups = hits + getMisses();
+            return lookups == 0 ? 1 : hits / (double) lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics[hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions() + "]";
+        }
+    }
+
+    private static final class Key {
+
+        final Object namespace;
+
+        final Object key;
+
+        Key(Object namespace, Object key) {
+            this.namespace = namespace;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return namespace.equals(that.namespace) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * namespace.hashCode() + Objects.hashCode(key);
+        }
+    }
+
+    private static final class CachedValue {
+
+        final Object value;
+
+        final int weight;
+
+        final Metrics metrics;
+
+        CachedValue(Object value, Metrics metrics) {
+            this.value = value;
+            this.weight = (int) Math.min(weigh(value), Integer.MAX_VALUE);
+            this.metrics = metrics;
+        }
+    }
+
+    /** A map view over the entries of a namespace */
+    private final class CacheMap<K, V> extends AbstractMap<K, V> {
+
+        private final Object namespace;
+
+        private final Metrics metrics;
+
+        CacheMap(Object namespace, Metrics metrics) {
+            this.namespace = Objects.requireNonNull(namespace);
+            this.metrics = metrics;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            CachedValue entry = cache.getIfPresent(new Key(namespace, key));
+            if (metrics != null) {
+                (entry != null ? metrics.hits : metrics.misses).increment();
+            }
+            return entry != null ? (V) entry.value : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return cache.asMap().containsKey(new Key(namespace, key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V put(K key, V value) {
+            CachedValue entry = new CachedValue(Objects.requireNonNull(value), metrics);
+            CachedValue previous = cache.asMap().put(new Key(namespace, key), entry);
+            return previous != null ? (V) previous.value : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V remove(Object key) {
+            CachedValue previous = cache.asMap().remove(new Key(namespace, key));
+            return previous != null ? (V) previous.value : null;
+        }
+
+        @Override
+        public void clear() {
+            cache.asMap().keySet().removeIf(k -> k.namespace.equals(namespace));
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return cache.asMap().entrySet().stream()
+                            .filter(e -> e.getKey().namespace.equals(namespace))
+                            .map(e -> (Map.Entry<K, V>)
+                                    new SimpleImmutableEntry<>((K) e.getKey().key, (V) e.getValue().value))
+                            .collect(Collectors.toList())
+                            .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return (int) cache.asMap().keySet().stream()
+                            .filter(k -> k.namespace.equals(namespace))
+                            .count();
+                }
+            };
+        }
+    }
+}
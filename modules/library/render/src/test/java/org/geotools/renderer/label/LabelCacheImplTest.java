@@ -2,6 +2,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -16,6 +17,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -32,6 +34,7 @@
 import org.geotools.styling.StyleBuilder;
 import org.geotools.test.TestGraphics;
 import org.geotools.util.NumberRange;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.locationtech.jts.geom.Geometry;
@@ -261,6 +264,42 @@ public void testFollowLineAutoWrap() throws Exception {
         assertEquals(0, item.getAutoWrap());
     }
 
+    @Test
+    public void testParallelLayout() throws Exception {
+        Font font = sb.createFont("Bitstream Vera Sans", 12);
+        TextSymbolizer ts = sb.createTextSymbolizer(Color.BLACK, font, "name");
+        for (int i = 0; i < LabelCacheImpl.PARALLEL_LAYOUT_THRESHOLD * 2; i++) {
+            addToCache(cache, ts, createFeature("label " + i, geometry("POINT(" + i + " " + i + ")")));
+        }
+        cache.endLayer(LAYER_ID, null, null);
+        BufferedImage bi = new BufferedImage(256, 256, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = bi.createGraphics();
+        List<LabelCacheItem> items = cache.getActiveLabels();
+
+        Map<LabelCacheItem, LabelPainter.Layout> layouts = cache.layoutLabels(graphics, items);
+        // not computed in parallel on a single core machine
+        Assume.assumeNotNull(layouts);
+        assertEquals(items.size(), layouts.size());
+
+        // same results as the layout performed by the painter
+        LabelPainter painter = new LabelPainter(graphics, LabelCacheImpl.LabelRenderingMode.STRING);
+        for (LabelCacheItem item : items) {
+            painter.setLabel(item);
+            assertEquals(painter.getLabelBounds(), layouts.get(item).bounds);
+        }
+
+        // the painter uses the precomputed layouts
+        painter.setLayouts(layouts);
+        LabelCacheItem item = items.get(0);
+        painter.setLabel(item);
+        assertSame(layouts.get(item).lines, painter.lines);
+
+        // unless the style changed in the meantime
+        item.setTextStyle(new TextStyle2DExt(item));
+        painter.setLabel(item);
+        assertNotSame(layouts.get(item).lines, painter.lines);
+    }
+
     private SimpleFeature createFeature(String label, Geometry geom) {
         fb.add(label);
         fb.add(geom);
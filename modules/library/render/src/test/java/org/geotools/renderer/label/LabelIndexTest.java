@@ -0,0 +1,113 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+import org.junit.Test;
+
+public class LabelIndexTest {
+
+    @Test
+    public void testOverlapAndDistance() {
+        LabelIndex index = new LabelIndex(new Rectangle(0, 0, 256, 256));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(10, 10, 20, 20), 0));
+
+        index.addLabel(null, new Rectangle2D.Double(10, 10, 20, 20));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(25, 25, 20, 20), 0));
+        // touching counts as overlap
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(30, 10, 20, 20), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(35, 10, 20, 20), 0));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(35, 10, 20, 20), 5));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(35, 10, 20, 20), -1));
+        // far away, in another cell
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(200, 200, 20, 20), 10));
+    }
+
+    @Test
+    public void testOutsideArea() {
+        LabelIndex index = new LabelIndex(new Rectangle(0, 0, 100, 100));
+        index.addLabel(null, new Rectangle2D.Double(-50, -50, 10, 10));
+        index.addLabel(null, new Rectangle2D.Double(90, 90, 100, 20));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(-45, -45, 10, 10), 0));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(180, 95, 10, 10), 0));
+        // clamped to the same border cells, but not overlapping
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(-100, -100, 10, 10), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(300, 300, 10, 10), 0));
+    }
+
+    @Test
+    public void testReservedArea() {
+        LabelIndex index = new LabelIndex();
+        index.reserveArea(List.of(new Rectangle2D.Double(0, 0, 50, 50)));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(40, 40, 20, 20), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(60, 60, 20, 20), 0));
+    }
+
+    @Test
+    public void testRotatedLabels() {
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 100, 10);
+        AffineTransform tx1 = AffineTransform.getTranslateInstance(50, 50);
+        tx1.rotate(Math.PI / 4);
+        // parallel to the first one, shifted by 20 pixels in the perpendicular direction, leaving a 10 pixels gap
+        double offset = 20 / Math.sqrt(2);
+        AffineTransform tx2 = AffineTransform.getTranslateInstance(50 - offset, 50 + offset);
+        tx2.rotate(Math.PI / 4);
+
+        LabelIndex index = new LabelIndex(new Rectangle(0, 0, 256, 256));
+        index.addLabel(null, bounds, tx1);
+
+        // the envelopes overlap, the actual labels do not
+        Rectangle2D envelope2 = tx2.createTransformedShape(bounds).getBounds2D();
+        assertTrue(index.labelsWithinDistance(envelope2, 0));
+        assertFalse(index.labelsWithinDistance(bounds, tx2, 0));
+        assertFalse(index.labelsWithinDistance(bounds, tx2, 9));
+        assertTrue(index.labelsWithinDistance(bounds, tx2, 11));
+
+        // overlapping the first one
+        AffineTransform tx3 = AffineTransform.getTranslateInstance(60, 60);
+        tx3.rotate(Math.PI / 4);
+        assertTrue(index.labelsWithinDistance(bounds, tx3, 0));
+        // crossing it
+        AffineTransform tx4 = AffineTransform.getTranslateInstance(60, 100);
+        tx4.rotate(-Math.PI / 4);
+        assertTrue(index.labelsWithinDistance(bounds, tx4, 0));
+    }
+
+    @Test
+    public void testRotatedAgainstStraight() {
+        LabelIndex index = new LabelIndex(new Rectangle(0, 0, 256, 256));
+        // a straight label right of the origin
+        index.addLabel(null, new Rectangle2D.Double(20, 0, 50, 10));
+
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 100, 10);
+        // going down diagonally from the origin, the envelope covers the straight label, the label does not
+        AffineTransform tx = AffineTransform.getRotateInstance(Math.PI / 4);
+        assertTrue(index.labelsWithinDistance(tx.createTransformedShape(bounds).getBounds2D(), 0));
+        assertFalse(index.labelsWithinDistance(bounds, tx, 0));
+
+        // a straight transform behaves like a plain envelope check
+        AffineTransform translate = AffineTransform.getTranslateInstance(30, 0);
+        assertTrue(index.labelsWithinDistance(bounds, translate, 0));
+        assertFalse(index.labelsWithinDistance(bounds, AffineTransform.getTranslateInstance(0, 20), 0));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.style.Style;
+import org.geotools.data.property.PropertyDataStore;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.renderer.RenderListener;
+import org.geotools.styling.StyleBuilder;
+import org.geotools.test.TestData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelLayerRenderingTest {
+
+    ExecutorService executor;
+
+    MapContent mc;
+
+    ReferencedEnvelope bounds = new ReferencedEnvelope(0, 20, 0, 10, DefaultGeographicCRS.WGS84);
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+
+        File property = new File(TestData.getResource(this, "buildings.properties").toURI());
+        PropertyDataStore ds = new PropertyDataStore(property.getParentFile());
+
+        StyleBuilder sb = new StyleBuilder();
+        Style polygons = sb.createStyle(sb.createPolygonSymbolizer(Color.GRAY, Color.BLACK, 1));
+        polygons.setBackground(sb.createFill(Color.YELLOW, 0.2));
+        Style lines = sb.createStyle(sb.createLineSymbolizer(Color.BLUE, 3));
+        lines.featureTypeStyles()
+                .get(0)
+                .rules()
+                .get(0)
+                .symbolizers()
+                .add(sb.createTextSymbolizer(Color.BLACK, sb.createFont("Serif", 12), "name"));
+        Style points = sb.createStyle(sb.createPointSymbolizer(
+                sb.createGraphic(null, sb.createMark("circle", Color.RED, Color.BLACK, 1), null)));
+
+        mc = new MapContent();
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("buildings"), polygons));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("diaglines"), lines));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("point"), points));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("buildings"), sb.createStyle(sb.createLineSymbolizer())));
+    }
+
+    @After
+    public void tearDown() {
+        mc.dispose();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSameOutputAsSequential() throws Exception {
+        StreamingRenderer sequential = new StreamingRenderer();
+        sequential.setMapContent(mc);
+        ConcurrentCountingListener sequentialCounter = new ConcurrentCountingListener();
+        BufferedImage expected = RendererBaseTest.renderImage(sequential, bounds, sequentialCounter);
+
+        StreamingRenderer parallel = new StreamingRenderer();
+        parallel.setMapContent(mc);
+        parallel.setLayerThreadPool(executor);
+        ConcurrentCountingListener parallelCounter = new ConcurrentCountingListener();
+        BufferedImage actual = RendererBaseTest.renderImage(parallel, bounds, parallelCounter);
+
+        ImageAssert.assertEquals(expected, actual, 10);
+        assertEquals(sequentialCounter.features.get(), parallelCounter.features.get());
+        assertEquals(0, parallelCounter.errors.get());
+    }
+
+    @Test
+    public void testRepeatedRendering() throws Exception {
+        StreamingRenderer parallel = new StreamingRenderer();
+        parallel.setMapContent(mc);
+        parallel.setLayerThreadPool(executor);
+        BufferedImage first = RendererBaseTest.renderImage(parallel, bounds, null);
+        for (int i = 0; i < 5; i++) {
+            BufferedImage other = RendererBaseTest.renderImage(parallel, bounds, null);
+            ImageAssert.assertEquals(first, other, 0);
+        }
+    }
+
+    @Test
+    public void testPaintAreaOrigin() throws Exception {
+        StreamingRenderer sequential = new StreamingRenderer();
+        sequential.setMapContent(mc);
+        BufferedImage expected = renderOffset(sequential);
+
+        StreamingRenderer parallel = new StreamingRenderer();
+        parallel.setMapContent(mc);
+        parallel.setLayerThreadPool(executor);
+        BufferedImage actual = renderOffset(parallel);
+
+        ImageAssert.assertEquals(expected, actual, 10);
+    }
+
+    @Test
+    public void testMergeRestoresComposite() throws Exception {
+        BufferedImage target = new BufferedImage(10, 10, BufferedImage.TYPE_4BYTE_ABGR);
+        BufferedImage layer = new BufferedImage(10, 10, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            Composite composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f);
+            graphics.setComposite(composite);
+            new StreamingRenderer.MergeLayerImageRequest(graphics, layer, new Point(0, 0)).execute();
+            assertEquals(composite, graphics.getComposite());
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /** Renders the map in an area not starting at the origin of the image */
+    private BufferedImage renderOffset(StreamingRenderer renderer) {
+        BufferedImage image = new BufferedImage(300, 150, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            renderer.paint(graphics, new Rectangle(50, 30, 200, 100), bounds);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    /** A feature counting listener that can be used from multiple threads */
+    static class ConcurrentCountingListener implements RenderListener {
+        AtomicInteger features = new AtomicInteger();
+
+        AtomicInteger errors = new AtomicInteger();
+
+        @Override
+        public void featureRenderer(SimpleFeature feature) {
+            features.incrementAndGet();
+        }
+
+        @Override
+        public void errorOccurred(Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+}
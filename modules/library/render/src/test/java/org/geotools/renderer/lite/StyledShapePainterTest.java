@@ -16,9 +16,14 @@
  */
 package org.geotools.renderer.lite;
 
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.WritableRaster;
 import java.net.URL;
@@ -37,6 +42,7 @@
 import org.geotools.geometry.jts.JTSFactoryFinder;
 import org.geotools.geometry.jts.LiteShape2;
 import org.geotools.referencing.operation.transform.ProjectiveTransform;
+import org.geotools.renderer.style.MarkStyle2D;
 import org.geotools.styling.GraphicImpl;
 import org.geotools.test.TestData;
 import org.geotools.util.factory.GeoTools;
@@ -272,4 +278,68 @@ public void testGraphicLegend2() throws Exception {
         Assert.assertEquals(0, image.getRaster().getSample(90, 30, 1));
         Assert.assertEquals(0, image.getRaster().getSample(90, 30, 2));
     }
+
+    @Test
+    public void testMarkStamping() throws Exception {
+        MarkStyle2D style = new MarkStyle2D();
+        style.setShape(new Ellipse2D.Double(-0.5, -0.5, 1, 1));
+        style.setSize(16);
+        style.setFill(Color.RED);
+        style.setFillComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+        style.setContour(Color.BLACK);
+        style.setContourComposite(AlphaComposite.SrcOver);
+        style.setStroke(new BasicStroke(1.5f));
+
+        // placed on the sub-pixel grid the stamps are rasterized at, the output is the same, short of rounding
+        double[][] points = {{20, 20}, {50.25, 20.5}, {20.75, 50.25}, {50.5, 50.75}, {50.25, 20.5}};
+        StyledShapePainter painter = new StyledShapePainter();
+        BufferedImage expected = paintPoints(painter, style, points);
+        Assert.assertNull(painter.stamps.getStamp(expected.createGraphics(), style));
+
+        painter.setSymbolStampingEnabled(true);
+        BufferedImage actual = paintPoints(painter, style, points);
+        Assert.assertNotNull(painter.stamps.getStamp(actual.createGraphics(), style));
+        Assert.assertFalse(imagesIdentical(expected, new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB)));
+        int[] expectedPixels = expected.getRaster().getPixels(0, 0, 100, 100, (int[]) null);
+        int[] actualPixels = actual.getRaster().getPixels(0, 0, 100, 100, (int[]) null);
+        for (int i = 0; i < expectedPixels.length; i++) {
+            Assert.assertEquals(expectedPixels[i], actualPixels[i], 1);
+        }
+    }
+
+    @Test
+    public void testMarkStampingFallback() throws Exception {
+        MarkStyle2D style = new MarkStyle2D();
+        style.setShape(new Rectangle(-1, -1, 2, 2));
+        style.setSize(10);
+        style.setFill(Color.RED);
+        style.setFillComposite(AlphaComposite.Xor);
+
+        StyledShapePainter painter = new StyledShapePainter();
+        painter.setSymbolStampingEnabled(true);
+        BufferedImage image = paintPoints(painter, style, new double[][] {{20, 20}, {50, 50}});
+        // not a plain source over composite, painted as vectors
+        Graphics2D graphics = image.createGraphics();
+        Assert.assertNull(painter.stamps.getStamp(graphics, style));
+
+        // styles built for each feature are not stamped either
+        Assert.assertNull(painter.stamps.getStamp(graphics, new MarkStyle2D()));
+
+        // and stamping is disabled on scaled outputs
+        graphics.scale(2, 2);
+        Assert.assertNull(painter.stamps.getStamp(graphics, style));
+    }
+
+    private BufferedImage paintPoints(StyledShapePainter painter, MarkStyle2D style, double[][] points) {
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        GeometryFactory gf = new GeometryFactory();
+        for (double[] p : points) {
+            Point point = gf.createPoint(new Coordinate(p[0], p[1]));
+            painter.paint(graphics, new LiteShape2(point, null, null, false), style, 1);
+        }
+        graphics.dispose();
+        return image;
+    }
 }
@@ -634,6 +634,35 @@ public void testDashArrayNearZero() throws Exception {
         Assert.assertNull(bs.getDashArray());
     }
 
+    @Test
+    public void testPrewarm() {
+        StyleBuilder sb = new StyleBuilder();
+        PointSymbolizer ps = sb.createPointSymbolizer(sb.createGraphic(null, sb.createMark("square", Color.red), null));
+        LineSymbolizer ls = sb.createLineSymbolizer(Color.blue, 2);
+        TextSymbolizer ts = sb.createTextSymbolizer(Color.black, sb.createFont("Serif", 10), "symb");
+        LineSymbolizer dynamic = sb.createLineSymbolizer(
+                sb.createStroke(sb.colorExpression(Color.green), sb.attributeExpression("width")));
+        Style style = sb.createStyle();
+        style.featureTypeStyles().add(sb.createFeatureTypeStyle("test", ps, ls, ts, dynamic));
+
+        sld.prewarm(style);
+        Assert.assertTrue(sld.staticSymbolizers.containsKey(new SymbolizerKey(ps, null)));
+        Assert.assertTrue(sld.staticSymbolizers.containsKey(new SymbolizerKey(ls, null)));
+        Assert.assertFalse(sld.staticSymbolizers.containsKey(new SymbolizerKey(ts, null)));
+        // symbolizers depending on attributes are not evaluated without a feature
+        Assert.assertFalse(sld.staticSymbolizers.containsKey(new SymbolizerKey(dynamic, null)));
+        Assert.assertFalse(sld.dynamicSymbolizers.containsKey(new SymbolizerKey(dynamic, null)));
+        Assert.assertTrue(sld.markShapes.containsKey("square"));
+
+        // the first feature gets the prepared style
+        SymbolCache.Metrics metrics = sld.getCacheMetrics();
+        long hits = metrics.getHits();
+        Style2D prewarmed = sld.staticSymbolizers.get(new SymbolizerKey(ps, null));
+        assertEquals(hits + 1, metrics.getHits());
+        Assert.assertSame(prewarmed, sld.createStyle(feature, ps));
+        assertEquals(hits + 2, metrics.getHits());
+    }
+
     @Test
     public void testOptimizedMarkFactoryHints() {
         // create a list with two mark factories identifiers
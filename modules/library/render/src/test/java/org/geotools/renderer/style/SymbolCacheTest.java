@@ -0,0 +1,109 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.style;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import org.junit.Test;
+
+public class SymbolCacheTest {
+
+    @Test
+    public void testMetrics() {
+        SymbolCache cache = new SymbolCache(1024 * 1024);
+        SymbolCache.Metrics metrics = new SymbolCache.Metrics();
+        Map<String, Object> map = cache.getMap("test", metrics);
+        assertEquals(1, metrics.getHitRatio(), 0);
+
+        assertNull(map.get("a"));
+        Object value = new Object();
+        map.put("a", value);
+        assertSame(value, map.get("a"));
+        assertEquals(1, metrics.getHits());
+        assertEquals(1, metrics.getMisses());
+        assertEquals(0.5, metrics.getHitRatio(), 0);
+        // containment checks are not lookups
+        assertTrue(map.containsKey("a"));
+        assertEquals(2, metrics.getHits() + metrics.getMisses());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testEviction() {
+        // room for a few dozen small objects
+        SymbolCache cache = new SymbolCache(SymbolCache.BASE_WEIGHT * 40);
+        SymbolCache.Metrics metrics = new SymbolCache.Metrics();
+        Map<Integer, String> map = cache.getMap("test", metrics);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value" + i);
+        }
+        long size = cache.size();
+        assertTrue(size > 0 && size <= 40);
+        assertEquals(100 - size, metrics.getEvictions());
+        assertEquals(100 - size, cache.getEvictionCount());
+        // the last inserted object is still there
+        assertEquals("value99", map.get(99));
+    }
+
+    @Test
+    public void testImagesWeight() {
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        assertEquals(40000, SymbolCache.weigh(image));
+        BufferedImage gray = new BufferedImage(100, 100, BufferedImage.TYPE_BYTE_GRAY);
+        assertEquals(10000, SymbolCache.weigh(gray));
+        assertTrue(SymbolCache.weigh(new Rectangle(0, 0, 10, 10)) > SymbolCache.BASE_WEIGHT);
+
+        // an image larger than the whole cache is not retained
+        SymbolCache cache = new SymbolCache(1000);
+        Map<String, BufferedImage> map = cache.getMap("images");
+        map.put("image", image);
+        assertNull(map.get("image"));
+    }
+
+    @Test
+    public void testNamespaces() {
+        SymbolCache cache = new SymbolCache(1024 * 1024);
+        Map<String, String> map1 = cache.getMap("ns1");
+        Map<String, String> map2 = cache.getMap("ns2");
+        map1.put("a", "1");
+        map1.put("b", "1");
+        map2.put("a", "2");
+
+        assertEquals("1", map1.get("a"));
+        assertEquals("2", map2.get("a"));
+        assertEquals(2, map1.size());
+        assertEquals(1, map2.size());
+        assertEquals(Map.of("a", "2"), Map.copyOf(map2));
+
+        map1.clear();
+        assertTrue(map1.isEmpty());
+        assertFalse(map1.containsKey("a"));
+        assertEquals("2", map2.get("a"));
+        assertEquals(1, cache.size());
+
+        assertEquals("2", map2.remove("a"));
+        assertEquals(0, cache.size());
+    }
+}
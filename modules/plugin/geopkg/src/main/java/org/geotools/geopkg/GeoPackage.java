@@ -72,6 +72,7 @@
 import org.geotools.data.jdbc.datasource.ManageableDataSource;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.data.store.ContentDataStore;
 import org.geotools.data.store.ReprojectingFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.feature.type.AttributeDescriptorImpl;
@@ -85,6 +86,7 @@
 import org.geotools.geopkg.geom.GeometryDoubleFunction;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.jdbc.JDBCDataStoreFactory;
+import org.geotools.jdbc.JDBCFeatureSource;
 import org.geotools.jdbc.JDBCFeatureStore;
 import org.geotools.jdbc.PrimaryKey;
 import org.geotools.jdbc.util.SqlUtil;
@@ -198,6 +200,12 @@ public String value() {
 
     private static SQLScriptCache SCRIPT_CACHE = new SQLScriptCache();
 
+    /** Number of features inserted in each batch by the bulk loading methods */
+    static final int BULK_BATCH_SIZE = 10000;
+
+    /** Page cache size of the bulk loading connection, in KiB */
+    static final int BULK_CACHE_SIZE = 256 * 1024;
+
     public GeoPkgGeomWriter.Configuration getWriterConfiguration() {
         return writerConfig;
     }
@@ -929,27 +937,8 @@ public void add(FeatureEntry entry, SimpleFeatureCollection collection) throws I
 
         Transaction tx = new DefaultTransaction();
         try {
-            try (SimpleFeatureWriter w = writer(e, true, null, tx);
-                    SimpleFeatureIterator it = collection.features()) {
-                while (it.hasNext()) {
-                    SimpleFeature f = it.next();
-                    SimpleFeature g = w.next();
-                    g.setAttributes(f.getAttributes());
-                    for (PropertyDescriptor pd : collection.getSchema().getDescriptors()) {
-                        /* geopkg spec requires booleans to be stored as SQLite integers this fixes
-                         * bug reported by GEOT-5904 */
-                        String name = pd.getName().getLocalPart();
-                        if (pd.getType().getBinding() == Boolean.class) {
-                            int bool = 0;
-                            if (f.getAttribute(name) != null) {
-                                bool = (Boolean) f.getAttribute(name) ? 1 : 0;
-                            }
-                            g.setAttribute(name, bool);
-                        }
-                    }
-
-                    w.write();
-                }
+            try (SimpleFeatureWriter w = writer(e, true, null, tx)) {
+                copyFeatures(collection, w);
             }
             tx.commit();
         } catch (Exception ex) {
@@ -961,6 +950,218 @@ public void add(FeatureEntry entry, SimpleFeatureCollection collection) throws I
         entry.init(e);
     }
 
+    private void copyFeatures(SimpleFeatureCollection collection, SimpleFeatureWriter w) throws IOException {
+        try (SimpleFeatureIterator it = collection.features()) {
+            while (it.hasNext()) {
+                SimpleFeature f = it.next();
+                SimpleFeature g = w.next();
+                g.setAttributes(f.getAttributes());
+                for (PropertyDescriptor pd : collection.getSchema().getDescriptors()) {
+                    /* geopkg spec requires booleans to be stored as SQLite integers this fixes
+                     * bug reported by GEOT-5904 */
+                    String name = pd.getName().getLocalPart();
+                    if (pd.getType().getBinding() == Boolean.class) {
+                        int bool = 0;
+                        if (f.getAttribute(name) != null) {
+                            bool = (Boolean) f.getAttribute(name) ? 1 : 0;
+                        }
+                        g.setAttribute(name, bool);
+                    }
+                }
+
+                w.write();
+            }
+        }
+    }
+
+    /**
+     * Adds a new feature dataset to the geopackage in bulk load mode, meant for large datasets.
+     *
+     * <p>The features are inserted in large batches within a single transaction, on a connection using the write-ahead
+     * log and relaxed synchronization. The spatial index, if requested, is built in a single pass once all the features
+     * have been inserted, instead of being updated on each insert. The database is left in write-ahead log journal
+     * mode, the log being checkpointed into the database file at the end of the load.
+     *
+     * @param entry Contains metadata about the feature entry.
+     * @param collection The simple feature collection to add to the geopackage.
+     * @param spatialIndex Whether to create a spatial index for the new feature dataset.
+     * @throws IOException Any errors occurring while adding the new feature dataset.
+     * @since 36.0
+     */
+    public void bulkAdd(FeatureEntry entry, SimpleFeatureCollection collection, boolean spatialIndex)
+            throws IOException {
+        FeatureEntry e = new FeatureEntry();
+        e.init(entry);
+
+        collection = forceXY(collection);
+
+        if (e.getBounds() == null) {
+            e.setBounds(collection.getBounds());
+        }
+
+        create(e, collection.getSchema());
+        bulkLoad(e, collection, spatialIndex);
+        entry.init(e);
+    }
+
+    /**
+     * Appends features to an existing feature dataset in bulk load mode, as described in
+     * {@link #bulkAdd(FeatureEntry, SimpleFeatureCollection, boolean)}. If the dataset has a spatial index, its insert
+     * trigger is dropped during the load, and the new features are indexed in a single pass at the end.
+     *
+     * <p>The features added are told apart from the existing ones by their primary key, which is assumed to be an
+     * integer key generated by the database in increasing order, as the {@code INTEGER PRIMARY KEY AUTOINCREMENT}
+     * columns of the feature tables created by this class are. Appending to an indexed table whose primary key is not
+     * an integer fails, while keys not assigned in increasing order would leave some of the new features out of the
+     * spatial index.
+     *
+     * @param entry The feature entry.
+     * @param collection The simple feature collection to append to the feature dataset.
+     * @throws IOException Any errors occurring while appending the features.
+     * @since 36.0
+     */
+    public void bulkAppend(FeatureEntry entry, SimpleFeatureCollection collection) throws IOException {
+        bulkLoad(entry, forceXY(collection), false);
+    }
+
+    private void bulkLoad(FeatureEntry e, SimpleFeatureCollection collection, boolean createIndex)
+            throws IOException {
+        JDBCDataStore dataStore = dataStore();
+        boolean indexed = hasSpatialIndex(e);
+        Map<String, String> properties = indexed || createIndex ? getSpatialIndexProperties(e) : null;
+        if (indexed) {
+            // the appended rows are told apart from the indexed ones by their key, generated in increasing order
+            PrimaryKey pk = ((JDBCFeatureStore) dataStore.getFeatureSource(e.getTableName())).getPrimaryKey();
+            Class<?> type = pk.getColumns().get(0).getType();
+            if (type != Integer.class && type != Long.class && type != Short.class && type != Byte.class) {
+                throw new IOException("Bulk append to an indexed table requires an integer primary key, "
+                        + e.getTableName()
+                        + " has a primary key of type "
+                        + type);
+            }
+        }
+
+        try (Connection cx = connPool.getConnection()) {
+            init(cx);
+            // the connection might be pooled, the connection level settings are restored at the end
+            String synchronous = queryPragma("synchronous", cx);
+            String tempStore = queryPragma("temp_store", cx);
+            String cacheSize = queryPragma("cache_size", cx);
+            Exception failure = null;
+            try {
+                // the journal mode is persistent, switching back would require exclusive access to the database
+                runSQL("PRAGMA journal_mode = WAL", cx);
+                runSQL("PRAGMA synchronous = OFF", cx);
+                runSQL("PRAGMA temp_store = MEMORY", cx);
+                runSQL("PRAGMA cache_size = -" + BULK_CACHE_SIZE, cx);
+                bulkLoad(dataStore, e, collection, indexed, createIndex, properties, cx);
+            } catch (IOException | SQLException | RuntimeException ex) {
+                failure = ex;
+                throw ex;
+            } finally {
+                try {
+                    // move the log contents into the database file, so that it can be copied around right away
+                    runSQL("PRAGMA wal_checkpoint(TRUNCATE)", cx);
+                    runSQL("PRAGMA synchronous = " + synchronous, cx);
+                    runSQL("PRAGMA temp_store = " + tempStore, cx);
+                    runSQL("PRAGMA cache_size = " + cacheSize, cx);
+                } catch (SQLException ex) {
+                    if (failure == null) {
+                        throw ex;
+                    }
+                    failure.addSuppressed(ex);
+                }
+            }
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource") // the transaction wraps the connection, closed on its own
+    private void bulkLoad(
+            JDBCDataStore dataStore,
+            FeatureEntry e,
+            SimpleFeatureCollection collection,
+            boolean indexed,
+            boolean createIndex,
+            Map<String, String> properties,
+            Connection cx)
+            throws IOException, SQLException {
+        cx.setAutoCommit(false);
+        try {
+            // disable the index insert trigger, remembering the rows already indexed
+            String trigger = null;
+            long maxId = 0;
+            if (indexed) {
+                String triggerName = getSpatialIndexName(e) + "_insert";
+                try (PreparedStatement ps = prepare(
+                                        cx, "SELECT sql FROM sqlite_master WHERE type = 'trigger' AND name = ?")
+                                .set(triggerName)
+                                .log(Level.FINE)
+                                .statement();
+                        ResultSet rs = ps.executeQuery()) {
+                    trigger = rs.next() ? rs.getString(1) : null;
+                }
+                if (trigger != null) {
+                    runSQL("DROP TRIGGER \"" + triggerName + "\"", cx);
+                }
+                try (Statement st = cx.createStatement();
+                        ResultSet rs = st.executeQuery("SELECT MAX(\"%s\") FROM \"%s\""
+                                .formatted(properties.get("i"), e.getTableName()))) {
+                    maxId = rs.next() ? rs.getLong(1) : 0;
+                }
+            }
+
+            Transaction tx = dataStore.buildTransaction(cx);
+            try (SimpleFeatureWriter w = bulkWriter(dataStore, e, tx)) {
+                copyFeatures(collection, w);
+            } finally {
+                tx.close();
+            }
+
+            if (indexed) {
+                // index the new rows in a single sorted pass, as the spatial index script does
+                String sql = "INSERT OR REPLACE INTO \"rtree_%1$s_%2$s\" "
+                        + "SELECT \"%3$s\", ST_MinX(\"%2$s\"), ST_MaxX(\"%2$s\"), ST_MinY(\"%2$s\"), "
+                        + "ST_MaxY(\"%2$s\") FROM \"%1$s\" WHERE \"%3$s\" > %4$d "
+                        + "AND \"%2$s\" NOT NULL AND NOT ST_IsEmpty(\"%2$s\") "
+                        + "ORDER BY ST_MinX(\"%2$s\") + ST_MaxX(\"%2$s\"), ST_MinY(\"%2$s\") + ST_MaxY(\"%2$s\")";
+                runSQL(sql.formatted(properties.get("t"), properties.get("c"), properties.get("i"), maxId), cx);
+                if (trigger != null) {
+                    runSQL(trigger, cx);
+                }
+            } else if (createIndex) {
+                runScript(SPATIAL_INDEX + ".sql", cx, properties);
+            }
+            cx.commit();
+        } catch (Exception ex) {
+            cx.rollback();
+            throw new IOException("Failed to bulk load features into " + e.getTableName(), ex);
+        } finally {
+            cx.setAutoCommit(true);
+        }
+    }
+
+    private static String queryPragma(String pragma, Connection cx) throws SQLException {
+        try (Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery("PRAGMA " + pragma)) {
+            if (!rs.next()) {
+                throw new SQLException("No value returned for pragma " + pragma);
+            }
+            return rs.getString(1);
+        }
+    }
+
+    /** Returns an appending writer using large insert batches, leaving the data store batch size alone */
+    private SimpleFeatureWriter bulkWriter(JDBCDataStore dataStore, FeatureEntry e, Transaction tx)
+            throws IOException {
+        Query q = new Query(e.getTableName(), Filter.INCLUDE);
+        int batchSize = Math.max(dataStore.getBatchInsertSize(), BULK_BATCH_SIZE);
+        q.getHints().put(JDBCFeatureSource.BATCH_INSERT_SIZE, batchSize);
+        JDBCFeatureStore store = (JDBCFeatureStore) dataStore.getFeatureSource(e.getTableName(), tx);
+        return Features.simple(store.getWriter(q, ContentDataStore.WRITER_ADD));
+    }
+
     /**
      * Adds a new feature dataset to the geopackage.
      *
@@ -1224,9 +1425,20 @@ void deleteGeometryColumnsEntry(FeatureEntry e) throws IOException {
      * @param e feature entry to create spatial index for
      */
     public void createSpatialIndex(FeatureEntry e) throws IOException {
+        Map<String, String> properties = getSpatialIndexProperties(e);
+
+        try (Connection cx = connPool.getConnection()) {
+            runScript(SPATIAL_INDEX + ".sql", cx, properties);
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /** Returns the table, geometry column and primary key properties of the spatial index script */
+    private Map<String, String> getSpatialIndexProperties(FeatureEntry e) throws IOException {
         Map<String, String> properties = new HashMap<>();
 
-        PrimaryKey pk = ((JDBCFeatureStore) dataStore.getFeatureSource(e.getTableName())).getPrimaryKey();
+        PrimaryKey pk = ((JDBCFeatureStore) dataStore().getFeatureSource(e.getTableName())).getPrimaryKey();
         if (pk.getColumns().size() != 1) {
             throw new IOException("Spatial index only supported for primary key of single column.");
         }
@@ -1234,12 +1446,7 @@ public void createSpatialIndex(FeatureEntry e) throws IOException {
         properties.put("t", e.getTableName());
         properties.put("c", e.getGeometryColumn());
         properties.put("i", pk.getColumns().get(0).getName());
-
-        try (Connection cx = connPool.getConnection()) {
-            runScript(SPATIAL_INDEX + ".sql", cx, properties);
-        } catch (SQLException ex) {
-            throw new IOException(ex);
-        }
+        return properties;
     }
 
     public static int findSRID(Connection cx, CoordinateReferenceSystem crs) {
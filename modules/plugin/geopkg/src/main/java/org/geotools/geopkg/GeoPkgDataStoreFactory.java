@@ -59,6 +59,13 @@ public class GeoPkgDataStoreFactory extends JDBCDataStoreFactory {
     public static final Param MEMORY_MAP_SIZE =
             new Param("memory map size", Integer.class, "Max memory SQlite will memory map, in megabytes", false, null);
 
+    /**
+     * Whether to use the write-ahead log journal mode, which speeds up writes and allows reads concurrent with them.
+     * The mode is persistent, the database will keep on using it once enabled.
+     */
+    public static final Param WAL =
+            new Param("wal", Boolean.class, "Use the write-ahead log journal mode", false, Boolean.FALSE);
+
     /** base location to store database files */
     File baseDirectory = null;
 
@@ -183,6 +190,8 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(IMMUTABLE.key, IMMUTABLE);
         // memory mapping
         parameters.put(MEMORY_MAP_SIZE.key, MEMORY_MAP_SIZE);
+        // journal mode
+        parameters.put(WAL.key, WAL);
     }
 
     /**
@@ -229,6 +238,8 @@ private static SQLiteConfig setupSQLiteConfig(Map<String, ?> params) throws IOEx
         if (Boolean.TRUE.equals(readOnly)) {
             config.setPragma(SQLiteConfig.Pragma.SYNCHRONOUS, "OFF");
             config.setReadOnly(true);
+        } else if (Boolean.TRUE.equals(WAL.lookUp(params))) {
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL);
         }
         Object map = MEMORY_MAP_SIZE.lookUp(params);
         if (map instanceof Integer memoryMB && memoryMB >= 0) {
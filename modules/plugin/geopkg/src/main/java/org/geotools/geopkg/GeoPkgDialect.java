@@ -166,8 +166,13 @@ public void encodeGeometryEnvelope(String tableName, String geometryColumn, Stri
 
     @Override
     public Envelope decodeGeometryEnvelope(ResultSet rs, int column, Connection cx) throws SQLException, IOException {
-        Geometry g = geometry(rs.getBytes(column));
-        return g != null ? g.getEnvelopeInternal() : null;
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        // use the header envelope when available, parsing the geometry only if missing
+        Envelope envelope = GeoPkgGeomReader.readEnvelope(bytes);
+        return envelope != null ? envelope : geometry(bytes).getEnvelopeInternal();
     }
 
     @Override
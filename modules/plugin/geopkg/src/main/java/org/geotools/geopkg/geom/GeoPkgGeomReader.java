@@ -18,6 +18,9 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.geotools.data.util.ScreenMap;
 import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.WKBReader;
 import org.geotools.util.factory.Hints;
@@ -36,6 +39,7 @@
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.io.ByteArrayInStream;
 import org.locationtech.jts.io.ByteOrderDataInStream;
+import org.locationtech.jts.io.ByteOrderValues;
 import org.locationtech.jts.io.InStream;
 import org.locationtech.jts.io.InputStreamInStream;
 import org.locationtech.jts.io.ParseException;
@@ -56,9 +60,13 @@ public class GeoPkgGeomReader {
 
     protected Geometry geometry = null;
 
+    /** The blob contents, when available, allowing to read the header in place */
+    private byte[] bytes;
+
     private GeometryFactory factory = DEFAULT_GEOM_FACTORY;
 
     private Number simplificationDistance;
+    private ScreenMap screenMap;
     private Class geometryType;
 
     public GeoPkgGeomReader(InStream input) {
@@ -70,6 +78,7 @@ public GeoPkgGeomReader(InputStream input) throws IOException {
     }
 
     public GeoPkgGeomReader(byte[] bytes) {
+        this.bytes = bytes;
         this.input = new ByteArrayInStream(bytes);
     }
 
@@ -84,25 +93,23 @@ public GeometryHeader getHeader() throws IOException {
         return header;
     }
 
+    /**
+     * Returns the geometry. The well known binary geometry is parsed only when needed, if the geometry is small
+     * compared to the simplification distance, or to the screen map pixels, a simplified shape is built out of the
+     * header envelope instead.
+     */
     public Geometry get() throws IOException {
-        if (header == null) {
-            try {
-                header = readHeader();
-            } catch (ParseException e) {
-                throw new IOException(e);
-            }
-        }
+        getHeader();
 
         if (geometry == null) {
             Envelope envelope = header.getEnvelope();
-            if (simplificationDistance != null
-                    && geometryType != null
+            if (geometryType != null
                     && header.getFlags().getEnvelopeIndicator() != EnvelopeType.NONE
-                    && envelope.getWidth() < simplificationDistance.doubleValue()
-                    && envelope.getHeight() < simplificationDistance.doubleValue()) {
+                    && (isSmallerThanDistance(envelope) || screenMap != null && screenMap.canSimplify(envelope))) {
                 Geometry simplified = getSimplifiedShape(
                         geometryType, envelope.getMinX(), envelope.getMinY(), envelope.getMaxX(), envelope.getMaxY());
                 if (simplified != null) {
+                    simplified.setSRID(header.getSrid());
                     geometry = simplified;
                 }
             }
@@ -114,6 +121,12 @@ public Geometry get() throws IOException {
         return geometry;
     }
 
+    private boolean isSmallerThanDistance(Envelope envelope) {
+        return simplificationDistance != null
+                && envelope.getWidth() < simplificationDistance.doubleValue()
+                && envelope.getHeight() < simplificationDistance.doubleValue();
+    }
+
     public Geometry getSimplifiedShape(Class type, double minX, double minY, double maxX, double maxY) {
         CoordinateSequenceFactory csf = factory.getCoordinateSequenceFactory();
         if (Point.class.equals(type)) {
@@ -165,6 +178,68 @@ public Envelope getEnvelope() throws IOException {
         }
     }
 
+    /**
+     * Returns the envelope stored in the header of a GeoPackage geometry blob, reading it in place, without parsing the
+     * geometry.
+     *
+     * @param bytes the geometry blob
+     * @return the envelope, an empty one for empty geometries, or {@code null} if the header does not contain one
+     * @throws IOException if the header is not valid
+     * @since 36.0
+     */
+    public static Envelope readEnvelope(byte[] bytes) throws IOException {
+        ByteBuffer buffer = wrapHeader(bytes);
+        GeometryHeaderFlags flags = new GeometryHeaderFlags(bytes[3]);
+        if (flags.isEmpty()) {
+            return new Envelope();
+        }
+        if (flags.getEnvelopeIndicator() == EnvelopeType.NONE) {
+            return null;
+        }
+        return envelope(buffer);
+    }
+
+    /** Reads the x and y ranges of the header envelope, the z and m ones are ignored for now */
+    private static Envelope envelope(ByteBuffer buffer) {
+        return new Envelope(buffer.getDouble(8), buffer.getDouble(16), buffer.getDouble(24), buffer.getDouble(32));
+    }
+
+    /**
+     * Wraps the blob in a buffer using the header byte order, the buffer shares the blob contents. Checks the blob is
+     * large enough to contain the header.
+     */
+    private static ByteBuffer wrapHeader(byte[] bytes) throws IOException {
+        if (bytes.length < 8) {
+            throw new IOException("Invalid GeoPackage geometry, the header is truncated");
+        }
+        GeometryHeaderFlags flags = new GeometryHeaderFlags(bytes[3]);
+        EnvelopeType envelopeType = flags.getEnvelopeIndicator();
+        if (envelopeType == null) {
+            throw new IOException("Invalid GeoPackage geometry, unknown envelope type in flags " + bytes[3]);
+        }
+        if (bytes.length < 8 + envelopeType.getLength()) {
+            throw new IOException("Invalid GeoPackage geometry, the header envelope is truncated");
+        }
+        ByteOrder order =
+                flags.getEndianess() == ByteOrderValues.LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        return ByteBuffer.wrap(bytes).order(order);
+    }
+
+    /** Reads the header directly out of the blob, skips it in the input, so that the geometry can be read next */
+    private GeometryHeader readHeader(byte[] bytes) throws IOException {
+        ByteBuffer buffer = wrapHeader(bytes);
+        GeometryHeader h = new GeometryHeader();
+        h.setVersion(bytes[2]);
+        h.setFlags(new GeometryHeaderFlags(bytes[3]));
+        h.setSrid(buffer.getInt(4));
+        EnvelopeType envelopeType = h.getFlags().getEnvelopeIndicator();
+        if (envelopeType != EnvelopeType.NONE) {
+            h.setEnvelope(envelope(buffer));
+        }
+        input.read(new byte[8 + envelopeType.getLength()]);
+        return h;
+    }
+
     protected Geometry read() throws IOException { // header must be read!
         // read the geometry
         try {
@@ -206,6 +281,9 @@ protected Geometry read() throws IOException { // header must be read!
     *       1 = Little Endian (least significant bit first)
     */
     protected GeometryHeader readHeader() throws IOException, ParseException {
+        if (bytes != null) {
+            return readHeader(bytes);
+        }
         GeometryHeader h = new GeometryHeader();
 
         // read first 4 bytes
@@ -262,6 +340,7 @@ public void setFactory(GeometryFactory factory) {
     public void setHints(Hints hints) {
         if (hints != null) {
             this.simplificationDistance = (Number) hints.get(Hints.GEOMETRY_DISTANCE);
+            this.screenMap = (ScreenMap) hints.get(Hints.SCREENMAP);
         }
     }
 
@@ -0,0 +1,143 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg.mosaic;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A size bounded, least recently used cache of decoded tile images, keyed by tile table, zoom level, column and row.
+ * The size is accounted as the number of bytes held by the image data buffers. Thread-safe.
+ *
+ * <p>The cached images are shared among the coverages returned by the reader, and must be treated as read only.
+ */
+class DecodedTileCache {
+
+    private final long maximumSizeBytes;
+
+    private final LinkedHashMap<TileKey, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long sizeBytes;
+
+    private long hitCount;
+
+    private long missCount;
+
+    /** @param maximumSizeBytes the maximum number of bytes held by the cache, zero or less disables caching */
+    DecodedTileCache(long maximumSizeBytes) {
+        this.maximumSizeBytes = maximumSizeBytes;
+    }
+
+    /** Returns the cached image, or {@code null} if not found */
+    synchronized BufferedImage get(String table, int zoom, int column, int row) {
+        BufferedImage image = images.get(new TileKey(table, zoom, column, row));
+        if (image != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return image;
+    }
+
+    /** Caches the image, evicting the least recently used ones if the cache grows past its maximum size */
+    synchronized void put(String table, int zoom, int column, int row, BufferedImage image) {
+        long weight = weigh(image);
+        if (weight > maximumSizeBytes) {
+            return;
+        }
+        BufferedImage previous = images.put(new TileKey(table, zoom, column, row), image);
+        if (previous != null) {
+            sizeBytes -= weigh(previous);
+        }
+        sizeBytes += weight;
+        Iterator<Map.Entry<TileKey, BufferedImage>> it = images.entrySet().iterator();
+        while (sizeBytes > maximumSizeBytes && it.hasNext()) {
+            sizeBytes -= weigh(it.next().getValue());
+            it.remove();
+        }
+    }
+
+    /** Drops all the cached images */
+    synchronized void clear() {
+        images.clear();
+        sizeBytes = 0;
+    }
+
+    /** Returns the number of cached images */
+    synchronized int size() {
+        return images.size();
+    }
+
+    /** Returns the number of bytes held by the cached images */
+    synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    static long weigh(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DecodedTileCache[maximumSizeBytes=" + maximumSizeBytes + ", sizeBytes=" + sizeBytes + ", tiles="
+                + images.size() + ", hits=" + hitCount + ", misses=" + missCount + "]";
+    }
+
+    private static final class TileKey {
+
+        final String table;
+
+        final int zoom;
+
+        final int column;
+
+        final int row;
+
+        TileKey(String table, int zoom, int column, int row) {
+            this.table = table;
+            this.zoom = zoom;
+            this.column = column;
+            this.row = row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TileKey)) return false;
+            TileKey that = (TileKey) o;
+            return zoom == that.zoom && column == that.column && row == that.row && table.equals(that.table);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(table, zoom, column, row);
+        }
+    }
+}
@@ -39,6 +39,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -70,6 +72,7 @@
 import org.geotools.geopkg.TileReader;
 import org.geotools.image.ImageWorker;
 import org.geotools.referencing.CRS;
+import org.geotools.util.ParallelTasks;
 import org.geotools.util.Utilities;
 import org.geotools.util.factory.GeoTools;
 import org.geotools.util.factory.Hints;
@@ -91,12 +94,22 @@ public class GeoPackageReader extends AbstractGridCoverage2DReader {
 
     protected static final int ZOOM_LEVEL_BASE = 2;
 
+    /** System property setting the maximum size of the decoded tile cache of each reader, in bytes */
+    public static final String TILE_CACHE_SIZE_KEY = "org.geotools.geopkg.mosaic.tileCacheSize";
+
+    private static final long DEFAULT_TILE_CACHE_SIZE = 32 * 1024 * 1024;
+
+    /** The tile image readers of the decoding threads, they keep state and are not thread safe */
+    private static final ThreadLocal<TileImageReader> TILE_READERS = ThreadLocal.withInitial(TileImageReader::new);
+
     protected File sourceFile;
 
     protected Map<String, TileEntry> tiles = new LinkedHashMap<>();
 
     GeoPackage file;
 
+    DecodedTileCache tileCache = new DecodedTileCache(Long.getLong(TILE_CACHE_SIZE_KEY, DEFAULT_TILE_CACHE_SIZE));
+
     public GeoPackageReader(Object source, Hints hints) throws IOException {
         coverageFactory = CoverageFactoryFinder.getGridCoverageFactory(this.hints);
 
@@ -312,7 +325,8 @@ public GridCoverage2D read(String coverageName, GeneralParameterValue... paramet
              * JPEG to generate the slow and large PNG format only when transparency is actually needed
              */
             List<ImageInTile> sources = new ArrayList<>();
-            TileImageReader tileReader = new TileImageReader();
+            List<Tile> pending = new ArrayList<>();
+            List<ImageInTile> pendingSources = new ArrayList<>();
 
             while (it.hasNext()) {
                 Tile tile = it.next();
@@ -329,14 +343,28 @@ public GridCoverage2D read(String coverageName, GeneralParameterValue... paramet
                     resultEnvelope.expandToInclude(tileEnvelope);
                 }
 
-                BufferedImage tileImage = tileReader.read(tile.getData());
-
                 int posx = (tile.getColumn() - leftTile) * DEFAULT_TILE_SIZE;
                 int posy = (tile.getRow() - topTile) * DEFAULT_TILE_SIZE;
-                sources.add(new ImageInTile(tileImage, posx, posy));
+                BufferedImage tileImage =
+                        tileCache.get(entry.getTableName(), tile.getZoom(), tile.getColumn(), tile.getRow());
+                ImageInTile source = new ImageInTile(tileImage, posx, posy);
+                if (tileImage == null) {
+                    pending.add(tile);
+                    pendingSources.add(source);
+                }
+                sources.add(source);
             }
             it.close();
 
+            // decode the tiles missing from the cache, in parallel if there is more than one
+            List<BufferedImage> decoded = decodeTiles(pending);
+            for (int i = 0; i < pending.size(); i++) {
+                Tile tile = pending.get(i);
+                BufferedImage tileImage = decoded.get(i);
+                pendingSources.get(i).image = tileImage;
+                tileCache.put(entry.getTableName(), tile.getZoom(), tile.getColumn(), tile.getRow(), tileImage);
+            }
+
             if (sources.isEmpty()) {
                 // no tiles
                 return null;
@@ -350,6 +378,40 @@ public GridCoverage2D read(String coverageName, GeneralParameterValue... paramet
         return coverageFactory.create(entry.getTableName(), image, resultEnvelope);
     }
 
+    /** Decodes the tile images, using the {@link ParallelTasks} threads when there is more than one tile */
+    private List<BufferedImage> decodeTiles(List<Tile> tiles) throws IOException {
+        List<BufferedImage> result = new ArrayList<>(tiles.size());
+        if (tiles.size() <= 1 || ParallelTasks.getThreads() <= 1) {
+            TileImageReader tileReader = new TileImageReader();
+            for (Tile tile : tiles) {
+                result.add(tileReader.read(tile.getData()));
+            }
+            return result;
+        }
+
+        List<Future<BufferedImage>> futures = new ArrayList<>(tiles.size());
+        for (Tile tile : tiles) {
+            futures.add(ParallelTasks.submit(() -> TILE_READERS.get().read(tile.getData())));
+        }
+        try {
+            for (Future<BufferedImage> future : futures) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while decoding tiles", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException exception) {
+                throw exception;
+            }
+            throw new IOException("Failed to decode tile", cause);
+        }
+        return result;
+    }
+
     private RenderedImage mosaicImages(List<ImageInTile> sources) {
         if (uniformImages(sources.stream().map(it -> it.image).collect(Collectors.toList()))) {
             return mosaicUniformImages(sources);
@@ -359,8 +421,8 @@ private RenderedImage mosaicImages(List<ImageInTile> sources) {
     }
 
     /**
-     * Fast lane mosaicker, basically builds an OpImage that returns translated versions of the source images, without
-     * actually copying pixels around
+     * Fast lane mosaicker, basically builds an OpImage whose tiles are the source images, each one copied straight
+     * into the raster of the output tile, as the decoded images might be cached and shared
      */
     @SuppressWarnings({"PMD.ReplaceVectorWithList", "PMD.UseArrayListInsteadOfVector"}) // old API asking for Vector
     private OpImage mosaicUniformImages(List<ImageInTile> sources) {
@@ -402,7 +464,10 @@ public Raster computeTile(int tileX, int tileY) {
                         .findFirst()
                         .orElse(null);
                 if (candidate != null) {
-                    return candidate.image.getData().createTranslatedChild(posx, posy);
+                    // the images share the sample model, copy the data elements with no intermediate raster
+                    WritableRaster dest = createWritableRaster(sampleModel, new Point(posx, posy));
+                    dest.setDataElements(posx, posy, candidate.image.getRaster());
+                    return dest;
                 }
 
                 // not inside the available grid, build a white cell then
@@ -471,6 +536,7 @@ public GridCoverage2D read(GeneralParameterValue... parameters) throws IllegalAr
 
     @Override
     public void dispose() {
+        tileCache.clear();
         if (file != null) {
             file.close();
         }
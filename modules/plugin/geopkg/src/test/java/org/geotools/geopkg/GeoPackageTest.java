@@ -841,6 +841,45 @@ public void testSpatialIndexWriting() throws Exception {
         }
     }
 
+    @Test
+    public void testBulkAdd() throws Exception {
+        ShapefileDataStore shp = new ShapefileDataStore(setUpShapefile());
+        SimpleFeatureCollection coll = shp.getFeatureSource().getFeatures();
+
+        FeatureEntry entry = new FeatureEntry();
+        int batchInsertSize = geopkg.dataStore().getBatchInsertSize();
+        geopkg.bulkAdd(entry, coll, true);
+        assertTrue(geopkg.hasSpatialIndex(entry));
+        // the large batches are used by the bulk writer only
+        assertEquals(batchInsertSize, geopkg.dataStore().getBatchInsertSize());
+        assertEquals(coll.size(), geopkg.searchSpatialIndex(entry, null, null, null, null).size());
+
+        // append the same features again, the index trigger is restored after the load
+        geopkg.bulkAppend(entry, coll);
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                Statement st = cx.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM bugsites")) {
+                assertTrue(rs.next());
+                assertEquals(coll.size() * 2, rs.getInt(1));
+            }
+            try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM rtree_bugsites_the_geom")) {
+                assertTrue(rs.next());
+                assertEquals(coll.size() * 2, rs.getInt(1));
+            }
+            try (ResultSet rs = st.executeQuery("SELECT name FROM sqlite_master "
+                    + "WHERE type = 'trigger' AND name = 'rtree_bugsites_the_geom_insert'")) {
+                assertTrue(rs.next());
+            }
+            try (ResultSet rs = st.executeQuery("PRAGMA journal_mode")) {
+                assertTrue(rs.next());
+                assertEquals("wal", rs.getString(1).toLowerCase());
+            }
+        }
+
+        Set<Identifier> ids = geopkg.searchSpatialIndex(entry, 590230.0, 4915038.0, 590234.0, 4915040.0);
+        assertEquals(2, ids.size());
+    }
+
     @Test
     public void testSpatialIndexReading() throws Exception {
         FilterFactory ff = CommonFactoryFinder.getFilterFactory();
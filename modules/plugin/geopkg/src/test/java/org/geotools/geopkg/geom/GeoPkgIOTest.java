@@ -17,11 +17,17 @@
 package org.geotools.geopkg.geom;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import org.geotools.data.util.ScreenMap;
 import org.geotools.geometry.jts.GeometryBuilder;
+import org.geotools.referencing.operation.transform.IdentityTransform;
+import org.geotools.util.factory.Hints;
 import org.junit.Test;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
 
 public class GeoPkgIOTest {
 
@@ -34,6 +40,43 @@ public void testReadWrite() throws IOException {
         assertEquals(g1, g2);
     }
 
+    @Test
+    public void testReadEnvelope() throws IOException {
+        Geometry g1 = new GeometryBuilder().point(0, 0).buffer(10);
+        assertEquals(g1.getEnvelopeInternal(), GeoPkgGeomReader.readEnvelope(new GeoPkgGeomWriter().write(g1)));
+
+        Geometry empty = new GeometryBuilder().polygon();
+        assertTrue(GeoPkgGeomReader.readEnvelope(new GeoPkgGeomWriter().write(empty)).isNull());
+
+        GeoPkgGeomWriter.Configuration config = new GeoPkgGeomWriter.Configuration();
+        config.setWriteEnvelope(false);
+        byte[] bytes = new GeoPkgGeomWriter(config).write(g1);
+        assertNull(GeoPkgGeomReader.readEnvelope(bytes));
+        assertEquals(g1.getEnvelopeInternal(), new GeoPkgGeomReader(bytes).getEnvelope());
+    }
+
+    @Test
+    public void testScreenMapSimplification() throws IOException {
+        Geometry small = new GeometryBuilder().point(0.5, 0.5).buffer(0.1);
+        Geometry large = new GeometryBuilder().point(0, 0).buffer(10);
+        ScreenMap screenMap = new ScreenMap(-20, -20, 40, 40, IdentityTransform.create(2));
+        screenMap.setSpans(1, 1);
+        Hints hints = new Hints(Hints.SCREENMAP, screenMap);
+
+        // small geometries are built out of the header envelope, without parsing the geometry
+        GeoPkgGeomReader reader = new GeoPkgGeomReader(new GeoPkgGeomWriter().write(small));
+        reader.setHints(hints);
+        reader.setGeometryType(Polygon.class);
+        Geometry simplified = reader.get();
+        assertEquals(5, simplified.getNumPoints());
+        assertEquals(small.getEnvelopeInternal(), simplified.getEnvelopeInternal());
+
+        reader = new GeoPkgGeomReader(new GeoPkgGeomWriter().write(large));
+        reader.setHints(hints);
+        reader.setGeometryType(Polygon.class);
+        assertEquals(large, reader.get());
+    }
+
     @Test
     public void testHeader() throws IOException {
         Geometry g1 = new GeometryBuilder().point(0, 0).buffer(10);
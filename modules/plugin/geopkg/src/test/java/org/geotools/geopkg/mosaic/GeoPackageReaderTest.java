@@ -218,6 +218,26 @@ public void testPngJpegTileReading() throws IOException {
         reader.dispose();
     }
 
+    @Test
+    public void testDecodedTileCache() throws IOException {
+        GeoPackageReader reader = new GeoPackageReader(GeoPackageTest.class.getResource("giantPoly.gpkg"), null);
+        File referenceFull = new File("./src/test/resources/org/geotools/geopkg/giantPolyFull.png");
+        try {
+            ImageAssert.assertEquals(referenceFull, reader.read().getRenderedImage(), 1000);
+            int cached = reader.tileCache.size();
+            assertTrue(cached > 1);
+            assertEquals(0, reader.tileCache.getHitCount());
+
+            // the second read is served by the cache, and returns the same image
+            ImageAssert.assertEquals(referenceFull, reader.read().getRenderedImage(), 1000);
+            assertEquals(cached, reader.tileCache.size());
+            assertEquals(cached, reader.tileCache.getHitCount());
+        } finally {
+            reader.dispose();
+        }
+        assertEquals(0, reader.tileCache.size());
+    }
+
     @Test
     public void testZoomLevel0Empty() throws IOException {
         // hit everything at zoom level 0
@@ -0,0 +1,994 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.geotiff;
+
+import java.awt.Rectangle;
+import java.awt.color.ColorSpace;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.stream.ImageOutputStream;
+import org.geotools.api.util.ProgressListener;
+import org.geotools.coverage.grid.io.imageio.geotiff.GeoTiffConstants;
+import org.geotools.coverage.grid.io.imageio.geotiff.GeoTiffIIOMetadataEncoder;
+import org.geotools.util.ParallelTasks;
+import org.geotools.util.logging.Logging;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Writes a {@link RenderedImage} as a Cloud Optimized GeoTIFF, with internal overviews, in a single streaming pass over
+ * the image.
+ *
+ * <p>The image is read one tile at a time, and each tile is compressed on a pool of worker threads, which also reduce
+ * it by half to feed the next overview level. Each overview level accumulates a single row of tiles before compressing
+ * it in turn, so that the memory used is bounded by a row of tiles per level and by the number of tiles in flight,
+ * whatever the image size. The compressed tiles are spooled to a temporary file per level, and once all the levels are
+ * complete the output is assembled in the Cloud Optimized GeoTIFF layout: all the image file directories first, then
+ * the tiles of the smallest overview, and so on up to the full resolution ones.
+ *
+ * <p>Overviews are computed averaging blocks of 2x2 pixels, skipping the nodata ones, or picking the top left pixel for
+ * palette images. Tiles are compressed with Deflate or LZW, or left uncompressed if compression is disabled in the
+ * write parameters.
+ */
+class CogWriter {
+
+    /** The tile size used when tiling is not explicitly set in the write parameters */
+    static final int DEFAULT_TILE_SIZE = 512;
+
+    static final Logger LOGGER = Logging.getLogger(CogWriter.class);
+
+    private static final int TYPE_ASCII = 2;
+
+    private static final int TYPE_SHORT = 3;
+
+    private static final int TYPE_LONG = 4;
+
+    private static final int TYPE_DOUBLE = 12;
+
+    private static final int TYPE_LONG8 = 16;
+
+    private static final int TAG_NEW_SUBFILE_TYPE = 254;
+
+    private static final int TAG_IMAGE_WIDTH = 256;
+
+    private static final int TAG_IMAGE_LENGTH = 257;
+
+    private static final int TAG_BITS_PER_SAMPLE = 258;
+
+    private static final int TAG_COMPRESSION = 259;
+
+    private static final int TAG_PHOTOMETRIC_INTERPRETATION = 262;
+
+    private static final int TAG_SAMPLES_PER_PIXEL = 277;
+
+    private static final int TAG_PLANAR_CONFIGURATION = 284;
+
+    private static final int TAG_COLOR_MAP = 320;
+
+    private static final int TAG_TILE_WIDTH = 322;
+
+    private static final int TAG_TILE_LENGTH = 323;
+
+    private static final int TAG_TILE_OFFSETS = 324;
+
+    private static final int TAG_TILE_BYTE_COUNTS = 325;
+
+    private static final int TAG_EXTRA_SAMPLES = 338;
+
+    private static final int TAG_SAMPLE_FORMAT = 339;
+
+    static final int COMPRESSION_NONE = 1;
+
+    static final int COMPRESSION_LZW = 5;
+
+    static final int COMPRESSION_DEFLATE = 8;
+
+    private static final int PHOTOMETRIC_MIN_IS_BLACK = 1;
+
+    private static final int PHOTOMETRIC_RGB = 2;
+
+    private static final int PHOTOMETRIC_PALETTE = 3;
+
+    private static final int SAMPLE_FORMAT_UNSIGNED = 1;
+
+    private static final int SAMPLE_FORMAT_SIGNED = 2;
+
+    private static final int SAMPLE_FORMAT_FLOAT = 3;
+
+    private static final int LZW_CLEAR = 256;
+
+    private static final int LZW_EOI = 257;
+
+    private static final int LZW_FIRST_CODE = 258;
+
+    private static final int LZW_MAX_CODE = 4094;
+
+    private static final int LZW_HASH_SIZE = 8192;
+
+    private final RenderedImage image;
+
+    private final Rectangle region;
+
+    private final int tileWidth;
+
+    private final int tileHeight;
+
+    private final int compression;
+
+    private final int deflateLevel;
+
+    private final boolean forceToBigTIFF;
+
+    private final int numBands;
+
+    private final int sampleSize;
+
+    private final int sampleFormat;
+
+    private final int photometric;
+
+    private final int[] extraSamples;
+
+    private final IndexColorModel palette;
+
+    /** The GeoTIFF and metadata fields, written in the full resolution image file directory only */
+    private final List<TiffField> geoFields;
+
+    /** The nodata field, written in all the image file directories */
+    private final TiffField noDataField;
+
+    private final double noData;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param image the image to write
+     * @param metadata the GeoTIFF metadata
+     * @param params the write parameters, for the source region, tiling and compression
+     * @param forceToBigTIFF whether to write a BigTIFF even if the file is smaller than 4GB
+     * @throws IllegalArgumentException if the image layout or the write parameters are not supported
+     */
+    CogWriter(RenderedImage image, GeoTiffIIOMetadataEncoder metadata, ImageWriteParam params, boolean forceToBigTIFF) {
+        this.image = image;
+        this.forceToBigTIFF = forceToBigTIFF;
+
+        Rectangle bounds = new Rectangle(image.getMinX(), image.getMinY(), image.getWidth(), image.getHeight());
+        Rectangle sourceRegion = params != null ? params.getSourceRegion() : null;
+        this.region = sourceRegion != null ? bounds.intersection(sourceRegion) : bounds;
+        if (region.isEmpty()) {
+            throw new IllegalArgumentException("The source region " + sourceRegion + " does not intersect the image");
+        }
+        if (params != null && (params.getSourceXSubsampling() != 1 || params.getSourceYSubsampling() != 1)) {
+            throw new IllegalArgumentException("Subsampling is not supported when writing a Cloud Optimized GeoTIFF");
+        }
+
+        // tiling
+        if (params != null && params.canWriteTiles() && params.getTilingMode() == ImageWriteParam.MODE_EXPLICIT) {
+            this.tileWidth = params.getTileWidth();
+            this.tileHeight = params.getTileHeight();
+        } else {
+            this.tileWidth = DEFAULT_TILE_SIZE;
+            this.tileHeight = DEFAULT_TILE_SIZE;
+        }
+        if (tileWidth <= 0 || tileHeight <= 0 || tileWidth % 16 != 0 || tileHeight % 16 != 0) {
+            throw new IllegalArgumentException(
+                    "Tile sizes must be positive multiples of 16, got " + tileWidth + "x" + tileHeight);
+        }
+
+        // compression
+        int compression = COMPRESSION_DEFLATE;
+        int deflateLevel = Deflater.DEFAULT_COMPRESSION;
+        if (params != null && params.canWriteCompressed()) {
+            if (params.getCompressionMode() == ImageWriteParam.MODE_DISABLED) {
+                compression = COMPRESSION_NONE;
+            } else if (params.getCompressionMode() == ImageWriteParam.MODE_EXPLICIT
+                    && params.getCompressionType() != null) {
+                String type = params.getCompressionType();
+                if ("LZW".equalsIgnoreCase(type)) {
+                    compression = COMPRESSION_LZW;
+                } else if ("Deflate".equalsIgnoreCase(type) || "ZLib".equalsIgnoreCase(type)) {
+                    deflateLevel = (int) (1 + 8 * params.getCompressionQuality());
+                } else {
+                    throw new IllegalArgumentException("Unsupported compression " + type
+                            + " for Cloud Optimized GeoTIFF, supported ones are Deflate and LZW");
+                }
+            }
+        }
+        this.compression = compression;
+        this.deflateLevel = deflateLevel;
+
+        // sample layout
+        SampleModel sm = image.getSampleModel();
+        this.numBands = sm.getNumBands();
+        this.sampleSize = sm.getSampleSize(0);
+        for (int b = 1; b < numBands; b++) {
+            if (sm.getSampleSize(b) != sampleSize) {
+                throw new IllegalArgumentException(
+                        "Bands with different sample sizes are not supported when writing a Cloud Optimized GeoTIFF");
+            }
+        }
+        int dataType = sm.getDataType();
+        if (dataType == DataBuffer.TYPE_FLOAT || dataType == DataBuffer.TYPE_DOUBLE) {
+            this.sampleFormat = SAMPLE_FORMAT_FLOAT;
+        } else if (sampleSize == 8 || sampleSize == 16 || sampleSize == 32) {
+            boolean signed = dataType == DataBuffer.TYPE_SHORT || dataType == DataBuffer.TYPE_INT && sampleSize == 32;
+            this.sampleFormat = signed ? SAMPLE_FORMAT_SIGNED : SAMPLE_FORMAT_UNSIGNED;
+        } else {
+            throw new IllegalArgumentException("Unsupported sample size " + sampleSize
+                    + ", only 8, 16, 32 and 64 bits samples can be written in a Cloud Optimized GeoTIFF");
+        }
+
+        // color interpretation
+        ColorModel cm = image.getColorModel();
+        int colorBands;
+        if (cm instanceof IndexColorModel icm && numBands == 1 && sampleFormat == SAMPLE_FORMAT_UNSIGNED) {
+            this.palette = icm;
+            this.photometric = PHOTOMETRIC_PALETTE;
+            colorBands = 1;
+        } else if (cm != null
+                && cm.getColorSpace().getType() == ColorSpace.TYPE_RGB
+                && numBands >= 3
+                && sampleSize == 8) {
+            this.palette = null;
+            this.photometric = PHOTOMETRIC_RGB;
+            colorBands = 3;
+        } else {
+            this.palette = null;
+            this.photometric = PHOTOMETRIC_MIN_IS_BLACK;
+            colorBands = 1;
+        }
+        this.extraSamples = new int[numBands - colorBands];
+        if (extraSamples.length > 0 && cm != null && cm.hasAlpha()) {
+            // associated or unassociated alpha
+            extraSamples[0] = cm.isAlphaPremultiplied() ? 1 : 2;
+        }
+
+        // georeferencing and metadata
+        this.geoFields = parseFields(metadata);
+        TiffField noDataField = null;
+        double noData = Double.NaN;
+        for (TiffField field : geoFields) {
+            if (field.tag == GeoTiffConstants.TIFFTAG_NODATA) {
+                noDataField = field;
+                try {
+                    noData = Double.parseDouble(new String(field.value, StandardCharsets.US_ASCII).trim());
+                } catch (NumberFormatException e) {
+                    LOGGER.log(Level.FINE, "Unparseable nodata, overviews will not skip it", e);
+                }
+            }
+        }
+        this.noDataField = noDataField;
+        this.noData = noData;
+    }
+
+    /**
+     * Writes the image to the stream.
+     *
+     * @param out the destination stream
+     * @param listener an optional progress listener, the write is stopped if it gets canceled
+     */
+    void write(ImageOutputStream out, ProgressListener listener) throws IOException {
+        List<ResolutionLevel> levels = new ArrayList<>();
+        Deque<PendingTile> pending = new ArrayDeque<>();
+        try {
+            createLevels(levels);
+            if (encode(levels, pending, ParallelTasks.getThreads() * 4, listener)) {
+                assemble(out, levels);
+            }
+        } finally {
+            // the tiles are compressed by threads shared with other operations, stop the ones not needed anymore
+            for (PendingTile tile : pending) {
+                tile.future.cancel(true);
+            }
+            for (ResolutionLevel level : levels) {
+                level.dispose();
+            }
+        }
+    }
+
+    /** Creates the full resolution level and the overview ones, down to the first one fitting in a single tile */
+    private void createLevels(List<ResolutionLevel> levels) throws IOException {
+        int width = region.width;
+        int height = region.height;
+        ResolutionLevel previous = new ResolutionLevel(0, width, height);
+        levels.add(previous);
+        while (width > tileWidth || height > tileHeight) {
+            width = (width + 1) / 2;
+            height = (height + 1) / 2;
+            ResolutionLevel level = new ResolutionLevel(levels.size(), width, height);
+            levels.add(level);
+            previous.next = level;
+            previous = level;
+        }
+    }
+
+    /** Compresses all the tiles, returns false if the listener canceled the operation */
+    private boolean encode(
+            List<ResolutionLevel> levels, Deque<PendingTile> pending, int maxPending, ProgressListener listener)
+            throws IOException {
+        ResolutionLevel full = levels.get(0);
+        for (int ty = 0; ty < full.tilesDown; ty++) {
+            for (int tx = 0; tx < full.tilesAcross; tx++) {
+                Rectangle bounds = new Rectangle(
+                                region.x + tx * tileWidth, region.y + ty * tileHeight, tileWidth, tileHeight)
+                        .intersection(region);
+                pending.add(submit(full, ty * full.tilesAcross + tx, () -> image.getData(bounds)));
+                while (pending.size() > maxPending) {
+                    drain(pending);
+                }
+            }
+            if (listener != null) {
+                if (listener.isCanceled()) {
+                    return false;
+                }
+                listener.progress(100f * ty / full.tilesDown);
+            }
+        }
+        while (!pending.isEmpty()) {
+            drain(pending);
+        }
+        return true;
+    }
+
+    private PendingTile submit(ResolutionLevel level, int tile, Callable<Raster> source) {
+        boolean reduce = level.next != null;
+        Future<EncodedTile> future = ParallelTasks.submit(() -> {
+            Raster raster = source.call();
+            return new EncodedTile(compress(pack(raster)), reduce ? reduce(raster) : null);
+        });
+        return new PendingTile(level, tile, future);
+    }
+
+    /**
+     * Waits for the oldest pending tile, spools it, and copies its reduced version in the next level row. Once a row of
+     * the next level is complete, its tiles are submitted for compression in turn.
+     */
+    private void drain(Deque<PendingTile> pending) throws IOException {
+        PendingTile head = pending.poll();
+        EncodedTile tile = get(head.future);
+        ResolutionLevel level = head.level;
+        level.append(tile.data);
+
+        ResolutionLevel next = level.next;
+        if (next == null) {
+            return;
+        }
+        int tx = head.tile % level.tilesAcross;
+        int ty = head.tile / level.tilesAcross;
+        if (next.rows == null) {
+            next.rows = tile.reduced.createCompatibleWritableRaster(next.width, tileHeight);
+        }
+        next.rows.setRect(tx * tileWidth / 2, (ty % 2) * tileHeight / 2, tile.reduced);
+
+        boolean rowComplete = tx == level.tilesAcross - 1 && (ty % 2 == 1 || ty == level.tilesDown - 1);
+        if (rowComplete) {
+            WritableRaster rows = next.rows;
+            next.rows = null;
+            int nty = ty / 2;
+            int rowHeight = Math.min(tileHeight, next.height - nty * tileHeight);
+            for (int ntx = 0; ntx < next.tilesAcross; ntx++) {
+                int x = ntx * tileWidth;
+                Raster child = rows.createChild(x, 0, Math.min(tileWidth, next.width - x), rowHeight, x, 0, null);
+                pending.add(submit(next, nty * next.tilesAcross + ntx, () -> child));
+            }
+        }
+    }
+
+    private static EncodedTile get(Future<EncodedTile> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing the Cloud Optimized GeoTIFF");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException exception) {
+                throw exception;
+            } else if (cause instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IOException("Failed to encode tile", cause);
+        }
+    }
+
+    /** Copies the raster in a full tile of pixel interleaved, little endian samples, padding it if needed */
+    byte[] pack(Raster raster) {
+        int bytes = sampleSize / 8;
+        int rowStride = tileWidth * numBands * bytes;
+        ByteBuffer buffer = ByteBuffer.allocate(rowStride * tileHeight).order(ByteOrder.LITTLE_ENDIAN);
+        int width = raster.getWidth();
+        int length = width * numBands;
+        int minX = raster.getMinX();
+        int minY = raster.getMinY();
+        int[] ints = null;
+        float[] floats = null;
+        double[] doubles = null;
+        for (int y = 0; y < raster.getHeight(); y++) {
+            int p = y * rowStride;
+            if (sampleFormat == SAMPLE_FORMAT_FLOAT && sampleSize == 64) {
+                doubles = raster.getPixels(minX, minY + y, width, 1, doubles);
+                for (int i = 0; i < length; i++, p += 8) {
+                    buffer.putDouble(p, doubles[i]);
+                }
+            } else if (sampleFormat == SAMPLE_FORMAT_FLOAT) {
+                floats = raster.getPixels(minX, minY + y, width, 1, floats);
+                for (int i = 0; i < length; i++, p += 4) {
+                    buffer.putFloat(p, floats[i]);
+                }
+            } else {
+                ints = raster.getPixels(minX, minY + y, width, 1, ints);
+                for (int i = 0; i < length; i++, p += bytes) {
+                    if (bytes == 1) {
+                        buffer.put(p, (byte) ints[i]);
+                    } else if (bytes == 2) {
+                        buffer.putShort(p, (short) ints[i]);
+                    } else {
+                        buffer.putInt(p, ints[i]);
+                    }
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /** Reduces the raster by half, averaging blocks of 2x2 pixels, or picking the top left one for palette images */
+    Raster reduce(Raster raster) {
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+        int reducedWidth = (width + 1) / 2;
+        int reducedHeight = (height + 1) / 2;
+        WritableRaster reduced = raster.createCompatibleWritableRaster(reducedWidth, reducedHeight);
+        boolean integral = sampleFormat != SAMPLE_FORMAT_FLOAT;
+        double[] upper = null;
+        double[] lower = null;
+        double[] result = new double[reducedWidth];
+        for (int b = 0; b < numBands; b++) {
+            for (int y = 0; y < reducedHeight; y++) {
+                int sy = raster.getMinY() + 2 * y;
+                upper = raster.getSamples(raster.getMinX(), sy, width, 1, b, upper);
+                // the last row of an odd height raster is averaged with itself
+                double[] bottom = upper;
+                if (2 * y + 1 < height) {
+                    bottom = lower = raster.getSamples(raster.getMinX(), sy + 1, width, 1, b, lower);
+                }
+                for (int x = 0; x < reducedWidth; x++) {
+                    int x0 = 2 * x;
+                    int x1 = Math.min(x0 + 1, width - 1);
+                    if (palette != null) {
+                        result[x] = upper[x0];
+                        continue;
+                    }
+                    double sum = 0;
+                    int count = 0;
+                    for (int i = 0; i < 4; i++) {
+                        double sample = (i < 2 ? upper : bottom)[(i & 1) == 0 ? x0 : x1];
+                        if (!Double.isNaN(sample) && sample != noData) {
+                            sum += sample;
+                            count++;
+                        }
+                    }
+                    if (count == 0) {
+                        result[x] = noData;
+                    } else {
+                        result[x] = integral ? Math.round(sum / count) : sum / count;
+                    }
+                }
+                reduced.setSamples(0, y, reducedWidth, 1, b, result);
+            }
+        }
+        return reduced;
+    }
+
+    byte[] compress(byte[] data) {
+        if (compression == COMPRESSION_DEFLATE) {
+            return deflate(data, deflateLevel);
+        } else if (compression == COMPRESSION_LZW) {
+            return new LzwEncoder().encode(data);
+        }
+        return data;
+    }
+
+    static byte[] deflate(byte[] data, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** Writes the header, the image file directories, and the spooled tiles, smallest overview first */
+    private void assemble(ImageOutputStream out, List<ResolutionLevel> levels) throws IOException {
+        long dataLength = 0;
+        for (ResolutionLevel level : levels) {
+            level.close();
+            dataLength += level.length;
+        }
+        boolean bigTIFF = forceToBigTIFF || 8 + getDirectoriesLength(levels, false) + dataLength > 0xFFFFFFFFL;
+        long headerLength = bigTIFF ? 16 : 8;
+
+        long[] starts = new long[levels.size()];
+        long position = headerLength + getDirectoriesLength(levels, bigTIFF);
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            starts[i] = position;
+            position += levels.get(i).length;
+        }
+
+        out.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        out.writeShort(0x4949);
+        if (bigTIFF) {
+            out.writeShort(43);
+            out.writeShort(8);
+            out.writeShort(0);
+            out.writeLong(headerLength);
+        } else {
+            out.writeShort(42);
+            out.writeInt((int) headerLength);
+        }
+        long offset = headerLength;
+        for (int i = 0; i < levels.size(); i++) {
+            List<TiffField> fields = createFields(levels.get(i), bigTIFF, starts[i]);
+            long length = getDirectoryLength(fields, bigTIFF);
+            long nextOffset = i < levels.size() - 1 ? offset + length : 0;
+            writeDirectory(out, fields, bigTIFF, offset, nextOffset);
+            offset += length;
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            try (InputStream in = Files.newInputStream(levels.get(i).spool)) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    private long getDirectoriesLength(List<ResolutionLevel> levels, boolean bigTIFF) {
+        long length = 0;
+        for (ResolutionLevel level : levels) {
+            length += getDirectoryLength(createFields(level, bigTIFF, 0), bigTIFF);
+        }
+        return length;
+    }
+
+    private static long getDirectoryLength(List<TiffField> fields, boolean bigTIFF) {
+        long length = bigTIFF ? 16 + 20L * fields.size() : 6 + 12L * fields.size();
+        int inline = bigTIFF ? 8 : 4;
+        for (TiffField field : fields) {
+            if (field.value.length > inline) {
+                length += field.value.length + (field.value.length & 1);
+            }
+        }
+        return length;
+    }
+
+    private static void writeDirectory(
+            ImageOutputStream out, List<TiffField> fields, boolean bigTIFF, long offset, long nextOffset)
+            throws IOException {
+        int inline = bigTIFF ? 8 : 4;
+        long valueOffset;
+        if (bigTIFF) {
+            out.writeLong(fields.size());
+            valueOffset = offset + 16 + 20L * fields.size();
+        } else {
+            out.writeShort(fields.size());
+            valueOffset = offset + 6 + 12L * fields.size();
+        }
+        for (TiffField field : fields) {
+            out.writeShort(field.tag);
+            out.writeShort(field.type);
+            if (bigTIFF) {
+                out.writeLong(field.count);
+            } else {
+                out.writeInt((int) field.count);
+            }
+            if (field.value.length <= inline) {
+                out.write(field.value);
+                out.write(new byte[inline - field.value.length]);
+            } else {
+                if (bigTIFF) {
+                    out.writeLong(valueOffset);
+                } else {
+                    out.writeInt((int) valueOffset);
+                }
+                valueOffset += field.value.length + (field.value.length & 1);
+            }
+        }
+        if (bigTIFF) {
+            out.writeLong(nextOffset);
+        } else {
+            out.writeInt((int) nextOffset);
+        }
+        for (TiffField field : fields) {
+            if (field.value.length > inline) {
+                out.write(field.value);
+                if ((field.value.length & 1) != 0) {
+                    out.write(0);
+                }
+            }
+        }
+    }
+
+    /** Returns the fields of a level image file directory, the tile offsets being relative to the level data start */
+    private List<TiffField> createFields(ResolutionLevel level, boolean bigTIFF, long start) {
+        List<TiffField> fields = new ArrayList<>();
+        fields.add(TiffField.longs(TAG_NEW_SUBFILE_TYPE, level.index == 0 ? 0 : 1));
+        fields.add(TiffField.longs(TAG_IMAGE_WIDTH, level.width));
+        fields.add(TiffField.longs(TAG_IMAGE_LENGTH, level.height));
+        fields.add(TiffField.shorts(TAG_BITS_PER_SAMPLE, repeat(sampleSize)));
+        fields.add(TiffField.shorts(TAG_COMPRESSION, compression));
+        fields.add(TiffField.shorts(TAG_PHOTOMETRIC_INTERPRETATION, photometric));
+        fields.add(TiffField.shorts(TAG_SAMPLES_PER_PIXEL, numBands));
+        fields.add(TiffField.shorts(TAG_PLANAR_CONFIGURATION, 1));
+        if (palette != null) {
+            fields.add(TiffField.shorts(TAG_COLOR_MAP, getColorMap()));
+        }
+        fields.add(TiffField.longs(TAG_TILE_WIDTH, tileWidth));
+        fields.add(TiffField.longs(TAG_TILE_LENGTH, tileHeight));
+        long[] offsets = new long[level.offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = start + level.offsets[i];
+        }
+        fields.add(TiffField.offsets(TAG_TILE_OFFSETS, offsets, bigTIFF));
+        fields.add(TiffField.offsets(TAG_TILE_BYTE_COUNTS, level.byteCounts, bigTIFF));
+        if (extraSamples.length > 0) {
+            fields.add(TiffField.shorts(TAG_EXTRA_SAMPLES, extraSamples));
+        }
+        fields.add(TiffField.shorts(TAG_SAMPLE_FORMAT, repeat(sampleFormat)));
+        if (level.index == 0) {
+            fields.addAll(geoFields);
+        } else if (noDataField != null) {
+            fields.add(noDataField);
+        }
+        fields.sort(Comparator.comparingInt(f -> f.tag));
+        return fields;
+    }
+
+    private int[] repeat(int value) {
+        int[] values = new int[numBands];
+        Arrays.fill(values, value);
+        return values;
+    }
+
+    private int[] getColorMap() {
+        int size = 1 << sampleSize;
+        int[] map = new int[3 * size];
+        for (int i = 0; i < Math.min(palette.getMapSize(), size); i++) {
+            map[i] = palette.getRed(i) * 257;
+            map[size + i] = palette.getGreen(i) * 257;
+            map[2 * size + i] = palette.getBlue(i) * 257;
+        }
+        return map;
+    }
+
+    /** Extracts the GeoTIFF and metadata fields from the encoder */
+    private static List<TiffField> parseFields(GeoTiffIIOMetadataEncoder metadata) {
+        List<TiffField> fields = new ArrayList<>();
+        Node ifd = metadata.createRootTree().getFirstChild();
+        for (Node node = ifd.getFirstChild(); node != null; node = node.getNextSibling()) {
+            Element field = (Element) node;
+            int tag = Integer.parseInt(field.getAttribute(GeoTiffConstants.NUMBER_ATTRIBUTE));
+            Node data = field.getFirstChild();
+            NodeList children = data.getChildNodes();
+            String[] values = new String[children.getLength()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ((Element) children.item(i)).getAttribute(GeoTiffConstants.VALUE_ATTRIBUTE);
+            }
+            switch (data.getNodeName()) {
+                case GeoTiffConstants.GEOTIFF_SHORTS_TAG:
+                    fields.add(TiffField.shorts(tag, Arrays.stream(values).mapToInt(Integer::parseInt).toArray()));
+                    break;
+                case GeoTiffConstants.GEOTIFF_DOUBLES_TAG:
+                    fields.add(TiffField.doubles(
+                            tag, Arrays.stream(values).mapToDouble(Double::parseDouble).toArray()));
+                    break;
+                case GeoTiffConstants.GEOTIFF_ASCIIS_TAG:
+                    fields.add(TiffField.ascii(tag, values));
+                    break;
+                default:
+                    LOGGER.warning("Skipping TIFF field " + tag + " with unsupported type " + data.getNodeName());
+            }
+        }
+        return fields;
+    }
+
+    /** A level of the pyramid, full resolution or overview, with its compressed tiles spooled to a temporary file */
+    private final class ResolutionLevel {
+
+        final int index;
+
+        final int width;
+
+        final int height;
+
+        final int tilesAcross;
+
+        final int tilesDown;
+
+        /** The tile offsets, relative to the spool start */
+        final long[] offsets;
+
+        final long[] byteCounts;
+
+        final Path spool;
+
+        final OutputStream out;
+
+        ResolutionLevel next;
+
+        /** The row of tiles being accumulated from the previous level */
+        WritableRaster rows;
+
+        long length;
+
+        int count;
+
+        ResolutionLevel(int index, int width, int height) throws IOException {
+            this.index = index;
+            this.width = width;
+            this.height = height;
+            this.tilesAcross = (width + tileWidth - 1) / tileWidth;
+            this.tilesDown = (height + tileHeight - 1) / tileHeight;
+            this.offsets = new long[tilesAcross * tilesDown];
+            this.byteCounts = new long[tilesAcross * tilesDown];
+            this.spool = Files.createTempFile("cog-level" + index + "-", ".tmp");
+            this.out = new BufferedOutputStream(Files.newOutputStream(spool));
+        }
+
+        /** Spools the next tile in row major order */
+        void append(byte[] data) throws IOException {
+            offsets[count] = length;
+            byteCounts[count] = data.length;
+            out.write(data);
+            length += data.length;
+            count++;
+        }
+
+        void close() throws IOException {
+            out.close();
+        }
+
+        void dispose() {
+            try {
+                out.close();
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to delete temporary file " + spool, e);
+            }
+        }
+    }
+
+    private static final class PendingTile {
+
+        final ResolutionLevel level;
+
+        final int tile;
+
+        final Future<EncodedTile> future;
+
+        PendingTile(ResolutionLevel level, int tile, Future<EncodedTile> future) {
+            this.level = level;
+            this.tile = tile;
+            this.future = future;
+        }
+    }
+
+    private static final class EncodedTile {
+
+        final byte[] data;
+
+        /** The tile reduced by half, null for the last level */
+        final Raster reduced;
+
+        EncodedTile(byte[] data, Raster reduced) {
+            this.data = data;
+            this.reduced = reduced;
+        }
+    }
+
+    /** A TIFF field, with its value already encoded in little endian order */
+    private static final class TiffField {
+
+        final int tag;
+
+        final int type;
+
+        final long count;
+
+        final byte[] value;
+
+        TiffField(int tag, int type, long count, byte[] value) {
+            this.tag = tag;
+            this.type = type;
+            this.count = count;
+            this.value = value;
+        }
+
+        static TiffField shorts(int tag, int... values) {
+            ByteBuffer buffer = allocate(2 * values.length);
+            for (int value : values) {
+                buffer.putShort((short) value);
+            }
+            return new TiffField(tag, TYPE_SHORT, values.length, buffer.array());
+        }
+
+        static TiffField longs(int tag, long... values) {
+            ByteBuffer buffer = allocate(4 * values.length);
+            for (long value : values) {
+                buffer.putInt((int) value);
+            }
+            return new TiffField(tag, TYPE_LONG, values.length, buffer.array());
+        }
+
+        static TiffField offsets(int tag, long[] values, boolean bigTIFF) {
+            if (!bigTIFF) {
+                return longs(tag, values);
+            }
+            ByteBuffer buffer = allocate(8 * values.length);
+            for (long value : values) {
+                buffer.putLong(value);
+            }
+            return new TiffField(tag, TYPE_LONG8, values.length, buffer.array());
+        }
+
+        static TiffField doubles(int tag, double... values) {
+            ByteBuffer buffer = allocate(8 * values.length);
+            for (double value : values) {
+                buffer.putDouble(value);
+            }
+            return new TiffField(tag, TYPE_DOUBLE, values.length, buffer.array());
+        }
+
+        static TiffField ascii(int tag, String... values) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+                out.write(bytes, 0, bytes.length);
+                out.write(0);
+            }
+            byte[] bytes = out.toByteArray();
+            return new TiffField(tag, TYPE_ASCII, bytes.length, bytes);
+        }
+
+        private static ByteBuffer allocate(int size) {
+            return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Encodes data with the TIFF flavour of LZW: codes from 9 to 12 bits packed most significant bit first, with the
+     * code width growing one code early, and a clear code emitted when the table is full.
+     */
+    static final class LzwEncoder {
+
+        private final int[] keys = new int[LZW_HASH_SIZE];
+
+        private final int[] codes = new int[LZW_HASH_SIZE];
+
+        private ByteArrayOutputStream out;
+
+        private long bits;
+
+        private int bitCount;
+
+        private int width;
+
+        private int nextCode;
+
+        byte[] encode(byte[] data) {
+            out = new ByteArrayOutputStream(data.length / 2 + 16);
+            bits = 0;
+            bitCount = 0;
+            reset();
+            write(LZW_CLEAR);
+            if (data.length > 0) {
+                int prefix = data[0] & 0xff;
+                for (int i = 1; i < data.length; i++) {
+                    int b = data[i] & 0xff;
+                    int key = (prefix << 8) | b;
+                    int slot = (key * 0x9E3779B1) >>> 19;
+                    while (keys[slot] != -1 && keys[slot] != key) {
+                        slot = (slot + 1) & (LZW_HASH_SIZE - 1);
+                    }
+                    if (keys[slot] == key) {
+                        prefix = codes[slot];
+                        continue;
+                    }
+                    write(prefix);
+                    keys[slot] = key;
+                    codes[slot] = nextCode;
+                    grow();
+                    prefix = b;
+                }
+                write(prefix);
+                grow();
+            }
+            write(LZW_EOI);
+            if (bitCount > 0) {
+                out.write((int) (bits << (8 - bitCount)));
+            }
+            return out.toByteArray();
+        }
+
+        /** Accounts for a new table entry, adjusting the code width or clearing the table when full */
+        private void grow() {
+            nextCode++;
+            if (nextCode == LZW_MAX_CODE) {
+                write(LZW_CLEAR);
+                reset();
+            } else if (nextCode == 1 << width) {
+                width++;
+            }
+        }
+
+        private void reset() {
+            Arrays.fill(keys, -1);
+            width = 9;
+            nextCode = LZW_FIRST_CODE;
+        }
+
+        private void write(int code) {
+            bits = (bits << width) | code;
+            bitCount += width;
+            while (bitCount >= 8) {
+                out.write((int) (bits >>> (bitCount - 8)));
+                bitCount -= 8;
+            }
+            bits &= (1L << bitCount) - 1;
+        }
+    }
+}
@@ -115,6 +115,17 @@ public class GeoTiffFormat extends AbstractGridFormat implements Format {
     public static final DefaultParameterDescriptor<Boolean> RETAIN_AXES_ORDER = new DefaultParameterDescriptor<>(
             "RETAIN_AXES_ORDER", Boolean.class, new Boolean[] {Boolean.TRUE, Boolean.FALSE}, Boolean.FALSE);
 
+    /**
+     * This {@link GeneralParameterValue} can be provided to the {@link GeoTiffWriter}s in order to write a Cloud
+     * Optimized GeoTIFF, with internal overviews and tiles compressed in parallel. Tiling and compression are taken
+     * from the {@link GeoTiffWriteParams}, defaulting to 512x512 Deflate compressed tiles, only Deflate and LZW being
+     * supported.
+     *
+     * @since 36.0
+     */
+    public static final DefaultParameterDescriptor<Boolean> WRITE_COG = new DefaultParameterDescriptor<>(
+            "WRITE_COG", Boolean.class, new Boolean[] {Boolean.TRUE, Boolean.FALSE}, Boolean.FALSE);
+
     /** factory for getting tiff writers. */
     static final TIFFImageWriterSpi IMAGEIO_WRITER_FACTORY = new TIFFImageWriterSpi();
 
@@ -144,6 +155,7 @@ public GeoTiffFormat() {
                 new ParameterGroup(new DefaultParameterDescriptorGroup(mInfo, new GeneralParameterDescriptor[] {
                     RETAIN_AXES_ORDER,
                     WRITE_NODATA,
+                    WRITE_COG,
                     AbstractGridFormat.GEOTOOLS_WRITE_PARAMS,
                     AbstractGridFormat.PROGRESS_LISTENER
                 }));
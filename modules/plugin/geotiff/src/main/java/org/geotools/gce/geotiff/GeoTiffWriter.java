@@ -142,6 +142,7 @@ public void write(final GridCoverage gc, final GeneralParameterValue... params)
         ProgressListener listener = null;
         boolean retainAxesOrder = false;
         boolean writeNodata = GeoTiffFormat.WRITE_NODATA.getDefaultValue();
+        boolean writeCog = GeoTiffFormat.WRITE_COG.getDefaultValue();
         // /////////////////////////////////////////////////////////////////////
         //
         // Checking params
@@ -171,6 +172,10 @@ public void write(final GridCoverage gc, final GeneralParameterValue... params)
                     writeNodata = (Boolean) param.getValue();
                     continue;
                 }
+                if (name.equals(GeoTiffFormat.WRITE_COG.getName())) {
+                    writeCog = (Boolean) param.getValue();
+                    continue;
+                }
             }
         }
 
@@ -217,7 +222,11 @@ public void write(final GridCoverage gc, final GeneralParameterValue... params)
         //
         // write image
         //
-        writeImage(gc.getRenderedImage(), metadata, gtParams, listener);
+        if (writeCog) {
+            writeCog(gc.getRenderedImage(), metadata, gtParams, listener);
+        } else {
+            writeImage(gc.getRenderedImage(), metadata, gtParams, listener);
+        }
 
         //
         // write tfw
@@ -379,6 +388,38 @@ private boolean writeImage(
         return true;
     }
 
+    /** Writes the provided rendered image as a Cloud Optimized GeoTIFF, with internal overviews. */
+    @SuppressWarnings("PMD.CloseResource")
+    private void writeCog(
+            final RenderedImage image,
+            final GeoTiffIIOMetadataEncoder geoTIFFMetadata,
+            GeoToolsWriteParams gtParams,
+            ProgressListener listener)
+            throws IOException {
+        boolean forceToBigTIFF = gtParams instanceof GeoTiffWriteParams writeParams && writeParams.isForceToBigTIFF();
+        CogWriter cogWriter = new CogWriter(image, geoTIFFMetadata, gtParams.getAdaptee(), forceToBigTIFF);
+        final ImageOutputStream outputStream = getImageOutputStream(image);
+        try {
+            if (listener != null) {
+                listener.started();
+            }
+            cogWriter.write(outputStream, listener);
+            outputStream.flush();
+            if (listener != null) {
+                listener.complete();
+            }
+        } finally {
+            try {
+                if (!(destination instanceof ImageOutputStream)) outputStream.close();
+            } catch (Throwable e) {
+                // eat me
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
+                }
+            }
+        }
+    }
+
     /**
      * Creates image metadata which complies to the GeoTIFFWritingUtilities specification for the given image writer,
      * image type and GeoTIFFWritingUtilities metadata.
@@ -16,11 +16,14 @@
  */
 package org.geotools.gce.geotiff;
 
+import it.geosolutions.imageio.maskband.DatasetLayout;
 import it.geosolutions.imageio.plugins.tiff.BaselineTIFFTagSet;
 import it.geosolutions.io.output.adapter.OutputStreamAdapter;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
 import java.awt.image.RenderedImage;
+import java.awt.image.WritableRaster;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -30,6 +33,7 @@
 import java.text.ParseException;
 import java.util.Map;
 import java.util.logging.Logger;
+import javax.imageio.ImageWriteParam;
 import javax.imageio.stream.FileCacheImageOutputStream;
 import javax.imageio.stream.FileImageOutputStream;
 import javax.imageio.stream.ImageOutputStream;
@@ -901,4 +905,88 @@ public void testSmallImageUsesMemoryCacheOutputStream() throws Exception {
     public void testLargeImageUsesFileCacheOutputStream() throws Exception {
         assertTrue(writeConstantCoverage(1L) instanceof FileCacheImageOutputStream);
     }
+
+    @Test
+    public void testWriteCog() throws Exception {
+        BufferedImage bi = new BufferedImage(1000, 700, BufferedImage.TYPE_3BYTE_BGR);
+        WritableRaster raster = bi.getRaster();
+        for (int y = 0; y < bi.getHeight(); y++) {
+            for (int x = 0; x < bi.getWidth(); x++) {
+                raster.setPixel(x, y, new int[] {x % 256, y % 256, (x + y) % 256});
+            }
+        }
+        ReferencedEnvelope envelope = new ReferencedEnvelope(0, 100, 0, 70, DefaultGeographicCRS.WGS84);
+        GridCoverage2D coverage = new GridCoverageFactory().create("test", bi, envelope);
+
+        for (String compression : new String[] {"LZW", "Deflate"}) {
+            File output = TestData.temp(this, "cog" + compression + ".tif");
+            GeoTiffWriteParams wp = new GeoTiffWriteParams();
+            wp.setTilingMode(ImageWriteParam.MODE_EXPLICIT);
+            wp.setTiling(256, 256);
+            wp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            wp.setCompressionType(compression);
+            ParameterValueGroup params = new GeoTiffFormat().getWriteParameters();
+            params.parameter(AbstractGridFormat.GEOTOOLS_WRITE_PARAMS.getName().toString()).setValue(wp);
+            params.parameter(GeoTiffFormat.WRITE_COG.getName().toString()).setValue(true);
+            GeoTiffWriter writer = new GeoTiffWriter(output);
+            writer.write(coverage, params.values().toArray(new GeneralParameterValue[0]));
+            writer.dispose();
+
+            GeoTiffReader reader = new GeoTiffReader(output);
+            try {
+                // 1000x700, 500x350, then 250x175 fitting a single tile
+                DatasetLayout layout = reader.getDatasetLayout();
+                assertEquals(2, layout.getNumInternalOverviews());
+                assertEquals(2, reader.getResolutionLevels().length - 1);
+
+                GridCoverage2D read = reader.read();
+                assertTrue(CRS.equalsIgnoreMetadata(DefaultGeographicCRS.WGS84, read.getCoordinateReferenceSystem()));
+                assertEquals(envelope.getMinX(), read.getEnvelope2D().getMinX(), DELTA);
+                assertEquals(envelope.getMaxY(), read.getEnvelope2D().getMaxY(), DELTA);
+                RenderedImage image = read.getRenderedImage();
+                assertEquals(256, image.getTileWidth());
+                Raster data = image.getData();
+                for (int y = 0; y < bi.getHeight(); y += 7) {
+                    for (int x = 0; x < bi.getWidth(); x += 3) {
+                        assertArrayEquals(raster.getPixel(x, y, (int[]) null), data.getPixel(x, y, (int[]) null));
+                    }
+                }
+                read.dispose(true);
+            } finally {
+                reader.dispose();
+            }
+
+            // little endian classic TIFF, with the first image file directory right after the header
+            try (FileInputStream fis = new FileInputStream(output)) {
+                byte[] header = new byte[8];
+                assertEquals(8, fis.read(header));
+                assertEquals('I', header[0]);
+                assertEquals(42, header[2]);
+                assertEquals(8, header[4]);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteCogUnsupportedCompression() throws Exception {
+        BufferedImage bi = new BufferedImage(100, 100, BufferedImage.TYPE_BYTE_GRAY);
+        GridCoverage2D coverage = new GridCoverageFactory()
+                .create("test", bi, new ReferencedEnvelope(0, 10, 0, 10, DefaultGeographicCRS.WGS84));
+        GeoTiffWriteParams wp = new GeoTiffWriteParams();
+        wp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        wp.setCompressionType("PackBits");
+        ParameterValue<GeoToolsWriteParams> value = GeoTiffFormat.GEOTOOLS_WRITE_PARAMS.createValue();
+        value.setValue(wp);
+        ParameterValue<Boolean> cog = GeoTiffFormat.WRITE_COG.createValue();
+        cog.setValue(true);
+        GeoTiffWriter writer = new GeoTiffWriter(TestData.temp(this, "cogPackBits.tif"));
+        try {
+            writer.write(coverage, value, cog);
+            fail("PackBits is not supported for COG output");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("PackBits"));
+        } finally {
+            writer.dispose();
+        }
+    }
 }
@@ -45,8 +45,6 @@ public class CogGranuleAccessProvider extends DefaultGranuleAccessProvider imple
 
     private static final AbstractGridFormat DEFAULT_COG_FORMAT = new GeoTiffFormat();
 
-    private static final String DEFAULT_RANGE_READER = "it.geosolutions.imageioimpl.plugins.cog.HttpRangeReader";
-
     /** A COG configuration bean */
     private CogConfiguration cogConfig;
 
@@ -100,10 +98,7 @@ public CogGranuleAccessProvider(Hints hints) {
     @Override
     public void setGranuleInput(Object input) throws IOException {
         BasicAuthURI cogUri = cogConfig.createUri(input.toString());
-        String rangeReader = cogConfig.getRangeReader();
-        if (rangeReader == null) {
-            rangeReader = DEFAULT_RANGE_READER;
-        }
+        String rangeReader = cogConfig.resolveRangeReader(cogUri);
         CogSourceSPIProvider sourceSPIProvider =
                 new CogSourceSPIProvider(cogUri, imageReaderSpi, imageInputStreamSpi, rangeReader);
         this.input = sourceSPIProvider;
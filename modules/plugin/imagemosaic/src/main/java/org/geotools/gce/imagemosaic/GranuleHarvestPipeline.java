@@ -0,0 +1,218 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.gce.imagemosaic.ImageMosaicFileFeatureConsumer.ImageMosaicFileConsumer;
+import org.geotools.gce.imagemosaic.ImageMosaicFileFeatureConsumer.ImageMosaicFileConsumer.Inspection;
+import org.geotools.gce.imagemosaic.Utils.Prop;
+import org.geotools.gce.imagemosaic.catalogbuilder.CatalogBuilderConfiguration;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Harvests the files found by a {@link ImageMosaicWalker}, opening them with a pool of {@link Prop#HARVEST_THREADS}
+ * threads while the catalog is updated by the walking thread, in the walking order. The catalog transaction is
+ * committed every {@link Prop#HARVEST_BATCH_SIZE} files, and the committed files are recorded in a
+ * {@link HarvestCheckpoint} when {@link Prop#HARVEST_CHECKPOINT} is enabled.
+ *
+ * <p>The checkpoint is only used when harvesting into a mosaic that already has coverages, a mosaic being created from
+ * scratch discards any previous checkpoint, as its catalog is created anew as well.
+ */
+class GranuleHarvestPipeline implements Closeable {
+
+    static final Logger LOGGER = Logging.getLogger(GranuleHarvestPipeline.class);
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final ImageMosaicWalker<?> walker;
+
+    /** The pool opening the files, {@code null} when they are opened by the walking thread */
+    private final ExecutorService executor;
+
+    /** The files being opened, in walking order */
+    private final Deque<Future<Inspection>> pending = new ArrayDeque<>();
+
+    /** Maximum number of files opened ahead of the catalog updates */
+    private final int window;
+
+    private final int batchSize;
+
+    private final HarvestCheckpoint checkpoint;
+
+    /** The files handled since the last commit */
+    private final List<File> uncommitted = new ArrayList<>();
+
+    GranuleHarvestPipeline(ImageMosaicWalker<?> walker) throws IOException {
+        this.walker = walker;
+        ImageMosaicConfigHandler configHandler = walker.getConfigHandler();
+        CatalogBuilderConfiguration configuration = configHandler.getRunConfiguration();
+        int threads = getInteger(configuration, Prop.HARVEST_THREADS, 1);
+        this.batchSize = getInteger(configuration, Prop.HARVEST_BATCH_SIZE, 0);
+        this.window = threads * 2;
+        if (threads > 1) {
+            int pool = POOL_COUNT.incrementAndGet();
+            AtomicInteger count = new AtomicInteger();
+            ThreadFactory factory = r -> {
+                Thread thread = new Thread(r, "MosaicHarvester-" + pool + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.executor = Executors.newFixedThreadPool(threads, factory);
+        } else {
+            this.executor = null;
+        }
+
+        HarvestCheckpoint checkpoint = null;
+        if (Boolean.parseBoolean(configuration.getParameter(Prop.HARVEST_CHECKPOINT))) {
+            File root = new File(configuration.getParameter(Prop.ROOT_MOSAIC_DIR));
+            ImageMosaicReader reader = configHandler.getParentReader();
+            String[] coverages = reader != null ? reader.getGridCoverageNames() : null;
+            if (coverages == null || coverages.length == 0) {
+                HarvestCheckpoint.delete(root);
+            }
+            checkpoint = new HarvestCheckpoint(root);
+        }
+        this.checkpoint = checkpoint;
+    }
+
+    private static int getInteger(CatalogBuilderConfiguration configuration, String name, int defaultValue) {
+        String value = configuration.getParameter(name);
+        if (value != null) {
+            try {
+                return Math.max(Integer.parseInt(value.trim()), defaultValue);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Invalid " + name + " value " + value + ", using " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /** Harvests the specified file, possibly in a background thread */
+    void harvest(File file) throws IOException {
+        ImageMosaicFileConsumer consumer = new ImageMosaicFileConsumer();
+        if (!consumer.checkElement(file, walker)) {
+            walker.setElementIndex(walker.getElementIndex() + 1);
+            return;
+        }
+        if (checkpoint != null && checkpoint.isHarvested(file)) {
+            int elementIndex = walker.getElementIndex() + 1;
+            walker.setElementIndex(elementIndex);
+            walker.getEventHandler()
+                    .fireFileEvent(
+                            Level.FINE,
+                            file,
+                            true,
+                            "Skipped file " + file + ": not modified since last harvest",
+                            elementIndex * 100.0 / walker.getNumElements());
+            return;
+        }
+
+        ImageMosaicConfigHandler configHandler = walker.getConfigHandler();
+        if (executor == null) {
+            register(ImageMosaicFileConsumer.inspect(file, configHandler));
+        } else {
+            pending.add(executor.submit(() -> ImageMosaicFileConsumer.inspect(file, configHandler)));
+            while (pending.size() > window && !walker.getStop()) {
+                register(next());
+            }
+        }
+    }
+
+    /** Waits for the oldest file being opened */
+    private Inspection next() throws IOException {
+        Future<Inspection> future = pending.poll();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while harvesting granules", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void register(Inspection inspection) throws IOException {
+        walker.setElementIndex(walker.getElementIndex() + 1);
+        ImageMosaicFileConsumer.register(inspection, walker);
+        if (walker.getStop()) {
+            return;
+        }
+        uncommitted.add(inspection.file);
+        if (batchSize > 0 && uncommitted.size() >= batchSize) {
+            commit();
+        }
+    }
+
+    /** Harvests the files still being opened, unless the walk has been stopped */
+    void flush() throws IOException {
+        while (!pending.isEmpty() && !walker.getStop()) {
+            register(next());
+        }
+    }
+
+    /** Commits the catalog transaction, and records the files harvested since the last commit */
+    void commit() throws IOException {
+        walker.commitTransaction();
+        if (checkpoint != null) {
+            checkpoint.add(uncommitted);
+        }
+        uncommitted.clear();
+    }
+
+    /** Drops the files harvested since the last commit */
+    void rollback() throws IOException {
+        uncommitted.clear();
+        walker.rollbackTransaction();
+    }
+
+    /** Releases the threads and the checkpoint, compacting the latter if the walk was completed */
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdown();
+            // release the readers opened ahead of a stop or failure
+            while (!pending.isEmpty()) {
+                try {
+                    next().dispose();
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINEST, e.getLocalizedMessage(), e);
+                }
+            }
+        }
+        if (checkpoint != null) {
+            if (walker.getStop()) {
+                checkpoint.close();
+            } else {
+                checkpoint.compact();
+            }
+        }
+    }
+}
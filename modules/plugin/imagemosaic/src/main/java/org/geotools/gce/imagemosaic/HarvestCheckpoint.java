@@ -0,0 +1,161 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Records the files whose granules have been committed to the catalog, along with their size and last modification
+ * time, so that a following walk over the same directories can skip the files that did not change.
+ *
+ * <p>Entries are appended to a text file after each commit, one line per file, so that an interrupted walk can be
+ * resumed from the last committed batch. Later lines win over earlier ones, and an incomplete last line is ignored.
+ * The file is compacted when the walk completes.
+ */
+class HarvestCheckpoint implements Closeable {
+
+    static final Logger LOGGER = Logging.getLogger(HarvestCheckpoint.class);
+
+    /** The name of the checkpoint file, in the mosaic root directory */
+    static final String FILENAME = ".harvest.checkpoint";
+
+    private final File file;
+
+    /** The size and last modification time of the harvested files, by absolute path */
+    private final Map<String, long[]> entries = new HashMap<>();
+
+    private Writer writer;
+
+    /** Opens the checkpoint in the specified mosaic directory, reading the existing entries */
+    HarvestCheckpoint(File directory) throws IOException {
+        this.file = new File(directory, FILENAME);
+        if (file.exists()) {
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    parse(line);
+                }
+            }
+        }
+    }
+
+    private void parse(String line) {
+        // lastModified, length, path, and a terminator to spot the truncated lines
+        if (!line.endsWith("\t.")) {
+            return;
+        }
+        String[] fields = line.split("\t");
+        if (fields.length != 4) {
+            return;
+        }
+        try {
+            long lastModified = Long.parseLong(fields[0]);
+            long length = Long.parseLong(fields[1]);
+            entries.put(fields[2], new long[] {lastModified, length});
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.FINE, "Skipping invalid checkpoint entry " + line, e);
+        }
+    }
+
+    /** Removes the checkpoint file of the specified mosaic directory, if any */
+    static void delete(File directory) throws IOException {
+        Files.deleteIfExists(new File(directory, FILENAME).toPath());
+    }
+
+    /** Returns {@code true} if the file has been harvested, and was not modified since */
+    boolean isHarvested(File granule) {
+        long[] entry = entries.get(granule.getAbsolutePath());
+        return entry != null && entry[0] == granule.lastModified() && entry[1] == granule.length();
+    }
+
+    /** Returns the number of files recorded */
+    int size() {
+        return entries.size();
+    }
+
+    /** Records the specified files as harvested, to be called once their granules are committed */
+    void add(Collection<File> granules) throws IOException {
+        if (granules.isEmpty()) {
+            return;
+        }
+        if (writer == null) {
+            boolean partial = endsWithPartialLine();
+            writer = Files.newBufferedWriter(
+                    file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (partial) {
+                // do not append to the line left incomplete by a crash
+                writer.write('\n');
+            }
+        }
+        for (File granule : granules) {
+            long[] entry = {granule.lastModified(), granule.length()};
+            entries.put(granule.getAbsolutePath(), entry);
+            write(writer, granule.getAbsolutePath(), entry);
+        }
+        writer.flush();
+    }
+
+    private boolean endsWithPartialLine() throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return false;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(raf.length() - 1);
+            return raf.read() != '\n';
+        }
+    }
+
+    private static void write(Writer writer, String path, long[] entry) throws IOException {
+        writer.write(entry[0] + "\t" + entry[1] + "\t" + path + "\t.\n");
+    }
+
+    /** Rewrites the checkpoint file with a single line per file */
+    void compact() throws IOException {
+        close();
+        File temp = new File(file.getParentFile(), FILENAME + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, long[]> entry : entries.entrySet()) {
+                write(out, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
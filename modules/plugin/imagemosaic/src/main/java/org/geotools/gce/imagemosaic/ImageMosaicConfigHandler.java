@@ -147,7 +147,7 @@ public class ImageMosaicConfigHandler {
 
     private ImageReaderSpi cachedReaderSPI;
 
-    private AbstractGridFormat cachedFormat;
+    private volatile AbstractGridFormat cachedFormat;
 
     private ReferencedEnvelope imposedBBox;
 
@@ -1174,6 +1174,9 @@ private void createPropertiesFiles(MosaicConfigurationBean mosaicConfiguration)
             }
             boolean useCache = cogBean.isUseCache();
             properties.setProperty(Prop.COG_USE_CACHE, Boolean.toString(useCache));
+            if (cogBean.isBlockCache()) {
+                properties.setProperty(Prop.COG_BLOCK_CACHE, Boolean.toString(true));
+            }
         }
 
         // write down imposed bbox
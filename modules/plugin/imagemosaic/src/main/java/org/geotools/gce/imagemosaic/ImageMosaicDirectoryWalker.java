@@ -67,6 +67,9 @@ final class MosaicDirectoryWalker extends org.apache.commons.io.DirectoryWalker
 
         private ImageMosaicElementConsumer consumer;
 
+        /** Opens the granules in parallel and batches the catalog updates */
+        private GranuleHarvestPipeline pipeline;
+
         @Override
         protected void handleCancelled(File startDirectory, Collection results, CancelException cancel)
                 throws IOException {
@@ -113,6 +116,7 @@ public MosaicDirectoryWalker(
             configHandler.indexingPreamble();
 
             try {
+                pipeline = new GranuleHarvestPipeline(walker);
                 // start walking directories
                 for (String indexingDirectory : indexingDirectories) {
                     walk(new File(indexingDirectory), null);
@@ -122,16 +126,24 @@ public MosaicDirectoryWalker(
                         break;
                     }
                 }
+                pipeline.flush();
                 // did we cancel?
                 if (getStop()) {
-                    rollbackTransaction();
+                    pipeline.rollback();
                 } else {
-                    commitTransaction();
+                    pipeline.commit();
                 }
             } catch (Exception e) {
                 LOGGER.log(Level.WARNING, "Failure occurred while collecting the granules", e);
                 rollbackTransaction();
             } finally {
+                if (pipeline != null) {
+                    try {
+                        pipeline.close();
+                    } catch (Exception e) {
+                        LOGGER.log(Level.WARNING, "Unable to close the harvest checkpoint", e);
+                    }
+                }
                 try {
                     configHandler.indexingPostamble(!getStop());
                 } catch (Exception e) {
@@ -163,7 +175,7 @@ public boolean checkElement(File element, ImageMosaicWalker provider) {
 
         @Override
         public void handleElement(File element, ImageMosaicWalker provider) throws IOException {
-            consumer.handleElement(element, provider);
+            pipeline.harvest(element);
         }
     }
 
@@ -243,6 +255,7 @@ private IOFileFilter createDefaultGranuleExclusionFilter() {
                 FileFilterUtils.suffixFileFilter("ncx"),
                 FileFilterUtils.nameFileFilter("error.txt"),
                 FileFilterUtils.nameFileFilter("error.txt.lck"),
+                FileFilterUtils.nameFileFilter(HarvestCheckpoint.FILENAME),
                 FileFilterUtils.suffixFileFilter("properties"),
                 FileFilterUtils.suffixFileFilter("svn-base"));
         filesFilter = FileFilterUtils.or(filesFilter, FileFilterUtils.nameFileFilter("indexer.properties"));
@@ -140,33 +140,28 @@ public void handleElement(File file, ImageMosaicWalker provider) throws IOExcept
             int elementIndex = provider.getElementIndex() + 1;
             provider.setElementIndex(elementIndex);
 
-            int numElements = provider.getNumElements();
-            ImageMosaicEventHandlers eventHandler = provider.getEventHandler();
-            ImageMosaicConfigHandler configHandler = provider.getConfigHandler();
-
             // Check that this file is actually good to go
             if (!checkElement(file, provider)) return;
 
-            String validFileName;
-            String extension;
+            register(inspect(file, provider.getConfigHandler()), provider);
+        }
+
+        /**
+         * Looks up the format of the file and opens a reader on it. This is the most expensive part of the granule
+         * handling, and it does not modify the configuration, so it can be run in parallel for several files, leaving
+         * the catalog updates to {@link #register(Inspection, ImageMosaicWalker)}.
+         */
+        static Inspection inspect(File file, ImageMosaicConfigHandler configHandler) {
+            Inspection inspection = new Inspection(file);
             try {
-                validFileName = file.getCanonicalPath();
+                String validFileName = file.getCanonicalPath();
                 validFileName = FilenameUtils.normalize(validFileName);
-                extension = FilenameUtils.getExtension(validFileName);
+                inspection.extension = FilenameUtils.getExtension(validFileName);
+                inspection.name = FilenameUtils.getName(validFileName);
             } catch (IOException e) {
-                eventHandler.fireFileEvent(
-                        Level.FINER,
-                        file,
-                        false,
-                        "Exception occurred while processing file " + file + ": " + e.getMessage(),
-                        elementIndex * 100.0 / numElements);
-                eventHandler.fireException(e);
-                return;
+                inspection.pathError = e;
+                return inspection;
             }
-            validFileName = FilenameUtils.getName(validFileName);
-            eventHandler.fireEvent(
-                    Level.INFO, "Now indexing file " + validFileName, elementIndex * 100.0 / numElements);
-            GridCoverage2DReader coverageReader = null;
             try {
                 // Getting a coverage reader for this coverage.
                 final AbstractGridFormat format;
@@ -183,7 +178,51 @@ public void handleElement(File file, ImageMosaicWalker provider) throws IOExcept
                     }
                 }
                 if (format instanceof UnknownFormat || format == null) {
-                    if (!Utils.LOG_EXCLUDES.contains(extension)) {
+                    return inspection;
+                }
+                inspection.format = format;
+
+                final Hints configurationHints =
+                        configHandler.getRunConfiguration().getHints();
+                inspection.reader = format.getReader(file, configurationHints);
+            } catch (Exception e) {
+                inspection.error = e;
+            }
+            return inspection;
+        }
+
+        /**
+         * Adds the granules found by {@link #inspect(File, ImageMosaicConfigHandler)} to the catalog, and disposes the
+         * reader. Must be called by the walking thread, in the walking order.
+         */
+        static void register(Inspection inspection, ImageMosaicWalker provider) {
+            File file = inspection.file;
+            int elementIndex = provider.getElementIndex();
+            int numElements = provider.getNumElements();
+            ImageMosaicEventHandlers eventHandler = provider.getEventHandler();
+            ImageMosaicConfigHandler configHandler = provider.getConfigHandler();
+
+            if (inspection.pathError != null) {
+                eventHandler.fireFileEvent(
+                        Level.FINER,
+                        file,
+                        false,
+                        "Exception occurred while processing file " + file + ": "
+                                + inspection.pathError.getMessage(),
+                        elementIndex * 100.0 / numElements);
+                eventHandler.fireException(inspection.pathError);
+                return;
+            }
+            eventHandler.fireEvent(
+                    Level.INFO, "Now indexing file " + inspection.name, elementIndex * 100.0 / numElements);
+            GridCoverage2DReader coverageReader = inspection.reader;
+            try {
+                if (inspection.error != null) {
+                    throw inspection.error;
+                }
+                final AbstractGridFormat format = inspection.format;
+                if (format == null) {
+                    if (!Utils.LOG_EXCLUDES.contains(inspection.extension)) {
                         eventHandler.fireFileEvent(
                                 Level.INFO,
                                 file,
@@ -194,10 +233,6 @@ public void handleElement(File file, ImageMosaicWalker provider) throws IOExcept
                     return;
                 }
 
-                final Hints configurationHints =
-                        configHandler.getRunConfiguration().getHints();
-                coverageReader = format.getReader(file, configurationHints);
-
                 // Setting of the ReaderSPI to use
                 if (configHandler.getCachedReaderSPI() == null) {
                     // Get the URL associated to the file
@@ -275,5 +310,42 @@ public void handleElement(File file, ImageMosaicWalker provider) throws IOExcept
                 }
             }
         }
+
+        /** The outcome of {@link ImageMosaicFileConsumer#inspect(File, ImageMosaicConfigHandler)} */
+        static final class Inspection {
+
+            final File file;
+
+            String name;
+
+            String extension;
+
+            /** The format of the file, {@code null} if not supported */
+            AbstractGridFormat format;
+
+            GridCoverage2DReader reader;
+
+            /** Failure computing the canonical path of the file */
+            IOException pathError;
+
+            /** Failure opening the file */
+            Exception error;
+
+            Inspection(File file) {
+                this.file = file;
+            }
+
+            /** Releases the reader, for inspections that will not be registered */
+            void dispose() {
+                if (reader != null) {
+                    try {
+                        reader.dispose();
+                    } catch (Throwable e) {
+                        if (LOGGER.isLoggable(Level.FINEST)) LOGGER.log(Level.FINEST, e.getLocalizedMessage(), e);
+                    }
+                    reader = null;
+                }
+            }
+        }
     }
 }
@@ -421,6 +421,9 @@ public static class Prop {
 
         public static final String COG_USE_CACHE = "CogUseCache";
 
+        /** Sets if the COG granules should be read through the shared, block based, range cache (default is FALSE) */
+        public static final String COG_BLOCK_CACHE = "CogBlockCache";
+
         public static final String COG_USER = "CogUser";
 
         public static final String COG_PASSWORD = "CogPassword";
@@ -436,6 +439,22 @@ public static class Prop {
         public static final String QUERY_CACHE_MAX_FEATURES = "QueryCacheMaxFeatures";
 
         public static final String COLLECT_RAT = "CollectAttributeTables";
+
+        /** Number of threads opening the granules found while walking the directories (default is 1) */
+        public static final String HARVEST_THREADS = "HarvestThreads";
+
+        /**
+         * Number of granules added to the catalog in each transaction when walking the directories (default is 0, a
+         * single transaction for the whole walk). Batches already committed are kept if the walk fails or is stopped.
+         */
+        public static final String HARVEST_BATCH_SIZE = "HarvestBatchSize";
+
+        /**
+         * Sets if the files added to an existing mosaic should be recorded in a checkpoint file, so that walking the
+         * directories again skips the ones not modified since (default is FALSE)<br>
+         * {@value TRUE|FALSE}
+         */
+        public static final String HARVEST_CHECKPOINT = "HarvestCheckpoint";
     }
 
     /**
@@ -1156,6 +1175,10 @@ private static void setCogConfig(
                         properties.getProperty(Prop.COG_USE_CACHE, "false").trim());
                 cogBean.setUseCache(cogUseCaching);
             }
+            if (!ignoreSome || !ignorePropertiesSet.contains(Prop.COG_BLOCK_CACHE)) {
+                cogBean.setBlockCache(Boolean.valueOf(
+                        properties.getProperty(Prop.COG_BLOCK_CACHE, "false").trim()));
+            }
             if (!ignoreSome || !ignorePropertiesSet.contains(Prop.COG_USER)) {
                 cogBean.setUser(properties.getProperty(Prop.COG_USER));
             }
@@ -30,6 +30,8 @@
 import org.geotools.gce.imagemosaic.Utils;
 import org.geotools.gce.imagemosaic.catalog.index.Indexer;
 import org.geotools.gce.imagemosaic.catalog.index.IndexerUtils;
+import org.geotools.gce.imagemosaic.cog.CachingRangeReader;
+import org.geotools.gce.imagemosaic.cog.CogBlockCache;
 import org.geotools.util.Utilities;
 
 /** Bean containing all COG related configuration properties */
@@ -69,6 +71,9 @@ public CogConfiguration(final Indexer indexer) {
         if (IndexerUtils.getParameterAsBoolean(Utils.Prop.COG_USE_CACHE, indexer)) {
             this.useCache = true;
         }
+        if (IndexerUtils.getParameterAsBoolean(Utils.Prop.COG_BLOCK_CACHE, indexer)) {
+            this.blockCache = true;
+        }
     }
 
     /** Optional user/accessId to access the data */
@@ -83,6 +88,9 @@ public CogConfiguration(final Indexer indexer) {
     /** Whether to use Caching stream or not */
     private boolean useCache;
 
+    /** Whether to read through the shared {@link CogBlockCache} or not */
+    private boolean blockCache;
+
     public String getUser() {
         return user;
     }
@@ -115,6 +123,26 @@ public void setUseCache(boolean useCache) {
         this.useCache = useCache;
     }
 
+    public boolean isBlockCache() {
+        return blockCache;
+    }
+
+    public void setBlockCache(boolean blockCache) {
+        this.blockCache = blockCache;
+    }
+
+    /**
+     * Returns the class name of the range reader to be used for the provided URI. When the block cache is enabled
+     * this is a {@link CachingRangeReader}, delegating to the configured range reader carried by the URIs built by
+     * {@link #createUri(String)}.
+     */
+    public String resolveRangeReader(BasicAuthURI uri) {
+        if (!blockCache) {
+            return rangeReader != null ? rangeReader : Utils.DEFAULT_RANGE_READER;
+        }
+        return CachingRangeReader.class.getName();
+    }
+
     /**
      * Create a {@link BasicAuthURI} instance on top of the provided source String optionally embedding (when provided)
      * user/pass credentials as UserInfo component of the underlying URI.
@@ -122,13 +150,18 @@ public void setUseCache(boolean useCache) {
     public BasicAuthURI createUri(String source) {
         // Create basic uri
         URI uri = URI.create(source);
+        if (blockCache) {
+            // the caching range reader is created by class name, the URI tells it which reader to delegate to
+            return new CachingRangeReader.DelegatingURI(uri, isUseCache(), getUser(), getPassword(), rangeReader);
+        }
         return new BasicAuthURI(uri, isUseCache(), getUser(), getPassword());
     }
 
     @Override
     public SourceSPIProvider getSourceSPIProvider(Object sourceUrl) {
+        BasicAuthURI uri = createUri(sourceUrl.toString());
         SourceSPIProvider readerInputObject = new CogSourceSPIProvider(
-                createUri(sourceUrl.toString()), COG_IMAGE_READER_SPI, COG_IMAGE_INPUT_STREAM_SPI, getRangeReader());
+                uri, COG_IMAGE_READER_SPI, COG_IMAGE_INPUT_STREAM_SPI, resolveRangeReader(uri));
         return readerInputObject;
     }
 }
@@ -555,6 +555,7 @@ private static Indexer createIndexer(Properties props, ParametersType params) {
                 setParam(parameters, Utils.Prop.COG_RANGE_READER, Utils.DEFAULT_RANGE_READER);
             }
             addProperty(Utils.Prop.COG_USE_CACHE, props, parameters);
+            addProperty(Utils.Prop.COG_BLOCK_CACHE, props, parameters);
             addProperty(Utils.Prop.COG_PASSWORD, props, parameters);
             addProperty(Utils.Prop.COG_USER, props, parameters);
         }
@@ -629,6 +630,9 @@ private static Indexer createIndexer(Properties props, ParametersType params) {
         addProperty(Utils.Prop.MAX_INIT_TILES, props, parameters);
         addProperty(Utils.Prop.QUERY_CACHE_MAX_AGE, props, parameters);
         addProperty(Utils.Prop.QUERY_CACHE_MAX_FEATURES, props, parameters);
+        addProperty(Utils.Prop.HARVEST_THREADS, props, parameters);
+        addProperty(Utils.Prop.HARVEST_BATCH_SIZE, props, parameters);
+        addProperty(Utils.Prop.HARVEST_CHECKPOINT, props, parameters);
 
         return indexer;
     }
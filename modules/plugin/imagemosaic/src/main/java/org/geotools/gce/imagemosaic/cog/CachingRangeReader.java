@@ -0,0 +1,235 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.cog;
+
+import it.geosolutions.imageio.core.BasicAuthURI;
+import it.geosolutions.imageioimpl.plugins.cog.AbstractRangeReader;
+import it.geosolutions.imageioimpl.plugins.cog.RangeReader;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.gce.imagemosaic.Utils;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A range reader serving the requested ranges from a {@link CogBlockCache}, and reading the missing blocks with a
+ * delegate range reader.
+ *
+ * <p>The ranges are widened to the cache block boundaries, and the adjacent missing blocks are coalesced in a single
+ * range, so that the many small tile reads of a request turn into a few larger ones. Reading the header fetches whole
+ * blocks as well, which usually prefetches the image file directories following it.
+ *
+ * <p>The delegate is created by class name, as the range reader itself is, using the class carried by the
+ * {@link DelegatingURI} the reader is created with. When the URI does not carry one, local files are read with a
+ * {@link FileRangeReader}, and remote ones with the HTTP range reader.
+ */
+public class CachingRangeReader extends AbstractRangeReader {
+
+    static final Logger LOGGER = Logging.getLogger(CachingRangeReader.class);
+
+    private final String key;
+
+    private final RangeReader delegate;
+
+    private final CogBlockCache cache;
+
+    public CachingRangeReader(BasicAuthURI uri, int headerLength) {
+        this(uri.getUri(), headerLength, createDelegate(uri, headerLength), CogBlockCache.getDefault());
+    }
+
+    public CachingRangeReader(URI uri, int headerLength) {
+        this(new BasicAuthURI(uri, false, null, null), headerLength);
+    }
+
+    /**
+     * Creates a reader over an explicit delegate and cache.
+     *
+     * @param uri the URI of the file, used as the cache key
+     * @param headerLength the header length
+     * @param delegate the reader used for the blocks missing in the cache
+     * @param cache the block cache
+     */
+    public CachingRangeReader(URI uri, int headerLength, RangeReader delegate, CogBlockCache cache) {
+        super(uri, headerLength);
+        this.key = uri.toString();
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    private static RangeReader createDelegate(BasicAuthURI uri, int headerLength) {
+        String className = uri instanceof DelegatingURI delegating ? delegating.getDelegate() : null;
+        if (className == null) {
+            className = "file".equals(uri.getUri().getScheme())
+                    ? FileRangeReader.class.getName()
+                    : Utils.DEFAULT_RANGE_READER;
+        }
+        try {
+            Class<?> clazz = Class.forName(className);
+            try {
+                return (RangeReader) clazz.getConstructor(BasicAuthURI.class, int.class)
+                        .newInstance(uri, headerLength);
+            } catch (NoSuchMethodException e) {
+                return (RangeReader) clazz.getConstructor(URI.class, int.class).newInstance(uri.getUri(), headerLength);
+            }
+        } catch (ClassNotFoundException
+                | NoSuchMethodException
+                | InstantiationException
+                | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new IllegalArgumentException("Unable to create range reader " + className, e);
+        }
+    }
+
+    /** Returns the reader used for the blocks missing in the cache */
+    RangeReader getDelegate() {
+        return delegate;
+    }
+
+    /** Returns the block cache used by this reader */
+    public CogBlockCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public byte[] readHeader() {
+        byte[] header = read(new long[] {0, getHeaderLength() - 1}).get(0L);
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.finest("Read header of " + key + ", " + cache);
+        }
+        return header;
+    }
+
+    public Map<Long, byte[]> read(Collection<long[]> ranges) {
+        return read(ranges.toArray(new long[ranges.size()][]));
+    }
+
+    /** Reads the specified ranges, each one being a {start, end} pair of inclusive positions */
+    @Override
+    public Map<Long, byte[]> read(long[]... ranges) {
+        int blockSize = cache.getBlockSize();
+        Map<Long, byte[]> blocks = new HashMap<>();
+        TreeSet<Long> missing = new TreeSet<>();
+        for (long[] range : ranges) {
+            for (long offset = cache.align(range[0]); offset <= range[1]; offset += blockSize) {
+                if (!blocks.containsKey(offset) && !missing.contains(offset)) {
+                    byte[] block = cache.get(key, offset);
+                    if (block != null) {
+                        blocks.put(offset, block);
+                    } else {
+                        missing.add(offset);
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            fetch(missing, blocks);
+        }
+
+        Map<Long, byte[]> result = new HashMap<>();
+        for (long[] range : ranges) {
+            result.put(range[0], assemble(range, blocks));
+        }
+        return result;
+    }
+
+    /** Reads the missing blocks, coalescing the adjacent ones */
+    private void fetch(TreeSet<Long> missing, Map<Long, byte[]> blocks) {
+        int blockSize = cache.getBlockSize();
+        List<long[]> runs = new ArrayList<>();
+        long[] run = null;
+        for (long offset : missing) {
+            if (run != null && run[1] + 1 == offset) {
+                run[1] = offset + blockSize - 1;
+            } else {
+                run = new long[] {offset, offset + blockSize - 1};
+                runs.add(run);
+            }
+        }
+        Map<Long, byte[]> fetched = delegate.read(runs.toArray(new long[runs.size()][]));
+        for (long[] r : runs) {
+            byte[] data = fetched.get(r[0]);
+            if (data == null) {
+                throw new IllegalStateException("No data returned for range " + r[0] + "-" + r[1] + " of " + key);
+            }
+            // the last block of the file might be shorter, or missing if the run extends past the end of it
+            for (int i = 0; i < data.length; i += blockSize) {
+                byte[] block = Arrays.copyOfRange(data, i, Math.min(i + blockSize, data.length));
+                blocks.put(r[0] + i, block);
+                cache.put(key, r[0] + i, block);
+            }
+        }
+    }
+
+    /** Copies the range out of the blocks, the result is truncated at the end of the file */
+    private byte[] assemble(long[] range, Map<Long, byte[]> blocks) {
+        int blockSize = cache.getBlockSize();
+        byte[] result = new byte[(int) (range[1] - range[0] + 1)];
+        int filled = 0;
+        for (long offset = cache.align(range[0]); offset <= range[1]; offset += blockSize) {
+            byte[] block = blocks.get(offset);
+            if (block == null) {
+                break;
+            }
+            int from = (int) Math.max(range[0] - offset, 0);
+            int to = (int) Math.min(block.length, range[1] - offset + 1);
+            if (from >= to) {
+                break;
+            }
+            System.arraycopy(block, from, result, (int) (offset + from - range[0]), to - from);
+            filled += to - from;
+            if (block.length < blockSize) {
+                break;
+            }
+        }
+        return filled < result.length ? Arrays.copyOf(result, filled) : result;
+    }
+
+    /**
+     * A URI carrying the class of the range reader used by the {@link CachingRangeReader} to read the missing blocks,
+     * as the range reader is created by class name, and only receives the URI.
+     */
+    public static class DelegatingURI extends BasicAuthURI {
+
+        private final String delegate;
+
+        /**
+         * @param uri the file URI
+         * @param useCache whether the image reader tile cache is used
+         * @param user the user name, or {@code null}
+         * @param password the password, or {@code null}
+         * @param delegate the class name of the range reader used for the missing blocks, or {@code null} for the
+         *     default one
+         */
+        public DelegatingURI(URI uri, boolean useCache, String user, String password, String delegate) {
+            super(uri, useCache, user, password);
+            this.delegate = delegate;
+        }
+
+        /** Returns the class name of the range reader used for the missing blocks, or {@code null} */
+        public String getDelegate() {
+            return delegate;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.cog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Objects;
+
+/**
+ * A size bounded, least recently used cache of the bytes read from Cloud Optimized GeoTIFF files, shared by all the
+ * {@link CachingRangeReader} instances. The files are split in blocks of a fixed size, keyed by the file URI and the
+ * block aligned offset, so that the bytes read for a request can be reused by the following ones, whatever the reader
+ * or granule performing them.
+ *
+ * <p>The default instance size is set by the {@link #MAX_SIZE_KEY} system property (64MB by default), and the block
+ * size by the {@link #BLOCK_SIZE_KEY} one (64KB by default). Thread-safe.
+ */
+public final class CogBlockCache {
+
+    /** System property setting the maximum size of the default cache, in bytes */
+    public static final String MAX_SIZE_KEY = "org.geotools.imagemosaic.cog.blockcache.size";
+
+    /** System property setting the block size of the default cache, in bytes */
+    public static final String BLOCK_SIZE_KEY = "org.geotools.imagemosaic.cog.blockcache.blocksize";
+
+    private static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+    private static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private static volatile CogBlockCache defaultCache;
+
+    private final int blockSize;
+
+    private final long maximumSizeBytes;
+
+    private final Cache<BlockKey, byte[]> cache;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param blockSize the size of the cached blocks, in bytes
+     * @param maximumSizeBytes the maximum number of bytes held by the cache
+     */
+    public CogBlockCache(int blockSize, long maximumSizeBytes) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+        this.maximumSizeBytes = maximumSizeBytes;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(Math.max(maximumSizeBytes, 0))
+                .weigher((BlockKey key, byte[] block) -> block.length)
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cache shared by default by the {@link CachingRangeReader} instances */
+    public static CogBlockCache getDefault() {
+        CogBlockCache result = defaultCache;
+        if (result == null) {
+            synchronized (CogBlockCache.class) {
+                result = defaultCache;
+                if (result == null) {
+                    int blockSize = Integer.getInteger(BLOCK_SIZE_KEY, DEFAULT_BLOCK_SIZE);
+                    long maxSize = Long.getLong(MAX_SIZE_KEY, DEFAULT_MAX_SIZE);
+                    result = defaultCache = new CogBlockCache(blockSize, maxSize);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Returns the size of the cached blocks, in bytes */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /** Returns the maximum number of bytes held by the cache */
+    public long getMaximumSizeBytes() {
+        return maximumSizeBytes;
+    }
+
+    /** Returns the offset of the block containing the specified file position */
+    public long align(long position) {
+        return position - position % blockSize;
+    }
+
+    /**
+     * Returns the block starting at the specified offset, or {@code null} if not cached. The last block of a file can
+     * be shorter than the block size.
+     */
+    public byte[] get(String uri, long offset) {
+        return cache.getIfPresent(new BlockKey(uri, offset));
+    }
+
+    /** Stores a block, the offset must be aligned to the block size */
+    public void put(String uri, long offset, byte[] block) {
+        if (offset % blockSize != 0) {
+            throw new IllegalArgumentException("Block offset " + offset + " is not aligned to " + blockSize);
+        }
+        cache.put(new BlockKey(uri, offset), block);
+    }
+
+    /** Drops all the blocks of the specified file */
+    public void invalidate(String uri) {
+        cache.asMap().keySet().removeIf(key -> key.uri.equals(uri));
+    }
+
+    /** Drops all the blocks */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** Returns the number of cached blocks */
+    public long size() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    /** Returns the number of block lookups served by the cache */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** Returns the number of block lookups that had to be read from the source */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /** Returns the number of blocks evicted to honor the size limit */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /** Returns the ratio of block lookups served by the cache, 1 if no lookup was performed */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /** Returns a snapshot of the cache statistics */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return "CogBlockCache[blockSize=" + blockSize + ", maximumSizeBytes=" + maximumSizeBytes + ", blocks="
+                + cache.size() + ", hits=" + stats.hitCount() + ", misses=" + stats.missCount() + "]";
+    }
+
+    private static final class BlockKey {
+
+        final String uri;
+
+        final long offset;
+
+        BlockKey(String uri, long offset) {
+            this.uri = uri;
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BlockKey)) return false;
+            BlockKey that = (BlockKey) o;
+            return offset == that.offset && uri.equals(that.uri);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, offset);
+        }
+    }
+}
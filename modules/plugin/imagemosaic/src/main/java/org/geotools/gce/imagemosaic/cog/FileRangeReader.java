@@ -0,0 +1,86 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.cog;
+
+import it.geosolutions.imageio.core.BasicAuthURI;
+import it.geosolutions.imageioimpl.plugins.cog.AbstractRangeReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A range reader over local files, allowing to read Cloud Optimized GeoTIFF files from the file system with the same
+ * code path used for the remote ones, for example to test the {@link CachingRangeReader}.
+ */
+public class FileRangeReader extends AbstractRangeReader {
+
+    private final URI uri;
+
+    public FileRangeReader(BasicAuthURI uri, int headerLength) {
+        this(uri.getUri(), headerLength);
+    }
+
+    public FileRangeReader(URI uri, int headerLength) {
+        super(uri, headerLength);
+        this.uri = uri;
+    }
+
+    @Override
+    public byte[] readHeader() {
+        return read(new long[] {0, getHeaderLength() - 1}).get(0L);
+    }
+
+    public Map<Long, byte[]> read(Collection<long[]> ranges) {
+        return read(ranges.toArray(new long[ranges.size()][]));
+    }
+
+    /**
+     * Reads the specified ranges, each one being a {start, end} pair of inclusive positions. Ranges extending past the
+     * end of the file are truncated.
+     */
+    @Override
+    public Map<Long, byte[]> read(long[]... ranges) {
+        Map<Long, byte[]> result = new HashMap<>();
+        try (FileChannel channel = FileChannel.open(Paths.get(uri), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long[] range : ranges) {
+                int length = (int) (Math.min(range[1] + 1, size) - range[0]);
+                ByteBuffer buffer = ByteBuffer.allocate(Math.max(length, 0));
+                long position = range[0];
+                while (buffer.hasRemaining()) {
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        break;
+                    }
+                    position += read;
+                }
+                result.put(range[0], Arrays.copyOf(buffer.array(), buffer.position()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ranges from " + uri, e);
+        }
+        return result;
+    }
+}
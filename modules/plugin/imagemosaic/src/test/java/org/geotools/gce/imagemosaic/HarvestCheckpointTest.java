@@ -0,0 +1,83 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HarvestCheckpointTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testResume() throws Exception {
+        File directory = folder.newFolder("mosaic");
+        File granule1 = folder.newFile("granule1.tif");
+        File granule2 = folder.newFile("granule2.tif");
+        Files.write(granule1.toPath(), new byte[] {1, 2, 3});
+
+        HarvestCheckpoint checkpoint = new HarvestCheckpoint(directory);
+        try {
+            assertFalse(checkpoint.isHarvested(granule1));
+            checkpoint.add(List.of(granule1));
+            checkpoint.add(List.of(granule2));
+            assertTrue(checkpoint.isHarvested(granule1));
+        } finally {
+            checkpoint.close();
+        }
+        // simulates a crash while writing an entry
+        Files.write(
+                new File(directory, HarvestCheckpoint.FILENAME).toPath(),
+                "123\t4\t/some/granule".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        checkpoint = new HarvestCheckpoint(directory);
+        try {
+            assertEquals(2, checkpoint.size());
+            assertTrue(checkpoint.isHarvested(granule1));
+            assertTrue(checkpoint.isHarvested(granule2));
+            // modified files are harvested again
+            Files.write(granule2.toPath(), new byte[] {1});
+            assertFalse(checkpoint.isHarvested(granule2));
+            checkpoint.add(List.of(granule2));
+        } finally {
+            checkpoint.close();
+        }
+
+        checkpoint = new HarvestCheckpoint(directory);
+        try {
+            assertEquals(2, checkpoint.size());
+            assertTrue(checkpoint.isHarvested(granule2));
+            checkpoint.compact();
+        } finally {
+            checkpoint.close();
+        }
+        List<String> lines = Files.readAllLines(new File(directory, HarvestCheckpoint.FILENAME).toPath());
+        assertEquals(2, lines.size());
+    }
+}
@@ -2951,6 +2951,76 @@ public void testHarvestDirectory() throws Exception {
         }
     }
 
+    @Test
+    public void testHarvestDirectoryParallelCheckpoint() throws Exception {
+        File source = URLs.urlToFile(timeURL);
+        File testDataDir = TestData.file(this, ".");
+        File directory1 = new File(testDataDir, "harvest_checkpoint1");
+        File directory2 = new File(testDataDir, "harvest_checkpoint2");
+        if (directory1.exists()) {
+            FileUtils.deleteDirectory(directory1);
+        }
+        FileUtils.copyDirectory(source, directory1);
+        if (directory2.exists()) {
+            FileUtils.deleteDirectory(directory2);
+        }
+        directory2.mkdirs();
+        for (File file : FileUtils.listFiles(directory1, new RegexFileFilter("world\\.20040[^25].*\\.tiff"), null)) {
+            assertTrue(file.renameTo(new File(directory2, file.getName())));
+        }
+        for (File file : FileUtils.listFiles(directory1, new RegexFileFilter("time_geotiff.*"), null)) {
+            assertTrue(file.delete());
+        }
+        FileUtils.writeStringToFile(
+                new File(directory1, "indexer.properties"),
+                "\nHarvestThreads=4\nHarvestBatchSize=1\nHarvestCheckpoint=true\n",
+                StandardCharsets.ISO_8859_1,
+                true);
+
+        URL mosaicURL = fileToUrl(directory1);
+        final AbstractGridFormat format = TestUtils.getFormat(mosaicURL);
+        ImageMosaicReader reader = getReader(mosaicURL, format);
+        try {
+            String coverageName = reader.getGridCoverageNames()[0];
+            assertEquals(2, reader.getGranules(coverageName, true).getCount(Query.ALL));
+            assertEquals(2, new HarvestCheckpoint(directory1).size());
+
+            List<HarvestedSource> summary = reader.harvest(null, directory2, null);
+            assertEquals(2, summary.size());
+            for (HarvestedSource hf : summary) {
+                assertTrue(hf.success());
+            }
+            assertEquals(4, reader.getGranules(coverageName, true).getCount(Query.ALL));
+            assertEquals(4, new HarvestCheckpoint(directory1).size());
+
+            // nothing changed, the files are skipped
+            summary = reader.harvest(null, directory2, null);
+            assertEquals(2, summary.size());
+            for (HarvestedSource hf : summary) {
+                assertTrue(hf.success());
+                assertThat(hf.getMessage(), containsString("not modified"));
+            }
+
+            // a modified file is harvested again
+            File modified = new File(directory2, "world.200403.3x5400x2700.tiff");
+            assertTrue(modified.setLastModified(modified.lastModified() - 60000));
+            summary = reader.harvest(null, directory2, null);
+            assertEquals(2, summary.size());
+            for (HarvestedSource hf : summary) {
+                assertTrue(hf.success());
+                boolean skipped = hf.getMessage().contains("not modified");
+                assertEquals(!modified.getName().equals(((File) hf.getSource()).getName()), skipped);
+            }
+            assertEquals(4, reader.getGranules(coverageName, true).getCount(Query.ALL));
+            assertEquals(
+                    "2004-02-01T00:00:00.000Z,2004-03-01T00:00:00.000Z,2004-04-01T00:00:00.000Z,"
+                            + "2004-05-01T00:00:00.000Z",
+                    reader.getMetadataValue(reader.getMetadataNames()[0]));
+        } finally {
+            reader.dispose();
+        }
+    }
+
     @Test
     public void testHarvestListSingleDirectory() throws Exception {
         File source = URLs.urlToFile(timeURL);
@@ -0,0 +1,168 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.cog;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import it.geosolutions.imageio.core.BasicAuthURI;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachingRangeReaderTest {
+
+    static final int BLOCK_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    byte[] contents;
+
+    URI uri;
+
+    /** Records the ranges requested to the source */
+    static class CountingRangeReader extends FileRangeReader {
+
+        List<long[]> requests = new ArrayList<>();
+
+        CountingRangeReader(URI uri) {
+            super(uri, 100);
+        }
+
+        @Override
+        public Map<Long, byte[]> read(long[]... ranges) {
+            requests.addAll(Arrays.asList(ranges));
+            return super.read(ranges);
+        }
+    }
+
+    /** A delegate configured by class name */
+    static class ConfiguredRangeReader extends FileRangeReader {
+
+        public ConfiguredRangeReader(BasicAuthURI uri, int headerLength) {
+            super(uri, headerLength);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        contents = new byte[10 * BLOCK_SIZE + 100];
+        new Random(42).nextBytes(contents);
+        File file = folder.newFile("test.tif");
+        Files.write(file.toPath(), contents);
+        uri = file.toURI();
+    }
+
+    private byte[] expected(long start, long end) {
+        return Arrays.copyOfRange(contents, (int) start, (int) Math.min(end + 1, contents.length));
+    }
+
+    @Test
+    public void testCoalescing() {
+        CogBlockCache cache = new CogBlockCache(BLOCK_SIZE, 1024 * 1024);
+        CountingRangeReader source = new CountingRangeReader(uri);
+        CachingRangeReader reader = new CachingRangeReader(uri, 100, source, cache);
+
+        // header, prefetching the whole first block
+        assertArrayEquals(expected(0, 99), reader.readHeader());
+        assertEquals(1, source.requests.size());
+        assertArrayEquals(new long[] {0, BLOCK_SIZE - 1}, source.requests.get(0));
+
+        // two adjacent tiles and a far one, the first two are read in a single range
+        long[] tile1 = {2000, 2999};
+        long[] tile2 = {3000, 4500};
+        long[] tile3 = {8500, 8600};
+        Map<Long, byte[]> result = reader.read(tile1, tile2, tile3);
+        assertArrayEquals(expected(2000, 2999), result.get(2000L));
+        assertArrayEquals(expected(3000, 4500), result.get(3000L));
+        assertArrayEquals(expected(8500, 8600), result.get(8500L));
+        assertEquals(3, source.requests.size());
+        assertArrayEquals(new long[] {BLOCK_SIZE, 5 * BLOCK_SIZE - 1}, source.requests.get(1));
+        assertArrayEquals(new long[] {8 * BLOCK_SIZE, 9 * BLOCK_SIZE - 1}, source.requests.get(2));
+
+        // everything is in the cache now
+        result = reader.read(new long[] {100, 4000});
+        assertArrayEquals(expected(100, 4000), result.get(100L));
+        assertEquals(3, source.requests.size());
+        assertEquals(6, cache.size());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(6, cache.getMissCount());
+    }
+
+    @Test
+    public void testEndOfFile() {
+        CogBlockCache cache = new CogBlockCache(BLOCK_SIZE, 1024 * 1024);
+        CountingRangeReader source = new CountingRangeReader(uri);
+        CachingRangeReader reader = new CachingRangeReader(uri, 100, source, cache);
+
+        long length = contents.length;
+        Map<Long, byte[]> result = reader.read(new long[] {length - 200, length + 500});
+        assertArrayEquals(expected(length - 200, length - 1), result.get(length - 200));
+        // the short last block is cached as well
+        result = reader.read(new long[] {length - 50, length - 1});
+        assertArrayEquals(expected(length - 50, length - 1), result.get(length - 50));
+        assertEquals(1, source.requests.size());
+    }
+
+    @Test
+    public void testSharedAcrossReaders() {
+        CogBlockCache cache = new CogBlockCache(BLOCK_SIZE, 1024 * 1024);
+        CountingRangeReader source1 = new CountingRangeReader(uri);
+        new CachingRangeReader(uri, 100, source1, cache).readHeader();
+        CountingRangeReader source2 = new CountingRangeReader(uri);
+        byte[] header = new CachingRangeReader(uri, 100, source2, cache).readHeader();
+        assertArrayEquals(expected(0, 99), header);
+        assertEquals(0, source2.requests.size());
+
+        cache.invalidate(uri.toString());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        // room for two blocks only
+        CogBlockCache cache = new CogBlockCache(BLOCK_SIZE, 2 * BLOCK_SIZE);
+        CachingRangeReader reader = new CachingRangeReader(uri, 100, new CountingRangeReader(uri), cache);
+        Map<Long, byte[]> result = reader.read(new long[] {0, 5 * BLOCK_SIZE - 1});
+        assertArrayEquals(expected(0, 5 * BLOCK_SIZE - 1), result.get(0L));
+        assertTrue(cache.size() <= 2);
+        assertTrue(cache.getEvictionCount() >= 3);
+    }
+
+    @Test
+    public void testDelegateFromURI() {
+        String delegate = ConfiguredRangeReader.class.getName();
+        CachingRangeReader configured =
+                new CachingRangeReader(new CachingRangeReader.DelegatingURI(uri, false, null, null, delegate), 100);
+        assertTrue(configured.getDelegate() instanceof ConfiguredRangeReader);
+        // the configuration of a reader does not leak to the others on the same host
+        CachingRangeReader plain = new CachingRangeReader(new BasicAuthURI(uri, false), 100);
+        assertEquals(FileRangeReader.class, plain.getDelegate().getClass());
+        assertArrayEquals(expected(0, 99), configured.readHeader());
+    }
+}
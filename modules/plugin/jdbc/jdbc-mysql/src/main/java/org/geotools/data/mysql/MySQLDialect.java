@@ -594,4 +594,13 @@ public void dropIndex(Connection cx, SimpleFeatureType schema, String databaseSc
     public boolean canGroupOnGeometry() {
         return true;
     }
+
+    /**
+     * The driver either reads the whole result upfront, or streams it as set up when the statement was created, in
+     * neither case changing the fetch size of the result set helps.
+     */
+    @Override
+    public int getPrefetchFetchSize(int fetchSize, int prefetchSize) {
+        return 0;
+    }
 }
@@ -93,6 +93,9 @@ public class OracleDialect extends PreparedStatementSQLDialect {
 
     private static final Pattern AXIS_NAME_VALIDATOR = Pattern.compile("^[\\w]{1,30}");
 
+    /** The max fetch size used to prefetch features, see {@link #getPrefetchFetchSize(int, int)} */
+    static final int MAX_PREFETCH_FETCH_SIZE = 1000;
+
     /** Marks a geometry column as geodetic */
     public static final String GEODETIC = "geodetic";
 
@@ -1935,4 +1938,14 @@ public void setValue(
             super.setValue(value, binding, att, ps, column, cx);
         }
     }
+
+    /**
+     * The driver allocates the buffers for a whole fetch upfront, sized on the declared width of the columns, so the
+     * fetch size is raised to the prefetch size only up to {@link #MAX_PREFETCH_FETCH_SIZE} rows, unless the data store
+     * fetch size is already larger.
+     */
+    @Override
+    public int getPrefetchFetchSize(int fetchSize, int prefetchSize) {
+        return Math.max(fetchSize, Math.min(prefetchSize, MAX_PREFETCH_FETCH_SIZE));
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.geometry.jts.CurvedGeometry;
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.util.Converters;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ * Encodes features in the PostgreSQL binary COPY format, see
+ * <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>. Each value is sent in the binary
+ * representation of the target column type, so only the column types whose representation is known are supported,
+ * {@link #create(SimpleFeatureType, Set)} returns null if the table has any other column, or a curved geometry column.
+ * Geometries are sent as EWKB, with as many dimensions as the column, up to XYZM, curves found in generic geometry
+ * columns are linearized. Like for regular inserts, 3 dimensional columns are assumed to be XYZ ones.
+ */
+class PostGISBinaryCopy {
+
+    static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    static final LocalDate DATE_EPOCH = LocalDate.of(2000, 1, 1);
+
+    static final LocalDateTime TIMESTAMP_EPOCH = DATE_EPOCH.atStartOfDay();
+
+    static final Instant INSTANT_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+    /** Writes a non null value, including its length */
+    @FunctionalInterface
+    interface FieldWriter {
+        void write(DataOutputStream out, Object value) throws IOException;
+    }
+
+    final List<AttributeDescriptor> attributes;
+
+    final FieldWriter[] writers;
+
+    PostGISBinaryCopy(List<AttributeDescriptor> attributes, FieldWriter[] writers) {
+        this.attributes = attributes;
+        this.writers = writers;
+    }
+
+    /**
+     * Returns the encoder for the features of the specified type, or null if some column type is not supported.
+     *
+     * @param skipped The columns that are not loaded, e.g., exposed primary key columns
+     */
+    static PostGISBinaryCopy create(SimpleFeatureType featureType, Set<String> skipped) {
+        List<AttributeDescriptor> attributes = new ArrayList<>();
+        List<FieldWriter> writers = new ArrayList<>();
+        for (AttributeDescriptor ad : featureType.getAttributeDescriptors()) {
+            if (skipped.contains(ad.getLocalName())) {
+                continue;
+            }
+            FieldWriter writer = getWriter(ad);
+            if (writer == null) {
+                return null;
+            }
+            attributes.add(ad);
+            writers.add(writer);
+        }
+        return new PostGISBinaryCopy(attributes, writers.toArray(new FieldWriter[writers.size()]));
+    }
+
+    static FieldWriter getWriter(AttributeDescriptor ad) {
+        if (ad instanceof GeometryDescriptor) {
+            Object typeName = ad.getUserData().get(JDBCDataStore.JDBC_NATIVE_TYPENAME);
+            boolean curved = CurvedGeometry.class.isAssignableFrom(ad.getType().getBinding());
+            return !curved && (typeName == null || "geometry".equals(typeName)) ? geometryWriter(ad) : null;
+        }
+        if (ad.getUserData().get(JDBCDataStore.JDBC_ENUM_MAP) != null) {
+            return null;
+        }
+        Object typeName = ad.getUserData().get(JDBCDataStore.JDBC_NATIVE_TYPENAME);
+        if (!(typeName instanceof String)) {
+            return null;
+        }
+        switch ((String) typeName) {
+            case "bool":
+                return (out, v) -> {
+                    out.writeInt(1);
+                    out.writeBoolean(convert(v, Boolean.class));
+                };
+            case "int2":
+                return (out, v) -> {
+                    out.writeInt(2);
+                    out.writeShort(convert(v, Short.class));
+                };
+            case "int4":
+                return (out, v) -> {
+                    out.writeInt(4);
+                    out.writeInt(convert(v, Integer.class));
+                };
+            case "int8":
+                return (out, v) -> {
+                    out.writeInt(8);
+                    out.writeLong(convert(v, Long.class));
+                };
+            case "float4":
+                return (out, v) -> {
+                    out.writeInt(4);
+                    out.writeFloat(convert(v, Float.class));
+                };
+            case "float8":
+                return (out, v) -> {
+                    out.writeInt(8);
+                    out.writeDouble(convert(v, Double.class));
+                };
+            case "text":
+            case "varchar":
+            case "bpchar":
+            case "name":
+                return (out, v) -> writeBytes(out, convert(v, String.class).getBytes(StandardCharsets.UTF_8));
+            case "bytea":
+                return (out, v) -> writeBytes(out, convert(v, byte[].class));
+            case "uuid":
+                return (out, v) -> {
+                    UUID uuid = convert(v, UUID.class);
+                    out.writeInt(16);
+                    out.writeLong(uuid.getMostSignificantBits());
+                    out.writeLong(uuid.getLeastSignificantBits());
+                };
+            case "date":
+                return (out, v) -> {
+                    out.writeInt(4);
+                    out.writeInt((int) ChronoUnit.DAYS.between(DATE_EPOCH, toLocalDate(v)));
+                };
+            case "timestamp":
+                return (out, v) -> {
+                    out.writeInt(8);
+                    out.writeLong(ChronoUnit.MICROS.between(TIMESTAMP_EPOCH, toTimestamp(v).toLocalDateTime()));
+                };
+            case "timestamptz":
+                return (out, v) -> {
+                    out.writeInt(8);
+                    out.writeLong(ChronoUnit.MICROS.between(INSTANT_EPOCH, toTimestamp(v).toInstant()));
+                };
+            default:
+                return null;
+        }
+    }
+
+    static FieldWriter geometryWriter(AttributeDescriptor ad) {
+        Integer nativeSrid = (Integer) ad.getUserData().get(JDBCDataStore.JDBC_NATIVE_SRID);
+        Integer dimension = (Integer) ad.getUserData().get(Hints.COORDINATE_DIMENSION);
+        // measures are carried in 4 dimensional columns
+        WKBWriter writer = new WKBWriter(dimension != null && dimension > 2 ? Math.min(dimension, 4) : 2, true);
+        return (out, v) -> {
+            Geometry g = (Geometry) v;
+            if (g instanceof CurvedGeometry<?> curved) {
+                g = curved.linearize();
+            }
+            if (g instanceof LinearRing ring) {
+                // postgis does not handle linear rings, convert to just a line string
+                g = g.getFactory().createLineString(ring.getCoordinateSequence());
+            }
+            int srid = nativeSrid != null && nativeSrid > 0 ? nativeSrid : g.getSRID();
+            if (g.getSRID() != srid) {
+                g = g.copy();
+                g.setSRID(srid);
+            }
+            writeBytes(out, writer.write(g));
+        };
+    }
+
+    static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static <T> T convert(Object value, Class<T> target) throws IOException {
+        T converted = Converters.convert(value, target);
+        if (converted == null) {
+            throw new IOException("Cannot convert " + value + " to " + target.getSimpleName());
+        }
+        return converted;
+    }
+
+    static LocalDate toLocalDate(Object value) throws IOException {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        } else if (value instanceof LocalDate date) {
+            return date;
+        } else if (value instanceof Date date) {
+            return new java.sql.Date(date.getTime()).toLocalDate();
+        }
+        return convert(value, java.sql.Date.class).toLocalDate();
+    }
+
+    static Timestamp toTimestamp(Object value) throws IOException {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp;
+        } else if (value instanceof Date date) {
+            return new Timestamp(date.getTime());
+        }
+        return convert(value, Timestamp.class);
+    }
+
+    /** The columns loaded, in the order they are encoded */
+    List<AttributeDescriptor> getAttributes() {
+        return attributes;
+    }
+
+    void writeHeader(DataOutputStream out) throws IOException {
+        out.write(SIGNATURE);
+        // flags and header extension length
+        out.writeInt(0);
+        out.writeInt(0);
+    }
+
+    void writeRow(DataOutputStream out, SimpleFeature feature) throws IOException {
+        out.writeShort(writers.length);
+        for (int i = 0; i < writers.length; i++) {
+            Object value = feature.getAttribute(attributes.get(i).getLocalName());
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                writers[i].write(out, value);
+            }
+        }
+    }
+
+    void writeTrailer(DataOutputStream out) throws IOException {
+        out.writeShort(-1);
+    }
+}
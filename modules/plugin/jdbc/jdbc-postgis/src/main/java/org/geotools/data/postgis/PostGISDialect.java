@@ -18,6 +18,7 @@
 
 import static java.util.Map.entry;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.sql.Connection;
@@ -32,11 +33,14 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
@@ -57,8 +61,11 @@
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.geometry.jts.WKTWriter2;
 import org.geotools.jdbc.BasicSQLDialect;
+import org.geotools.jdbc.BulkLoadStatistics;
 import org.geotools.jdbc.ColumnMetadata;
 import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.PrimaryKey;
+import org.geotools.jdbc.PrimaryKeyColumn;
 import org.geotools.referencing.CRS;
 import org.geotools.util.Version;
 import org.geotools.util.factory.Hints;
@@ -76,6 +83,8 @@
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.io.WKTWriter;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.jdbc.PgConnection;
 
 public class PostGISDialect extends BasicSQLDialect {
@@ -172,6 +181,9 @@ public boolean isAggregatedSortSupported(String function) {
 
     static final Version PGSQL_V_12_0 = new Version("12.0");
 
+    /** Size of the buffer used to send bulk loaded rows to the server */
+    static final int COPY_BUFFER_SIZE = 65536;
+
     public PostGISDialect(JDBCDataStore dataStore) {
         super(dataStore);
         this.forceLongitudeFirst = true; // PostGIS has an XY axis order, so forceLongitudeFirst is set.
@@ -1555,4 +1567,123 @@ public String[] getDesiredTablesType() {
     public boolean canGroupOnGeometry() {
         return true;
     }
+
+    /**
+     * The driver reads the results through a cursor, fetching a batch of rows per round trip, only if the query was run
+     * with a fetch size, otherwise the whole result is already in memory and there is nothing to tune.
+     */
+    @Override
+    public int getPrefetchFetchSize(int fetchSize, int prefetchSize) {
+        return fetchSize > 0 ? super.getPrefetchFetchSize(fetchSize, prefetchSize) : 0;
+    }
+
+    /**
+     * Bulk loads use COPY in binary format, provided the native connection can be reached, the table columns are all
+     * of a type {@link PostGISBinaryCopy} can encode, the geometry columns are not XYM ones, and the primary key
+     * columns, if any, get their values from the column defaults (e.g., serial or identity columns)
+     */
+    @Override
+    public boolean canBulkLoad(SimpleFeatureType featureType, PrimaryKey key, Connection cx) throws SQLException {
+        if (PostGISBinaryCopy.create(featureType, getKeyColumnNames(key)) == null
+                || hasMeasuredGeometryColumns(key.getTableName(), cx)) {
+            return false;
+        }
+        DatabaseMetaData md = cx.getMetaData();
+        for (PrimaryKeyColumn column : key.getColumns()) {
+            try (ResultSet rs =
+                    md.getColumns(null, dataStore.getDatabaseSchema(), key.getTableName(), column.getName())) {
+                if (!rs.next()
+                        || rs.getString("COLUMN_DEF") == null && !"YES".equals(rs.getString("IS_AUTOINCREMENT"))) {
+                    return false;
+                }
+            }
+        }
+        try {
+            unwrapConnection(cx, PgConnection.class);
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINER, "Unable to get native connection, cannot use COPY", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void bulkLoad(
+            SimpleFeatureType featureType,
+            FeatureReader<SimpleFeatureType, SimpleFeature> reader,
+            int batchSize,
+            Connection cx,
+            BulkLoadStatistics statistics)
+            throws IOException, SQLException {
+        PrimaryKey key = dataStore.getPrimaryKey(featureType);
+        PostGISBinaryCopy copy = PostGISBinaryCopy.create(featureType, getKeyColumnNames(key));
+        StringBuffer sql = new StringBuffer("COPY ");
+        dataStore.encodeTableName(featureType.getTypeName(), sql, null);
+        sql.append(" (");
+        for (AttributeDescriptor ad : copy.getAttributes()) {
+            encodeColumnName(null, ad.getLocalName(), sql);
+            sql.append(",");
+        }
+        sql.setLength(sql.length() - 1);
+        sql.append(") FROM STDIN (FORMAT binary)");
+        LOGGER.log(Level.FINE, "Bulk loading with: {0}", sql);
+
+        CopyManager copyManager = unwrapConnection(cx, PgConnection.class).getCopyAPI();
+        while (reader.hasNext()) {
+            // one COPY per batch, each one is committed on its own in auto commit mode
+            PGCopyOutputStream pgOut = new PGCopyOutputStream(copyManager.copyIn(sql.toString()), COPY_BUFFER_SIZE);
+            DataOutputStream out = new DataOutputStream(pgOut);
+            int count = 0;
+            try {
+                copy.writeHeader(out);
+                while (count < batchSize && reader.hasNext()) {
+                    copy.writeRow(out, reader.next());
+                    count++;
+                }
+                copy.writeTrailer(out);
+                out.flush();
+                long rows = pgOut.endCopy();
+                if (rows != count) {
+                    throw new IOException("Failed to insert some features, copied " + rows + " out of " + count);
+                }
+            } finally {
+                if (pgOut.isActive()) {
+                    pgOut.cancelCopy();
+                }
+            }
+            statistics.batchLoaded(count, out.size());
+        }
+    }
+
+    /**
+     * Checks if the table has XYM geometry columns, which have 3 dimensions like XYZ ones, and whose measures would be
+     * encoded as elevations
+     */
+    private boolean hasMeasuredGeometryColumns(String tableName, Connection cx) throws SQLException {
+        String schemaName = dataStore.getDatabaseSchema() != null ? dataStore.getDatabaseSchema() : "public";
+        String sql = "SELECT TYPE FROM GEOMETRY_COLUMNS WHERE F_TABLE_SCHEMA = ? AND F_TABLE_NAME = ? "
+                + "AND COORD_DIMENSION = 3";
+        try (PreparedStatement ps = cx.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, tableName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // the measured types are the only ones ending with M, e.g., POINTM
+                    String type = rs.getString(1);
+                    if (type != null && type.toUpperCase().endsWith("M")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private Set<String> getKeyColumnNames(PrimaryKey key) {
+        Set<String> names = new HashSet<>();
+        for (PrimaryKeyColumn column : key.getColumns()) {
+            names.add(column.getName());
+        }
+        return names;
+    }
 }
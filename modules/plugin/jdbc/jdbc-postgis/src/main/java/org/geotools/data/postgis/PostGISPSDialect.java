@@ -24,14 +24,18 @@
 import java.sql.Types;
 import java.util.Map;
 import java.util.Set;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.jdbc.BulkLoadStatistics;
 import org.geotools.jdbc.ColumnMetadata;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.jdbc.PreparedFilterToSQL;
 import org.geotools.jdbc.PreparedStatementSQLDialect;
+import org.geotools.jdbc.PrimaryKey;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -241,6 +245,28 @@ public void setGeometryValue(Geometry g, int dimension, int srid, Class binding,
         }
     }
 
+    @Override
+    public boolean canBulkLoad(SimpleFeatureType featureType, PrimaryKey key, Connection cx) throws SQLException {
+        return delegate.canBulkLoad(featureType, key, cx);
+    }
+
+    @Override
+    public void bulkLoad(
+            SimpleFeatureType featureType,
+            FeatureReader<SimpleFeatureType, SimpleFeature> reader,
+            int batchSize,
+            Connection cx,
+            BulkLoadStatistics statistics)
+            throws IOException, SQLException {
+        delegate.bulkLoad(featureType, reader, batchSize, cx, statistics);
+    }
+
+    /** Multi row inserts, used for the bulk loads COPY cannot handle, within the limit of 32767 parameters */
+    @Override
+    public int getMaxRowsPerInsert(SimpleFeatureType featureType) {
+        return Math.max(1, Math.min(1000, Short.MAX_VALUE / (featureType.getAttributeCount() + 1)));
+    }
+
     @Override
     public PreparedFilterToSQL createPreparedFilterToSQL() {
         PostgisPSFilterToSql fts = new PostgisPSFilterToSql(this, delegate.pgsqlVersion);
@@ -324,6 +350,11 @@ public boolean canGroupOnGeometry() {
         return delegate.canGroupOnGeometry();
     }
 
+    @Override
+    public int getPrefetchFetchSize(int fetchSize, int prefetchSize) {
+        return delegate.getPrefetchFetchSize(fetchSize, prefetchSize);
+    }
+
     @Override
     public int getDefaultVarcharSize() {
         return delegate.getDefaultVarcharSize();
@@ -0,0 +1,160 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.postgis;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Set;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.CircularString;
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.util.factory.Hints;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.WKBReader;
+
+public class PostGISBinaryCopyTest {
+
+    private SimpleFeatureType buildType(String extraTypeName) {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("test");
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "int4");
+        tb.add("id", Integer.class);
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "varchar");
+        tb.add("name", String.class);
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "timestamp");
+        tb.add("time", Timestamp.class);
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "geometry");
+        tb.userData(JDBCDataStore.JDBC_NATIVE_SRID, 4326);
+        tb.add("geom", Point.class);
+        if (extraTypeName != null) {
+            tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, extraTypeName);
+            tb.add("extra", Object.class);
+        }
+        return tb.buildFeatureType();
+    }
+
+    @Test
+    public void testUnsupportedTypes() {
+        assertNotNull(PostGISBinaryCopy.create(buildType(null), Collections.emptySet()));
+        assertNull(PostGISBinaryCopy.create(buildType("numeric"), Collections.emptySet()));
+        assertNull(PostGISBinaryCopy.create(buildType("_int4"), Collections.emptySet()));
+        // skipped columns are not checked
+        assertNotNull(PostGISBinaryCopy.create(buildType("numeric"), Set.of("extra")));
+
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("curves");
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "geometry");
+        tb.add("geom", CircularString.class);
+        assertNull(PostGISBinaryCopy.create(tb.buildFeatureType(), Collections.emptySet()));
+    }
+
+    @Test
+    public void testEncode() throws Exception {
+        SimpleFeatureType type = buildType(null);
+        PostGISBinaryCopy copy = PostGISBinaryCopy.create(type, Collections.emptySet());
+        Point point = new GeometryFactory().createPoint(new Coordinate(10, 20));
+        SimpleFeature first = SimpleFeatureBuilder.build(
+                type, new Object[] {1, "abc", Timestamp.valueOf("2000-01-02 00:00:01"), point}, null);
+        // values are converted to the column type, nulls are allowed
+        SimpleFeature second = SimpleFeatureBuilder.build(type, new Object[] {"2", null, null, null}, null);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            copy.writeHeader(out);
+            copy.writeRow(out, first);
+            copy.writeRow(out, second);
+            copy.writeTrailer(out);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        byte[] signature = new byte[PostGISBinaryCopy.SIGNATURE.length];
+        in.readFully(signature);
+        assertArrayEquals(PostGISBinaryCopy.SIGNATURE, signature);
+        assertEquals(0, in.readInt());
+        assertEquals(0, in.readInt());
+
+        // first row
+        assertEquals(4, in.readShort());
+        assertEquals(4, in.readInt());
+        assertEquals(1, in.readInt());
+        assertEquals(3, in.readInt());
+        byte[] name = new byte[3];
+        in.readFully(name);
+        assertEquals("abc", new String(name, StandardCharsets.UTF_8));
+        assertEquals(8, in.readInt());
+        assertEquals(86_401_000_000L, in.readLong());
+        byte[] wkb = new byte[in.readInt()];
+        in.readFully(wkb);
+        Geometry geometry = new WKBReader().read(wkb);
+        assertEquals(point, geometry);
+        assertEquals(4326, geometry.getSRID());
+
+        // second row
+        assertEquals(4, in.readShort());
+        assertEquals(4, in.readInt());
+        assertEquals(2, in.readInt());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readInt());
+
+        assertEquals(-1, in.readShort());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void testEncodeMeasures() throws Exception {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("measures");
+        tb.userData(JDBCDataStore.JDBC_NATIVE_TYPENAME, "geometry");
+        tb.userData(Hints.COORDINATE_DIMENSION, 4);
+        tb.add("geom", Point.class);
+        SimpleFeatureType type = tb.buildFeatureType();
+        PostGISBinaryCopy copy = PostGISBinaryCopy.create(type, Collections.emptySet());
+        Point point = new GeometryFactory().createPoint(new CoordinateXYZM(1, 2, 3, 4));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            copy.writeRow(out, SimpleFeatureBuilder.build(type, new Object[] {point}, null));
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1, in.readShort());
+        byte[] wkb = new byte[in.readInt()];
+        in.readFully(wkb);
+        Coordinate coordinate = new WKBReader().read(wkb).getCoordinate();
+        assertEquals(3, coordinate.getZ(), 0d);
+        assertEquals(4, coordinate.getM(), 0d);
+    }
+}
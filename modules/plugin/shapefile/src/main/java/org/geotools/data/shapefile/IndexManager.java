@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import static org.geotools.data.shapefile.files.ShpFileType.FIX;
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
 import static org.geotools.data.shapefile.files.ShpFileType.QIX;
 import static org.geotools.data.shapefile.files.ShpFileType.SHP;
 import static org.geotools.data.shapefile.files.ShpFileType.SHX;
@@ -24,6 +25,8 @@
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +45,7 @@
 import org.geotools.data.shapefile.index.CachedQuadTree;
 import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.shapefile.index.DataDefinition;
+import org.geotools.data.shapefile.index.PackedRTree;
 import org.geotools.data.shapefile.index.TreeException;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
@@ -113,9 +117,14 @@ public boolean createSpatialIndex(boolean force) {
             return false;
         }
         try {
-            if (isIndexStale(QIX) || force) {
-                // get a write lock on the .qix, waiting for other index builds
-                final URL treeURL = shpFiles.acquireWrite(QIX, writer);
+            final ShpFileType indexType = getSpatialIndexType();
+            if (!force && indexType == QIX && isPackedIndexUseable()) {
+                // an up to date packed index is available, it will be used in place of the quadtree
+                return false;
+            }
+            if (isIndexStale(indexType) || force) {
+                // get a write lock on the index file, waiting for other index builds
+                final URL treeURL = shpFiles.acquireWrite(indexType, writer);
                 try {
                     // check again, may force be false and another thread just have created it
                     if (isIndexStale(treeURL) || force) {
@@ -137,9 +146,24 @@ protected void doCreateSpatialIndex() throws Exception {
 
         ShapeFileIndexer indexer = new ShapeFileIndexer();
         indexer.setShapeFileName(shpFiles);
+        indexer.setIndexType(getSpatialIndexType());
         indexer.index(false, new NullProgressListener());
     }
 
+    /**
+     * Returns the type of spatial index this manager builds, {@link ShpFileType#PRX} if the store is configured to use
+     * the packed R-tree, {@link ShpFileType#QIX} otherwise. Regardless of this setting, an up to date packed R-tree is
+     * always preferred over the quadtree when querying.
+     */
+    ShpFileType getSpatialIndexType() {
+        return store.isPackedSpatialIndex() ? PRX : QIX;
+    }
+
+    /** Returns true if the packed R-tree index exists and is up to date */
+    boolean isPackedIndexUseable() {
+        return shpFiles.isLocal() && shpFiles.exists(PRX) && !isIndexStale(PRX);
+    }
+
     /** If the fid index can be used and it is missing this method will try to create it */
     boolean hasFidIndex(boolean createIfMissing) {
         if (isIndexUseable(FIX)) {
@@ -184,7 +208,7 @@ boolean isIndexUseable(ShpFileType indexType) {
 
     /** Returns true if the index file is available */
     boolean isSpatialIndexAvailable() {
-        return shpFiles.isLocal() && shpFiles.exists(QIX);
+        return shpFiles.isLocal() && (shpFiles.exists(QIX) || shpFiles.exists(PRX));
     }
 
     /** Returns true if the specified index file is outdated compared to the shapefile .shp and .shx files */
@@ -292,6 +316,19 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
         // check if the spatial index needs recreating
         createSpatialIndex(false);
 
+        // the packed R-tree does not need any caching, it's memory mapped and queried in place
+        if (isPackedIndexUseable()) {
+            try {
+                PackedRTree tree = openPackedRTree();
+                if (tree != null && !bbox.contains(tree.getBounds())) {
+                    return tree.search(bbox);
+                }
+                return null;
+            } catch (StoreException e) {
+                throw new DataSourceException("Error querying packed R-tree", e);
+            }
+        }
+
         if (cachedTree == null) {
             boolean canCache = false;
             URL treeURL = shpFiles.acquireRead(QIX, writer);
@@ -368,6 +405,22 @@ protected QuadTree openQuadTree() throws StoreException {
         }
     }
 
+    /**
+     * Opens the packed R-tree index, memory mapping it (the mapping is shared if the memory map cache is enabled)
+     *
+     * @return the packed R-tree, or null if the index file is empty
+     */
+    protected PackedRTree openPackedRTree() throws IOException, StoreException {
+        // the PRX file must be a local file for this method to be used so cast is safe
+        try (FileChannel channel = (FileChannel) shpFiles.getReadChannel(PRX, writer)) {
+            long size = channel.size();
+            if (size == 0) {
+                return null;
+            }
+            return new PackedRTree(channel.map(MapMode.READ_ONLY, 0, size));
+        }
+    }
+
     public void dispose() {
         this.cachedTree = null;
     }
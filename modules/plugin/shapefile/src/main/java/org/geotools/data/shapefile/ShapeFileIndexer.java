@@ -21,6 +21,8 @@
 import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +37,7 @@
 import org.geotools.data.shapefile.files.ShpFiles;
 import org.geotools.data.shapefile.files.StorageFile;
 import org.geotools.data.shapefile.index.LockTimeoutException;
+import org.geotools.data.shapefile.index.PackedRTreeBuilder;
 import org.geotools.data.shapefile.index.TreeException;
 import org.geotools.data.shapefile.index.quadtree.Node;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
@@ -42,6 +45,7 @@
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
 import org.geotools.data.shapefile.index.quadtree.fs.IndexHeader;
 import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapeType;
 import org.geotools.data.shapefile.shp.ShapefileHeader;
 import org.geotools.data.shapefile.shp.ShapefileReader;
 import org.geotools.data.shapefile.shp.ShapefileReader.Record;
@@ -64,6 +68,7 @@ class ShapeFileIndexer implements FileWriter {
 
     private String byteOrder;
     private ShpFiles shpFiles;
+    private ShpFileType indexType = ShpFileType.QIX;
 
     public static void main(String[] args) throws IOException {
         if (args.length < 1 || (args.length - 1) % 2 != 0) {
@@ -76,9 +81,15 @@ public static void main(String[] args) throws IOException {
 
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("-t")) {
-                // idx.setIdxType(IndexType.valueOf(args[++i]));
-                // just skip it for backwards compatibility
-                i++;
+                String type = args[++i];
+                // QUADTREE and RTREE are accepted for backwards compatibility
+                if (type.equalsIgnoreCase("PRX")) {
+                    idx.setIndexType(ShpFileType.PRX);
+                } else if (!type.equalsIgnoreCase("QIX")
+                        && !type.equalsIgnoreCase("QUADTREE")
+                        && !type.equalsIgnoreCase("RTREE")) {
+                    usage();
+                }
             } else if (args[i].equals("-M")) {
                 idx.setMax(Integer.parseInt(args[++i]));
             } else if (args[i].equals("-s")) {
@@ -112,7 +123,7 @@ public static void main(String[] args) throws IOException {
 
     private static void usage() {
         System.out.println("Usage: ShapeFileIndexer "
-                + "-t <QIX> "
+                + "-t <QIX | PRX> "
                 + "[-M <max tree depth>] "
                 + "[-b <byte order NL | NM>] "
                 + "<shape file>"
@@ -121,9 +132,9 @@ private static void usage() {
         System.out.println();
 
         System.out.println("Options:");
-        System.out.println("\t-t Index type: RTREE or QUADTREE");
+        System.out.println("\t-t Index type: QIX (quadtree, default) or PRX (packed Hilbert R-tree)");
         System.out.println();
-        System.out.println("Following options apllies only to QUADTREE:");
+        System.out.println("Following options apllies only to QIX:");
         System.out.println("\t-b byte order to use: NL = LSB; " + "NM = MSB (default)");
 
         System.exit(1);
@@ -145,15 +156,18 @@ public int index(boolean verbose, /*unused*/ ProgressListener listener)
         int cnt = 0;
 
         // Temporary file for building...
-        StorageFile storage = shpFiles.getStorageFile(ShpFileType.QIX);
+        StorageFile storage = shpFiles.getStorageFile(indexType);
         File treeFile = storage.getFile();
-        if (maxDepth == -1) {
+        if (indexType == ShpFileType.QIX && maxDepth == -1) {
             maxDepth = computeMaxDepth();
         }
 
         try (ShapefileReader reader = new ShapefileReader(shpFiles, true, false, new GeometryFactory())) {
-
-            cnt = this.buildQuadTree(reader, treeFile, verbose);
+            if (indexType == ShpFileType.PRX) {
+                cnt = this.buildPackedRTree(reader, treeFile, verbose);
+            } else {
+                cnt = this.buildQuadTree(reader, treeFile, verbose);
+            }
         }
 
         // Final index file
@@ -229,6 +243,44 @@ private int buildQuadTree(ShapefileReader reader, File file, boolean verbose) th
         return cnt;
     }
 
+    /**
+     * Builds a packed R-tree in a single sequential scan of the .shp file, reading only the record headers. Null shapes
+     * are not indexed, as they cannot match any spatial filter.
+     */
+    private int buildPackedRTree(ShapefileReader reader, File file, boolean verbose) throws IOException {
+        LOGGER.fine("Building packed R-tree spatial index with node size " + leafSize + " for file "
+                + file.getAbsolutePath());
+
+        int expected;
+        try (IndexFile shpIndex = new IndexFile(shpFiles, false)) {
+            expected = shpIndex.getRecordCount();
+        }
+        PackedRTreeBuilder builder = new PackedRTreeBuilder(leafSize, expected);
+        int cnt = 0;
+        while (reader.hasNext()) {
+            Record rec = reader.nextRecord();
+            cnt++;
+            if (rec.type != ShapeType.NULL && !Double.isNaN(rec.minX) && !Double.isNaN(rec.minY)) {
+                builder.add(rec.minX, rec.minY, rec.maxX, rec.maxY, rec.offset());
+            }
+
+            if (verbose && cnt % 1_000 == 0) {
+                System.out.print('.');
+            }
+            if (verbose && cnt % 100_000 == 0) System.out.print('\n');
+        }
+        if (verbose) System.out.println("Storing the tree...");
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            builder.write(channel);
+        }
+        if (verbose) System.out.println("done");
+        return cnt;
+    }
+
     private Envelope getBounds(ShapefileReader reader) {
         ShapefileHeader header = reader.getHeader();
         Envelope bounds = new Envelope(header.minX(), header.maxX(), header.minY(), header.maxY());
@@ -375,6 +427,16 @@ public void setMax(int i) {
         maxDepth = i;
     }
 
+    /**
+     * Sets the type of spatial index to build, either {@link ShpFileType#QIX} (the default) or {@link ShpFileType#PRX}
+     */
+    public void setIndexType(ShpFileType indexType) {
+        if (indexType != ShpFileType.QIX && indexType != ShpFileType.PRX) {
+            throw new IllegalArgumentException("Unsupported spatial index type " + indexType);
+        }
+        this.indexType = indexType;
+    }
+
     /** @param shpFiles */
     public void setShapeFileName(ShpFiles shpFiles) {
         this.shpFiles = shpFiles;
@@ -106,6 +106,8 @@ public class ShapefileDataStore extends ContentDataStore implements FileDataStor
 
     boolean indexCreationEnabled = true;
 
+    boolean packedSpatialIndex = false;
+
     boolean fidIndexed = true;
 
     IndexManager indexManager;
@@ -501,6 +503,19 @@ public void setIndexCreationEnabled(boolean indexCreationEnabled) {
         this.indexCreationEnabled = indexCreationEnabled;
     }
 
+    public boolean isPackedSpatialIndex() {
+        return packedSpatialIndex;
+    }
+
+    /**
+     * When set to true, the spatial index is built as a static, Hilbert packed R-tree (.prx file), queried directly out
+     * of a memory mapped buffer, instead of a .qix quadtree. An existing .qix file is left untouched, but it is not
+     * used anymore once the packed index is built. Defaults to false.
+     */
+    public void setPackedSpatialIndex(boolean packedSpatialIndex) {
+        this.packedSpatialIndex = packedSpatialIndex;
+    }
+
     @Override
     public void removeSchema(String typeName) throws IOException {
         removeSchema(new NameImpl(null, typeName));
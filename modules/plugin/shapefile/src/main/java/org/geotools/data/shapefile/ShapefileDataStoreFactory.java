@@ -168,6 +168,15 @@ public String text(Object value) {
             true,
             new KVP(Param.LEVEL, "advanced"));
 
+    /** Optional - use a packed R-tree (.prx) spatial index instead of the .qix quadtree */
+    public static final Param PACKED_SPATIAL_INDEX = new Param(
+            "packed spatial index",
+            Boolean.class,
+            "build and use a memory mapped, Hilbert packed R-tree spatial index (.prx) instead of a quadtree (.qix)",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
     /** Optional - skip the scan for alternative shapefile extensions (i.e. .SHP, .shp.XML, ...) */
     public static final Param SKIP_SCAN = new Param(
             "skipScan",
@@ -194,6 +203,7 @@ public Param[] getParametersInfo() {
             NAMESPACEP,
             ENABLE_SPATIAL_INDEX,
             CREATE_SPATIAL_INDEX,
+            PACKED_SPATIAL_INDEX,
             DBFCHARSET,
             DBFTIMEZONE,
             MEMORY_MAPPED,
@@ -224,6 +234,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
         TimeZone dbfTimeZone = lookup(DBFTIMEZONE, params, TimeZone.class);
         Boolean isCreateSpatialIndex = lookup(CREATE_SPATIAL_INDEX, params, Boolean.class);
         Boolean skipScan = lookup(SKIP_SCAN, params, Boolean.class);
+        Boolean isPackedSpatialIndex = lookup(PACKED_SPATIAL_INDEX, params, Boolean.class);
         Boolean isEnableSpatialIndex = (Boolean) ENABLE_SPATIAL_INDEX.lookUp(params);
         if (isEnableSpatialIndex == null) {
             // should not be needed as default is TRUE
@@ -258,6 +269,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             store.setTimeZone(dbfTimeZone);
             store.setIndexed(enableIndex);
             store.setIndexCreationEnabled(createIndex);
+            store.setPackedSpatialIndex(isPackedSpatialIndex);
             return store;
         }
     }
@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -130,6 +131,8 @@ public ShapefileFeatureReader(
                     }
                 }
             }
+            // only decode the fields we are going to use
+            dbf.setSelectedFields(Arrays.stream(dbfindexes).filter(i -> i >= 0).toArray());
         }
     }
 
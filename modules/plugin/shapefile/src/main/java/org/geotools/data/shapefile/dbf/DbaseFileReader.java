@@ -31,6 +31,7 @@
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -64,6 +65,10 @@
  *
  * </PRE></CODE>
  *
+ * <p>Consumers that need only a few of the fields can call {@link #setSelectedFields(int[])}: the other fields are
+ * then skipped at the byte level, without being copied out of the (possibly memory mapped) buffer. Numeric fields can
+ * also be read as primitives using {@link Row#readDouble(int)}, avoiding any allocation.
+ *
  * @author Ian Schneider, Andrea Aaime
  */
 @SuppressWarnings("PMD.CloseResource") // closeables managed as fields
@@ -78,10 +83,44 @@ public Object read(final int column) throws IOException {
             return readObject(offset, column);
         }
 
+        /**
+         * Reads a numeric field as a primitive double, parsing it straight from the record bytes whenever possible.
+         * Null values, and values that cannot be parsed as numbers, are returned as {@link Double#NaN}.
+         */
+        public double readDouble(final int column) throws IOException {
+            checkSelected(column);
+            final int offset = fieldOffsets[column];
+            final int length = fieldLengths[column];
+            switch (fieldTypes[column]) {
+                case 'n':
+                case 'N':
+                case 'f':
+                case 'F':
+                    if (length == 0 || bytes[offset] == '*') {
+                        return Double.NaN;
+                    }
+                    double value = DbaseNumberParser.parseDouble(bytes, offset, length);
+                    if (Double.isNaN(value)) {
+                        try {
+                            value = Double.parseDouble(fastParse(bytes, offset, length));
+                        } catch (NumberFormatException e) {
+                            // not a number, return NaN
+                        }
+                    }
+                    return value;
+                default:
+                    Object object = readObject(offset, column);
+                    return object instanceof Number n ? n.doubleValue() : Double.NaN;
+            }
+        }
+
         @Override
         public String toString() {
             final StringBuffer ret = new StringBuffer("DBF Row - ");
             for (int i = 0; i < header.getNumFields(); i++) {
+                if (!isSelected(i)) {
+                    continue;
+                }
                 ret.append(header.getFieldName(i)).append(": \"");
                 try {
                     ret.append(this.read(i));
@@ -112,6 +151,12 @@ public boolean isDeleted() {
 
     int[] fieldOffsets;
 
+    /** The fields to be read, or null if all the fields are read */
+    boolean[] selectedFields;
+
+    /** Pairs of offset and length of the record bytes to be read, with adjacent selected fields merged together */
+    int[] selectedRanges;
+
     int cnt = 1;
 
     Row row;
@@ -249,6 +294,58 @@ private void doInit(boolean useMemoryMappedBuffer, Charset charset, TimeZone tim
         row = new Row();
     }
 
+    /**
+     * Restricts reading to the specified fields. The bytes of the other fields are skipped without being copied out of
+     * the buffer, and they cannot be read anymore, {@link #readEntry()} will return null for them while
+     * {@link Row#read(int)} and {@link #readField(int)} will throw an {@link IllegalArgumentException}.
+     *
+     * @param fields the indexes of the fields to be read, or null to read all the fields again
+     */
+    public void setSelectedFields(final int[] fields) {
+        if (fields == null) {
+            selectedFields = null;
+            selectedRanges = null;
+            return;
+        }
+
+        final int numFields = header.getNumFields();
+        final boolean[] selected = new boolean[numFields];
+        for (int field : fields) {
+            if (field < 0 || field >= numFields) {
+                throw new IllegalArgumentException(
+                        "Invalid field index " + field + ", the dbf has " + numFields + " fields");
+            }
+            selected[field] = true;
+        }
+        int[] ranges = new int[numFields * 2];
+        int size = 0;
+        for (int i = 0; i < numFields; i++) {
+            if (!selected[i] || fieldLengths[i] == 0) {
+                continue;
+            }
+            if (size > 0 && ranges[size - 2] + ranges[size - 1] == fieldOffsets[i]) {
+                ranges[size - 1] += fieldLengths[i];
+            } else {
+                ranges[size++] = fieldOffsets[i];
+                ranges[size++] = fieldLengths[i];
+            }
+        }
+        this.selectedFields = selected;
+        this.selectedRanges = Arrays.copyOf(ranges, size);
+    }
+
+    /** Returns true if the specified field is read, see {@link #setSelectedFields(int[])} */
+    public boolean isSelected(final int field) {
+        return selectedFields == null || selectedFields[field];
+    }
+
+    private void checkSelected(final int field) {
+        if (selectedFields != null && !selectedFields[field]) {
+            throw new IllegalArgumentException(
+                    "Field " + header.getFieldName(field) + " has not been selected for reading");
+        }
+    }
+
     protected int fill(final ByteBuffer buffer, final ReadableByteChannel channel) throws IOException {
         int r = buffer.remaining();
         // channel reads return -1 when EOF or other error
@@ -397,7 +494,7 @@ public Object[] readEntry(final Object[] entry, final int offset) throws IOExcep
         final int numFields = header.getNumFields();
 
         for (int j = 0; j < numFields; j++) {
-            entry[j + offset] = readObject(fieldOffsets[j], j);
+            entry[j + offset] = isSelected(j) ? readObject(fieldOffsets[j], j) : null;
         }
 
         return entry;
@@ -436,12 +533,21 @@ public void read() throws IOException {
             bufferCheck();
 
             // read the deleted flag
-            final char deleted = (char) buffer.get();
+            final int start = buffer.position();
+            final char deleted = (char) buffer.get(start);
             row.deleted = deleted == '*';
 
-            buffer.limit(buffer.position() + header.getRecordLength() - 1);
-            buffer.get(bytes); // SK: There is a side-effect here!!!
+            // SK: There is a side-effect here!!! The limit might have been moved at the end of the data by fill()
             buffer.limit(buffer.capacity());
+            if (selectedRanges == null) {
+                buffer.get(start + 1, bytes);
+            } else {
+                // only copy the fields that are going to be read
+                for (int i = 0; i < selectedRanges.length; i += 2) {
+                    buffer.get(start + 1 + selectedRanges[i], bytes, selectedRanges[i], selectedRanges[i + 1]);
+                }
+            }
+            buffer.position(start + header.getRecordLength());
 
             foundRecord = true;
         }
@@ -461,6 +567,7 @@ public Object[] readEntry(final Object[] entry) throws IOException {
     }
 
     private Object readObject(final int fieldOffset, final int fieldNum) throws IOException {
+        checkSelected(fieldNum);
         final char type = fieldTypes[fieldNum];
         final int fieldLen = fieldLengths[fieldNum];
         Object object = null;
@@ -561,24 +668,39 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                     if (bytes[fieldOffset] == '*') {
                         break;
                     } else {
-                        final String string =
-                                fastParse(bytes, fieldOffset, fieldLen).trim();
                         Class<?> clazz = header.getFieldClass(fieldNum);
-                        if (clazz == Integer.class) {
-                            try {
-                                object = Integer.parseInt(string);
+                        if (clazz == Integer.class || clazz == Long.class) {
+                            // fast path, parse the common integral values without building a string
+                            final long value = DbaseNumberParser.parseLong(bytes, fieldOffset, fieldLen);
+                            if (value != DbaseNumberParser.INVALID_LONG) {
+                                if (clazz == Integer.class
+                                        && value >= Integer.MIN_VALUE
+                                        && value <= Integer.MAX_VALUE) {
+                                    object = (int) value;
+                                } else {
+                                    object = value;
+                                }
                                 break;
-                            } catch (NumberFormatException e) {
-                                // try to parse as long...
-                                clazz = Long.class;
                             }
-                        }
-                        if (clazz == Long.class) {
-                            try {
-                                object = Long.parseLong(string);
-                                break;
-                            } catch (final NumberFormatException e2) {
-                                // fall through to the floating point number
+
+                            final String string =
+                                    fastParse(bytes, fieldOffset, fieldLen).trim();
+                            if (clazz == Integer.class) {
+                                try {
+                                    object = Integer.parseInt(string);
+                                    break;
+                                } catch (NumberFormatException e) {
+                                    // try to parse as long...
+                                    clazz = Long.class;
+                                }
+                            }
+                            if (clazz == Long.class) {
+                                try {
+                                    object = Long.parseLong(string);
+                                    break;
+                                } catch (final NumberFormatException e2) {
+                                    // fall through to the floating point number
+                                }
                             }
                         }
                     }
@@ -588,6 +710,12 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                 case 'f':
                 case 'F':
                     if (bytes[fieldOffset] != '*') {
+                        // fast path first, then fall back on the full parser for the unusual cases
+                        final double value = DbaseNumberParser.parseDouble(bytes, fieldOffset, fieldLen);
+                        if (!Double.isNaN(value)) {
+                            object = value;
+                            break;
+                        }
                         try {
                             object = Double.parseDouble(fastParse(bytes, fieldOffset, fieldLen));
                         } catch (final NumberFormatException e) {
@@ -0,0 +1,133 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+/**
+ * Parses the plain numbers commonly found in DBF numeric fields straight from the record bytes, without building
+ * intermediate strings. Only the simple cases are handled (optional sign, digits, optional decimal point), anything
+ * else (exponents, too many digits, garbage) is reported as a failure, so that the caller can fall back on the JDK
+ * parsers, which remain the reference behavior.
+ */
+final class DbaseNumberParser {
+
+    /** Returned by {@link #parseLong(byte[], int, int)} when the fast path cannot parse the value */
+    static final long INVALID_LONG = Long.MIN_VALUE;
+
+    /** Max number of digits that can be accumulated in a long without overflow checks */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** Max mantissa that can be represented exactly in a double */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** Powers of ten that can be represented exactly in a double */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    private DbaseNumberParser() {}
+
+    /**
+     * Parses an integral number, ignoring leading and trailing blanks (any char lower or equal to a space, like
+     * {@link String#trim()} does)
+     *
+     * @return the parsed value, or {@link #INVALID_LONG} if the value could not be parsed by the fast path
+     */
+    static long parseLong(final byte[] bytes, final int offset, final int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && (bytes[i] & 0xFF) <= ' ') i++;
+        while (end > i && (bytes[end - 1] & 0xFF) <= ' ') end--;
+        if (i == end) {
+            return INVALID_LONG;
+        }
+
+        boolean negative = false;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        final int digits = end - i;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return INVALID_LONG;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_LONG;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a decimal number, ignoring leading and trailing blanks (any char lower or equal to a space, like
+     * {@link String#trim()} does). The result is exactly the same as {@link Double#parseDouble(String)}, as the fast
+     * path is used only when both the mantissa and the power of ten are exactly representable as doubles, making the
+     * final division correctly rounded.
+     *
+     * @return the parsed value, or {@link Double#NaN} if the value could not be parsed by the fast path
+     */
+    static double parseDouble(final byte[] bytes, final int offset, final int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && (bytes[i] & 0xFF) <= ' ') i++;
+        while (end > i && (bytes[end - 1] & 0xFF) <= ' ') end--;
+        if (i == end) {
+            return Double.NaN;
+        }
+
+        boolean negative = false;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            final byte b = bytes[i];
+            if (b == '.') {
+                if (fractionDigits >= 0) {
+                    return Double.NaN;
+                }
+                fractionDigits = 0;
+                continue;
+            }
+            final int digit = b - '0';
+            if (digit < 0 || digit > 9) {
+                return Double.NaN;
+            }
+            mantissa = mantissa * 10 + digit;
+            if (mantissa > MAX_EXACT_MANTISSA) {
+                return Double.NaN;
+            }
+            digits++;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0 || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.NaN;
+        }
+
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+}
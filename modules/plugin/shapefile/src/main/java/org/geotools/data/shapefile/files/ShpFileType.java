@@ -39,6 +39,11 @@ public enum ShpFileType {
      * generates
      */
     QIX("qix"),
+    /**
+     * the .prx file, a static, Hilbert packed R-tree spatial index of the shapefile. It is specific to GeoTools and,
+     * when available and up to date, it is preferred over the .qix one
+     */
+    PRX("prx"),
     /**
      * the .fix file, it contains all the Feature IDs for constant time lookup by fid also so that the fids stay
      * consistent across deletes and adds
@@ -0,0 +1,253 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.data.shapefile.index.CachedQuadTree.Indices;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A static, Hilbert packed R-tree spatial index, read straight from a (usually memory mapped) {@link ByteBuffer}
+ * without building any node object. The index is built by {@link PackedRTreeBuilder}, the file layout is the following
+ * (little endian):
+ *
+ * <ul>
+ *   <li>4 bytes: the magic {@code GTRX}
+ *   <li>int: the format version
+ *   <li>int: the node size, that is, the max number of children of each node
+ *   <li>int: the number of indexed items
+ *   <li>4 doubles: the bounds of the indexed items, as minx, miny, maxx, maxy
+ *   <li>the entries, each one made of 4 floats (minx, miny, maxx, maxy, rounded outwards) and an int. The items come
+ *       first, sorted on the Hilbert curve, with the int being their offset in the .shp file, followed by the upper
+ *       levels of the tree, up to the root, with the int being the position of the first child entry.
+ * </ul>
+ */
+public class PackedRTree {
+
+    static final byte[] MAGIC = {'G', 'T', 'R', 'X'};
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 48;
+
+    static final int ENTRY_SIZE = 20;
+
+    ByteBuffer buffer;
+
+    int nodeSize;
+
+    int numItems;
+
+    int numNodes;
+
+    /** The end position (exclusive) of each level in the entries array, starting from the leaves */
+    int[] levelBounds;
+
+    Envelope bounds;
+
+    /**
+     * Opens a packed R-tree over the specified buffer
+     *
+     * @param buffer the buffer containing the index, it won't be modified, but its byte order will be set to little
+     *     endian
+     * @throws StoreException if the buffer does not contain a valid packed R-tree
+     */
+    public PackedRTree(ByteBuffer buffer) throws StoreException {
+        this.buffer = buffer;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE) {
+            throw new StoreException("Packed R-tree index is too short, " + buffer.limit() + " bytes");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                throw new StoreException("Not a packed R-tree index, the magic bytes do not match");
+            }
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new StoreException("Unsupported packed R-tree index version " + version);
+        }
+        this.nodeSize = buffer.getInt(8);
+        this.numItems = buffer.getInt(12);
+        if (nodeSize < 2 || numItems < 0) {
+            throw new StoreException("Invalid packed R-tree header, node size " + nodeSize + ", items " + numItems);
+        }
+        double minX = buffer.getDouble(16);
+        double minY = buffer.getDouble(24);
+        double maxX = buffer.getDouble(32);
+        double maxY = buffer.getDouble(40);
+        this.bounds = new Envelope(minX, maxX, minY, maxY);
+        this.levelBounds = computeLevelBounds(numItems, nodeSize);
+        this.numNodes = levelBounds.length == 0 ? 0 : levelBounds[levelBounds.length - 1];
+        long expected = HEADER_SIZE + (long) numNodes * ENTRY_SIZE;
+        if (buffer.limit() < expected) {
+            throw new StoreException("Packed R-tree index is truncated, expected " + expected + " bytes but found "
+                    + buffer.limit());
+        }
+    }
+
+    /**
+     * Computes the end position of each tree level, starting from the leaves, given the number of items and the node
+     * size
+     */
+    static int[] computeLevelBounds(int numItems, int nodeSize) {
+        if (numItems == 0) {
+            return new int[0];
+        }
+        int[] result = new int[8];
+        int levels = 0;
+        int n = numItems;
+        int numNodes = n;
+        result[levels++] = numNodes;
+        do {
+            n = (n + nodeSize - 1) / nodeSize;
+            numNodes += n;
+            if (levels == result.length) {
+                result = Arrays.copyOf(result, levels * 2);
+            }
+            result[levels++] = numNodes;
+        } while (n != 1);
+        return Arrays.copyOf(result, levels);
+    }
+
+    /** The bounds of all the indexed items */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    /** The number of indexed items */
+    public int getNumItems() {
+        return numItems;
+    }
+
+    /**
+     * Collects the .shp offsets of all the items whose bounds intersect the specified envelope, in ascending order
+     *
+     * @param bbox the search area
+     */
+    public int[] searchOffsets(Envelope bbox) {
+        Indices indices = new Indices();
+        collect(indices, bbox);
+        indices.sort();
+        return Arrays.copyOf(indices.indices, indices.size());
+    }
+
+    /**
+     * Searches the index, returning the .shp offsets of all the items whose bounds intersect the specified envelope, in
+     * ascending order
+     *
+     * @param bbox the search area
+     */
+    public CloseableIterator<Data> search(Envelope bbox) throws StoreException {
+        final Indices indices = new Indices();
+        collect(indices, bbox);
+        indices.sort();
+        final Data data = new Data(CachedQuadTree.DATA_DEFINITION);
+        return new CloseableIterator<>() {
+            boolean read = true;
+            int idx = 0;
+
+            @Override
+            public Data next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                read = true;
+                return data;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (!read) {
+                    return true;
+                }
+
+                if (idx >= indices.size()) {
+                    return false;
+                }
+
+                try {
+                    data.clear();
+                    data.addValue(0);
+                    data.addValue((long) indices.get(idx));
+                    idx++;
+                    read = false;
+                } catch (TreeException e) {
+                    throw new RuntimeException(e);
+                }
+
+                return true;
+            }
+
+            @Override
+            public void close() throws IOException {
+                indices.clear();
+            }
+        };
+    }
+
+    /** Walks the tree top down, using a primitive stack, and collects the offsets of the matching items */
+    void collect(Indices indices, Envelope bbox) {
+        if (numItems == 0 || bbox.isNull()) {
+            return;
+        }
+        final double minX = bbox.getMinX();
+        final double minY = bbox.getMinY();
+        final double maxX = bbox.getMaxX();
+        final double maxY = bbox.getMaxY();
+
+        // pairs of (first entry of the node, level)
+        int[] stack = new int[16];
+        int stackSize = 0;
+        int nodeIndex = numNodes - 1;
+        int level = levelBounds.length - 1;
+        while (true) {
+            final int end = Math.min(nodeIndex + nodeSize, levelBounds[level]);
+            for (int pos = nodeIndex; pos < end; pos++) {
+                final int offset = HEADER_SIZE + pos * ENTRY_SIZE;
+                if (maxX < buffer.getFloat(offset)
+                        || maxY < buffer.getFloat(offset + 4)
+                        || minX > buffer.getFloat(offset + 8)
+                        || minY > buffer.getFloat(offset + 12)) {
+                    continue;
+                }
+                final int value = buffer.getInt(offset + 16);
+                if (nodeIndex < numItems) {
+                    indices.add(value);
+                } else {
+                    if (stackSize + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[stackSize++] = value;
+                    stack[stackSize++] = level - 1;
+                }
+            }
+            if (stackSize == 0) {
+                break;
+            }
+            level = stack[--stackSize];
+            nodeIndex = stack[--stackSize];
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Builds a {@link PackedRTree} from a stream of item bounds. The items are accumulated in primitive arrays (24 bytes
+ * per item, no per item object), sorted along a Hilbert curve, and then packed bottom up in full nodes, so the
+ * resulting tree has no empty space and its leaves follow the spatial locality of the data.
+ */
+public class PackedRTreeBuilder {
+
+    /** The default number of children per node */
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    static final int HILBERT_MAX = (1 << 16) - 1;
+
+    int nodeSize;
+
+    int numItems;
+
+    /** minx, miny, maxx, maxy of each item, rounded outwards to float */
+    float[] boxes;
+
+    int[] values;
+
+    Envelope bounds = new Envelope();
+
+    public PackedRTreeBuilder() {
+        this(DEFAULT_NODE_SIZE, 1024);
+    }
+
+    /**
+     * Creates a new builder
+     *
+     * @param nodeSize the max number of children per node
+     * @param expectedItems the expected number of items, used to size the internal arrays
+     */
+    public PackedRTreeBuilder(int nodeSize, int expectedItems) {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("Node size must be at least 2, but was " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        int capacity = Math.max(expectedItems, 16);
+        this.boxes = new float[capacity * 4];
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Adds an item to the index
+     *
+     * @param minX the item min x
+     * @param minY the item min y
+     * @param maxX the item max x
+     * @param maxY the item max y
+     * @param value the value associated to the item, for shapefiles, the offset of the record in the .shp file
+     */
+    public void add(double minX, double minY, double maxX, double maxY, int value) {
+        if (numItems == values.length) {
+            int capacity = values.length + (values.length >> 1);
+            boxes = Arrays.copyOf(boxes, capacity * 4);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int i = numItems * 4;
+        boxes[i] = floorFloat(minX);
+        boxes[i + 1] = floorFloat(minY);
+        boxes[i + 2] = ceilFloat(maxX);
+        boxes[i + 3] = ceilFloat(maxY);
+        values[numItems] = value;
+        numItems++;
+        bounds.expandToInclude(minX, minY);
+        bounds.expandToInclude(maxX, maxY);
+    }
+
+    /** Returns the number of items added so far */
+    public int getNumItems() {
+        return numItems;
+    }
+
+    /** Rounds the value to the closest float that is lower or equal to it */
+    static float floorFloat(double value) {
+        float f = (float) value;
+        return f > value ? Math.nextDown(f) : f;
+    }
+
+    /** Rounds the value to the closest float that is greater or equal to it */
+    static float ceilFloat(double value) {
+        float f = (float) value;
+        return f < value ? Math.nextUp(f) : f;
+    }
+
+    /**
+     * Sorts the items, builds the tree and writes it to the specified channel. The channel is not closed.
+     *
+     * @param channel the destination channel
+     */
+    public void write(WritableByteChannel channel) throws IOException {
+        sortItems();
+
+        int[] levelBounds = PackedRTree.computeLevelBounds(numItems, nodeSize);
+        int numNodes = levelBounds.length == 0 ? 0 : levelBounds[levelBounds.length - 1];
+
+        // the leaves are already in place, grow the arrays to contain the upper levels too
+        float[] nodeBoxes = Arrays.copyOf(boxes, numNodes * 4);
+        int[] nodeValues = Arrays.copyOf(values, numNodes);
+        int pos = 0;
+        int nextPos = numItems;
+        for (int level = 0; level < levelBounds.length - 1; level++) {
+            final int end = levelBounds[level];
+            while (pos < end) {
+                float minX = Float.POSITIVE_INFINITY;
+                float minY = Float.POSITIVE_INFINITY;
+                float maxX = Float.NEGATIVE_INFINITY;
+                float maxY = Float.NEGATIVE_INFINITY;
+                final int first = pos;
+                for (int i = 0; i < nodeSize && pos < end; i++, pos++) {
+                    minX = Math.min(minX, nodeBoxes[pos * 4]);
+                    minY = Math.min(minY, nodeBoxes[pos * 4 + 1]);
+                    maxX = Math.max(maxX, nodeBoxes[pos * 4 + 2]);
+                    maxY = Math.max(maxY, nodeBoxes[pos * 4 + 3]);
+                }
+                nodeBoxes[nextPos * 4] = minX;
+                nodeBoxes[nextPos * 4 + 1] = minY;
+                nodeBoxes[nextPos * 4 + 2] = maxX;
+                nodeBoxes[nextPos * 4 + 3] = maxY;
+                nodeValues[nextPos] = first;
+                nextPos++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(PackedRTree.MAGIC);
+        buffer.putInt(PackedRTree.VERSION);
+        buffer.putInt(nodeSize);
+        buffer.putInt(numItems);
+        if (bounds.isNull()) {
+            buffer.putDouble(0).putDouble(0).putDouble(-1).putDouble(-1);
+        } else {
+            buffer.putDouble(bounds.getMinX());
+            buffer.putDouble(bounds.getMinY());
+            buffer.putDouble(bounds.getMaxX());
+            buffer.putDouble(bounds.getMaxY());
+        }
+        for (int i = 0; i < numNodes; i++) {
+            if (buffer.remaining() < PackedRTree.ENTRY_SIZE) {
+                drain(buffer, channel);
+            }
+            buffer.putFloat(nodeBoxes[i * 4]);
+            buffer.putFloat(nodeBoxes[i * 4 + 1]);
+            buffer.putFloat(nodeBoxes[i * 4 + 2]);
+            buffer.putFloat(nodeBoxes[i * 4 + 3]);
+            buffer.putInt(nodeValues[i]);
+        }
+        drain(buffer, channel);
+    }
+
+    private void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Sorts the items based on the Hilbert value of their centers */
+    void sortItems() {
+        if (numItems <= nodeSize) {
+            // a single leaf node, sorting won't make any difference
+            return;
+        }
+        final double width = bounds.getWidth();
+        final double height = bounds.getHeight();
+        int[] hilbertValues = new int[numItems];
+        for (int i = 0; i < numItems; i++) {
+            double cx = (boxes[i * 4] + (double) boxes[i * 4 + 2]) / 2;
+            double cy = (boxes[i * 4 + 1] + (double) boxes[i * 4 + 3]) / 2;
+            int x = width > 0 ? (int) Math.floor(HILBERT_MAX * (cx - bounds.getMinX()) / width) : 0;
+            int y = height > 0 ? (int) Math.floor(HILBERT_MAX * (cy - bounds.getMinY()) / height) : 0;
+            hilbertValues[i] = hilbert(clamp(x), clamp(y));
+        }
+        sort(hilbertValues, 0, numItems - 1);
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(HILBERT_MAX, value));
+    }
+
+    /** Quicksort of the items driven by their Hilbert values, swaps boxes and values along */
+    private void sort(int[] keys, int left, int right) {
+        while (left < right) {
+            final int pivot = keys[(left + right) >>> 1];
+            int i = left - 1;
+            int j = right + 1;
+            while (true) {
+                do i++;
+                while (Integer.compareUnsigned(keys[i], pivot) < 0);
+                do j--;
+                while (Integer.compareUnsigned(keys[j], pivot) > 0);
+                if (i >= j) break;
+                swap(keys, i, j);
+            }
+            // recurse on the smaller partition to bound the stack depth
+            if (j - left < right - j) {
+                sort(keys, left, j);
+                left = j + 1;
+            } else {
+                sort(keys, j + 1, right);
+                right = j;
+            }
+        }
+    }
+
+    private void swap(int[] keys, int i, int j) {
+        int tk = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tk;
+
+        int tv = values[i];
+        values[i] = values[j];
+        values[j] = tv;
+
+        for (int k = 0; k < 4; k++) {
+            float tb = boxes[i * 4 + k];
+            boxes[i * 4 + k] = boxes[j * 4 + k];
+            boxes[j * 4 + k] = tb;
+        }
+    }
+
+    /**
+     * Computes the position of the point on a 16 bit Hilbert curve, using the branch free algorithm published at
+     * http://threadlocalmutex.com/?p=126
+     */
+    static int hilbert(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int aa = a | (b >>> 1);
+        int bb = (a >>> 1) ^ a;
+        int cc = ((c >>> 1) ^ (b & (d >>> 1))) ^ c;
+        int dd = ((a & (c >>> 1)) ^ (d >>> 1)) ^ d;
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = ((a & (a >>> 2)) ^ (b & (b >>> 2)));
+        bb = ((a & (b >>> 2)) ^ (b & ((a ^ b) >>> 2)));
+        cc ^= ((a & (c >>> 2)) ^ (b & (d >>> 2)));
+        dd ^= ((b & (c >>> 2)) ^ ((a ^ b) & (d >>> 2)));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = ((a & (a >>> 4)) ^ (b & (b >>> 4)));
+        bb = ((a & (b >>> 4)) ^ (b & ((a ^ b) >>> 4)));
+        cc ^= ((a & (c >>> 4)) ^ (b & (d >>> 4)));
+        dd ^= ((b & (c >>> 4)) ^ ((a ^ b) & (d >>> 4)));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        cc ^= ((a & (c >>> 8)) ^ (b & (d >>> 8)));
+        dd ^= ((b & (c >>> 8)) ^ ((a ^ b) & (d >>> 8)));
+
+        a = cc ^ (cc >>> 1);
+        b = dd ^ (dd >>> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+
+        i0 = (i0 | (i0 << 8)) & 0x00FF00FF;
+        i0 = (i0 | (i0 << 4)) & 0x0F0F0F0F;
+        i0 = (i0 | (i0 << 2)) & 0x33333333;
+        i0 = (i0 | (i0 << 1)) & 0x55555555;
+
+        i1 = (i1 | (i1 << 8)) & 0x00FF00FF;
+        i1 = (i1 | (i1 << 4)) & 0x0F0F0F0F;
+        i1 = (i1 | (i1 << 2)) & 0x33333333;
+        i1 = (i1 | (i1 << 1)) & 0x55555555;
+
+        return (i1 << 1) | i0;
+    }
+}
@@ -14,9 +14,12 @@
 package org.geotools.data.shapefile;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -98,6 +101,48 @@ public void testRowVsEntry() throws Exception {
         }
     }
 
+    @Test
+    public void testSelectedFields() throws Exception {
+        for (boolean memoryMapped : new boolean[] {false, true}) {
+            int[] selected = {0, 4, 5, 100, 251};
+            try (DbaseFileReader all = new DbaseFileReader(shpFiles, false, ShapefileDataStore.DEFAULT_STRING_CHARSET);
+                    DbaseFileReader subset =
+                            new DbaseFileReader(shpFiles, memoryMapped, ShapefileDataStore.DEFAULT_STRING_CHARSET)) {
+                subset.setSelectedFields(selected);
+                assertTrue(subset.isSelected(4));
+                assertFalse(subset.isSelected(3));
+                while (all.hasNext()) {
+                    assertTrue(subset.hasNext());
+                    Object[] expected = all.readEntry();
+                    DbaseFileReader.Row row = subset.readRow();
+                    for (int i : selected) {
+                        assertEquals(expected[i], row.read(i));
+                    }
+                    assertThrows(IllegalArgumentException.class, () -> row.read(3));
+                }
+                assertFalse(subset.hasNext());
+            }
+        }
+    }
+
+    @Test
+    public void testReadDouble() throws Exception {
+        Object[] attrs = new Object[dbf.getHeader().getNumFields()];
+        try (DbaseFileReader dbf2 = new DbaseFileReader(shpFiles, true, ShapefileDataStore.DEFAULT_STRING_CHARSET)) {
+            while (dbf.hasNext()) {
+                dbf.readEntry(attrs);
+                DbaseFileReader.Row r = dbf2.readRow();
+                for (int i = 0, ii = attrs.length; i < ii; i++) {
+                    if (attrs[i] instanceof Number n) {
+                        assertEquals(n.doubleValue(), r.readDouble(i), 0d);
+                    } else {
+                        assertTrue(Double.isNaN(r.readDouble(i)));
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void testHeader() throws Exception {
         DbaseFileHeader header = new DbaseFileHeader();
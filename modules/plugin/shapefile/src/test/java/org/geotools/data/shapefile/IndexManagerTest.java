@@ -16,11 +16,13 @@
  */
 package org.geotools.data.shapefile;
 
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
 import static org.geotools.data.shapefile.files.ShpFileType.QIX;
 import static org.geotools.data.shapefile.files.ShpFileType.SHP;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -29,18 +31,26 @@
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.data.CloseableIterator;
 import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.PackedRTree;
+import org.geotools.data.shapefile.shp.ShapefileReader;
 import org.geotools.feature.NameImpl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
 
 public class IndexManagerTest extends TestCaseSupport {
 
@@ -134,6 +144,70 @@ public void testCreateSpatialIndex_stale_index_rebuilds() throws Exception {
         assertFalse("index is not stale anymore", indexManager.createSpatialIndex(force));
     }
 
+    @Test
+    public void testCreatePackedSpatialIndex() throws Exception {
+        when(mockDataStore.isPackedSpatialIndex()).thenReturn(true);
+        IndexManager indexManager = new IndexManager(shpFiles, mockDataStore);
+
+        assertFalse(shpFiles.exists(PRX));
+        assertTrue(indexManager.createSpatialIndex(false));
+        assertTrue(shpFiles.exists(PRX));
+        assertFalse(indexManager.createSpatialIndex(false));
+        assertTrue(indexManager.isSpatialIndexAvailable());
+    }
+
+    @Test
+    public void testPackedIndexPreferredOverQuadTree() throws Exception {
+        when(mockDataStore.isPackedSpatialIndex()).thenReturn(true);
+        IndexManager indexManager = new IndexManager(shpFiles, mockDataStore);
+        assertTrue(indexManager.createSpatialIndex(false));
+
+        // a store using the quadtree will use the packed index as long as it's up to date
+        deleteQixFile();
+        when(mockDataStore.isPackedSpatialIndex()).thenReturn(false);
+        indexManager = new IndexManager(shpFiles, mockDataStore);
+        assertFalse(indexManager.createSpatialIndex(false));
+        assertFalse(shpFiles.exists(QIX));
+    }
+
+    @Test
+    public void testQueryPackedSpatialIndex() throws Exception {
+        when(mockDataStore.isPackedSpatialIndex()).thenReturn(true);
+        IndexManager indexManager = new IndexManager(shpFiles, mockDataStore);
+        assertTrue(indexManager.createSpatialIndex(false));
+
+        PackedRTree tree = indexManager.openPackedRTree();
+        Envelope bounds = tree.getBounds();
+        Envelope query = new Envelope(bounds.getMinX(), bounds.centre().x, bounds.getMinY(), bounds.centre().y);
+
+        // brute force scan of the shapefile
+        int total = 0;
+        Set<Integer> expected = new HashSet<>();
+        try (ShapefileReader reader = new ShapefileReader(shpFiles, false, false, new GeometryFactory())) {
+            while (reader.hasNext()) {
+                ShapefileReader.Record record = reader.nextRecord();
+                if (record.envelope().intersects(query)) {
+                    expected.add(record.offset());
+                }
+                total++;
+            }
+        }
+        assertEquals(total, tree.getNumItems());
+
+        Set<Integer> actual = new HashSet<>();
+        try (CloseableIterator<Data> it = indexManager.querySpatialIndex(query)) {
+            while (it.hasNext()) {
+                actual.add(((Long) it.next().getValue(1)).intValue());
+            }
+        }
+        // the index bounds are rounded outwards to floats, it may return a few extra candidates
+        assertTrue(actual.containsAll(expected));
+        assertTrue(actual.size() < total);
+
+        // a query containing the whole index does not need it
+        assertNull(indexManager.querySpatialIndex(bounds));
+    }
+
     @Test(timeout = 30_000) // timeout at 30s to fail in case of deadlock, too slow build server
     public void testCreateSpatialIndex_Concurrency_runs_once() throws Exception {
         deleteQixFile();
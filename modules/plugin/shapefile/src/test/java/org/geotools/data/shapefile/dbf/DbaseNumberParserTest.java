@@ -0,0 +1,97 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+public class DbaseNumberParserTest {
+
+    private static long parseLong(String value) {
+        byte[] bytes = ("  " + value + " ").getBytes(StandardCharsets.ISO_8859_1);
+        return DbaseNumberParser.parseLong(bytes, 2, value.length());
+    }
+
+    private static double parseDouble(String value) {
+        byte[] bytes = ("  " + value + " ").getBytes(StandardCharsets.ISO_8859_1);
+        return DbaseNumberParser.parseDouble(bytes, 2, value.length());
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(0, parseLong("0"));
+        assertEquals(12345, parseLong("   12345"));
+        assertEquals(-12345, parseLong("-12345  "));
+        assertEquals(42, parseLong("+42"));
+        assertEquals(123456789012345678L, parseLong("123456789012345678"));
+        assertEquals(42, parseLong("42\0\0"));
+    }
+
+    @Test
+    public void testParseLongFallback() {
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong(""));
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("    "));
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("-"));
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("1.5"));
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("1 2"));
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("abc"));
+        // too many digits for the fast path
+        assertEquals(DbaseNumberParser.INVALID_LONG, parseLong("9223372036854775807"));
+    }
+
+    @Test
+    public void testParseDouble() {
+        assertEquals(5.21, parseDouble("5.210000000"), 0d);
+        assertEquals(0d, parseDouble("0.000000000"), 0d);
+        assertEquals(-143986.61, parseDouble("  -143986.61"), 0d);
+        assertEquals(1d, parseDouble("1."), 0d);
+        assertEquals(0.5, parseDouble(".5"), 0d);
+        assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits(parseDouble("-0.0")));
+    }
+
+    @Test
+    public void testParseDoubleFallback() {
+        assertTrue(Double.isNaN(parseDouble("")));
+        assertTrue(Double.isNaN(parseDouble("   ")));
+        assertTrue(Double.isNaN(parseDouble(".")));
+        assertTrue(Double.isNaN(parseDouble("1.2.3")));
+        assertTrue(Double.isNaN(parseDouble("1e5")));
+        assertTrue(Double.isNaN(parseDouble("NaN")));
+        // mantissa not exactly representable
+        assertTrue(Double.isNaN(parseDouble("12345678901234567890")));
+        // power of ten not exactly representable
+        assertTrue(Double.isNaN(parseDouble("0.00000000000000000000001")));
+    }
+
+    @Test
+    public void testParseDoubleSameAsJDK() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+            String formatted = String.format(Locale.ROOT, "%." + random.nextInt(12) + "f", value);
+            double parsed = parseDouble(formatted);
+            if (!Double.isNaN(parsed)) {
+                assertEquals(formatted, Double.parseDouble(formatted), parsed, 0d);
+            }
+        }
+    }
+}
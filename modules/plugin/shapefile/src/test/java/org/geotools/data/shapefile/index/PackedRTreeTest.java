@@ -0,0 +1,125 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+
+public class PackedRTreeTest {
+
+    private PackedRTree build(PackedRTreeBuilder builder) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        builder.write(Channels.newChannel(bos));
+        return new PackedRTree(ByteBuffer.wrap(bos.toByteArray()));
+    }
+
+    @Test
+    public void testSearchMatchesBruteForce() throws Exception {
+        Random random = new Random(42);
+        int count = 10_000;
+        Envelope[] items = new Envelope[count];
+        PackedRTreeBuilder builder = new PackedRTreeBuilder(PackedRTreeBuilder.DEFAULT_NODE_SIZE, 16);
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 360 - 180;
+            double y = random.nextDouble() * 180 - 90;
+            items[i] = new Envelope(x, x + random.nextDouble(), y, y + random.nextDouble());
+            builder.add(items[i].getMinX(), items[i].getMinY(), items[i].getMaxX(), items[i].getMaxY(), i);
+        }
+        PackedRTree tree = build(builder);
+        assertEquals(count, tree.getNumItems());
+
+        for (int q = 0; q < 100; q++) {
+            double x = random.nextDouble() * 360 - 180;
+            double y = random.nextDouble() * 180 - 90;
+            Envelope query = new Envelope(x, x + random.nextDouble() * 20, y, y + random.nextDouble() * 20);
+
+            int[] actual = tree.searchOffsets(query);
+            for (int i = 0; i < count; i++) {
+                if (items[i].intersects(query)) {
+                    assertTrue(Arrays.binarySearch(actual, i) >= 0);
+                }
+            }
+            // the float rounding of the index could add some extra candidates, but only very close to the query
+            Envelope expanded = new Envelope(query);
+            expanded.expandBy(1e-4);
+            for (int i : actual) {
+                assertTrue(items[i].intersects(expanded));
+            }
+        }
+    }
+
+    @Test
+    public void testSearchIterator() throws Exception {
+        PackedRTreeBuilder builder = new PackedRTreeBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i, i, i + 0.5, i + 0.5, i * 100);
+        }
+        PackedRTree tree = build(builder);
+        assertEquals(new Envelope(0, 99.5, 0, 99.5), tree.getBounds());
+
+        try (CloseableIterator<Data> it = tree.search(new Envelope(10, 12, 10, 12))) {
+            for (long expected : new long[] {1000, 1100, 1200}) {
+                assertTrue(it.hasNext());
+                assertEquals(expected, it.next().getValue(1));
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        PackedRTree tree = build(new PackedRTreeBuilder());
+        assertEquals(0, tree.getNumItems());
+        assertEquals(0, tree.searchOffsets(new Envelope(-180, 180, -90, 90)).length);
+    }
+
+    @Test
+    public void testLevelBounds() {
+        assertArrayEquals(new int[0], PackedRTree.computeLevelBounds(0, 16));
+        assertArrayEquals(new int[] {1, 2}, PackedRTree.computeLevelBounds(1, 16));
+        assertArrayEquals(new int[] {16, 17}, PackedRTree.computeLevelBounds(16, 16));
+        assertArrayEquals(new int[] {17, 19, 20}, PackedRTree.computeLevelBounds(17, 16));
+    }
+
+    @Test(expected = StoreException.class)
+    public void testInvalidMagic() throws Exception {
+        new PackedRTree(ByteBuffer.allocate(PackedRTree.HEADER_SIZE));
+    }
+
+    @Test(expected = StoreException.class)
+    public void testTruncated() throws Exception {
+        PackedRTreeBuilder builder = new PackedRTreeBuilder();
+        builder.add(0, 0, 1, 1, 0);
+        builder.add(2, 2, 3, 3, 1);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        builder.write(Channels.newChannel(bos));
+        byte[] bytes = bos.toByteArray();
+        new PackedRTree(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+}
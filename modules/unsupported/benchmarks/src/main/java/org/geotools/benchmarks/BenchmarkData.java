@@ -0,0 +1,205 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.csv.CSVDataStoreFactory;
+import org.geotools.data.memory.MemoryDataStore;
+import org.geotools.data.property.PropertyDataStore;
+import org.geotools.data.shapefile.ShapefileDataStoreFactory;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.collection.ListFeatureCollection;
+import org.geotools.geopkg.GeoPkgDataStoreFactory;
+import org.geotools.util.URLs;
+
+/**
+ * Prepares the benchmark datasets. The data comes from the shapefiles in the sample-data module, and gets converted in
+ * all the formats being benchmarked, so that the same features are read regardless of the store.
+ */
+public class BenchmarkData {
+
+    /** The data formats being benchmarked */
+    public enum Format {
+        SHAPEFILE,
+        GEOPACKAGE,
+        PROPERTY,
+        CSV,
+        MEMORY
+    }
+
+    /** The US states shapefile, 49 multipolygons with 252 attributes */
+    public static final String STATES = "statepop";
+
+    /** The name of the geometry attribute in the {@link #STATES} dataset */
+    public static final String GEOMETRY = "the_geom";
+
+    static final String SHAPES = "/org/geotools/test-data/shapes/";
+
+    static final String[] SHAPEFILE_EXTENSIONS = {"shp", "shx", "dbf", "prj"};
+
+    private BenchmarkData() {}
+
+    /** Creates a temporary directory that will host a benchmark dataset */
+    public static File createDirectory() throws IOException {
+        return Files.createTempDirectory("gt-benchmark").toFile();
+    }
+
+    /** Deletes a directory created by {@link #createDirectory()}, along with its contents */
+    public static void deleteDirectory(File directory) {
+        if (directory == null) {
+            return;
+        }
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    deleteDirectory(file);
+                } else {
+                    file.delete();
+                }
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Copies a shapefile from the sample data module into the target directory
+     *
+     * @return the .shp file
+     */
+    public static File copyShapefile(String name, File directory) throws IOException {
+        for (String extension : SHAPEFILE_EXTENSIONS) {
+            String resource = SHAPES + name + "." + extension;
+            try (InputStream is = BenchmarkData.class.getResourceAsStream(resource)) {
+                if (is == null) {
+                    throw new IOException("Could not find sample data " + resource);
+                }
+                File target = new File(directory, name + "." + extension);
+                Files.copy(is, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return new File(directory, name + ".shp");
+    }
+
+    /** Reads the whole {@link #STATES} dataset in memory */
+    public static SimpleFeatureCollection readStates() throws IOException {
+        File directory = createDirectory();
+        try {
+            DataStore store = openShapefile(copyShapefile(STATES, directory));
+            try {
+                List<SimpleFeature> features = new ArrayList<>();
+                SimpleFeatureCollection fc = store.getFeatureSource(STATES).getFeatures();
+                try (SimpleFeatureIterator it = fc.features()) {
+                    while (it.hasNext()) {
+                        features.add(it.next());
+                    }
+                }
+                return new ListFeatureCollection(fc.getSchema(), features);
+            } finally {
+                store.dispose();
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Creates a store containing the {@link #STATES} dataset, in the specified format
+     *
+     * @param format the store format
+     * @param directory the directory that will contain the store files, if any
+     */
+    public static DataStore createDataStore(Format format, File directory) throws IOException {
+        switch (format) {
+            case SHAPEFILE:
+                return openShapefile(copyShapefile(STATES, directory));
+            case MEMORY:
+                return new MemoryDataStore(readStates());
+            case PROPERTY:
+                return fill(new PropertyDataStore(directory), readStates());
+            case GEOPACKAGE:
+                Map<String, Object> params = new HashMap<>();
+                params.put(GeoPkgDataStoreFactory.DBTYPE.key, "geopkg");
+                params.put(GeoPkgDataStoreFactory.DATABASE.key, new File(directory, STATES + ".gpkg"));
+                return fill(new GeoPkgDataStoreFactory().createDataStore(params), readStates());
+            case CSV:
+                return createCSVDataStore(directory, readStates());
+            default:
+                throw new IllegalArgumentException("Unsupported format " + format);
+        }
+    }
+
+    static DataStore openShapefile(File shp) throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, URLs.fileToUrl(shp));
+        return new ShapefileDataStoreFactory().createDataStore(params);
+    }
+
+    static DataStore fill(DataStore store, SimpleFeatureCollection features) throws IOException {
+        store.createSchema(features.getSchema());
+        SimpleFeatureStore fs = (SimpleFeatureStore) store.getFeatureSource(STATES);
+        fs.addFeatures(features);
+        return store;
+    }
+
+    /** Writes the features in a CSV file with a WKT geometry column, and opens it */
+    static DataStore createCSVDataStore(File directory, SimpleFeatureCollection features) throws IOException {
+        File file = new File(directory, STATES + ".csv");
+        SimpleFeatureType schema = features.getSchema();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < schema.getAttributeCount(); i++) {
+                if (i > 0) writer.write(',');
+                writer.write(schema.getDescriptor(i).getLocalName());
+            }
+            writer.write('\n');
+            try (SimpleFeatureIterator it = features.features()) {
+                while (it.hasNext()) {
+                    SimpleFeature f = it.next();
+                    for (int i = 0; i < f.getAttributeCount(); i++) {
+                        if (i > 0) writer.write(',');
+                        Object value = f.getAttribute(i);
+                        if (value != null) {
+                            writer.write('"' + value.toString().replace("\"", "\"\"") + '"');
+                        }
+                    }
+                    writer.write('\n');
+                }
+            }
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put(CSVDataStoreFactory.FILE_PARAM.key, file);
+        params.put(CSVDataStoreFactory.STRATEGYP.key, CSVDataStoreFactory.WKT_STRATEGY);
+        params.put(CSVDataStoreFactory.WKTP.key, GEOMETRY);
+        return new CSVDataStoreFactory().createDataStore(params);
+    }
+}
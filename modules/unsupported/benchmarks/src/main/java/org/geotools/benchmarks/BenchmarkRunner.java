@@ -0,0 +1,95 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.geotools.util.factory.GeoTools;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and saves the results in JSON format, in a file named after the GeoTools version and the run
+ * time, along with a properties file describing the build and the environment, so that the results of different
+ * releases can be compared.
+ *
+ * <p>Arguments, all optional:
+ *
+ * <ol>
+ *   <li>a regular expression selecting the benchmarks to run, defaults to all of them
+ *   <li>the directory where results are saved, defaults to {@code target/jmh}
+ *   <li>any other argument is passed to JMH as is, e.g., {@code -f 3 -wi 5}
+ * </ol>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 && !args[0].isBlank() ? args[0] : ".*";
+        File directory = new File(args.length > 1 && !args[1].isBlank() ? args[1] : "target/jmh");
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            for (String arg : args[i].trim().split("\\s+")) {
+                if (!arg.isEmpty()) jmhArgs.add(arg);
+            }
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create the results directory " + directory);
+        }
+        String version = GeoTools.getVersion().toString();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String baseName = "geotools-" + version + "-" + timestamp;
+        File results = new File(directory, baseName + ".json");
+        writeMetadata(new File(directory, baseName + ".properties"), version, timestamp);
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.getPath());
+        if (!jmhArgs.isEmpty()) {
+            options.parent(new CommandLineOptions(jmhArgs.toArray(new String[jmhArgs.size()])));
+        }
+        new Runner(options.build()).run();
+    }
+
+    static void writeMetadata(File file, String version, String timestamp) throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("geotools.version", version);
+        metadata.setProperty("geotools.revision", String.valueOf(GeoTools.getBuildRevision()));
+        metadata.setProperty("geotools.buildTimestamp", String.valueOf(GeoTools.getBuildTimestamp()));
+        metadata.setProperty("run.timestamp", timestamp);
+        metadata.setProperty("java.version", System.getProperty("java.version"));
+        metadata.setProperty("java.vm.name", System.getProperty("java.vm.name"));
+        metadata.setProperty("os.name", System.getProperty("os.name"));
+        metadata.setProperty("os.arch", System.getProperty("os.arch"));
+        metadata.setProperty("processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            metadata.store(writer, "GeoTools benchmark run");
+        }
+    }
+}
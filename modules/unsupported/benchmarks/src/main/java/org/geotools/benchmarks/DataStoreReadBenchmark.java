@@ -0,0 +1,140 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.benchmarks.BenchmarkData.Format;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads the states dataset out of the various stores, going through {@code ContentFeatureSource.getReader}, with
+ * queries exercising the full read, the spatial filter, the attribute filter and the attribute selection paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataStoreReadBenchmark {
+
+    @Param({"SHAPEFILE", "GEOPACKAGE", "PROPERTY", "CSV", "MEMORY"})
+    Format format;
+
+    File directory;
+
+    DataStore store;
+
+    Query all;
+
+    Query bbox;
+
+    Query attributeFilter;
+
+    Query projection;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = BenchmarkData.createDirectory();
+        store = BenchmarkData.createDataStore(format, directory);
+        String typeName = store.getTypeNames()[0];
+        SimpleFeatureType schema = store.getSchema(typeName);
+        String geometry = schema.getGeometryDescriptor().getLocalName();
+
+        // the south western quarter of the dataset
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        ReferencedEnvelope bounds = store.getFeatureSource(typeName).getBounds();
+        all = new Query(typeName);
+        bbox = new Query(
+                typeName,
+                ff.bbox(
+                        ff.property(geometry),
+                        new ReferencedEnvelope(
+                                bounds.getMinX(),
+                                bounds.getMedian(0),
+                                bounds.getMinY(),
+                                bounds.getMedian(1),
+                                bounds.getCoordinateReferenceSystem())));
+        attributeFilter = new Query(typeName, ff.greater(ff.property("PERSONS"), ff.literal(5_000_000)));
+        projection = new Query(typeName);
+        projection.setPropertyNames(geometry, "STATE_NAME", "PERSONS");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.dispose();
+        BenchmarkData.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public int readAll(Blackhole bh) throws IOException {
+        return read(all, bh);
+    }
+
+    @Benchmark
+    public int readBBox(Blackhole bh) throws IOException {
+        return read(bbox, bh);
+    }
+
+    @Benchmark
+    public int readAttributeFilter(Blackhole bh) throws IOException {
+        return read(attributeFilter, bh);
+    }
+
+    @Benchmark
+    public int readProjection(Blackhole bh) throws IOException {
+        return read(projection, bh);
+    }
+
+    private int read(Query query, Blackhole bh) throws IOException {
+        int count = 0;
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                bh.consume(feature.getDefaultGeometry());
+                bh.consume(feature.getAttribute(feature.getAttributeCount() - 1));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Builds features with {@link SimpleFeatureBuilder}, the way data stores do while reading */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeatureBuilderBenchmark {
+
+    SimpleFeatureType schema;
+
+    List<Object[]> values;
+
+    SimpleFeatureBuilder builder;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SimpleFeatureCollection states = BenchmarkData.readStates();
+        schema = states.getSchema();
+        values = new ArrayList<>();
+        try (SimpleFeatureIterator it = states.features()) {
+            while (it.hasNext()) {
+                values.add(it.next().getAttributes().toArray());
+            }
+        }
+        builder = new SimpleFeatureBuilder(schema);
+    }
+
+    /** Sequential add of all values, as done by most readers */
+    @Benchmark
+    public void buildSequential(Blackhole bh) {
+        int id = 0;
+        for (Object[] row : values) {
+            for (Object value : row) {
+                builder.add(value);
+            }
+            bh.consume(builder.buildFeature(BenchmarkData.STATES + "." + id++));
+        }
+    }
+
+    /** Bulk build out of an array of values */
+    @Benchmark
+    public void buildFromArray(Blackhole bh) {
+        int id = 0;
+        for (Object[] row : values) {
+            bh.consume(SimpleFeatureBuilder.build(schema, row, BenchmarkData.STATES + "." + id++));
+        }
+    }
+
+    /** Sets a few attributes by name, leaving the others null */
+    @Benchmark
+    public void buildByName(Blackhole bh) {
+        int id = 0;
+        for (Object[] row : values) {
+            builder.set(BenchmarkData.GEOMETRY, row[0]);
+            builder.set("STATE_NAME", row[1]);
+            builder.set("PERSONS", row[7]);
+            bh.consume(builder.buildFeature(BenchmarkData.STATES + "." + id++));
+        }
+    }
+
+    /** Copies existing features, as done by retyping and reprojecting wrappers */
+    @Benchmark
+    public void copy(Blackhole bh) {
+        int id = 0;
+        for (Object[] row : values) {
+            SimpleFeature feature = SimpleFeatureBuilder.build(schema, row, BenchmarkData.STATES + "." + id++);
+            bh.consume(SimpleFeatureBuilder.copy(feature));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Evaluates filters built with the default {@link FilterFactory} against in memory features */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterEvaluationBenchmark {
+
+    @Param({"equals", "between", "and", "or", "like", "arithmetic", "bbox", "intersects"})
+    String filterType;
+
+    List<SimpleFeature> features;
+
+    Filter filter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SimpleFeatureCollection states = BenchmarkData.readStates();
+        features = new ArrayList<>();
+        try (SimpleFeatureIterator it = states.features()) {
+            while (it.hasNext()) {
+                features.add(it.next());
+            }
+        }
+        filter = buildFilter(filterType);
+    }
+
+    static Filter buildFilter(String type) {
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        switch (type) {
+            case "equals":
+                return ff.equals(ff.property("STATE_ABBR"), ff.literal("TX"));
+            case "between":
+                return ff.between(ff.property("PERSONS"), ff.literal(1_000_000), ff.literal(5_000_000));
+            case "and":
+                return ff.and(
+                        ff.equals(ff.property("SUB_REGION"), ff.literal("Mtn")),
+                        ff.greater(ff.property("PERSONS"), ff.literal(1_000_000)));
+            case "or":
+                return ff.or(List.of(
+                        ff.equals(ff.property("STATE_ABBR"), ff.literal("TX")),
+                        ff.equals(ff.property("STATE_ABBR"), ff.literal("CA")),
+                        ff.equals(ff.property("STATE_ABBR"), ff.literal("NY")),
+                        ff.equals(ff.property("STATE_ABBR"), ff.literal("FL"))));
+            case "like":
+                return ff.like(ff.property("STATE_NAME"), "New*");
+            case "arithmetic":
+                return ff.greater(ff.divide(ff.property("PERSONS"), ff.property("LAND_KM")), ff.literal(50));
+            case "bbox":
+                return ff.bbox(BenchmarkData.GEOMETRY, -100, 30, -90, 40, "EPSG:4326");
+            case "intersects":
+                return ff.intersects(
+                        ff.property(BenchmarkData.GEOMETRY),
+                        ff.literal(new GeometryFactory().toGeometry(new Envelope(-100, -90, 30, 40))));
+            default:
+                throw new IllegalArgumentException("Unknown filter type " + type);
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int count = 0;
+        for (SimpleFeature feature : features) {
+            if (filter.evaluate(feature)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
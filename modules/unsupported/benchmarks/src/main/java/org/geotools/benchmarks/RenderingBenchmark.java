@@ -0,0 +1,131 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.style.Rule;
+import org.geotools.api.style.Style;
+import org.geotools.benchmarks.BenchmarkData.Format;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.CRS;
+import org.geotools.renderer.lite.StreamingRenderer;
+import org.geotools.styling.StyleBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Renders the states dataset with {@link StreamingRenderer#paint}, in the native CRS and reprojected */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderingBenchmark {
+
+    static final int WIDTH = 1024;
+
+    static final int HEIGHT = 512;
+
+    @Param({"SHAPEFILE", "MEMORY"})
+    Format format;
+
+    @Param({"false", "true"})
+    boolean labels;
+
+    @Param({"false", "true"})
+    boolean reproject;
+
+    File directory;
+
+    DataStore store;
+
+    MapContent map;
+
+    ReferencedEnvelope bounds;
+
+    StreamingRenderer renderer;
+
+    BufferedImage image;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = BenchmarkData.createDirectory();
+        store = BenchmarkData.createDataStore(format, directory);
+        SimpleFeatureSource source = store.getFeatureSource(store.getTypeNames()[0]);
+
+        StyleBuilder sb = new StyleBuilder();
+        Style style = sb.createStyle(sb.createPolygonSymbolizer(Color.LIGHT_GRAY, Color.BLACK, 1));
+        if (labels) {
+            Rule rule = style.featureTypeStyles().get(0).rules().get(0);
+            rule.symbolizers().add(sb.createTextSymbolizer(Color.BLACK, sb.createFont("Serif", 12), "STATE_NAME"));
+        }
+        map = new MapContent();
+        map.addLayer(new FeatureLayer(source, style));
+
+        bounds = source.getBounds();
+        if (reproject) {
+            bounds = bounds.transform(CRS.decode("EPSG:3857", true), true);
+        }
+
+        renderer = new StreamingRenderer();
+        renderer.setMapContent(map);
+        renderer.setJava2DHints(
+                new RenderingHints(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON));
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+        store.dispose();
+        BenchmarkData.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setBackground(Color.WHITE);
+            graphics.clearRect(0, 0, WIDTH, HEIGHT);
+            renderer.paint(graphics, new Rectangle(WIDTH, HEIGHT), bounds);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.Query;
+import org.geotools.benchmarks.BenchmarkData.Format;
+import org.geotools.data.memory.MemoryDataStore;
+import org.junit.Test;
+
+/** Makes sure all the benchmark datasets can be set up, and contain the same data */
+public class BenchmarkDataTest {
+
+    @Test
+    public void testCreateDataStores() throws Exception {
+        for (Format format : Format.values()) {
+            File directory = BenchmarkData.createDirectory();
+            DataStore store = BenchmarkData.createDataStore(format, directory);
+            try {
+                String typeName = store.getTypeNames()[0];
+                assertEquals(format.name(), 49, store.getFeatureSource(typeName).getCount(Query.ALL));
+            } finally {
+                store.dispose();
+                BenchmarkData.deleteDirectory(directory);
+            }
+        }
+    }
+
+    @Test
+    public void testFilters() throws Exception {
+        // the filters must parse and select something, otherwise they would not be measuring much
+        DataStore store = new MemoryDataStore(BenchmarkData.readStates());
+        try {
+            for (String type : new String[] {"equals", "between", "and", "or", "like", "arithmetic", "bbox"}) {
+                Query query = new Query(BenchmarkData.STATES, FilterEvaluationBenchmark.buildFilter(type));
+                int count = store.getFeatureSource(BenchmarkData.STATES).getFeatures(query).size();
+                assertTrue(type, count > 0);
+            }
+        } finally {
+            store.dispose();
+        }
+    }
+}
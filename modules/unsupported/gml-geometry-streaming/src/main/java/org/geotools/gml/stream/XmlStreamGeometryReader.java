@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,8 @@
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -43,8 +46,16 @@
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
-/** Parse GML geometries from a StAX XMLStreamReader. */
+/**
+ * Parse GML geometries from a StAX XMLStreamReader.
+ *
+ * <p>When the geometry factory uses a {@link PackedCoordinateSequenceFactory#DOUBLE_FACTORY double packed} coordinate
+ * sequence factory, {@code gml:posList} and {@code gml:pos} contents are parsed straight into the packed ordinate
+ * arrays, without creating a {@link Coordinate} object per position.
+ */
 public class XmlStreamGeometryReader {
     public static final double DEFAULT_CURVE_TOLERANCE = Double.MAX_VALUE;
 
@@ -60,6 +71,8 @@ public class XmlStreamGeometryReader {
 
     private final Map<CoordinateReferenceSystem, Boolean> invertAxisNeededCache = new HashMap<>();
 
+    private final Map<String, CoordinateReferenceSystem> crsCache = new HashMap<>();
+
     private String gmlNamespace;
 
     /**
@@ -101,8 +114,18 @@ public XmlStreamGeometryReader(
         this.curvedGeometryFactory = curvedGeometryFactory;
     }
 
+    /**
+     * Sets the factory used to build the geometries. A {@link CurvedGeometryFactory} is used as is for the curved
+     * geometries too, a plain factory is wrapped keeping the current curve tolerance.
+     */
     public void setGeometryFactory(GeometryFactory geometryFactory) {
         this.geomFac = geometryFactory;
+        if (geometryFactory instanceof CurvedGeometryFactory curved) {
+            this.curvedGeometryFactory = curved;
+        } else {
+            this.curvedGeometryFactory =
+                    new CurvedGeometryFactory(geometryFactory, curvedGeometryFactory.getTolerance());
+        }
     }
 
     public GeometryFactory getGeometryFactory() {
@@ -651,7 +674,7 @@ private LinearRing parseLinearRing(final int dimension, CoordinateReferenceSyste
         reader.require(START_ELEMENT, this.gmlNamespace, GML.LinearRing);
 
         crs = crs(crs);
-        Coordinate[] lineCoords = parseLineStringInternal(dimension, crs);
+        CoordinateSequence lineCoords = parseLineStringInternal(dimension, crs);
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.LinearRing);
 
@@ -678,7 +701,7 @@ private LineString parseLineString(int dimension, CoordinateReferenceSystem crs,
         reader.require(START_ELEMENT, this.gmlNamespace, lineStringElement);
 
         crs = crs(crs);
-        Coordinate[] coordinates = parseLineStringInternal(dimension, crs);
+        CoordinateSequence coordinates = parseLineStringInternal(dimension, crs);
 
         reader.require(END_ELEMENT, this.gmlNamespace, lineStringElement);
 
@@ -687,29 +710,35 @@ private LineString parseLineString(int dimension, CoordinateReferenceSystem crs,
         return geom;
     }
 
-    private Coordinate[] parseLineStringInternal(int dimension, CoordinateReferenceSystem crs)
+    private CoordinateSequence parseLineStringInternal(int dimension, CoordinateReferenceSystem crs)
             throws XMLStreamException, IOException {
 
         final String lineElementName = reader.getLocalName();
 
         reader.nextTag();
-        Coordinate[] lineCoords;
+        CoordinateSequence lineCoords;
 
         final String coordsName = reader.getLocalName();
         String tagName = reader.getLocalName();
         if (GML.pos.equals(coordsName)) {
-            Coordinate[] point;
-            List<Coordinate> coords = new ArrayList<>();
+            // all positions are expected to share the dimension of the first one
+            final int posDimension = crsDimension(dimension);
+            double[] ordinates = new double[posDimension * 8];
+            int length = 0;
             int eventType;
             do {
-                point = parseCoordList(dimension, crs);
-                coords.add(point[0]);
+                double[] point = readOrdinates(posDimension);
+                if (length + point.length > ordinates.length) {
+                    ordinates = Arrays.copyOf(ordinates, Math.max(ordinates.length * 2, length + point.length));
+                }
+                System.arraycopy(point, 0, ordinates, length, point.length);
+                length += point.length;
                 reader.nextTag();
                 tagName = reader.getLocalName();
                 eventType = reader.getEventType();
             } while (eventType == START_ELEMENT && GML.pos.equals(tagName));
 
-            lineCoords = coords.toArray(new Coordinate[0]);
+            lineCoords = toSequence(Arrays.copyOf(ordinates, length), posDimension, crs);
 
         } else if (GML.posList.equals(coordsName)) {
             lineCoords = parseCoordList(dimension, crs);
@@ -729,7 +758,7 @@ private Coordinate[] parseLineStringInternal(int dimension, CoordinateReferenceS
                 eventType = reader.getEventType();
             } while (eventType == START_ELEMENT && GML.coord.equals(tagName));
 
-            lineCoords = coords.toArray(new Coordinate[0]);
+            lineCoords = geomFac.getCoordinateSequenceFactory().create(coords.toArray(new Coordinate[0]));
         } else {
             throw new IllegalStateException("Expected posList or pos inside LinearRing: " + tagName);
         }
@@ -783,12 +812,11 @@ private LineString parseArc(int dimension, CoordinateReferenceSystem crs)
 
         crs = crs(crs);
 
-        Coordinate[] coordinates = parseLineStringInternal(dimension, crs);
+        CoordinateSequence coordinates = parseLineStringInternal(dimension, crs);
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.Arc);
 
-        LineString geom = curvedGeometryFactory.createCircularString(
-                curvedGeometryFactory.getCoordinateSequenceFactory().create(coordinates));
+        LineString geom = curvedGeometryFactory.createCircularString(coordinates);
         geom.setUserData(crs);
         return geom;
     }
@@ -802,18 +830,16 @@ private Point parsePoint(int dimension, CoordinateReferenceSystem crs)
 
         reader.nextTag();
         reader.require(START_ELEMENT, this.gmlNamespace, null);
-        Coordinate point;
+        CoordinateSequence point;
         final String name = reader.getLocalName();
         if (GML.pos.equals(name)) {
-            Coordinate[] coords = parseCoordList(dimension, crs);
-            point = coords[0];
+            point = parseCoordList(dimension, crs);
             reader.nextTag();
         } else if (GML.coordinates.equals(name)) {
-            Coordinate[] coords = parseCoordinates(dimension, crs);
-            point = coords[0];
+            point = parseCoordinates(dimension, crs);
             reader.nextTag();
         } else if (GML.coord.equals(name)) {
-            point = parseCoord();
+            point = geomFac.getCoordinateSequenceFactory().create(new Coordinate[] {parseCoord()});
             reader.nextTag();
         } else {
             throw new IllegalStateException("Unknown coordinate element for Point: " + name);
@@ -821,6 +847,10 @@ private Point parsePoint(int dimension, CoordinateReferenceSystem crs)
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.Point);
 
+        if (point.size() > 1) {
+            // only the first position makes up the point
+            point = geomFac.getCoordinateSequenceFactory().create(new Coordinate[] {point.getCoordinateCopy(0)});
+        }
         Point geom = geomFac.createPoint(point);
         geom.setUserData(crs);
         return geom;
@@ -852,17 +882,24 @@ private Coordinate parseCoord() throws XMLStreamException, IOException {
 
     private CoordinateReferenceSystem crs(CoordinateReferenceSystem defaultValue)
             throws NoSuchAuthorityCodeException, FactoryException {
-        String srsName = reader.getAttributeValue(null, "srsName");
+        final String srsName = reader.getAttributeValue(null, "srsName");
         if (srsName == null) {
             return defaultValue;
         }
-        // boolean forceXY = false;
-        // forceXY=true breaks axis flipping handling
-        if (srsName.startsWith("http://") && srsName.indexOf('#') != -1) {
-            // forceXY = true;
-            srsName = "EPSG:" + srsName.substring(1 + srsName.lastIndexOf('#'));
+        // the same few srsName values are repeated on every geometry of a response
+        CoordinateReferenceSystem crs = crsCache.get(srsName);
+        if (crs == null) {
+            String code = srsName;
+            // boolean forceXY = false;
+            // forceXY=true breaks axis flipping handling
+            if (code.startsWith("http://") && code.indexOf('#') != -1) {
+                // forceXY = true;
+                code = "EPSG:" + code.substring(1 + code.lastIndexOf('#'));
+            }
+            crs = CRS.decode(code);
+            crsCache.put(srsName, crs);
         }
-        return CRS.decode(srsName);
+        return crs;
     }
 
     private int crsDimension(final int defaultValue) {
@@ -873,15 +910,14 @@ private int crsDimension(final int defaultValue) {
         return Integer.parseInt(srsDimension);
     }
 
-    private Coordinate[] parseCoordList(int dimension, CoordinateReferenceSystem crs)
+    private CoordinateSequence parseCoordList(int dimension, CoordinateReferenceSystem crs)
             throws XMLStreamException, IOException {
         // we might be on a posList tag with srsDimension defined
         dimension = crsDimension(dimension);
-        String rawTextValue = reader.getElementText();
-        return toCoordList(rawTextValue, dimension, crs);
+        return toSequence(readOrdinates(dimension), dimension, crs);
     }
 
-    private Coordinate[] parseCoordinates(int dimension, CoordinateReferenceSystem crs)
+    private CoordinateSequence parseCoordinates(int dimension, CoordinateReferenceSystem crs)
             throws XMLStreamException, IOException {
         reader.require(START_ELEMENT, this.gmlNamespace, GML.coordinates);
         // we might be on a posList tag with srsDimension defined
@@ -905,7 +941,7 @@ private Coordinate[] parseCoordinates(int dimension, CoordinateReferenceSystem c
                 toCoordList(rawTextValue, decimalSeparator, coordSeparator, tupleSeparator, dimension, crs);
 
         reader.require(END_ELEMENT, this.gmlNamespace, GML.coordinates);
-        return coords;
+        return geomFac.getCoordinateSequenceFactory().create(coords);
     }
 
     private boolean checkInvertAxisNeededCache(final CoordinateReferenceSystem crs) {
@@ -921,43 +957,68 @@ private boolean checkInvertAxisNeededCache(final CoordinateReferenceSystem crs)
         return invert;
     }
 
-    private Coordinate[] toCoordList(String rawTextValue, final int dimension, CoordinateReferenceSystem crs) {
-        rawTextValue = rawTextValue.trim();
-        rawTextValue = rawTextValue.replaceAll("\n", " ");
-        rawTextValue = rawTextValue.replaceAll("\r", " ");
-        String[] split = rawTextValue.trim().split(" +");
-        final int ordinatesLength = split.length;
-        if (ordinatesLength % dimension != 0) {
+    /**
+     * Reads the whitespace separated ordinates of the current element, without going through regular expressions and
+     * intermediate strings arrays.
+     */
+    private double[] readOrdinates(final int dimension) throws XMLStreamException {
+        final String text = reader.getElementText();
+        final int length = text.length();
+        int count = 0;
+        for (int i = 0; i < length; ) {
+            while (i < length && isWhitespace(text.charAt(i))) i++;
+            if (i < length) count++;
+            while (i < length && !isWhitespace(text.charAt(i))) i++;
+        }
+        if (count % dimension != 0) {
             throw new IllegalArgumentException(
-                    "Number of ordinates (" + ordinatesLength + ") does not match crs dimension: " + dimension);
+                    "Number of ordinates (" + count + ") does not match crs dimension: " + dimension);
         }
-        boolean invertXY = this.checkInvertAxisNeededCache(crs);
-        final int nCoords = ordinatesLength / dimension;
+        double[] ordinates = new double[count];
+        int n = 0;
+        for (int i = 0; i < length; ) {
+            while (i < length && isWhitespace(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && !isWhitespace(text.charAt(i))) i++;
+            if (i > start) {
+                ordinates[n++] = Double.parseDouble(text.substring(start, i));
+            }
+        }
+        return ordinates;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Turns the ordinates into a coordinate sequence, in place when the geometry factory packs coordinates in double
+     * arrays
+     */
+    private CoordinateSequence toSequence(double[] ordinates, final int dimension, CoordinateReferenceSystem crs) {
+        if (this.checkInvertAxisNeededCache(crs)) {
+            for (int i = 0; i < ordinates.length; i += dimension) {
+                double x = ordinates[i];
+                ordinates[i] = ordinates[i + 1];
+                ordinates[i + 1] = x;
+            }
+        }
+        CoordinateSequenceFactory csFactory = geomFac.getCoordinateSequenceFactory();
+        if (csFactory instanceof PackedCoordinateSequenceFactory packed
+                && packed.getType() == PackedCoordinateSequenceFactory.DOUBLE
+                && dimension <= 3) {
+            return new PackedCoordinateSequence.Double(ordinates, dimension, 0);
+        }
+        final int nCoords = ordinates.length / dimension;
         Coordinate[] coords = new Coordinate[nCoords];
-        Coordinate coord;
-        int currCoordIdx = 0;
-        double x, y, z;
-        for (int i = 0; i < ordinatesLength; i += dimension) {
-            x = Double.parseDouble(split[i]);
-            y = Double.parseDouble(split[i + 1]);
+        for (int i = 0, o = 0; i < nCoords; i++, o += dimension) {
             if (dimension > 2) {
-                z = Double.parseDouble(split[i + 2]);
-                if (invertXY) {
-                    coord = new Coordinate(y, x, z);
-                } else {
-                    coord = new Coordinate(x, y, z);
-                }
+                coords[i] = new Coordinate(ordinates[o], ordinates[o + 1], ordinates[o + 2]);
             } else {
-                if (invertXY) {
-                    coord = new Coordinate(y, x);
-                } else {
-                    coord = new Coordinate(x, y);
-                }
+                coords[i] = new Coordinate(ordinates[o], ordinates[o + 1]);
             }
-            coords[currCoordIdx] = coord;
-            currCoordIdx++;
         }
-        return coords;
+        return csFactory.create(coords);
     }
 
     private Coordinate[] toCoordList(
@@ -18,6 +18,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -27,12 +28,18 @@
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import org.geotools.api.referencing.FactoryException;
+import org.geotools.geometry.jts.CircularString;
+import org.geotools.geometry.jts.CurvedGeometryFactory;
 import org.geotools.xml.XMLUtils;
 import org.junit.Test;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 public class XmlStreamGeometryReaderTest {
     @Test
@@ -76,4 +83,50 @@ public void testZ() throws XMLStreamException, FactoryException, IOException {
         assertEquals(c.y, 2, 0);
         assertEquals(c.z, 3, 0);
     }
+
+    @Test
+    public void testPackedSequences() throws XMLStreamException, FactoryException, IOException {
+        XMLInputFactory f = XMLUtils.newXMLInputFactory();
+        if (f.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) f.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XMLStreamReader r = f.createXMLStreamReader(new StringReader("<gml:MultiLineString"
+                + " xmlns:gml=\"http://www.opengis.net/gml\" srsName=\"EPSG:4326\">"
+                + "<gml:lineStringMember><gml:LineString srsName=\"EPSG:4326\">"
+                + "<gml:posList>\n\t1 2  3 4\r\n5 6 </gml:posList></gml:LineString></gml:lineStringMember>"
+                + "<gml:lineStringMember><gml:LineString srsName=\"EPSG:4326\">"
+                + "<gml:pos>7 8</gml:pos><gml:pos>9 10</gml:pos></gml:LineString></gml:lineStringMember>"
+                + "</gml:MultiLineString>"));
+        XmlStreamGeometryReader geometryReader =
+                new XmlStreamGeometryReader(r, new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        // swap the axes of the geographic coordinates
+        geometryReader.setInvertAxisNeeded(crs -> true);
+        r.nextTag();
+        MultiLineString g = (MultiLineString) geometryReader.readGeometry();
+        assertEquals("MULTILINESTRING ((2 1, 4 3, 6 5), (8 7, 10 9))", g.toText());
+        for (int i = 0; i < g.getNumGeometries(); i++) {
+            LineString line = (LineString) g.getGeometryN(i);
+            assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+            assertEquals(2, line.getCoordinateSequence().getDimension());
+        }
+        // the srsName is decoded once
+        assertSame(g.getGeometryN(0).getUserData(), g.getGeometryN(1).getUserData());
+    }
+
+    @Test
+    public void testCurvedGeometryFactory() throws XMLStreamException, FactoryException, IOException {
+        XMLInputFactory f = XMLUtils.newXMLInputFactory();
+        if (f.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) f.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XMLStreamReader r = f.createXMLStreamReader(new StringReader("<gml:Curve"
+                + " xmlns:gml=\"http://www.opengis.net/gml\" srsName=\"EPSG:4326\">"
+                + "<gml:segments><gml:Arc><gml:posList>0 0 1 1 2 0</gml:posList></gml:Arc></gml:segments>"
+                + "</gml:Curve>"));
+        XmlStreamGeometryReader geometryReader = new XmlStreamGeometryReader(r);
+        // the factory set by the caller is kept, with its own tolerance
+        CurvedGeometryFactory curved = new CurvedGeometryFactory(new GeometryFactory(), 0.1);
+        geometryReader.setGeometryFactory(curved);
+        assertSame(curved, geometryReader.getGeometryFactory());
+        r.nextTag();
+        Geometry g = geometryReader.readGeometry();
+        assertTrue(g instanceof CircularString);
+        assertSame(curved, g.getFactory());
+    }
 }
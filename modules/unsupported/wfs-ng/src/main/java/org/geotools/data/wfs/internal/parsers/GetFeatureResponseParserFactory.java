@@ -21,6 +21,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import javax.xml.namespace.QName;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.FeatureType;
@@ -37,10 +38,22 @@
  * <p>Should eventually completely replace GmlGetFeatureResponseParserFactory as soon as it has been proven to work as
  * well. For now only used for wfs 2.0 and gml 3.2.
  *
+ * <p>Responses are parsed through the xsd bindings, unless {@link #STREAMING_PARSER} is enabled, in which case the
+ * {@link XmlSimpleFeatureParser} builds the simple features straight out of the xml stream.
+ *
  * <p>
  */
 public class GetFeatureResponseParserFactory extends AbstractGetFeatureResponseParserFactory {
 
+    /**
+     * Whether to parse simple feature responses with the {@link XmlSimpleFeatureParser}, skipping the xsd bindings
+     * machinery. Much lighter on CPU and memory, but only handles the attributes of the requested feature type, so it's
+     * off by default. Controlled by the {@code org.geotools.data.wfs.streamingParser} system property.
+     *
+     * @since 36.0
+     */
+    public static boolean STREAMING_PARSER = Boolean.getBoolean("org.geotools.data.wfs.streamingParser");
+
     static final List<String> SUPPORTED_FORMATS = Collections.unmodifiableList(Arrays.asList( //
             "text/xml; subtype=gml/3.1.1", //
             "text/xml;subtype=gml/3.1.1", //
@@ -93,6 +106,15 @@ protected GetParser<SimpleFeature> parser(GetFeatureRequest request, InputStream
 
         FeatureType queryType = getRequestedType(request);
 
+        if (STREAMING_PARSER) {
+            final QName remoteFeatureName = request.getTypeName();
+            return new XmlSimpleFeatureParser(
+                    in,
+                    (SimpleFeatureType) queryType,
+                    remoteFeatureName,
+                    request.getStrategy().getConfig().getAxisOrder());
+        }
+
         Configuration config = null;
         if (request.getStrategy().getVersion().equals(Versions.v2_0_0.toString())) {
             config = new org.geotools.wfs.v2_0.WFSConfiguration();
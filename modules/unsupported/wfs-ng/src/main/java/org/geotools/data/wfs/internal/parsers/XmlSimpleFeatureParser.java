@@ -21,8 +21,13 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLInputFactory;
@@ -42,6 +47,8 @@
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.gml.stream.XmlStreamGeometryReader;
 import org.geotools.gml3.GML;
+import org.geotools.util.Converter;
+import org.geotools.util.ConverterFactory;
 import org.geotools.util.Converters;
 import org.geotools.util.factory.GeoTools;
 import org.geotools.util.factory.Hints;
@@ -53,6 +60,10 @@
 /**
  * A {@link GetParser<SimpleFeature>} implementation that uses plain xml pull to parse a GetFeature response.
  *
+ * <p>Works off the target feature type alone: the attribute lookups and the converters turning the element text into
+ * attribute values are resolved once per response, geometries are read by a {@link XmlStreamGeometryReader}, and no
+ * intermediate node tree is built, making it suitable for large GML 2, 3.1 and 3.2 simple feature responses.
+ *
  * @author Gabriel Roldan (TOPP)
  * @version $Id$
  * @since 2.5.x
@@ -62,6 +73,8 @@ public class XmlSimpleFeatureParser implements GetParser<SimpleFeature> {
 
     private static final Logger LOGGER = Loggers.RESPONSES;
 
+    private static final String GML32_NAMESPACE = org.geotools.gml3.v3_2.GML.NAMESPACE;
+
     private InputStream inputStream;
 
     private XMLStreamReader parser;
@@ -78,6 +91,15 @@ public class XmlSimpleFeatureParser implements GetParser<SimpleFeature> {
 
     private final Map<String, AttributeDescriptor> expectedProperties;
 
+    /** The attribute indexes by element name, -1 for the elements not mapping to an attribute */
+    private final Map<String, Integer> attributeIndexes = new HashMap<>();
+
+    /** The attribute bindings, by attribute index */
+    private final Class<?>[] bindings;
+
+    /** The converters from element text to attribute values, by attribute index, null for geometries */
+    private final Converter[][] converters;
+
     private int numberOfFeatures = -1;
 
     public XmlSimpleFeatureParser(
@@ -146,6 +168,31 @@ public XmlSimpleFeatureParser(
         for (AttributeDescriptor desc : targetType.getAttributeDescriptors()) {
             expectedProperties.put(desc.getLocalName(), desc);
         }
+
+        // look up the converters once, rather than for every value
+        final int count = targetType.getAttributeCount();
+        bindings = new Class<?>[count];
+        converters = new Converter[count][];
+        Set<ConverterFactory> factories = null;
+        for (int i = 0; i < count; i++) {
+            AttributeType type = targetType.getDescriptor(i).getType();
+            bindings[i] = type.getBinding();
+            attributeIndexes.put(targetType.getDescriptor(i).getLocalName(), i);
+            if (type instanceof GeometryType || bindings[i].isAssignableFrom(String.class)) {
+                continue;
+            }
+            if (factories == null) {
+                factories = Converters.getConverterFactories(GeoTools.getDefaultHints());
+            }
+            List<Converter> attributeConverters = new ArrayList<>();
+            for (ConverterFactory factory : factories) {
+                Converter converter = factory.createConverter(String.class, bindings[i], null);
+                if (converter != null) {
+                    attributeConverters.add(converter);
+                }
+            }
+            converters[i] = attributeConverters.toArray(new Converter[attributeConverters.size()]);
+        }
     }
 
     @Override
@@ -203,10 +250,10 @@ public SimpleFeature parse() throws IOException {
                     break;
                 }
                 if (START_ELEMENT == tagType) {
-                    AttributeDescriptor descriptor = expectedProperties.get(parser.getLocalName());
-                    if (descriptor != null) {
-                        attributeValue = parseAttributeValue();
-                        builder.set(descriptor.getLocalName(), attributeValue);
+                    int index = getAttributeIndex(parser.getLocalName());
+                    if (index >= 0) {
+                        attributeValue = parseAttributeValue(index);
+                        builder.set(index, attributeValue);
                     }
                 }
             }
@@ -217,13 +264,22 @@ public SimpleFeature parse() throws IOException {
         return feature;
     }
 
+    /** Returns the index of the attribute the element maps to, or -1 if not an attribute of the target type */
+    private int getAttributeIndex(String name) {
+        Integer index = attributeIndexes.get(name);
+        if (index == null) {
+            // fall back on the case insensitive match, and remember the outcome
+            AttributeDescriptor descriptor = expectedProperties.get(name);
+            index = descriptor == null ? -1 : targetType.indexOf(descriptor.getLocalName());
+            attributeIndexes.put(name, index);
+        }
+        return index;
+    }
+
     /** Parses the value of the current attribute, parser cursor shall be on a feature attribute START_ELEMENT event. */
-    private Object parseAttributeValue() throws XMLStreamException, IOException {
-        final String name = parser.getLocalName();
-        final AttributeDescriptor attribute = expectedProperties.get(name);
-        final AttributeType type = attribute.getType();
+    private Object parseAttributeValue(int index) throws XMLStreamException, IOException {
         Object parsedValue;
-        if (type instanceof GeometryType) {
+        if (targetType.getDescriptor(index).getType() instanceof GeometryType) {
             parser.nextTag();
             try {
                 parsedValue = geometryReader.readGeometry();
@@ -232,12 +288,30 @@ private Object parseAttributeValue() throws XMLStreamException, IOException {
             }
         } else {
             String rawTextValue = parser.getElementText();
-            Class<?> binding = type.getBinding();
-            parsedValue = Converters.convert(rawTextValue, binding);
+            parsedValue = convert(rawTextValue, index);
         }
         return parsedValue;
     }
 
+    /** Same as {@link Converters#convert(Object, Class)}, using the converters looked up for the attribute */
+    private Object convert(String text, int index) {
+        Class<?> binding = bindings[index];
+        if (binding.isAssignableFrom(String.class)) {
+            return text;
+        }
+        for (Converter converter : converters[index]) {
+            try {
+                Object converted = converter.convert(text, binding);
+                if (converted != null) {
+                    return converted;
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.FINER, "Error converting " + text + " to " + binding.getName(), e);
+            }
+        }
+        return null;
+    }
+
     private String seekFeature() throws IOException, XMLStreamException {
         int tagType;
 
@@ -255,7 +329,9 @@ private String seekFeature() throws IOException, XMLStreamException {
                 String name = parser.getLocalName();
                 if (featureNamespace.equals(namespace) && featureName.equals(name)) {
                     String featureId = parser.getAttributeValue(GML.id.getNamespaceURI(), GML.id.getLocalPart());
-
+                    if (featureId == null) {
+                        featureId = parser.getAttributeValue(GML32_NAMESPACE, GML.id.getLocalPart());
+                    }
                     if (featureId == null) {
                         featureId = parser.getAttributeValue(null, "fid");
                     }
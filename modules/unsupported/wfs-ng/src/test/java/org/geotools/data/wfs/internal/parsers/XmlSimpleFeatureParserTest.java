@@ -13,6 +13,10 @@
  */
 package org.geotools.data.wfs.internal.parsers;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,10 +24,16 @@
 import javax.xml.namespace.QName;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.wfs.WFSTestData;
 import org.geotools.data.wfs.internal.GetParser;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.xsd.Configuration;
-import org.junit.Ignore;
 import org.junit.Test;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 public class XmlSimpleFeatureParserTest extends AbstractGetFeatureParserTest {
 
@@ -43,10 +53,35 @@ protected GetParser<SimpleFeature> getParser(
         return parser;
     }
 
-    @Override
     @Test
-    @Ignore
-    public void testParseWfs200Gml32() throws Exception {
-        // parser is not supporting wfs 2.0.0/gml 3.2 so this impl is empty
+    public void testPackedGeometries() throws Exception {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName(WFSTestData.GEOS_ROADS_20.TYPENAME.getLocalPart());
+        tb.setNamespaceURI(WFSTestData.GEOS_ROADS_20.TYPENAME.getNamespaceURI());
+        tb.add("the_geom", MultiLineString.class);
+        // out of order, and with a different case, than in the response
+        tb.add("LABEL", String.class);
+        tb.add("cat", Long.class);
+        SimpleFeatureType featureType = tb.buildFeatureType();
+
+        GetParser<SimpleFeature> parser = getParser(
+                WFSTestData.GEOS_ROADS_20.TYPENAME, null, featureType, WFSTestData.GEOS_ROADS_20.DATA, null, null);
+        parser.setGeometryFactory(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        try {
+            SimpleFeature feature = parser.parse();
+            assertEquals("roads.1", feature.getID());
+            assertEquals(Long.valueOf(5), feature.getAttribute("cat"));
+            assertEquals("unimproved road", feature.getAttribute("LABEL"));
+            MultiLineString geometry = (MultiLineString) feature.getDefaultGeometry();
+            assertEquals("MULTILINESTRING ((598566 4914058, 598557 4914085, 598346 4915117))", geometry.toText());
+            LineString line = (LineString) geometry.getGeometryN(0);
+            assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+
+            assertEquals("roads.2", parser.parse().getID());
+            assertEquals("roads.3", parser.parse().getID());
+            assertNull(parser.parse());
+        } finally {
+            parser.close();
+        }
     }
 }